@@ -0,0 +1,156 @@
+package com.acs560.FoodManagementSystem.indexes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.acs560.FoodManagementSystem.config.ColumnStoreProperties;
+import com.acs560.FoodManagementSystem.entities.OrderEntity;
+import com.acs560.FoodManagementSystem.models.OrderRow;
+import com.acs560.FoodManagementSystem.repositories.OrderRepository;
+
+/**
+ * Compares the order finders of the {@link OrderColumnStore} with the JPA queries of the
+ * {@link OrderRepository} they replace, on an embedded H2 database in MySQL mode.
+ * <p>
+ * The database runs in the benchmark's JVM, so the JPA figures leave out the network round trip to MySQL
+ * and are a lower bound of the production cost.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderColumnStoreBenchmark {
+
+    private static final String[] DAYS = {"Weekday", "Weekend"};
+
+    @Param({"10000", "100000"})
+    private int orders;
+
+    private ConfigurableApplicationContext context;
+    private OrderRepository orderRepository;
+    private OrderColumnStore store;
+    private int customerId;
+
+    /**
+     * Starts a JPA context on a fresh database, fills it with random orders and loads the column store.
+     */
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(JpaContext.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.flyway.enabled=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=warn")
+                .run();
+        orderRepository = context.getBean(OrderRepository.class);
+        DataSource dataSource = context.getBean(DataSource.class);
+        seed(new JdbcTemplate(dataSource));
+
+        ColumnStoreProperties properties = new ColumnStoreProperties();
+        properties.setEnabled(true);
+        store = new OrderColumnStore(dataSource, properties, Runnable::run);
+        store.reload();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        Random random = new Random(42);
+        int customers = Math.max(1, orders / 10);
+        int restaurants = 200;
+        List<Object[]> rows = new ArrayList<>();
+        for (int id = 1; id <= customers; id++) {
+            rows.add(new Object[] {id, 1 + random.nextInt(41) / 10f});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO customers (customer_id, rating, version) VALUES (?, ?, 0)", rows);
+        rows.clear();
+        for (int id = 1; id <= restaurants; id++) {
+            rows.add(new Object[] {id, "Restaurant " + id, "restaurant " + id, 20 + random.nextInt(15),
+                    15 + random.nextInt(20)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO restaurants (restaurant_id, restaurant_name, normalized_name,"
+                + " food_preparation_time, delivery_time, version) VALUES (?, ?, ?, ?, ?, 0)", rows);
+        rows.clear();
+        for (int id = 1; id <= orders; id++) {
+            rows.add(new Object[] {id, 5 + random.nextInt(3000) / 100f, DAYS[random.nextInt(DAYS.length)],
+                    1 + random.nextInt(customers), 1 + random.nextInt(restaurants)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id,"
+                + " restaurant_id, version) VALUES (?, ?, ?, ?, ?, 0)", rows);
+        customerId = 1 + random.nextInt(customers);
+    }
+
+    @Benchmark
+    public List<OrderRow> jpaCustomerRatingRange() {
+        return orderRepository.findRowsByCustomerRatingBetween(4.5f, 5.0f);
+    }
+
+    @Benchmark
+    public List<OrderRow> storeCustomerRatingRange() {
+        return store.findRowsByCustomerRatingBetween(4.5f, 5.0f);
+    }
+
+    @Benchmark
+    public List<OrderRow> jpaCostRange() {
+        return orderRepository.findRowsByCostOfOrderBetween(20f, 21f);
+    }
+
+    @Benchmark
+    public List<OrderRow> storeCostRange() {
+        return store.findRowsByCostOfOrderBetween(20f, 21f);
+    }
+
+    @Benchmark
+    public List<OrderRow> jpaCustomerHistory() {
+        return orderRepository.findRowsByCustomerId(customerId);
+    }
+
+    @Benchmark
+    public List<OrderRow> storeCustomerHistory() {
+        return store.findRowsByCustomerId(customerId);
+    }
+
+    /**
+     * The JPA part of the application, without its services, views and caches.
+     */
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = OrderEntity.class)
+    @EnableJpaRepositories(basePackageClasses = OrderRepository.class)
+    static class JpaContext {
+    }
+}
@@ -0,0 +1,217 @@
+package com.acs560.FoodManagementSystem.caches;
+
+import java.time.DayOfWeek;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.acs560.FoodManagementSystem.config.CacheProperties;
+import com.acs560.FoodManagementSystem.repositories.OrderRepository;
+import com.acs560.FoodManagementSystem.services.CustomerService;
+import com.acs560.FoodManagementSystem.services.OrderService;
+import com.acs560.FoodManagementSystem.services.RestaurantService;
+
+/**
+ * Preloads the hot caches once the application is ready, so the first users do not pay the full database
+ * latency.
+ * <p>
+ * The warm-up loads the "all" lists of customers and restaurants, the orders of each day of the week, and
+ * the customer, restaurant and order entries of the customers and restaurants with the most orders. The list
+ * of all orders is left out, as it would copy the whole orders table into the heap; the day lists are bounded
+ * by the number of orders their cache may hold, so days beyond it are loaded but not kept. The loads go through the
+ * cached services, so they fill exactly the entries users will hit, and run in parallel on a small dedicated
+ * pool. {@link CacheWarmupHealthIndicator} keeps the readiness probe out of service
+ * until the warm-up finishes or its time budget runs out; loads still queued at that point are dropped.
+ * </p>
+ */
+@Component
+public class CacheWarmer {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmer.class);
+
+    /**
+     * The states of the warm-up.
+     */
+    public enum State {
+        /** The application is not ready yet. */
+        PENDING,
+        /** The caches are being loaded. */
+        RUNNING,
+        /** Every load has finished. */
+        COMPLETED,
+        /** The time budget ran out before every load finished. */
+        TIMED_OUT,
+        /** The warm-up is switched off. */
+        DISABLED
+    }
+
+    private final CustomerService customerService;
+    private final RestaurantService restaurantService;
+    private final OrderService orderService;
+    private final OrderRepository orderRepository;
+    private final CacheProperties.Warmup settings;
+
+    private volatile State state = State.PENDING;
+    private final AtomicInteger completedLoads = new AtomicInteger();
+    private final AtomicInteger failedLoads = new AtomicInteger();
+    private volatile int scheduledLoads;
+
+    /**
+     * Constructs a new instance of {@link CacheWarmer}.
+     *
+     * @param customerService the cached customer service
+     * @param restaurantService the cached restaurant service
+     * @param orderService the cached order service
+     * @param orderRepository the repository used to find the customers and restaurants with the most orders
+     * @param cacheProperties the cache settings holding the warm-up settings
+     */
+    @Autowired
+    public CacheWarmer(CustomerService customerService, RestaurantService restaurantService,
+                       OrderService orderService, OrderRepository orderRepository, CacheProperties cacheProperties) {
+        this.customerService = customerService;
+        this.restaurantService = restaurantService;
+        this.orderService = orderService;
+        this.orderRepository = orderRepository;
+        this.settings = cacheProperties.getWarmup();
+        if (!settings.isEnabled()) {
+            state = State.DISABLED;
+        }
+    }
+
+    /**
+     * Starts the warm-up once the application is ready. The loads run in the background; this method
+     * returns immediately.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (state != State.PENDING) {
+            return;
+        }
+        state = State.RUNNING;
+        long start = System.nanoTime();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("cache-warmup-");
+        executor.setCorePoolSize(settings.getThreads());
+        executor.setMaxPoolSize(settings.getThreads());
+        executor.initialize();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (Runnable load : loads()) {
+            futures.add(CompletableFuture.runAsync(() -> run(load), executor));
+        }
+        scheduledLoads = futures.size();
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .orTimeout(settings.getTimeBudget().toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((result, failure) -> {
+                    long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    if (failure instanceof TimeoutException) {
+                        state = State.TIMED_OUT;
+                        executor.getThreadPoolExecutor().getQueue().clear();
+                        logger.warn("Cache warm-up exceeded its budget of {} after {} of {} loads",
+                                settings.getTimeBudget(), completedLoads.get(), scheduledLoads);
+                    } else {
+                        state = State.COMPLETED;
+                        logger.info("Cache warm-up completed {} loads ({} failed) in {} ms",
+                                scheduledLoads, failedLoads.get(), millis);
+                    }
+                    executor.shutdown();
+                });
+    }
+
+    /**
+     * Lists the loads of the warm-up. Finding the top customers and restaurants is itself a query, so it
+     * runs as part of the loads that use it.
+     */
+    private List<Runnable> loads() {
+        List<Runnable> loads = new ArrayList<>();
+        loads.add(customerService::getAll);
+        loads.add(restaurantService::getAll);
+        loads.add(orderService::countOrders);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            String dayName = day.getDisplayName(TextStyle.FULL, Locale.ENGLISH);
+            loads.add(() -> orderService.getByDayOfTheWeek(dayName));
+        }
+        int topN = settings.getTopN();
+        if (topN > 0) {
+            loads.add(() -> {
+                for (Integer customerId : orderRepository.findTopCustomerIds(PageRequest.of(0, topN))) {
+                    customerService.getByCustomerId(customerId);
+                    orderService.getByCustomer_CustomerId(customerId);
+                }
+            });
+            loads.add(() -> {
+                for (Integer restaurantId : orderRepository.findTopRestaurantIds(PageRequest.of(0, topN))) {
+                    restaurantService.getByRestaurantId(restaurantId);
+                    orderService.getByRestaurant_RestaurantId(restaurantId);
+                }
+            });
+        }
+        return loads;
+    }
+
+    /**
+     * Runs one load; a failed load is logged and does not stop the warm-up.
+     */
+    private void run(Runnable load) {
+        try {
+            load.run();
+        } catch (RuntimeException e) {
+            failedLoads.incrementAndGet();
+            logger.warn("Cache warm-up load failed", e);
+        } finally {
+            completedLoads.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the current state of the warm-up.
+     *
+     * @return the state
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Returns the number of loads that have finished, successfully or not.
+     *
+     * @return the number of finished loads
+     */
+    public int getCompletedLoads() {
+        return completedLoads.get();
+    }
+
+    /**
+     * Returns the number of loads that failed.
+     *
+     * @return the number of failed loads
+     */
+    public int getFailedLoads() {
+        return failedLoads.get();
+    }
+
+    /**
+     * Returns the number of loads the warm-up started with.
+     *
+     * @return the number of scheduled loads
+     */
+    public int getScheduledLoads() {
+        return scheduledLoads;
+    }
+}
@@ -0,0 +1,47 @@
+package com.acs560.FoodManagementSystem.caches;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Health indicator named "cacheWarmup" that reports the progress of the {@link CacheWarmer}.
+ * <p>
+ * It is out of service until the warm-up finishes or exceeds its time budget, and is part of the readiness
+ * group, so load balancers only route traffic to an instance whose caches are warm.
+ * </p>
+ */
+@Component
+public class CacheWarmupHealthIndicator implements HealthIndicator {
+
+    private final CacheWarmer cacheWarmer;
+
+    /**
+     * Constructs a new instance of {@link CacheWarmupHealthIndicator}.
+     *
+     * @param cacheWarmer the warm-up to report on
+     */
+    @Autowired
+    public CacheWarmupHealthIndicator(CacheWarmer cacheWarmer) {
+        this.cacheWarmer = cacheWarmer;
+    }
+
+    /**
+     * Reports UP once the warm-up is over, whether it completed, timed out or is disabled.
+     *
+     * @return the health of the warm-up
+     */
+    @Override
+    public Health health() {
+        CacheWarmer.State state = cacheWarmer.getState();
+        Health.Builder builder = state == CacheWarmer.State.PENDING || state == CacheWarmer.State.RUNNING
+                ? Health.outOfService()
+                : Health.up();
+        return builder.withDetail("state", state)
+                .withDetail("loads", cacheWarmer.getScheduledLoads())
+                .withDetail("completed", cacheWarmer.getCompletedLoads())
+                .withDetail("failed", cacheWarmer.getFailedLoads())
+                .build();
+    }
+}
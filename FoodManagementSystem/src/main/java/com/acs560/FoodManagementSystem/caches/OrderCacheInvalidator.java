@@ -0,0 +1,191 @@
+package com.acs560.FoodManagementSystem.caches;
+
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.acs560.FoodManagementSystem.entities.RestaurantEntity;
+import com.acs560.FoodManagementSystem.events.OrdersChangedEvent;
+import com.acs560.FoodManagementSystem.models.OrderSnapshot;
+import com.acs560.FoodManagementSystem.models.RestaurantRow;
+import com.acs560.FoodManagementSystem.services.impl.RestaurantResolver;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Evicts exactly the cache entries that depend on the orders changed by a write.
+ * <p>
+ * An order feeds the "orders" entry of its ID, the "all" list and the "count", the "ordersByDay",
+ * "ordersByCustomer" and "ordersByRestaurant" entries of its day, customer and restaurant, and every cached
+ * rating or cost range in {@link OrderRangeCaches} that contains its rating or cost. Changes to the customer
+ * or restaurant of an order also evict the matching "customers" and "restaurants" entries; updates and
+ * deletes also evict the cached restaurant IDs of both names. Restaurants deleted without any of the changed
+ * orders get the same restaurant evictions.
+ * </p>
+ * <p>
+ * The invalidator runs after the writing transaction commits, so readers cannot reload the old rows in
+ * between.
+ * </p>
+ */
+@Component
+public class OrderCacheInvalidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderCacheInvalidator.class);
+
+    /** The key of the cached list of all entries. */
+    public static final String ALL_KEY = "all";
+
+    /** The key of the cached number of orders. */
+    public static final String COUNT_KEY = "count";
+
+    private final CacheManager cacheManager;
+    private final OrderRangeCaches rangeCaches;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Constructs a new instance of {@link OrderCacheInvalidator}.
+     *
+     * @param cacheManager the cache manager holding the order, customer and restaurant caches
+     * @param rangeCaches the caches of orders by rating and cost ranges
+     * @param entityManagerFactory the entity manager factory owning the second-level cache
+     */
+    @Autowired
+    public OrderCacheInvalidator(CacheManager cacheManager, OrderRangeCaches rangeCaches,
+                                 EntityManagerFactory entityManagerFactory) {
+        this.cacheManager = cacheManager;
+        this.rangeCaches = rangeCaches;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Evicts the cache entries that depend on the changed orders once the write has committed.
+     *
+     * @param event the event describing the changed orders
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrdersChanged(OrdersChangedEvent event) {
+        cache("orders").evict(ALL_KEY);
+        cache("orders").evict(COUNT_KEY);
+        for (OrdersChangedEvent.Change change : event.getChanges()) {
+            evictOrder(change.before());
+            evictOrder(change.after());
+            if (change.customerChanged()) {
+                evictCustomer(change.before());
+                evictCustomer(change.after());
+            }
+            if (change.restaurantChanged()) {
+                evictRestaurant(change.before());
+                evictRestaurant(change.after());
+                // Inserts keep the ID the resolver has just cached
+                if (change.before() != null) {
+                    evictRestaurantId(change.before());
+                    evictRestaurantId(change.after());
+                }
+            }
+        }
+        for (RestaurantRow restaurant : event.getDeletedRestaurants()) {
+            evictRestaurant(restaurant.restaurantId(), restaurant.foodPreparationTime(), restaurant.deliveryTime());
+            evictRestaurantId(restaurant.restaurantName());
+        }
+        logger.debug("Evicted cache entries for {} changed orders and {} deleted restaurants",
+                event.getChanges().size(), event.getDeletedRestaurants().size());
+    }
+
+    /**
+     * Clears every cache, for bulk writes such as imports that change too many rows to evict one by one.
+     * Hibernate's second-level and query caches are cleared too, since such writes bypass Hibernate.
+     */
+    public void clearAll() {
+        cacheManager.getCacheNames().forEach(name -> cache(name).clear());
+        rangeCaches.clear();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        logger.debug("Cleared all caches");
+    }
+
+    /**
+     * Evicts the order entries that depend on one state of an order.
+     */
+    private void evictOrder(OrderSnapshot order) {
+        if (order == null) {
+            return;
+        }
+        cache("orders").evict(order.orderId());
+        if (order.dayOfTheWeek() != null) {
+            cache("ordersByDay").evict(order.dayOfTheWeek());
+        }
+        if (order.customerId() != null) {
+            cache("ordersByCustomer").evict(order.customerId());
+        }
+        if (order.restaurantId() != null) {
+            cache("ordersByRestaurant").evict(order.restaurantId());
+        }
+        rangeCaches.invalidate(order);
+    }
+
+    /**
+     * Evicts the customer entries that depend on one state of an order's customer.
+     */
+    private void evictCustomer(OrderSnapshot order) {
+        if (order == null || order.customerId() == null) {
+            return;
+        }
+        Cache customers = cache("customers");
+        customers.evict(ALL_KEY);
+        customers.evict(order.customerId());
+        customers.evict(order.customerRating());
+    }
+
+    /**
+     * Evicts the restaurant entries that depend on one state of an order's restaurant.
+     */
+    private void evictRestaurant(OrderSnapshot order) {
+        if (order == null || order.restaurantId() == null) {
+            return;
+        }
+        evictRestaurant(order.restaurantId(), order.foodPreparationTime(), order.deliveryTime());
+    }
+
+    /**
+     * Evicts the restaurant entries of one restaurant.
+     */
+    private void evictRestaurant(Integer restaurantId, Integer foodPreparationTime, Integer deliveryTime) {
+        Cache restaurants = cache("restaurants");
+        restaurants.evict(ALL_KEY);
+        restaurants.evict("id:" + restaurantId);
+        restaurants.evict("prep:" + foodPreparationTime);
+        restaurants.evict("delivery:" + deliveryTime);
+    }
+
+    /**
+     * Evicts the cached restaurant ID of the name of one state of an order's restaurant.
+     */
+    private void evictRestaurantId(OrderSnapshot order) {
+        if (order == null) {
+            return;
+        }
+        evictRestaurantId(order.restaurantName());
+    }
+
+    /**
+     * Evicts the cached restaurant ID of a restaurant name.
+     */
+    private void evictRestaurantId(String restaurantName) {
+        if (restaurantName == null) {
+            return;
+        }
+        cache(RestaurantResolver.CACHE_NAME).evict(RestaurantEntity.normalize(restaurantName));
+    }
+
+    private Cache cache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + name);
+        }
+        return cache;
+    }
+}
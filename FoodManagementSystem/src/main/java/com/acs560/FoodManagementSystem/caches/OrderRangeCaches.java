@@ -0,0 +1,94 @@
+package com.acs560.FoodManagementSystem.caches;
+
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.acs560.FoodManagementSystem.config.CacheMetrics;
+import com.acs560.FoodManagementSystem.config.CacheProperties;
+import com.acs560.FoodManagementSystem.models.OrderRow;
+import com.acs560.FoodManagementSystem.models.OrderSnapshot;
+
+/**
+ * Holds the {@link RangeQueryCache}s of orders by customer rating and by cost.
+ * <p>
+ * The caches hold immutable {@link OrderRow}s, so a cached range never shares managed entities between
+ * sessions and costs only the displayed columns per order.
+ * </p>
+ * <p>
+ * The caches are configured by the "ordersByCustomerRatingRange" and "ordersByCostRange" entries of
+ * {@code fms.cache.specs}, using their {@code max-weight} and {@code ttl}, and publish their meters under
+ * the same names. A {@code bucket-width} makes a miss load the whole buckets around the requested range.
+ * </p>
+ */
+@Component
+public class OrderRangeCaches {
+
+    /** The name of the cache of orders by customer rating range. */
+    public static final String BY_CUSTOMER_RATING = "ordersByCustomerRatingRange";
+
+    /** The name of the cache of orders by cost range. */
+    public static final String BY_COST = "ordersByCostRange";
+
+    private final RangeQueryCache<OrderRow> byCustomerRating;
+    private final RangeQueryCache<OrderRow> byCost;
+
+    /**
+     * Constructs a new instance of {@link OrderRangeCaches}.
+     *
+     * @param cacheProperties the cache settings
+     * @param cacheMetrics the per-cache meters
+     */
+    @Autowired
+    public OrderRangeCaches(CacheProperties cacheProperties, CacheMetrics cacheMetrics) {
+        this.byCustomerRating = create(BY_CUSTOMER_RATING, OrderRow::customerRating, cacheProperties, cacheMetrics);
+        this.byCost = create(BY_COST, OrderRow::costOfOrder, cacheProperties, cacheMetrics);
+    }
+
+    private static RangeQueryCache<OrderRow> create(String name, ToDoubleFunction<OrderRow> valueOf,
+                                                    CacheProperties cacheProperties, CacheMetrics cacheMetrics) {
+        CacheProperties.Spec spec = cacheProperties.specFor(name);
+        return new RangeQueryCache<>(valueOf, spec.getMaxWeight(), spec.getTtl(), spec.getBucketWidth(),
+                cacheMetrics.forCache(name));
+    }
+
+    /**
+     * Returns the cache of orders by customer rating range.
+     *
+     * @return the rating range cache
+     */
+    public RangeQueryCache<OrderRow> byCustomerRating() {
+        return byCustomerRating;
+    }
+
+    /**
+     * Returns the cache of orders by cost range.
+     *
+     * @return the cost range cache
+     */
+    public RangeQueryCache<OrderRow> byCost() {
+        return byCost;
+    }
+
+    /**
+     * Drops the cached ranges that contain one state of a changed order.
+     *
+     * @param order the state of the order before or after the write, or null
+     */
+    public void invalidate(OrderSnapshot order) {
+        if (order == null) {
+            return;
+        }
+        byCustomerRating.invalidate(order.customerRating());
+        byCost.invalidate(order.costOfOrder());
+    }
+
+    /**
+     * Drops every cached range, for writes that bypass the order service.
+     */
+    public void clear() {
+        byCustomerRating.clear();
+        byCost.clear();
+    }
+}
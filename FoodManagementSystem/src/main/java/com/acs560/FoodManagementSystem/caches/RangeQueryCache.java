@@ -0,0 +1,317 @@
+package com.acs560.FoodManagementSystem.caches;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+import com.acs560.FoodManagementSystem.config.CacheMetrics;
+import com.acs560.FoodManagementSystem.config.ReadWriteRoutingDataSource;
+import com.acs560.FoodManagementSystem.config.ReadWriteRoutingDataSource.RoutingScope;
+
+/**
+ * Cache for the results of range queries over one numeric attribute, such as orders by customer rating.
+ * <p>
+ * Results are kept as segments: a closed interval together with every item whose value lies in it, sorted
+ * by value. A query for a range that lies inside a cached segment is answered by a binary search on the
+ * segment, without going to the database, so narrowing a range never misses. A query that is not covered
+ * is loaded and merged with every segment it overlaps into one wider segment. With a bucket width, a missed
+ * range is widened to the bucket boundaries around it before it is loaded, so the cache holds whole buckets
+ * and nearby ranges hit the same segment.
+ * </p>
+ * <p>
+ * The cache is bounded by its total weight, which is the number of cached items plus one per segment; the
+ * least recently used segments are evicted first, and a result heavier than the whole budget is not cached.
+ * Segments also expire after a time-to-live. Writes call {@link #invalidate(double)} with the old and new
+ * values of every changed item, which drops the segments containing them. A load that overlaps an
+ * invalidation is returned to its caller but not cached. Loads run as shared cache loads of the
+ * {@link ReadWriteRoutingDataSource}, so they read the primary database shortly after writes.
+ * </p>
+ *
+ * @param <T> the type of the cached items
+ */
+public class RangeQueryCache<T> {
+
+    /**
+     * Loads the items whose value lies in a closed range.
+     *
+     * @param <T> the type of the items
+     */
+    @FunctionalInterface
+    public interface RangeLoader<T> {
+
+        /**
+         * Loads the items whose value lies between the bounds, inclusive.
+         *
+         * @param min the lower bound
+         * @param max the upper bound
+         * @return the items in the range, in any order
+         */
+        List<T> load(double min, double max);
+    }
+
+    private final ToDoubleFunction<T> valueOf;
+    private final long maxWeight;
+    private final long ttlNanos;
+    private final double bucketWidth;
+    private final CacheMetrics.Meters meters;
+
+    // Disjoint segments, guarded by this
+    private final List<Segment<T>> segments = new ArrayList<>();
+    private long weight;
+    private long generation;
+    private long accessClock;
+
+    /**
+     * Creates an empty range cache.
+     *
+     * @param valueOf the attribute the ranges are over
+     * @param maxWeight the maximum total weight of the cached segments
+     * @param ttl how long a segment stays cached after it was loaded
+     * @param meters the meters the hits, misses, loads and evictions are recorded on
+     */
+    public RangeQueryCache(ToDoubleFunction<T> valueOf, long maxWeight, Duration ttl, CacheMetrics.Meters meters) {
+        this(valueOf, maxWeight, ttl, 0, meters);
+    }
+
+    /**
+     * Creates an empty range cache that loads whole buckets on a miss.
+     *
+     * @param valueOf the attribute the ranges are over
+     * @param maxWeight the maximum total weight of the cached segments
+     * @param ttl how long a segment stays cached after it was loaded
+     * @param bucketWidth the width of the buckets loaded on a miss, or zero to load exactly the missed range
+     * @param meters the meters the hits, misses, loads and evictions are recorded on
+     */
+    public RangeQueryCache(ToDoubleFunction<T> valueOf, long maxWeight, Duration ttl, double bucketWidth,
+                           CacheMetrics.Meters meters) {
+        this.valueOf = valueOf;
+        this.maxWeight = maxWeight;
+        this.ttlNanos = ttl.toNanos();
+        this.bucketWidth = bucketWidth;
+        this.meters = meters;
+        meters.setSizeSource(this::getWeight);
+    }
+
+    /**
+     * Returns the items whose value lies in the given closed range, loading them if no cached segment
+     * covers the range.
+     *
+     * @param min the lower bound
+     * @param max the upper bound
+     * @param loader the loader used on a miss
+     * @return the items in the range, sorted by value; the list must not be modified
+     */
+    public List<T> get(double min, double max, RangeLoader<T> loader) {
+        if (min > max) {
+            return List.of();
+        }
+        Segment<T> covering;
+        long loadGeneration;
+        synchronized (this) {
+            covering = findCovering(min, max);
+            loadGeneration = generation;
+        }
+        if (covering != null) {
+            meters.hit();
+            return covering.slice(min, max);
+        }
+
+        meters.miss();
+        double loadMin = min;
+        double loadMax = max;
+        if (bucketWidth > 0) {
+            loadMin = Math.floor(min / bucketWidth) * bucketWidth;
+            loadMax = Math.ceil(max / bucketWidth) * bucketWidth;
+        }
+        long start = System.nanoTime();
+        boolean success = false;
+        List<T> loaded;
+        try (RoutingScope sharedLoad = ReadWriteRoutingDataSource.startSharedCacheLoad()) {
+            loaded = loader.load(loadMin, loadMax);
+            success = true;
+        } finally {
+            meters.recordLoad(System.nanoTime() - start, success);
+        }
+
+        Segment<T> segment = new Segment<>(loadMin, loadMax, sort(loaded), valueOf, start);
+        synchronized (this) {
+            if (loadGeneration == generation) {
+                insert(segment);
+            }
+        }
+        return segment.slice(min, max);
+    }
+
+    /**
+     * Drops every segment that contains the given value. Called with the old and new values of a changed item.
+     *
+     * @param value the value of a changed item
+     */
+    public synchronized void invalidate(double value) {
+        generation++;
+        segments.removeIf(segment -> {
+            if (segment.contains(value)) {
+                weight -= segment.weight();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Drops every segment.
+     */
+    public synchronized void clear() {
+        generation++;
+        segments.clear();
+        weight = 0;
+    }
+
+    /**
+     * Returns the total weight of the cached segments.
+     *
+     * @return the cached weight
+     */
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    /**
+     * Finds the live segment that covers the range, dropping expired segments on the way.
+     */
+    private Segment<T> findCovering(double min, double max) {
+        long now = System.nanoTime();
+        Iterator<Segment<T>> it = segments.iterator();
+        while (it.hasNext()) {
+            Segment<T> segment = it.next();
+            if (now - segment.loadedAt >= ttlNanos) {
+                it.remove();
+                weight -= segment.weight();
+                meters.evicted();
+            } else if (segment.min <= min && max <= segment.max) {
+                segment.lastAccess = ++accessClock;
+                return segment;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Inserts a freshly loaded segment, merging every segment it overlaps into it, then evicts the least
+     * recently used segments until the cache fits its weight budget.
+     */
+    private void insert(Segment<T> loaded) {
+        double min = loaded.min;
+        double max = loaded.max;
+        long loadedAt = loaded.loadedAt;
+        List<T> outside = new ArrayList<>();
+        long now = System.nanoTime();
+        Iterator<Segment<T>> it = segments.iterator();
+        while (it.hasNext()) {
+            Segment<T> segment = it.next();
+            if (segment.max < loaded.min || segment.min > loaded.max) {
+                continue;
+            }
+            it.remove();
+            weight -= segment.weight();
+            if (now - segment.loadedAt >= ttlNanos) {
+                meters.evicted();
+                continue;
+            }
+            // The fresh load is authoritative inside its range; keep the older items only outside it
+            for (T item : segment.items) {
+                double value = valueOf.applyAsDouble(item);
+                if (value < loaded.min || value > loaded.max) {
+                    outside.add(item);
+                }
+            }
+            min = Math.min(min, segment.min);
+            max = Math.max(max, segment.max);
+            // The merged segment is only as fresh as its oldest part
+            loadedAt = Math.min(loadedAt, segment.loadedAt);
+        }
+        Segment<T> merged = loaded;
+        if (min != loaded.min || max != loaded.max) {
+            outside.addAll(loaded.items);
+            merged = new Segment<>(min, max, sort(outside), valueOf, loadedAt);
+        }
+        if (merged.weight() > maxWeight) {
+            return;
+        }
+        merged.lastAccess = ++accessClock;
+        segments.add(merged);
+        weight += merged.weight();
+        while (weight > maxWeight) {
+            Segment<T> eldest = segments.stream().min(Comparator.comparingLong(s -> s.lastAccess)).orElseThrow();
+            segments.remove(eldest);
+            weight -= eldest.weight();
+            meters.evicted();
+        }
+    }
+
+    private List<T> sort(List<T> items) {
+        List<T> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparingDouble(valueOf));
+        return List.copyOf(sorted);
+    }
+
+    /**
+     * A cached closed interval with all of its items, sorted by value.
+     */
+    private static final class Segment<T> {
+
+        private final double min;
+        private final double max;
+        private final List<T> items;
+        private final double[] values;
+        private final long loadedAt;
+        private long lastAccess;
+
+        Segment(double min, double max, List<T> items, ToDoubleFunction<T> valueOf, long loadedAt) {
+            this.min = min;
+            this.max = max;
+            this.items = items;
+            this.values = new double[items.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = valueOf.applyAsDouble(items.get(i));
+            }
+            this.loadedAt = loadedAt;
+        }
+
+        boolean contains(double value) {
+            return min <= value && value <= max;
+        }
+
+        long weight() {
+            return items.size() + 1L;
+        }
+
+        /**
+         * Returns the items between the bounds, inclusive.
+         */
+        List<T> slice(double from, double to) {
+            return items.subList(firstIndex(from, false), firstIndex(to, true));
+        }
+
+        /**
+         * Returns the index of the first value that is greater than or equal to the bound,
+         * or strictly greater when {@code strict} is set.
+         */
+        private int firstIndex(double bound, boolean strict) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < bound || (strict && values[mid] == bound)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
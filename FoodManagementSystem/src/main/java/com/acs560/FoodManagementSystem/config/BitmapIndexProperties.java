@@ -0,0 +1,47 @@
+package com.acs560.FoodManagementSystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Configuration properties for the bitmap indexes of the orders, bound from the {@code fms.bitmap-index}
+ * prefix.
+ */
+@Data
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "fms.bitmap-index")
+public class BitmapIndexProperties {
+
+    /**
+     * Whether the bitmap indexes are built; without them combined order filters are answered by a query.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The width of the customer rating buckets; a rating range reads the bitmaps of the buckets it overlaps.
+     */
+    private float ratingBucketWidth = 0.5f;
+
+    /**
+     * The width of the order cost buckets.
+     */
+    private float costBucketWidth = 5f;
+
+    /**
+     * The number of rating buckets and of cost buckets; higher ratings and costs share the last bucket.
+     */
+    private int maxBuckets = 100;
+
+    /**
+     * The most memory the bitmaps may take; beyond it the indexes are dropped and filters use the database.
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    /**
+     * The number of rows the driver fetches at a time while the indexes are built.
+     */
+    private int fetchSize = 1000;
+}
@@ -1,49 +1,258 @@
-package com.acs560.FoodManagementSystem.config;
-
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.cache.CacheManager;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-/**
- * Configuration class for setting up caching in the Food Management System.
- * This class initializes a custom {@link CacheManager} bean that manages caching for various entities.
- * Caching helps improve performance by storing frequently accessed data in memory, reducing the need for 
- * repeated database queries or computations.
- *
- * <p>The {@link CacheManager} is configured to cache orders, customers, restaurants, and related queries 
- * based on certain filters such as cost, day, and customer rating range.</p>
- *
- * <p>Additionally, the {@link CacheConfig} class logs the initialization of the cache manager for debugging purposes.</p>
- */
-@Configuration
-public class CacheConfig {
-
-    private static final Logger logger = LoggerFactory.getLogger(CacheConfig.class);
-
-    /**
-     * Bean definition for {@link CacheManager}.
-     * This method initializes the {@link CacheManager} and configures it with various cache names.
-     *
-     * <p>The cache manager is used to manage caches for different entities like orders, customers, and restaurants, 
-     * allowing efficient retrieval of data by caching frequently requested data based on specific filters.</p>
-     *
-     * @return a {@link CacheManager} instance configured with multiple cache names
-     */
-    @Bean
-    public CacheManager cacheManager() {
-        logger.info("Initializing LoggingCacheManager Bean");
-
-        return new LoggingCacheManager(
-                "orders",
-                "ordersByCost",
-                "ordersByDay",
-                "ordersByCustomer",
-                "ordersByRestaurant",
-                "ordersByCustomerRatingRange",
-                "restaurants",
-                "customers"
-        );
-    }
-}
+package com.acs560.FoodManagementSystem.config;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import javax.cache.Caching;
+
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.event.EventType;
+import org.ehcache.config.builders.CacheEventListenerConfigurationBuilder;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.CompositeCacheManager;
+import org.springframework.cache.jcache.JCacheCacheManager;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.acs560.FoodManagementSystem.caches.OrderCacheInvalidator;
+import com.acs560.FoodManagementSystem.repositories.CustomerRepository;
+import com.acs560.FoodManagementSystem.repositories.RestaurantRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration class for setting up caching in the Food Management System.
+ * This class initializes a custom {@link CacheManager} bean that manages caching for various entities.
+ * Caching helps improve performance by storing frequently accessed data in memory, reducing the need for
+ * repeated database queries or computations.
+ *
+ * <p>The {@link CacheManager} is configured to cache orders, customers, restaurants, and related queries
+ * based on certain filters such as cost, day, and customer rating range.</p>
+ *
+ * <p>Every cache is bounded by the size and time-to-live configured in {@link CacheProperties}, and the
+ * configured eviction policy selects the backend (Caffeine for W-TinyLFU, Ehcache for LRU). The backend
+ * is always wrapped by a {@link LoggingCacheManager}.</p>
+ *
+ * <p>The caches of order lists are weighed instead: an entry weighs one plus the number of orders in its
+ * list, and the cache holds at most its {@code max-weight}, so the orders of a busy day or restaurant cannot
+ * grow it without bound. The Ehcache heap tier cannot weigh entries, so these caches stay on Caffeine
+ * under the LRU policy too.</p>
+ *
+ * <p>Additionally, the {@link CacheConfig} class logs the initialization of the cache manager for debugging purposes.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheConfig.class);
+
+    /**
+     * The names of all caches managed by the application.
+     */
+    public static final List<String> CACHE_NAMES = List.of(
+            "orders",
+            "ordersByDay",
+            "ordersByCustomer",
+            "ordersByRestaurant",
+            "restaurants",
+            "restaurantIdsByName",
+            "customers",
+            "restaurantStats",
+            "dayOfWeekStats"
+    );
+
+    /**
+     * The caches of order lists, bounded by the number of orders they hold rather than by their entries.
+     */
+    public static final Set<String> ROW_WEIGHED_CACHES = Set.of(
+            "ordersByDay",
+            "ordersByCustomer",
+            "ordersByRestaurant"
+    );
+
+    /**
+     * Bean definition for {@link CacheManager}.
+     * This method initializes the {@link CacheManager} and configures it with various cache names.
+     *
+     * <p>The cache manager is used to manage caches for different entities like orders, customers, and restaurants,
+     * allowing efficient retrieval of data by caching frequently requested data based on specific filters.</p>
+     *
+     * @param properties the size, expiry and eviction policy settings of the caches
+     * @param recorder the recorder that keeps the recent cache events
+     * @param metrics the per-cache Micrometer meters
+     * @param cacheRefreshExecutor the executor that reloads stale entries in the background
+     * @param refreshLoaders the loaders of the entries refreshed in the background
+     * @return a {@link CacheManager} instance configured with multiple cache names
+     */
+    @Bean
+    public CacheManager cacheManager(CacheProperties properties, CacheEventRecorder recorder, CacheMetrics metrics,
+                                     ThreadPoolTaskExecutor cacheRefreshExecutor,
+                                     ObjectProvider<CacheRefreshLoader> refreshLoaders) {
+        logger.info("Initializing LoggingCacheManager Bean with {} eviction", properties.getPolicy());
+
+        CacheManager backend;
+        if (properties.getPolicy() == CacheProperties.EvictionPolicy.LRU) {
+            List<String> counted = CACHE_NAMES.stream().filter(name -> !ROW_WEIGHED_CACHES.contains(name)).toList();
+            List<String> weighed = CACHE_NAMES.stream().filter(ROW_WEIGHED_CACHES::contains).toList();
+            backend = new CompositeCacheManager(ehcacheBackend(properties, metrics, counted),
+                    caffeineBackend(properties, metrics, weighed));
+        } else {
+            backend = caffeineBackend(properties, metrics, CACHE_NAMES);
+        }
+        return new LoggingCacheManager(backend, recorder, metrics, properties, cacheRefreshExecutor,
+                () -> refreshLoaders.orderedStream().toList());
+    }
+
+    /**
+     * Bean definition for the loader refreshing the cached list of all restaurants.
+     *
+     * @param restaurantRepository the repository reading the restaurant rows
+     * @return the refresh loader of the "all" entry of the "restaurants" cache
+     */
+    @Bean
+    public CacheRefreshLoader restaurantsRefreshLoader(RestaurantRepository restaurantRepository) {
+        return new CacheRefreshLoader("restaurants", OrderCacheInvalidator.ALL_KEY, restaurantRepository::findAllRows);
+    }
+
+    /**
+     * Bean definition for the loader refreshing the cached list of all customers.
+     *
+     * @param customerRepository the repository reading the customer rows
+     * @return the refresh loader of the "all" entry of the "customers" cache
+     */
+    @Bean
+    public CacheRefreshLoader customersRefreshLoader(CustomerRepository customerRepository) {
+        return new CacheRefreshLoader("customers", OrderCacheInvalidator.ALL_KEY, customerRepository::findAllRows);
+    }
+
+    /**
+     * Bean definition for the executor that refreshes stale cache entries in the background.
+     * The pool and its queue are small; a refresh that does not fit is dropped and retried by a later hit.
+     *
+     * @return the refresh executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(32);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * Bean definition for the {@link CacheMetrics} that publish hit, miss, load, size and eviction meters per cache.
+     *
+     * @param registry the Micrometer registry exposed through the actuator metrics endpoint
+     * @return the cache metrics
+     */
+    @Bean
+    public CacheMetrics cacheMetrics(MeterRegistry registry) {
+        return new CacheMetrics(registry);
+    }
+
+    /**
+     * Bean definition for the {@link CacheEventRecorder} that keeps the recent cache events.
+     *
+     * @param properties the cache settings
+     * @return a recorder sized by {@code fms.cache.event-log-capacity}
+     */
+    @Bean
+    public CacheEventRecorder cacheEventRecorder(CacheProperties properties) {
+        return new CacheEventRecorder(properties.getEventLogCapacity());
+    }
+
+    /**
+     * Builds a Caffeine backend, which evicts with the W-TinyLFU policy.
+     *
+     * @param properties the cache settings
+     * @param metrics the per-cache meters, fed with evictions and the estimated size
+     * @param cacheNames the names of the caches to create
+     * @return a cache manager holding one bounded Caffeine cache per cache name
+     */
+    private CacheManager caffeineBackend(CacheProperties properties, CacheMetrics metrics,
+                                         List<String> cacheNames) {
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        manager.setCacheNames(cacheNames);
+        for (String name : cacheNames) {
+            CacheProperties.Spec spec = properties.specFor(name);
+            CacheMetrics.Meters meters = metrics.forCache(name);
+            Caffeine<Object, Object> builder = Caffeine.newBuilder();
+            if (ROW_WEIGHED_CACHES.contains(name)) {
+                builder.maximumWeight(spec.getMaxWeight()).weigher(CacheConfig::rows);
+            } else {
+                builder.maximumSize(spec.getMaxSize());
+            }
+            Cache<Object, Object> cache = builder
+                    .expireAfterWrite(spec.getTtl())
+                    .removalListener((key, value, cause) -> {
+                        if (cause.wasEvicted()) {
+                            meters.evicted();
+                        }
+                    })
+                    .build();
+            meters.setSizeSource(cache::estimatedSize);
+            manager.registerCustomCache(name, cache);
+        }
+        return manager;
+    }
+
+    /**
+     * Returns the weight of a cached order list: one for the entry plus one per order.
+     */
+    private static int rows(Object key, Object value) {
+        return value instanceof Collection<?> rows ? 1 + rows.size() : 1;
+    }
+
+    /**
+     * Builds an Ehcache backend through JCache. The Ehcache heap tier evicts the least recently used entries.
+     *
+     * @param properties the cache settings
+     * @param metrics the per-cache meters, fed with evictions and the estimated size
+     * @param cacheNames the names of the caches to create
+     * @return a cache manager holding one bounded Ehcache cache per cache name
+     */
+    private CacheManager ehcacheBackend(CacheProperties properties, CacheMetrics metrics, List<String> cacheNames) {
+        javax.cache.CacheManager jcacheManager = Caching
+                .getCachingProvider(EhcacheCachingProvider.class.getName())
+                .getCacheManager();
+        for (String name : cacheNames) {
+            CacheProperties.Spec spec = properties.specFor(name);
+            CacheConfiguration<Object, Object> configuration = CacheConfigurationBuilder
+                    .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(spec.getMaxSize()))
+                    .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(spec.getTtl()))
+                    .withService(CacheEventListenerConfigurationBuilder
+                            .newEventListenerConfiguration(metrics.forCache(name).ehcacheListener(),
+                                    EventType.CREATED, EventType.REMOVED, EventType.EVICTED, EventType.EXPIRED)
+                            .unordered()
+                            .asynchronous())
+                    .build();
+            // A devtools restart reuses the provider, so replace any cache left over from the previous context
+            if (jcacheManager.getCache(name) != null) {
+                jcacheManager.destroyCache(name);
+            }
+            jcacheManager.createCache(name, Eh107Configuration.fromEhcacheCacheConfiguration(configuration));
+        }
+        JCacheCacheManager manager = new JCacheCacheManager(jcacheManager);
+        manager.afterPropertiesSet();
+        return manager;
+    }
+}
@@ -0,0 +1,180 @@
+package com.acs560.FoodManagementSystem.config;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-capacity, lock-free ring buffer of cache events.
+ * <p>
+ * Recording an event stores four primitives (timestamp in nanoseconds, cache id, operation code and key hash)
+ * into preallocated arrays, so the cache hot path neither locks nor allocates. Once the buffer is full the
+ * oldest events are overwritten. Events are only turned into strings when {@link #formatEvents()} is called,
+ * typically by the cache logs view.
+ * </p>
+ * <p>
+ * Every slot carries a stamp with the sequence number of the event it holds. A writer clears the stamp, writes
+ * the fields and then publishes the sequence number; a reader only accepts a slot whose stamp matches before
+ * and after reading the fields. This is a diagnostic log, so an event that is overwritten while it is read is
+ * simply skipped.
+ * </p>
+ */
+public class CacheEventRecorder {
+
+    /** A lookup that found an entry. */
+    public static final byte HIT = 0;
+    /** A lookup that found no entry. */
+    public static final byte MISS = 1;
+    /** An entry was written. */
+    public static final byte PUT = 2;
+    /** An entry was removed. */
+    public static final byte EVICT = 3;
+    /** All entries of a cache were removed. */
+    public static final byte CLEAR = 4;
+    /** Loading a missing entry failed. */
+    public static final byte LOAD_FAILURE = 5;
+
+    private static final String[] OPERATION_LABELS = {
+            "Cache hit", "Cache miss", "Cache put", "Cache evicted", "Cache cleared", "Cache loading failed"
+    };
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
+            .withZone(ZoneId.of("America/Indiana/Indianapolis"));
+
+    private static final long UNPUBLISHED = -1L;
+
+    private final int mask;
+    private final long[] timestamps;
+    private final int[] cacheIds;
+    private final byte[] operations;
+    private final int[] keyHashes;
+    private final AtomicLongArray stamps;
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<String> cacheNames = new CopyOnWriteArrayList<>();
+
+    // Anchors System.nanoTime() to the wall clock so timestamps can be formatted later
+    private final long epochNanosAtStart;
+    private final long nanoTimeAtStart;
+
+    /**
+     * Creates a recorder that keeps the most recent events.
+     *
+     * @param capacity the number of events to keep, rounded up to a power of two
+     */
+    public CacheEventRecorder(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        if (size <= 0) {
+            size = 1;
+        }
+        this.mask = size - 1;
+        this.timestamps = new long[size];
+        this.cacheIds = new int[size];
+        this.operations = new byte[size];
+        this.keyHashes = new int[size];
+        this.stamps = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            stamps.set(i, UNPUBLISHED);
+        }
+        this.epochNanosAtStart = System.currentTimeMillis() * 1_000_000L;
+        this.nanoTimeAtStart = System.nanoTime();
+    }
+
+    /**
+     * Registers a cache name and returns the id used to record its events.
+     * Registration happens once per cache, outside the hot path.
+     *
+     * @param cacheName the name of the cache
+     * @return the id of the cache
+     */
+    public synchronized int register(String cacheName) {
+        int id = cacheNames.indexOf(cacheName);
+        if (id < 0) {
+            cacheNames.add(cacheName);
+            id = cacheNames.size() - 1;
+        }
+        return id;
+    }
+
+    /**
+     * Records a cache event.
+     *
+     * @param cacheId the id returned by {@link #register(String)}
+     * @param operation one of the operation codes declared by this class
+     * @param key the cache key, or null for operations without a key
+     */
+    public void record(int cacheId, byte operation, Object key) {
+        long seq = sequence.getAndIncrement();
+        int slot = (int) (seq & mask);
+        stamps.set(slot, UNPUBLISHED);
+        timestamps[slot] = System.nanoTime();
+        cacheIds[slot] = cacheId;
+        operations[slot] = operation;
+        keyHashes[slot] = key == null ? 0 : key.hashCode();
+        stamps.set(slot, seq);
+    }
+
+    /**
+     * Returns the total number of events recorded since startup, including overwritten ones.
+     *
+     * @return the number of recorded events
+     */
+    public long getRecordedCount() {
+        return sequence.get();
+    }
+
+    /**
+     * Returns the number of events the buffer can hold.
+     *
+     * @return the capacity of the buffer
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Formats the events currently held by the buffer, oldest first.
+     *
+     * @return the formatted log messages
+     */
+    public List<String> formatEvents() {
+        long end = sequence.get();
+        long start = Math.max(0, end - getCapacity());
+        List<String> messages = new ArrayList<>((int) (end - start));
+        for (long seq = start; seq < end; seq++) {
+            int slot = (int) (seq & mask);
+            if (stamps.get(slot) != seq) {
+                continue;
+            }
+            long timestamp = timestamps[slot];
+            int cacheId = cacheIds[slot];
+            byte operation = operations[slot];
+            int keyHash = keyHashes[slot];
+            if (stamps.get(slot) != seq) {
+                continue;
+            }
+            messages.add(format(timestamp, cacheId, operation, keyHash));
+        }
+        return messages;
+    }
+
+    /**
+     * Formats a single event.
+     */
+    private String format(long timestamp, int cacheId, byte operation, int keyHash) {
+        String cacheName = cacheId < cacheNames.size() ? cacheNames.get(cacheId) : "#" + cacheId;
+        String time = TIMESTAMP_FORMAT.format(Instant.EPOCH.plusNanos(epochNanosAtStart + (timestamp - nanoTimeAtStart)));
+        if (operation == CLEAR) {
+            return String.format("%s for cache: %s at %s", OPERATION_LABELS[operation], cacheName, time);
+        }
+        return String.format("%s for key hash: %08x in cache: %s at %s", OPERATION_LABELS[operation], keyHash,
+                cacheName, time);
+    }
+}
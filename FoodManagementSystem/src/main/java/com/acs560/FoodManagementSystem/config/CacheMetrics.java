@@ -0,0 +1,183 @@
+package com.acs560.FoodManagementSystem.config;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.ehcache.event.CacheEvent;
+import org.ehcache.event.CacheEventListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Publishes Micrometer meters for every named cache, tagged with the cache name.
+ * <p>
+ * Each cache gets hit and miss counters ({@code cache.gets}), a put counter ({@code cache.puts}), an eviction
+ * counter ({@code cache.evictions}), an estimated size gauge ({@code cache.size}) and a load timer
+ * ({@code cache.load}) with p50, p99 and p999 percentiles. Hits, misses, puts and loads are recorded by
+ * {@link LoggingCacheManager}; evictions and size come from the cache backend. The manager also counts the
+ * loads saved by joining an in-flight load of the same key ({@code cache.loads.coalesced}) and the background
+ * refreshes of stale entries ({@code cache.refreshes}).
+ * </p>
+ */
+public class CacheMetrics {
+
+    private final MeterRegistry registry;
+    private final ConcurrentMap<String, Meters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the cache metrics on the given registry.
+     *
+     * @param registry the registry the meters are published to
+     */
+    public CacheMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Returns the meters of the given cache, registering them on first use.
+     *
+     * @param cacheName the name of the cache
+     * @return the meters of the cache
+     */
+    public Meters forCache(String cacheName) {
+        return meters.computeIfAbsent(cacheName, name -> new Meters(name, registry));
+    }
+
+    /**
+     * The meters of a single cache.
+     */
+    public static class Meters {
+
+        private final Counter hits;
+        private final Counter misses;
+        private final Counter puts;
+        private final Counter evictions;
+        private final Counter coalescedLoads;
+        private final Counter refreshes;
+        private final Timer loadSuccess;
+        private final Timer loadFailure;
+        private final AtomicLong trackedSize = new AtomicLong();
+        private volatile LongSupplier sizeSource = trackedSize::get;
+
+        Meters(String cacheName, MeterRegistry registry) {
+            this.hits = Counter.builder("cache.gets").tag("cache", cacheName).tag("result", "hit")
+                    .description("The number of times cache lookup methods have returned a cached value")
+                    .register(registry);
+            this.misses = Counter.builder("cache.gets").tag("cache", cacheName).tag("result", "miss")
+                    .description("The number of times cache lookup methods have not returned a value")
+                    .register(registry);
+            this.puts = Counter.builder("cache.puts").tag("cache", cacheName)
+                    .description("The number of entries added to the cache")
+                    .register(registry);
+            this.evictions = Counter.builder("cache.evictions").tag("cache", cacheName)
+                    .description("The number of entries evicted or expired by the cache backend")
+                    .register(registry);
+            this.coalescedLoads = Counter.builder("cache.loads.coalesced").tag("cache", cacheName)
+                    .description("The number of loads saved by waiting for an in-flight load of the same key")
+                    .register(registry);
+            this.refreshes = Counter.builder("cache.refreshes").tag("cache", cacheName)
+                    .description("The number of stale entries reloaded in the background")
+                    .register(registry);
+            this.loadSuccess = loadTimer(cacheName, "success", registry);
+            this.loadFailure = loadTimer(cacheName, "failure", registry);
+            Gauge.builder("cache.size", this, Meters::size).tag("cache", cacheName)
+                    .description("The estimated number of entries in the cache")
+                    .register(registry);
+        }
+
+        private static Timer loadTimer(String cacheName, String result, MeterRegistry registry) {
+            return Timer.builder("cache.load").tag("cache", cacheName).tag("result", result)
+                    .description("The time spent loading missing cache entries")
+                    .publishPercentiles(0.5, 0.99, 0.999)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+
+        /** Records a lookup that found an entry. */
+        public void hit() {
+            hits.increment();
+        }
+
+        /** Records a lookup that found no entry. */
+        public void miss() {
+            misses.increment();
+        }
+
+        /** Records an entry written to the cache. */
+        public void put() {
+            puts.increment();
+        }
+
+        /** Records an entry evicted or expired by the backend. */
+        public void evicted() {
+            evictions.increment();
+        }
+
+        /** Records a miss that waited for an in-flight load instead of loading again. */
+        public void coalesced() {
+            coalescedLoads.increment();
+        }
+
+        /** Records a stale entry reloaded in the background. */
+        public void refreshed() {
+            refreshes.increment();
+        }
+
+        /**
+         * Records the duration of a load.
+         *
+         * @param nanos the load duration in nanoseconds
+         * @param success whether the load produced a value
+         */
+        public void recordLoad(long nanos, boolean success) {
+            (success ? loadSuccess : loadFailure).record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Replaces the source of the size gauge, for backends that can report their own size.
+         *
+         * @param sizeSource the supplier of the estimated size
+         */
+        public void setSizeSource(LongSupplier sizeSource) {
+            this.sizeSource = sizeSource;
+        }
+
+        /**
+         * Returns the estimated number of entries in the cache.
+         *
+         * @return the estimated size
+         */
+        public double size() {
+            return Math.max(0, sizeSource.getAsLong());
+        }
+
+        /**
+         * Returns an Ehcache event listener that counts evictions and tracks the size of the cache.
+         *
+         * @return the listener to register for all Ehcache event types
+         */
+        public CacheEventListener<Object, Object> ehcacheListener() {
+            return this::onEhcacheEvent;
+        }
+
+        private void onEhcacheEvent(CacheEvent<?, ?> event) {
+            switch (event.getType()) {
+                case CREATED -> trackedSize.incrementAndGet();
+                case REMOVED -> trackedSize.decrementAndGet();
+                case EVICTED, EXPIRED -> {
+                    trackedSize.decrementAndGet();
+                    evicted();
+                }
+                default -> {
+                    // Updates do not change the size
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.acs560.FoodManagementSystem.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Configuration properties for the application caches, bound from the {@code fms.cache} prefix.
+ * <p>
+ * Every named cache declared in {@link CacheConfig} is bounded by a maximum number of entries and
+ * expires its entries after a time-to-live. The eviction policy decides which backend holds the
+ * entries: {@link EvictionPolicy#W_TINY_LFU} uses Caffeine, {@link EvictionPolicy#LRU} uses the
+ * Ehcache heap tier through JCache.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "fms.cache")
+public class CacheProperties {
+
+    /**
+     * The eviction policies supported by the cache backends.
+     */
+    public enum EvictionPolicy {
+        /** Frequency-aware admission with a small LRU window, backed by Caffeine. */
+        W_TINY_LFU,
+        /** Least-recently-used eviction, backed by the Ehcache heap tier. */
+        LRU
+    }
+
+    /**
+     * The eviction policy used for all caches.
+     */
+    private EvictionPolicy policy = EvictionPolicy.W_TINY_LFU;
+
+    /**
+     * The number of recent cache events kept for the cache logs view.
+     */
+    private int eventLogCapacity = 4096;
+
+    /**
+     * The settings applied to caches that have no entry in {@link #specs}.
+     */
+    private Spec defaults = new Spec();
+
+    /**
+     * The per-cache settings, keyed by cache name.
+     */
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    /**
+     * The settings of the cache warm-up that runs after startup.
+     */
+    private Warmup warmup = new Warmup();
+
+    /**
+     * Returns the settings for the given cache, falling back to {@link #defaults}.
+     * Cache names are matched case-insensitively so relaxed property binding cannot hide an entry.
+     *
+     * @param cacheName the name of the cache
+     * @return the settings for the cache, never null
+     */
+    public Spec specFor(String cacheName) {
+        for (Map.Entry<String, Spec> entry : specs.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(cacheName)) {
+                return entry.getValue();
+            }
+        }
+        return defaults;
+    }
+
+    /**
+     * Size, expiry and refresh settings for a single cache.
+     */
+    @Data
+    @NoArgsConstructor
+    public static class Spec {
+
+        /**
+         * The maximum number of entries held by the cache.
+         */
+        private long maxSize = 1000;
+
+        /**
+         * The maximum total weight of the entries, for caches that weigh their entries instead of counting
+         * them. The range query caches weigh a cached range, and the caches of order lists a cached list, by the
+         * number of rows it holds.
+         */
+        private long maxWeight = 50_000;
+
+        /**
+         * The width of the buckets a range query cache loads on a miss, for caches over a numeric attribute.
+         * A missed range is widened to the bucket boundaries around it, so nearby ranges are answered from
+         * the same segment. Zero loads exactly the requested range.
+         */
+        private double bucketWidth;
+
+        /**
+         * How long an entry stays in the cache after it was written.
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        /**
+         * How long after it was loaded an entry listed in {@link #refreshKeys} is reloaded in the background.
+         * Until the reload completes, readers keep getting the stale entry. Unset disables refreshing.
+         */
+        private Duration refreshAfter;
+
+        /**
+         * The keys that are refreshed in the background once they are older than {@link #refreshAfter}; each
+         * needs a {@link CacheRefreshLoader} bean.
+         */
+        private List<String> refreshKeys = new ArrayList<>();
+    }
+
+    /**
+     * Settings of the cache warm-up that preloads the hot caches once the application is ready.
+     */
+    @Data
+    @NoArgsConstructor
+    public static class Warmup {
+
+        /**
+         * Whether the caches are preloaded after startup.
+         */
+        private boolean enabled = true;
+
+        /**
+         * The number of threads loading the caches in parallel.
+         */
+        private int threads = 4;
+
+        /**
+         * How long the warm-up may delay readiness before the application accepts traffic anyway.
+         */
+        private Duration timeBudget = Duration.ofSeconds(30);
+
+        /**
+         * The number of customers and restaurants with the most orders whose entries are preloaded.
+         */
+        private int topN = 20;
+    }
+}
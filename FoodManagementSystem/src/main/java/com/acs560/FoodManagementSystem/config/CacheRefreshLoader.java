@@ -0,0 +1,19 @@
+package com.acs560.FoodManagementSystem.config;
+
+import java.util.concurrent.Callable;
+
+/**
+ * The loader that reloads one cache entry in the background once it is older than the cache's
+ * {@code refresh-after}.
+ * <p>
+ * Only keys listed in the cache's {@code refresh-keys} that have a loader bean are refreshed. The loader runs
+ * on the refresh executor, outside of any caller's transaction or security context, so it must read the
+ * database directly rather than through the cached service method that filled the entry.
+ * </p>
+ *
+ * @param cacheName the name of the cache
+ * @param key the key of the refreshed entry
+ * @param loader computes the fresh value of the entry
+ */
+public record CacheRefreshLoader(String cacheName, Object key, Callable<?> loader) {
+}
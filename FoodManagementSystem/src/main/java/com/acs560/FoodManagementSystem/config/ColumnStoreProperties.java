@@ -0,0 +1,27 @@
+package com.acs560.FoodManagementSystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Configuration properties for the in-memory copy of the orders table, bound from the
+ * {@code fms.column-store} prefix.
+ */
+@Data
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "fms.column-store")
+public class ColumnStoreProperties {
+
+    /**
+     * Whether the orders are loaded into memory and the order finders answered from there; without it
+     * every finder queries the database.
+     */
+    private boolean enabled;
+
+    /**
+     * The number of rows the driver fetches at a time while the orders are loaded.
+     */
+    private int fetchSize = 1000;
+}
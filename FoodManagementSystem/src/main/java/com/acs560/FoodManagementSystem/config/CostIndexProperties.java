@@ -0,0 +1,26 @@
+package com.acs560.FoodManagementSystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Configuration properties for the in-memory index of the orders sorted by cost, bound from the
+ * {@code fms.cost-index} prefix.
+ */
+@Data
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "fms.cost-index")
+public class CostIndexProperties {
+
+    /**
+     * Whether the index is built; without it the most and least expensive orders are read from the database.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The number of rows the driver fetches at a time while the index is built.
+     */
+    private int fetchSize = 1000;
+}
@@ -0,0 +1,14 @@
+package com.acs560.FoodManagementSystem.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the bulk import and export of orders.
+ * It binds the {@link ImportProperties} that size the import batches and parser pool, and the
+ * {@link ExportProperties} that size the export cursor fetches and output buffer.
+ */
+@Configuration
+@EnableConfigurationProperties({ImportProperties.class, ExportProperties.class})
+public class DataTransferConfig {
+}
@@ -0,0 +1,25 @@
+package com.acs560.FoodManagementSystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Configuration properties for the streaming export of orders, bound from the {@code fms.export} prefix.
+ */
+@Data
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "fms.export")
+public class ExportProperties {
+
+    /**
+     * The number of rows the JDBC driver fetches from the database cursor at a time.
+     */
+    private int fetchSize = 1000;
+
+    /**
+     * The size in bytes of the buffer between the rows and the output stream.
+     */
+    private int bufferSize = 64 * 1024;
+}
@@ -0,0 +1,163 @@
+package com.acs560.FoodManagementSystem.config;
+
+import java.net.URI;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import javax.cache.Caching;
+
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.acs560.FoodManagementSystem.entities.CustomerEntity;
+import com.acs560.FoodManagementSystem.entities.RestaurantEntity;
+import com.acs560.FoodManagementSystem.repositories.RestaurantRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.SharedCacheMode;
+
+/**
+ * Configuration class for Hibernate's second-level and query caches.
+ * <p>
+ * Customers and restaurants are cached as entities, and the results of the restaurant finders in the query
+ * cache. The regions live in a dedicated Ehcache manager reached through JCache, separate from the caches of
+ * the Spring cache abstraction. Each region is bounded by the {@code max-size} and {@code ttl} of the
+ * {@code fms.cache.specs} entry of the same name; Hibernate refuses to start if a region is missing, so no
+ * region is ever created unbounded.
+ * </p>
+ * <p>
+ * Per-region hits, misses and puts are published as the {@code hibernate.cache.gets} and
+ * {@code hibernate.cache.puts} meters, tagged with the region name.
+ * </p>
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(HibernateCacheConfig.class);
+
+    /**
+     * The regions holding cached entities and query results, sized by {@code fms.cache.specs}.
+     */
+    public static final List<String> REGION_NAMES = List.of(
+            CustomerEntity.CACHE_REGION,
+            RestaurantEntity.CACHE_REGION,
+            RestaurantRepository.QUERY_CACHE_REGION
+    );
+
+    private static final URI CACHE_MANAGER_URI = URI.create("urn:fms:hibernate-second-level-cache");
+
+    // One timestamp per table; they must outlive every cached query result
+    private static final long UPDATE_TIMESTAMPS_SIZE = 100;
+
+    /**
+     * Bean definition for the Hibernate settings that enable the second-level and query caches.
+     *
+     * @param properties the size and expiry settings of the regions
+     * @return the customizer adding the cache settings to the Hibernate properties
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheProperties properties) {
+        javax.cache.CacheManager cacheManager = secondLevelCacheManager(properties);
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            hibernateProperties.put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE);
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    /**
+     * Bean definition for the per-region meters of the second-level and query caches.
+     *
+     * @param entityManagerFactory the entity manager factory whose statistics are published
+     * @return the binder registering the meters
+     */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            for (String region : REGION_NAMES) {
+                FunctionCounter.builder("hibernate.cache.gets", statistics,
+                                stats -> count(stats, region, CacheRegionStatistics::getHitCount))
+                        .tag("region", region).tag("result", "hit")
+                        .description("The number of lookups served by the second-level cache region")
+                        .register(registry);
+                FunctionCounter.builder("hibernate.cache.gets", statistics,
+                                stats -> count(stats, region, CacheRegionStatistics::getMissCount))
+                        .tag("region", region).tag("result", "miss")
+                        .description("The number of lookups the second-level cache region could not serve")
+                        .register(registry);
+                FunctionCounter.builder("hibernate.cache.puts", statistics,
+                                stats -> count(stats, region, CacheRegionStatistics::getPutCount))
+                        .tag("region", region)
+                        .description("The number of entries put into the second-level cache region")
+                        .register(registry);
+            }
+        };
+    }
+
+    private static double count(Statistics statistics, String region, ToLongFunction<CacheRegionStatistics> counter) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        return regionStatistics == null ? 0 : counter.applyAsLong(regionStatistics);
+    }
+
+    /**
+     * Builds the Ehcache manager holding one bounded cache per region, plus Hibernate's default query results
+     * and update timestamps regions.
+     *
+     * @param properties the size and expiry settings of the regions
+     * @return the JCache manager handed to Hibernate
+     */
+    private javax.cache.CacheManager secondLevelCacheManager(CacheProperties properties) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching
+                .getCachingProvider(EhcacheCachingProvider.class.getName());
+        javax.cache.CacheManager cacheManager = provider.getCacheManager(CACHE_MANAGER_URI,
+                ConfigurationBuilder.newConfigurationBuilder().build());
+        for (String region : REGION_NAMES) {
+            CacheProperties.Spec spec = properties.specFor(region);
+            createRegion(cacheManager, region, spec.getMaxSize(), ExpiryPolicyBuilder.timeToLiveExpiration(spec.getTtl()));
+        }
+        CacheProperties.Spec defaults = properties.getDefaults();
+        createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, defaults.getMaxSize(),
+                ExpiryPolicyBuilder.timeToLiveExpiration(defaults.getTtl()));
+        createRegion(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                UPDATE_TIMESTAMPS_SIZE, ExpiryPolicyBuilder.noExpiration());
+        logger.info("Initialized the second-level cache regions {}", REGION_NAMES);
+        return cacheManager;
+    }
+
+    private static void createRegion(javax.cache.CacheManager cacheManager, String region, long maxSize,
+                                     ExpiryPolicy<Object, Object> expiry) {
+        CacheConfiguration<Object, Object> configuration = CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxSize))
+                .withExpiry(expiry)
+                .build();
+        // A devtools restart may find the manager of the previous context still open
+        if (cacheManager.getCache(region) != null) {
+            cacheManager.destroyCache(region);
+        }
+        cacheManager.createCache(region, Eh107Configuration.fromEhcacheCacheConfiguration(configuration));
+    }
+}
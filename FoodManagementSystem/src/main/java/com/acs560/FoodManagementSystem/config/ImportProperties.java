@@ -0,0 +1,30 @@
+package com.acs560.FoodManagementSystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Configuration properties for the bulk CSV import of orders, bound from the {@code fms.import} prefix.
+ */
+@Data
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "fms.import")
+public class ImportProperties {
+
+    /**
+     * The number of rows parsed as one unit and written in one JDBC batch.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * The number of threads parsing rows; defaults to the number of available processors.
+     */
+    private int parserThreads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The maximum number of rejected rows described in an import report; further rejections are only counted.
+     */
+    private int maxReportedRejections = 100;
+}
@@ -0,0 +1,13 @@
+package com.acs560.FoodManagementSystem.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the restaurant and customer leaderboards.
+ * It binds the {@link LeaderboardProperties} that size the leaderboards and schedule their refreshes.
+ */
+@Configuration
+@EnableConfigurationProperties(LeaderboardProperties.class)
+public class LeaderboardConfig {
+}
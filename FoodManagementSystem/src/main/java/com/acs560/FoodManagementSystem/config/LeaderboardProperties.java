@@ -0,0 +1,38 @@
+package com.acs560.FoodManagementSystem.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Configuration properties for the restaurant and customer leaderboards, bound from the
+ * {@code fms.leaderboard} prefix.
+ */
+@Data
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "fms.leaderboard")
+public class LeaderboardProperties {
+
+    /**
+     * Whether the order counts are kept; when disabled the leaderboards stay empty.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The number of restaurants or customers on each leaderboard.
+     */
+    private int size = 10;
+
+    /**
+     * How often the leaderboards are recomputed from the order counts.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(10);
+
+    /**
+     * The number of rows the driver fetches at a time while the order counts are built.
+     */
+    private int fetchSize = 1000;
+}
@@ -1,228 +1,449 @@
-package com.acs560.FoodManagementSystem.config;
-
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.Callable;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
-
-/**
- * Custom implementation of {@link CacheManager} that provides caching with logging.
- * This class extends {@link ConcurrentMapCacheManager} and logs cache operations like
- * cache hits, cache misses, cache puts, evictions, and clears.
- *
- * <p>The cache manager logs every operation for debugging and monitoring purposes. 
- * The log messages are stored in a static list and are also printed to the logger.</p>
- */
-public class LoggingCacheManager implements CacheManager {
-
-    private static final Logger logger = LoggerFactory.getLogger(LoggingCacheManager.class);
-    private final ConcurrentMapCacheManager delegate;
-
-    // Static list to store log messages
-    private static final List<String> logMessages = new ArrayList<>();
-
-    /**
-     * Constructor to initialize the LoggingCacheManager with cache names.
-     *
-     * @param cacheNames the names of the caches to be managed by the cache manager
-     */
-    public LoggingCacheManager(String... cacheNames) {
-        this.delegate = new ConcurrentMapCacheManager(cacheNames);
-    }
-
-    /**
-     * Returns the list of log messages generated during cache operations.
-     *
-     * @return the list of log messages
-     */
-    public static List<String> getLogMessages() {
-        return logMessages;
-    }
-
-    /**
-     * Retrieves the {@link Cache} for the given cache name.
-     *
-     * @param name the name of the cache to retrieve
-     * @return the {@link Cache} instance or null if not found
-     */
-    @Override
-    public Cache getCache(String name) {
-        Cache cache = delegate.getCache(name);
-        if (cache != null) {
-            return new LoggingCache(cache);
-        }
-        return null;
-    }
-
-    /**
-     * Retrieves the names of all available caches.
-     *
-     * @return a collection of cache names
-     */
-    @Override
-    public Collection<String> getCacheNames() {
-        return delegate.getCacheNames();
-    }
-
-    /**
-     * Inner class representing a cache with logging capabilities.
-     * This class intercepts cache operations (get, put, evict, clear) 
-     * to log the details of each operation.
-     */
-    private static class LoggingCache implements Cache {
-
-        private final Cache delegate;
-
-        /**
-         * Constructor to wrap a delegate cache.
-         *
-         * @param delegate the delegate {@link Cache} instance
-         */
-        LoggingCache(Cache delegate) {
-            this.delegate = delegate;
-        }
-
-        @Override
-        public String getName() {
-            return delegate.getName();
-        }
-
-        @Override
-        public Object getNativeCache() {
-            return delegate.getNativeCache();
-        }
-
-        /**
-         * Formats the current timestamp in the EST (Fort Wayne) timezone.
-         *
-         * @return the formatted timestamp as a string
-         */
-        private String getFormattedTimestamp() {
-            ZonedDateTime now = ZonedDateTime.now(ZoneId.of("America/Indiana/Indianapolis"));
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-            return now.format(formatter);
-        }
-
-        /**
-         * Retrieves a cache entry for the given key and logs the result.
-         *
-         * @param key the key of the cache entry to retrieve
-         * @return the value wrapper of the cache entry, or null if not found
-         */
-        @Override
-        public ValueWrapper get(Object key) {
-            ValueWrapper value = delegate.get(key);
-            String timestamp = getFormattedTimestamp();
-            String logMessage = value != null
-                    ? String.format("Cache hit for key: %s in cache: %s at %s", key, getName(), timestamp)
-                    : String.format("Cache miss for key: %s in cache: %s at %s", key, getName(), timestamp);
-            logMessages.add(logMessage);
-            logger.info(logMessage);
-            return value;
-        }
-
-        /**
-         * Retrieves a cache entry for the given key, or loads it using the provided loader, 
-         * logging the result of the operation.
-         *
-         * @param key the key of the cache entry to retrieve
-         * @param valueLoader the loader to use if the value is not found in the cache
-         * @param <T> the type of the value to be loaded
-         * @return the loaded value or the cached value if available
-         * @throws Exception if the valueLoader fails to load the value
-         */
-        @Override
-        public <T> T get(Object key, Callable<T> valueLoader) {
-            try {
-                T value = delegate.get(key, valueLoader);
-                String timestamp = getFormattedTimestamp();
-                String logMessage = value != null
-                        ? String.format("Cache hit for key: %s in cache: %s at %s", key, getName(), timestamp)
-                        : String.format("Cache miss for key: %s in cache: %s at %s", key, getName(), timestamp);
-                logMessages.add(logMessage);
-                logger.info(logMessage);
-                return value;
-            } catch (Exception e) {
-                String timestamp = getFormattedTimestamp();
-                String logMessage = String.format("Cache loading failed for key: %s in cache: %s at %s", key, getName(),
-                        timestamp);
-                logMessages.add(logMessage);
-                logger.error(logMessage, e);
-                throw e;
-            }
-        }
-
-        /**
-         * Retrieves a cache entry for the given key and type, logging the result.
-         *
-         * @param key the key of the cache entry to retrieve
-         * @param type the expected type of the value
-         * @param <T> the type of the value
-         * @return the cached value if found, or null if not found
-         */
-        @Override
-        public <T> T get(Object key, Class<T> type) {
-            T value = delegate.get(key, type);
-            String timestamp = getFormattedTimestamp();
-            String logMessage = value != null
-                    ? String.format("Cache hit for key: %s of type: %s in cache: %s at %s", key, type.getName(),
-                            getName(), timestamp)
-                    : String.format("Cache miss for key: %s of type: %s in cache: %s at %s", key, type.getName(),
-                            getName(), timestamp);
-            logMessages.add(logMessage);
-            logger.info(logMessage);
-            return value;
-        }
-
-        /**
-         * Puts a value into the cache and logs the operation.
-         *
-         * @param key the key of the cache entry
-         * @param value the value to be cached
-         */
-        @Override
-        public void put(Object key, Object value) {
-            String timestamp = getFormattedTimestamp();
-            String logMessage = String.format("Cache put for key: %s in cache: %s at %s", key, getName(), timestamp);
-            logMessages.add(logMessage);
-            logger.info(logMessage);
-            delegate.put(key, value);
-        }
-
-        /**
-         * Evicts a cache entry for the given key and logs the operation.
-         *
-         * @param key the key of the cache entry to remove
-         */
-        @Override
-        public void evict(Object key) {
-            String timestamp = getFormattedTimestamp();
-            String logMessage = String.format("Cache evicted for key: %s in cache: %s at %s", key, getName(),
-                    timestamp);
-            logMessages.add(logMessage);
-            logger.info(logMessage);
-            delegate.evict(key);
-        }
-
-        /**
-         * Clears the cache and logs the operation.
-         */
-        @Override
-        public void clear() {
-            String timestamp = getFormattedTimestamp();
-            String logMessage = String.format("Cache cleared for cache: %s at %s", getName(), timestamp);
-            logMessages.add(logMessage);
-            logger.info(logMessage);
-            delegate.clear();
-        }
-    }
-}
+package com.acs560.FoodManagementSystem.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.acs560.FoodManagementSystem.config.ReadWriteRoutingDataSource.RoutingScope;
+
+/**
+ * Custom implementation of {@link CacheManager} that provides caching with logging.
+ * This class wraps the configured cache backend and logs cache operations like
+ * cache hits, cache misses, cache puts, evictions, and clears.
+ *
+ * <p>Every operation is recorded in a {@link CacheEventRecorder}, which keeps a bounded window of recent
+ * events without locking or allocating on the cache hot path. The events are also written to the logger
+ * at debug level. Hits, misses, puts and load times are also published as Micrometer meters through
+ * {@link CacheMetrics}. The wrappers are created once per cache and reused.</p>
+ *
+ * <p>Loads are single-flight per key: when several callers miss the same key at once, the first one loads
+ * the value and the others wait for its result instead of querying the database again. A load that is
+ * overtaken by an eviction of its key still answers its callers but is not stored, so a concurrent write
+ * cannot be masked by a value read before it. Keys listed in the cache's {@code refresh-keys} are served
+ * stale once they are older than {@code refresh-after} while a single background reload replaces them. The
+ * reload runs the {@link CacheRefreshLoader} of the key, never the loader of the caller that hit the stale
+ * entry, which may depend on that caller's transaction or security context.</p>
+ */
+public class LoggingCacheManager implements CacheManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingCacheManager.class);
+    private final CacheManager delegate;
+    private final CacheEventRecorder recorder;
+    private final CacheMetrics metrics;
+    private final CacheProperties properties;
+    private final Executor refreshExecutor;
+    private final Supplier<? extends Collection<CacheRefreshLoader>> refreshLoaderBeans;
+    private final ConcurrentMap<String, LoggingCache> caches = new ConcurrentHashMap<>();
+    // The refresh loaders by cache name and key, resolved at the first refresh
+    private volatile Map<String, Map<Object, Callable<?>>> refreshLoaders;
+
+    /**
+     * Constructor to initialize the LoggingCacheManager around a cache backend.
+     *
+     * @param delegate the {@link CacheManager} that actually stores the cache entries
+     * @param recorder the recorder that keeps the recent cache events
+     * @param metrics the per-cache meters for hits, misses, puts and load times
+     * @param properties the cache settings, which select the keys refreshed in the background
+     * @param refreshExecutor the executor that reloads stale entries
+     * @param refreshLoaders the loaders of the refreshed keys, looked up at the first refresh so they may
+     *                       depend on beans that use this cache manager
+     */
+    public LoggingCacheManager(CacheManager delegate, CacheEventRecorder recorder, CacheMetrics metrics,
+                               CacheProperties properties, Executor refreshExecutor,
+                               Supplier<? extends Collection<CacheRefreshLoader>> refreshLoaders) {
+        this.delegate = delegate;
+        this.recorder = recorder;
+        this.metrics = metrics;
+        this.properties = properties;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshLoaderBeans = refreshLoaders;
+    }
+
+    /**
+     * Retrieves the {@link Cache} for the given cache name.
+     *
+     * @param name the name of the cache to retrieve
+     * @return the {@link Cache} instance or null if not found
+     */
+    @Override
+    public Cache getCache(String name) {
+        LoggingCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache backing = delegate.getCache(name);
+        if (backing == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> new LoggingCache(backing, recorder, recorder.register(key),
+                metrics.forCache(key), properties.specFor(key), refreshExecutor,
+                entryKey -> refreshLoader(key, entryKey)));
+    }
+
+    /**
+     * Returns the loader that refreshes a key of a cache, or null if the key has none.
+     */
+    private Callable<?> refreshLoader(String cacheName, Object key) {
+        Map<String, Map<Object, Callable<?>>> loaders = refreshLoaders;
+        if (loaders == null) {
+            loaders = new HashMap<>();
+            for (CacheRefreshLoader loader : refreshLoaderBeans.get()) {
+                loaders.computeIfAbsent(loader.cacheName(), name -> new HashMap<>())
+                        .put(loader.key(), loader.loader());
+            }
+            warnAboutMissingLoaders(loaders);
+            refreshLoaders = loaders;
+        }
+        return loaders.getOrDefault(cacheName, Map.of()).get(key);
+    }
+
+    private void warnAboutMissingLoaders(Map<String, Map<Object, Callable<?>>> loaders) {
+        for (String cacheName : delegate.getCacheNames()) {
+            CacheProperties.Spec spec = properties.specFor(cacheName);
+            if (spec.getRefreshAfter() == null) {
+                continue;
+            }
+            for (String key : spec.getRefreshKeys()) {
+                if (!loaders.getOrDefault(cacheName, Map.of()).containsKey(key)) {
+                    logger.warn("No refresh loader for key: {} in cache: {}; the entry expires instead",
+                            key, cacheName);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves the names of all available caches.
+     *
+     * @return a collection of cache names
+     */
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    /**
+     * Inner class representing a cache with logging capabilities.
+     * This class intercepts cache operations (get, put, evict, clear)
+     * to record the details of each operation.
+     */
+    private static class LoggingCache implements Cache {
+
+        private final Cache delegate;
+        private final CacheEventRecorder recorder;
+        private final int cacheId;
+        private final CacheMetrics.Meters meters;
+        private final long refreshAfterNanos;
+        private final Set<String> refreshKeys;
+        private final Executor refreshExecutor;
+        private final Function<Object, Callable<?>> refreshLoaders;
+        private final ConcurrentMap<Object, Load> loads = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Object, Long> loadedAt = new ConcurrentHashMap<>();
+
+        /**
+         * Constructor to wrap a delegate cache.
+         *
+         * @param delegate the delegate {@link Cache} instance
+         * @param recorder the recorder that keeps the recent cache events
+         * @param cacheId the id of this cache in the recorder
+         * @param meters the meters of this cache
+         * @param spec the settings of this cache
+         * @param refreshExecutor the executor that reloads stale entries
+         * @param refreshLoaders returns the refresh loader of a key, or null
+         */
+        LoggingCache(Cache delegate, CacheEventRecorder recorder, int cacheId, CacheMetrics.Meters meters,
+                     CacheProperties.Spec spec, Executor refreshExecutor,
+                     Function<Object, Callable<?>> refreshLoaders) {
+            this.delegate = delegate;
+            this.recorder = recorder;
+            this.cacheId = cacheId;
+            this.meters = meters;
+            this.refreshAfterNanos = spec.getRefreshAfter() == null ? 0 : spec.getRefreshAfter().toNanos();
+            this.refreshKeys = Set.copyOf(spec.getRefreshKeys());
+            this.refreshExecutor = refreshExecutor;
+            this.refreshLoaders = refreshLoaders;
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return delegate.getNativeCache();
+        }
+
+        /**
+         * Records an operation and writes it to the debug log.
+         *
+         * @param operation the operation code
+         * @param key the key of the operation, or null
+         */
+        private void record(byte operation, Object key) {
+            recorder.record(cacheId, operation, key);
+            if (operation == CacheEventRecorder.HIT) {
+                meters.hit();
+            } else if (operation == CacheEventRecorder.MISS) {
+                meters.miss();
+            } else if (operation == CacheEventRecorder.PUT) {
+                meters.put();
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("Cache operation {} for key: {} in cache: {}", operation, key, getName());
+            }
+        }
+
+        /**
+         * Retrieves a cache entry for the given key and logs the result.
+         *
+         * @param key the key of the cache entry to retrieve
+         * @return the value wrapper of the cache entry, or null if not found
+         */
+        @Override
+        public ValueWrapper get(Object key) {
+            ValueWrapper value = delegate.get(key);
+            record(value != null ? CacheEventRecorder.HIT : CacheEventRecorder.MISS, key);
+            return value;
+        }
+
+        /**
+         * Retrieves a cache entry for the given key, or loads it using the provided loader,
+         * logging the result of the operation and timing the load.
+         * Concurrent misses on the same key share a single load.
+         *
+         * @param key the key of the cache entry to retrieve
+         * @param valueLoader the loader to use if the value is not found in the cache
+         * @param <T> the type of the value to be loaded
+         * @return the loaded value or the cached value if available
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            ValueWrapper cached = delegate.get(key);
+            if (cached != null) {
+                record(CacheEventRecorder.HIT, key);
+                refreshIfStale(key, cached.get());
+                return (T) cached.get();
+            }
+
+            Load load = new Load();
+            Load inFlight = loads.putIfAbsent(key, load);
+            if (inFlight != null) {
+                record(CacheEventRecorder.MISS, key);
+                meters.coalesced();
+                return (T) inFlight.await();
+            }
+            try {
+                // A load of the same key may have completed between the lookup and the registration
+                cached = delegate.get(key);
+                if (cached != null) {
+                    record(CacheEventRecorder.HIT, key);
+                    load.result.complete(cached.get());
+                    return (T) cached.get();
+                }
+                record(CacheEventRecorder.MISS, key);
+                T value = load(key, valueLoader);
+                store(key, value, load);
+                load.result.complete(value);
+                return value;
+            } catch (RuntimeException e) {
+                load.result.completeExceptionally(e);
+                recorder.record(cacheId, CacheEventRecorder.LOAD_FAILURE, key);
+                logger.error("Cache loading failed for key: {} in cache: {}", key, getName(), e);
+                throw e;
+            } finally {
+                loads.remove(key, load);
+            }
+        }
+
+        /**
+         * Calls the loader and times it. The loader reads from the primary database shortly after writes,
+         * see {@link ReadWriteRoutingDataSource#startSharedCacheLoad()}.
+         *
+         * @throws ValueRetrievalException if the loader fails
+         */
+        private <T> T load(Object key, Callable<T> valueLoader) {
+            long start = System.nanoTime();
+            boolean success = false;
+            try (RoutingScope sharedLoad = ReadWriteRoutingDataSource.startSharedCacheLoad()) {
+                T value = valueLoader.call();
+                success = true;
+                return value;
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            } finally {
+                meters.recordLoad(System.nanoTime() - start, success);
+            }
+        }
+
+        /**
+         * Stores a loaded value unless the key was evicted while it was loading. The eviction flag is checked
+         * again after the write, so an eviction that raced with the write removes the value as well.
+         */
+        private void store(Object key, Object value, Load load) {
+            if (load.invalidated) {
+                return;
+            }
+            delegate.put(key, value);
+            if (load.invalidated) {
+                delegate.evict(key);
+                return;
+            }
+            meters.put();
+            if (isRefreshed(key)) {
+                loadedAt.put(key, System.nanoTime());
+            }
+        }
+
+        private boolean isRefreshed(Object key) {
+            return refreshAfterNanos > 0 && key instanceof String name && refreshKeys.contains(name);
+        }
+
+        /**
+         * Starts a background reload of a refreshed key once it is older than the refresh interval.
+         * Only one load per key runs at a time; a reload that the executor rejects is retried by a later hit.
+         */
+        private void refreshIfStale(Object key, Object staleValue) {
+            if (!isRefreshed(key)) {
+                return;
+            }
+            long now = System.nanoTime();
+            Long loaded = loadedAt.putIfAbsent(key, now);
+            if (loaded == null || now - loaded < refreshAfterNanos) {
+                return;
+            }
+            Callable<?> valueLoader = refreshLoaders.apply(key);
+            if (valueLoader == null) {
+                return;
+            }
+            Load refresh = new Load();
+            if (loads.putIfAbsent(key, refresh) != null) {
+                return;
+            }
+            try {
+                refreshExecutor.execute(() -> refresh(key, valueLoader, refresh));
+            } catch (RejectedExecutionException e) {
+                loads.remove(key, refresh);
+                // Callers that joined after the stale entry expired get the value this hit returned
+                refresh.result.complete(staleValue);
+            }
+        }
+
+        private void refresh(Object key, Callable<?> valueLoader, Load refresh) {
+            try {
+                Object value = load(key, valueLoader);
+                store(key, value, refresh);
+                meters.refreshed();
+                refresh.result.complete(value);
+            } catch (RuntimeException e) {
+                refresh.result.completeExceptionally(e);
+                recorder.record(cacheId, CacheEventRecorder.LOAD_FAILURE, key);
+                logger.warn("Background refresh failed for key: {} in cache: {}, keeping the stale entry",
+                        key, getName(), e);
+            } finally {
+                loads.remove(key, refresh);
+            }
+        }
+
+        /**
+         * Retrieves a cache entry for the given key and type, logging the result.
+         *
+         * @param key the key of the cache entry to retrieve
+         * @param type the expected type of the value
+         * @param <T> the type of the value
+         * @return the cached value if found, or null if not found
+         */
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            T value = delegate.get(key, type);
+            record(value != null ? CacheEventRecorder.HIT : CacheEventRecorder.MISS, key);
+            return value;
+        }
+
+        /**
+         * Puts a value into the cache and logs the operation.
+         *
+         * @param key the key of the cache entry
+         * @param value the value to be cached
+         */
+        @Override
+        public void put(Object key, Object value) {
+            record(CacheEventRecorder.PUT, key);
+            delegate.put(key, value);
+            if (isRefreshed(key)) {
+                loadedAt.put(key, System.nanoTime());
+            }
+        }
+
+        /**
+         * Evicts a cache entry for the given key and logs the operation.
+         *
+         * @param key the key of the cache entry to remove
+         */
+        @Override
+        public void evict(Object key) {
+            record(CacheEventRecorder.EVICT, key);
+            Load inFlight = loads.remove(key);
+            if (inFlight != null) {
+                inFlight.invalidated = true;
+            }
+            loadedAt.remove(key);
+            delegate.evict(key);
+        }
+
+        /**
+         * Clears the cache and logs the operation.
+         */
+        @Override
+        public void clear() {
+            record(CacheEventRecorder.CLEAR, null);
+            for (Load inFlight : loads.values()) {
+                inFlight.invalidated = true;
+            }
+            loads.clear();
+            loadedAt.clear();
+            delegate.clear();
+        }
+    }
+
+    /**
+     * A load in progress, shared by every caller that misses its key while it runs.
+     */
+    private static final class Load {
+
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        /** Set when the key is evicted during the load; the result is then returned but not stored. */
+        private volatile boolean invalidated;
+
+        /**
+         * Waits for the result of the load, rethrowing the failure of the loading caller.
+         */
+        Object await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
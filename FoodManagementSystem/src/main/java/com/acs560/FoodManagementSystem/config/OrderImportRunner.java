@@ -0,0 +1,79 @@
+package com.acs560.FoodManagementSystem.config;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import com.acs560.FoodManagementSystem.models.OrderImportReport;
+import com.acs560.FoodManagementSystem.services.OrderImportService;
+
+/**
+ * Imports a CSV file of orders from the command line and exits.
+ * <p>
+ * Started with {@code --import-orders=<path>}, the application imports the file, logs the progress and the
+ * final report, and shuts down with exit code 0, or 1 when the import failed or rejected rows. Without the
+ * option the runner does nothing.
+ * </p>
+ */
+@Component
+public class OrderImportRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderImportRunner.class);
+
+    /** The command-line option naming the file to import. */
+    public static final String IMPORT_OPTION = "import-orders";
+
+    private final OrderImportService orderImportService;
+    private final ConfigurableApplicationContext context;
+
+    /**
+     * Constructs a new instance of {@link OrderImportRunner}.
+     *
+     * @param orderImportService the service that imports the file
+     * @param context the application context, closed once the import is done
+     */
+    @Autowired
+    public OrderImportRunner(OrderImportService orderImportService, ConfigurableApplicationContext context) {
+        this.orderImportService = orderImportService;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        List<String> files = args.getOptionValues(IMPORT_OPTION);
+        if (files == null || files.isEmpty()) {
+            return;
+        }
+        int exitCode = 0;
+        for (String file : files) {
+            logger.info("Importing orders from {}", file);
+            try (InputStream csv = Files.newInputStream(Path.of(file))) {
+                OrderImportReport report = orderImportService.importOrders(csv, progress -> {
+                    if (!progress.finished()) {
+                        logger.info("{} rows read, {} imported, {} rejected", progress.rowsRead(),
+                                progress.rowsImported(), progress.rowsRejected());
+                    }
+                });
+                report.rejections().forEach(rejection -> logger.warn("Rejected {}", rejection));
+                if (report.rowsRejected() > 0) {
+                    exitCode = 1;
+                }
+            } catch (Exception e) {
+                logger.error("Import of {} failed", file, e);
+                exitCode = 1;
+            }
+        }
+        int status = exitCode;
+        System.exit(SpringApplication.exit(context, () -> status));
+    }
+}
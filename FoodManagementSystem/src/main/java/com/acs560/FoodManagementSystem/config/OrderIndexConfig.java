@@ -0,0 +1,37 @@
+package com.acs560.FoodManagementSystem.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuration class for the in-memory order and restaurant indexes.
+ * It binds the {@link ColumnStoreProperties} that switch on and size the loading of the column store, the
+ * {@link BitmapIndexProperties} that bucket and bound the bitmap indexes, the {@link CostIndexProperties}
+ * of the index of the orders by cost, and the {@link RestaurantSearchProperties} of the restaurant name index,
+ * and defines the executor that builds the indexes.
+ */
+@Configuration
+@EnableConfigurationProperties({ColumnStoreProperties.class, BitmapIndexProperties.class,
+        CostIndexProperties.class, RestaurantSearchProperties.class})
+public class OrderIndexConfig {
+
+    /**
+     * Bean definition for the executor that builds the indexes once the application is ready.
+     * It has a single thread, so the indexes are built one after another rather than all reading the
+     * database at once, and is shut down with the application context.
+     *
+     * @return the index loader
+     */
+    @Bean
+    public ThreadPoolTaskExecutor orderIndexLoader() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("order-index-load-");
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setDaemon(true);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,13 @@
+package com.acs560.FoodManagementSystem.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for order updates.
+ * It binds the {@link UpdateRetryProperties} that bound the retries of updates lost to a concurrent change.
+ */
+@Configuration
+@EnableConfigurationProperties(UpdateRetryProperties.class)
+public class OrderUpdateConfig {
+}
@@ -0,0 +1,92 @@
+package com.acs560.FoodManagementSystem.config;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Configuration class for routing reads to replica databases, active when
+ * {@code fms.datasource.routing.enabled} is set.
+ * <p>
+ * It replaces the auto-configured data source with three beans: the primary database from
+ * {@code spring.datasource}, which Flyway migrates; a {@link ReadWriteRoutingDataSource} over the primary and
+ * the replicas from {@code fms.datasource.routing.replicas}; and the {@link Primary} data source used by JPA
+ * and the JDBC templates, a {@link LazyConnectionDataSourceProxy} that takes the routed connection only at the
+ * first statement, once the transaction's read-only flag is set.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "fms.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RoutingProperties.class)
+public class ReadReplicaConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaConfig.class);
+
+    /**
+     * Bean definition for the primary database, which receives every write and the Flyway migrations.
+     *
+     * @param properties the {@code spring.datasource} settings
+     * @return the primary data source
+     */
+    @Bean
+    @FlywayDataSource
+    public DataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().build();
+    }
+
+    /**
+     * Bean definition for the data source that routes each connection to the primary or a replica.
+     * <p>
+     * The replica pools are built here rather than as beans, so the routing data source owns them and closes
+     * them when the context closes it.
+     * </p>
+     *
+     * @param primaryDataSource the primary database
+     * @param primaryProperties the {@code spring.datasource} settings, the defaults of the replica credentials
+     * @param routing the replica and routing settings
+     * @return the routing data source
+     */
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                        DataSourceProperties primaryProperties,
+                                                        RoutingProperties routing) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (RoutingProperties.Replica replica : routing.getReplicas()) {
+            replicas.add(primaryProperties.initializeDataSourceBuilder()
+                    .url(replica.getUrl())
+                    .username(replica.getUsername() != null ? replica.getUsername() : primaryProperties.determineUsername())
+                    .password(replica.getPassword() != null ? replica.getPassword() : primaryProperties.determinePassword())
+                    .build());
+        }
+        logger.info("Routing read-only work to {} replicas", replicas.size());
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, routing.getReadYourWritesWindow(),
+                routing.getHealthCheckInterval(), Clock.systemUTC());
+    }
+
+    /**
+     * Bean definition for the data source used by the application.
+     *
+     * @param routingDataSource the routing data source
+     * @return the lazy proxy over the routing data source
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        // The proxy reads the default auto-commit and isolation of the pools from their first connection
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
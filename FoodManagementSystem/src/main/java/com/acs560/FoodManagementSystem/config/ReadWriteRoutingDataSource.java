@@ -0,0 +1,299 @@
+package com.acs560.FoodManagementSystem.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * A data source that sends writes to the primary database and reads to replicas.
+ * <p>
+ * A connection taken inside a read-write transaction comes from the primary. Connections taken inside a
+ * read-only transaction, or outside any transaction, come from the next healthy replica in round-robin
+ * order. Wrap this data source in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * so the connection is only taken at the first statement, when the transaction flags are known.
+ * </p>
+ * <p>
+ * After a user commits a write, that user's reads stay on the primary for the read-your-writes window, so
+ * they see their own changes while the replicas catch up. Caches are shared by all users, though: once a write
+ * evicted an entry, the next miss of any user would refill it from a replica that may not have the write yet,
+ * and serve the old rows to everyone, the writer included, until the entry expires. Loads that fill a shared
+ * cache are therefore run inside {@link #startSharedCacheLoad()}, which keeps them on the primary for the
+ * read-your-writes window after any user's write. The marker only routes connections taken while it is open,
+ * so a cache must not be filled inside a transaction that already holds a connection.
+ * </p>
+ * <p>
+ * Work that must not miss any committed write, such as building the in-memory indexes that later writes are
+ * applied to, runs inside {@link #startPrimaryRead()} and always reads the primary.
+ * </p>
+ * <p>
+ * Replicas are checked in the background; a replica
+ * that fails a check or a connection attempt receives no reads until it passes a check again. When no
+ * replica is healthy, reads go to the primary.
+ * </p>
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    /** The lookup key of the primary database. */
+    static final String PRIMARY = "primary";
+
+    private static final String WRITE_MARKER = ReadWriteRoutingDataSource.class.getName() + ".write";
+    private static final String ANONYMOUS = "";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    private static final int MAX_TRACKED_WRITERS = 10_000;
+    private static final ThreadLocal<Boolean> SHARED_CACHE_LOAD = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PRIMARY_READ = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final Map<String, DataSource> replicas = new HashMap<>();
+    private final Map<String, Boolean> healthy = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> primaryUntil = new ConcurrentHashMap<>();
+    private final AtomicLong sharedCachesPrimaryUntil = new AtomicLong();
+    private final AtomicInteger next = new AtomicInteger();
+    private final Duration readYourWritesWindow;
+    private final Duration healthCheckInterval;
+    private final Clock clock;
+    private ScheduledExecutorService healthChecker;
+
+    /**
+     * Constructs a new instance of {@link ReadWriteRoutingDataSource}.
+     *
+     * @param primary the primary database, which receives every write
+     * @param replicas the replica databases, which share the reads and are closed with this data source
+     * @param readYourWritesWindow how long a user's reads stay on the primary after the user's last write
+     * @param healthCheckInterval how often the replicas are checked; zero disables the background checks
+     * @param clock the clock measuring the read-your-writes window
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration readYourWritesWindow,
+                                      Duration healthCheckInterval, Clock clock) {
+        this.primary = primary;
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.healthCheckInterval = healthCheckInterval;
+        this.clock = clock;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + i;
+            replicaKeys.add(key);
+            this.replicas.put(key, replicas.get(i));
+            healthy.put(key, true);
+            targets.put(key, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        if (!replicaKeys.isEmpty() && !healthCheckInterval.isZero()) {
+            healthChecker = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "replica-health-check");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = healthCheckInterval.toMillis();
+            healthChecker.scheduleWithFixedDelay(this::checkReplicas, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops the background health checks and closes the replica pools; the primary is left to its owner.
+     */
+    @Override
+    public void close() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (String key : replicaKeys) {
+            if (replicas.get(key) instanceof AutoCloseable pool) {
+                try {
+                    pool.close();
+                } catch (Exception e) {
+                    logger.warn("Could not close {}", key, e);
+                }
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite();
+            return PRIMARY;
+        }
+        if (Boolean.TRUE.equals(PRIMARY_READ.get()) || isInReadYourWritesWindow()
+                || isSharedCacheLoadAfterWrite()) {
+            return PRIMARY;
+        }
+        return nextHealthyReplica();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        DataSource target = key.equals(PRIMARY) ? primary : replicas.get(key);
+        try {
+            return target.getConnection();
+        } catch (SQLException e) {
+            if (key.equals(PRIMARY)) {
+                throw e;
+            }
+            markDown((String) key, e);
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * Checks every replica once, marking it healthy or not.
+     */
+    void checkReplicas() {
+        for (String key : replicaKeys) {
+            try (Connection connection = replicas.get(key).getConnection()) {
+                boolean valid = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+                Boolean previous = healthy.put(key, valid);
+                if (valid && Boolean.FALSE.equals(previous)) {
+                    logger.info("Replica {} is back, routing reads to it again", key);
+                } else if (!valid) {
+                    logger.warn("Replica {} failed its health check", key);
+                }
+            } catch (SQLException e) {
+                markDown(key, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the lookup key of the next healthy replica, or of the primary when none is healthy.
+     */
+    private String nextHealthyReplica() {
+        int count = replicaKeys.size();
+        for (int attempt = 0; attempt < count; attempt++) {
+            String key = replicaKeys.get(Math.floorMod(next.getAndIncrement(), count));
+            if (healthy.get(key)) {
+                return key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    private void markDown(String key, SQLException e) {
+        if (!Boolean.FALSE.equals(healthy.put(key, false))) {
+            logger.warn("Replica {} is unavailable, routing its reads to the primary: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Opens the read-your-writes window of the current user when the current write transaction commits.
+     */
+    private void trackWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_MARKER)) {
+            return;
+        }
+        String writer = currentUser();
+        TransactionSynchronizationManager.bindResource(WRITE_MARKER, writer);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCommit() {
+                if (primaryUntil.size() >= MAX_TRACKED_WRITERS) {
+                    long now = clock.millis();
+                    primaryUntil.values().removeIf(until -> until <= now);
+                }
+                long until = clock.millis() + readYourWritesWindow.toMillis();
+                primaryUntil.put(writer, until);
+                sharedCachesPrimaryUntil.accumulateAndGet(until, Math::max);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_MARKER);
+            }
+        });
+    }
+
+    private boolean isInReadYourWritesWindow() {
+        Long until = primaryUntil.get(currentUser());
+        return until != null && until > clock.millis();
+    }
+
+    private boolean isSharedCacheLoadAfterWrite() {
+        return Boolean.TRUE.equals(SHARED_CACHE_LOAD.get()) && sharedCachesPrimaryUntil.get() > clock.millis();
+    }
+
+    /**
+     * Marks the work of the current thread as a load whose result is put into a cache shared by all users,
+     * until the returned scope is closed. While any user's write is younger than the read-your-writes window,
+     * the connections such a load takes come from the primary. Scopes may be nested; only the outermost one
+     * clears the mark.
+     *
+     * @return the scope to close once the load is done
+     */
+    public static RoutingScope startSharedCacheLoad() {
+        return mark(SHARED_CACHE_LOAD);
+    }
+
+    /**
+     * Sends the reads of the current thread to the primary until the returned scope is closed, for work that
+     * must see every committed write. Scopes may be nested; only the outermost one clears the mark.
+     *
+     * @return the scope to close once the reads are done
+     */
+    public static RoutingScope startPrimaryRead() {
+        return mark(PRIMARY_READ);
+    }
+
+    private static RoutingScope mark(ThreadLocal<Boolean> marker) {
+        if (Boolean.TRUE.equals(marker.get())) {
+            return () -> { };
+        }
+        marker.set(Boolean.TRUE);
+        return marker::remove;
+    }
+
+    /**
+     * A scope changing the routing of the current thread, opened by {@link #startSharedCacheLoad()} or
+     * {@link #startPrimaryRead()}.
+     */
+    @FunctionalInterface
+    public interface RoutingScope extends AutoCloseable {
+
+        /**
+         * Ends the scope; later connections of the thread are routed as usual.
+         */
+        @Override
+        void close();
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? ANONYMOUS : authentication.getName();
+    }
+}
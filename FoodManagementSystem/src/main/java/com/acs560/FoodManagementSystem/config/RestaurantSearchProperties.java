@@ -0,0 +1,32 @@
+package com.acs560.FoodManagementSystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Configuration properties for the in-memory trigram index of the restaurant names, bound from the
+ * {@code fms.restaurant-search} prefix.
+ */
+@Data
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "fms.restaurant-search")
+public class RestaurantSearchProperties {
+
+    /**
+     * Whether the index is built; without it restaurant name searches query the database.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The share of the trigrams of a search that a name must contain to be suggested although it does not
+     * contain the search, such as names with a typo in the search.
+     */
+    private float minSimilarity = 0.5f;
+
+    /**
+     * The number of rows the driver fetches at a time while the index is built.
+     */
+    private int fetchSize = 1000;
+}
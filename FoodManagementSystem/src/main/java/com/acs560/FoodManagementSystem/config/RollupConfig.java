@@ -0,0 +1,13 @@
+package com.acs560.FoodManagementSystem.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the order statistics tables.
+ * It binds the {@link RollupProperties} that schedule the consistency checks of the tables.
+ */
+@Configuration
+@EnableConfigurationProperties(RollupProperties.class)
+public class RollupConfig {
+}
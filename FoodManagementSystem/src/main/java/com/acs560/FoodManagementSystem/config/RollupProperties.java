@@ -0,0 +1,34 @@
+package com.acs560.FoodManagementSystem.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Configuration properties for the order statistics tables maintained by the order service, bound from the
+ * {@code fms.rollup} prefix.
+ */
+@Data
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "fms.rollup")
+public class RollupProperties {
+
+    /**
+     * How often the statistics tables are compared with the orders; zero disables the background checks.
+     */
+    private Duration checkInterval = Duration.ofHours(1);
+
+    /**
+     * Whether a check that finds a difference rebuilds the statistics tables from the orders.
+     */
+    private boolean repair = true;
+
+    /**
+     * The largest difference between two totals that is still considered equal, absorbing the rounding of
+     * the summed floating-point costs and ratings.
+     */
+    private double tolerance = 0.01;
+}
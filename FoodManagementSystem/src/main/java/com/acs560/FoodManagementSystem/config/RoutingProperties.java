@@ -0,0 +1,64 @@
+package com.acs560.FoodManagementSystem.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Configuration properties for routing reads to replica databases, bound from the
+ * {@code fms.datasource.routing} prefix. The primary database is still configured with {@code spring.datasource}.
+ */
+@Data
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "fms.datasource.routing")
+public class RoutingProperties {
+
+    /**
+     * Whether reads are routed to the replicas; without it every statement goes to the primary.
+     */
+    private boolean enabled;
+
+    /**
+     * How long the reads of a user stay on the primary after the user committed a write, so the user sees
+     * the write even while the replicas lag behind.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * How often the replicas are checked; a replica that fails a check receives no reads until it passes one.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(10);
+
+    /**
+     * The replica databases, used in turn.
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * The connection settings of one replica database.
+     */
+    @Data
+    @NoArgsConstructor
+    public static class Replica {
+
+        /**
+         * The JDBC URL of the replica.
+         */
+        private String url;
+
+        /**
+         * The user name; defaults to the primary's.
+         */
+        private String username;
+
+        /**
+         * The password; defaults to the primary's.
+         */
+        private String password;
+    }
+}
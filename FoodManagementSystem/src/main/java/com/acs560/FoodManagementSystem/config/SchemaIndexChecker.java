@@ -0,0 +1,128 @@
+package com.acs560.FoodManagementSystem.config;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Checks at startup that the indexes the repositories rely on exist.
+ * <p>
+ * Every finder of the order, customer and restaurant repositories filters on a column that must lead an
+ * index, otherwise it scans the whole table. The checker reads the indexes of each table from the JDBC
+ * metadata and accepts an expected index when some index starts with the expected columns, in order, so a
+ * composite index also covers a lookup on its leading column. Missing indexes are logged as warnings, or
+ * stop the startup when {@code fms.schema.require-indexes} is set.
+ * </p>
+ */
+@Component
+public class SchemaIndexChecker implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaIndexChecker.class);
+
+    /**
+     * The leading columns of the indexes expected on each table.
+     */
+    static final Map<String, List<List<String>>> EXPECTED_INDEXES = Map.of(
+            "orders", List.of(
+                    List.of("cost_of_order"),
+                    List.of("day_of_the_week"),
+                    List.of("customer_id"),
+                    List.of("restaurant_id")),
+            "customers", List.of(
+                    List.of("rating")),
+            "restaurants", List.of(
+                    List.of("normalized_name"),
+                    List.of("food_preparation_time"),
+                    List.of("delivery_time")));
+
+    private final DataSource dataSource;
+    private final boolean requireIndexes;
+
+    /**
+     * Constructs a new instance of {@link SchemaIndexChecker}.
+     *
+     * @param dataSource the data source of the application schema
+     * @param requireIndexes whether a missing index stops the startup
+     */
+    @Autowired
+    public SchemaIndexChecker(DataSource dataSource,
+                              @Value("${fms.schema.require-indexes:false}") boolean requireIndexes) {
+        this.dataSource = dataSource;
+        this.requireIndexes = requireIndexes;
+    }
+
+    /**
+     * Checks the indexes of every table.
+     *
+     * @param args the application arguments, not used
+     * @throws SQLException if the metadata cannot be read
+     */
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        List<String> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (Map.Entry<String, List<List<String>>> table : EXPECTED_INDEXES.entrySet()) {
+                List<List<String>> indexes = readIndexes(connection, metaData, table.getKey());
+                for (List<String> expected : table.getValue()) {
+                    if (indexes.stream().noneMatch(index -> startsWith(index, expected))) {
+                        missing.add(table.getKey() + expected);
+                    }
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            logger.info("All {} expected indexes are present",
+                    EXPECTED_INDEXES.values().stream().mapToInt(List::size).sum());
+        } else if (requireIndexes) {
+            throw new IllegalStateException("Missing indexes: " + missing);
+        } else {
+            logger.warn("Missing indexes, the matching lookups will scan their tables: {}", missing);
+        }
+    }
+
+    /**
+     * Reads the columns of every index of a table, in index order and in lower case.
+     */
+    private static List<List<String>> readIndexes(Connection connection, DatabaseMetaData metaData, String table)
+            throws SQLException {
+        // Unquoted identifiers are stored in upper case by some databases (H2) and as written by others (MySQL)
+        String tableName = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+        Map<String, TreeMap<Short, String>> columnsByIndex = new TreeMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), tableName,
+                false, true)) {
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (indexName == null || column == null) {
+                    continue;
+                }
+                columnsByIndex.computeIfAbsent(indexName, name -> new TreeMap<>())
+                        .put(rs.getShort("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+            }
+        }
+        List<List<String>> indexes = new ArrayList<>();
+        columnsByIndex.values().forEach(columns -> indexes.add(new ArrayList<>(columns.values())));
+        return indexes;
+    }
+
+    private static boolean startsWith(List<String> index, List<String> expected) {
+        return index.size() >= expected.size() && index.subList(0, expected.size()).equals(expected);
+    }
+}
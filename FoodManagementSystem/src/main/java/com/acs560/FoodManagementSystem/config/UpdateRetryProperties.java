@@ -0,0 +1,33 @@
+package com.acs560.FoodManagementSystem.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Configuration properties for retrying order updates that lost an optimistic locking conflict, bound from
+ * the {@code fms.order-update.retry} prefix.
+ */
+@Data
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "fms.order-update.retry")
+public class UpdateRetryProperties {
+
+    /**
+     * The maximum number of attempts of one update, including the first one.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * The pause before the first retry; it doubles with every further retry.
+     */
+    private Duration initialBackoff = Duration.ofMillis(25);
+
+    /**
+     * The longest pause between two attempts.
+     */
+    private Duration maxBackoff = Duration.ofMillis(250);
+}
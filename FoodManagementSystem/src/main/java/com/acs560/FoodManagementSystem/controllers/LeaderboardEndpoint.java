@@ -0,0 +1,40 @@
+package com.acs560.FoodManagementSystem.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import com.acs560.FoodManagementSystem.models.Leaderboard;
+import com.acs560.FoodManagementSystem.services.LeaderboardService;
+
+/**
+ * Actuator endpoint named "leaderboard" that reports the restaurants and customers with the most orders or
+ * revenue, as of the last refresh of the {@link LeaderboardService}.
+ */
+@Component
+@Endpoint(id = "leaderboard")
+public class LeaderboardEndpoint {
+
+    private final LeaderboardService leaderboardService;
+
+    /**
+     * Constructs a new instance of {@link LeaderboardEndpoint}.
+     *
+     * @param leaderboardService the service holding the leaderboards
+     */
+    @Autowired
+    public LeaderboardEndpoint(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    /**
+     * Returns the leaderboards of the last refresh.
+     *
+     * @return the leaderboards
+     */
+    @ReadOperation
+    public Leaderboard leaderboard() {
+        return leaderboardService.getLeaderboard();
+    }
+}
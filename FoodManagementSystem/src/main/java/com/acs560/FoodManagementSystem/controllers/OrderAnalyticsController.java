@@ -0,0 +1,59 @@
+package com.acs560.FoodManagementSystem.controllers;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.acs560.FoodManagementSystem.models.DayOfWeekStats;
+import com.acs560.FoodManagementSystem.models.RestaurantStats;
+import com.acs560.FoodManagementSystem.requests.OrderAnalyticsRequest;
+import com.acs560.FoodManagementSystem.services.OrderAnalyticsService;
+
+/**
+ * REST controller for aggregated order figures.
+ * <p>
+ * Both endpoints accept the fields of {@link OrderAnalyticsRequest} as query parameters, e.g.
+ * {@code ?dayOfTheWeek=Friday&minRating=4}, and return a JSON array with one object per group. Like every
+ * non-view request they require an authenticated user.
+ * </p>
+ */
+@RestController
+public class OrderAnalyticsController {
+
+    private final OrderAnalyticsService orderAnalyticsService;
+
+    /**
+     * Constructs a new instance of {@link OrderAnalyticsController}.
+     *
+     * @param orderAnalyticsService the service computing the figures
+     */
+    @Autowired
+    public OrderAnalyticsController(OrderAnalyticsService orderAnalyticsService) {
+        this.orderAnalyticsService = orderAnalyticsService;
+    }
+
+    /**
+     * Returns the order figures per restaurant.
+     *
+     * @param request the optional filters of the aggregated orders
+     * @return the figures of every restaurant with matching orders
+     */
+    @GetMapping("/api/analytics/restaurants")
+    public List<RestaurantStats> getRestaurantStats(@ModelAttribute OrderAnalyticsRequest request) {
+        return orderAnalyticsService.getRestaurantStats(request);
+    }
+
+    /**
+     * Returns the order figures per day of the week.
+     *
+     * @param request the optional filters of the aggregated orders
+     * @return the figures of every day with matching orders
+     */
+    @GetMapping("/api/analytics/days")
+    public List<DayOfWeekStats> getDayOfWeekStats(@ModelAttribute OrderAnalyticsRequest request) {
+        return orderAnalyticsService.getDayOfWeekStats(request);
+    }
+}
@@ -0,0 +1,52 @@
+package com.acs560.FoodManagementSystem.controllers;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.acs560.FoodManagementSystem.models.OrderRow;
+import com.acs560.FoodManagementSystem.requests.OrderCostRangeRequest;
+import com.acs560.FoodManagementSystem.services.OrderService;
+
+import jakarta.validation.Valid;
+
+/**
+ * REST controller for the orders within a cost range.
+ * <p>
+ * The endpoint accepts the fields of {@link OrderCostRangeRequest} as query parameters, e.g.
+ * {@code ?maxCost=30&sort=DESC&limit=10} for the ten most expensive orders costing at most 30, and returns a
+ * JSON array of order rows. Without a limit the first {@value OrderCostRangeRequest#DEFAULT_LIMIT} orders are
+ * returned, and a limit above {@value OrderCostRangeRequest#MAX_LIMIT} is rejected with status 400. Like every
+ * non-view request it requires an authenticated user.
+ * </p>
+ */
+@RestController
+public class OrderCostController {
+
+    private final OrderService orderService;
+
+    /**
+     * Constructs a new instance of {@link OrderCostController}.
+     *
+     * @param orderService the service finding the orders
+     */
+    @Autowired
+    public OrderCostController(OrderService orderService) {
+        this.orderService = orderService;
+    }
+
+    /**
+     * Returns the orders within a cost range.
+     *
+     * @param request the cost range, sort direction and limit
+     * @return the matching orders
+     */
+    @GetMapping("/api/orders/by-cost")
+    public List<OrderRow> getByCostRange(@Valid @ModelAttribute OrderCostRangeRequest request) {
+        return orderService.getByCostRange(request.getMinCost(), request.getMaxCost(), request.getSort(),
+                request.getLimit());
+    }
+}
@@ -0,0 +1,60 @@
+package com.acs560.FoodManagementSystem.controllers;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ContentDisposition;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.acs560.FoodManagementSystem.requests.OrderExportRequest;
+import com.acs560.FoodManagementSystem.services.OrderExportService;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * REST controller for exporting orders as a file download.
+ * <p>
+ * {@code GET /api/orders/export} accepts the fields of {@link OrderExportRequest} as query parameters, e.g.
+ * {@code ?dayOfTheWeek=Monday&minRating=4&format=NDJSON&gzip=true}, and streams the matching orders into the
+ * response body while they are read. Like every non-view request it requires an authenticated user.
+ * </p>
+ */
+@RestController
+public class OrderExportController {
+
+    private final OrderExportService orderExportService;
+
+    /**
+     * Constructs a new instance of {@link OrderExportController}.
+     *
+     * @param orderExportService the service that writes the export
+     */
+    @Autowired
+    public OrderExportController(OrderExportService orderExportService) {
+        this.orderExportService = orderExportService;
+    }
+
+    /**
+     * Streams the orders matching the request as a file attachment.
+     * <p>
+     * The response is written synchronously on the request thread; it is chunked, so the client receives
+     * the first rows before the query has finished.
+     * </p>
+     *
+     * @param request the filters, format and compression of the export
+     * @param response the response the export is written to
+     * @throws IOException if writing the response fails
+     */
+    @GetMapping("/api/orders/export")
+    public void exportOrders(@ModelAttribute OrderExportRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setContentType(request.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(request.getFileName()).build().toString());
+        orderExportService.exportOrders(request, response.getOutputStream());
+    }
+}
@@ -1,35 +1,59 @@
-package com.acs560.FoodManagementSystem.entities;
-
-import jakarta.persistence.*;
-import jakarta.validation.constraints.NotNull;
-import lombok.*;
-
-/**
- * Represents a customer entity in the food management system.
- * This class is mapped to the "Customers" table in the database and contains 
- * details about a customer, including their unique ID and rating.
- *
- * <p>The `CustomerEntity` class is used to store and retrieve customer information 
- * in the system, with fields for the customer's ID and rating.</p>
- */
-@Entity
-@Table(name = "Customers")
-@Data
-@NoArgsConstructor
-public class CustomerEntity {
-
-    /**
-     * Unique identifier for the customer.
-     * This field is automatically generated as the primary key for the customer.
-     */
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Integer customerId;
-
-    /**
-     * Customer's rating based on feedback or performance.
-     * This field cannot be null and is used to store the customer's rating.
-     */
-    @NotNull
-    private float rating;
-}
+package com.acs560.FoodManagementSystem.entities;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+/**
+ * Represents a customer entity in the food management system.
+ * This class is mapped to the "Customers" table in the database and contains 
+ * details about a customer, including their unique ID and rating.
+ *
+ * <p>The `CustomerEntity` class is used to store and retrieve customer information 
+ * in the system, with fields for the customer's ID and rating.</p>
+ *
+ * <p>Customers are kept in Hibernate's second-level cache, so loading the customer of an order
+ * is served from memory once the customer has been read.</p>
+ *
+ * <p>Customers are versioned for optimistic locking, and updates only write the changed columns.</p>
+ */
+@Entity
+@Table(name = "Customers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CustomerEntity.CACHE_REGION)
+@DynamicUpdate
+@Data
+@NoArgsConstructor
+public class CustomerEntity {
+
+    /**
+     * The name of the second-level cache region holding customers.
+     */
+    public static final String CACHE_REGION = "customerEntities";
+
+    /**
+     * Unique identifier for the customer.
+     * This field is automatically generated as the primary key for the customer.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer customerId;
+
+    /**
+     * Customer's rating based on feedback or performance.
+     * This field cannot be null and is used to store the customer's rating.
+     */
+    @NotNull
+    private float rating;
+
+    /**
+     * Version of the customer, incremented by every update.
+     * An update based on an older version fails instead of overwriting a concurrent change.
+     */
+    @Version
+    private Long version;
+}
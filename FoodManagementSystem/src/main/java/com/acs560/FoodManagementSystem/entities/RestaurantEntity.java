@@ -1,51 +1,108 @@
-package com.acs560.FoodManagementSystem.entities;
-
-import jakarta.persistence.*;
-import jakarta.validation.constraints.NotNull;
-import lombok.*;
-
-/**
- * Represents a restaurant entity in the food management system.
- * This class is mapped to the "Restaurants" table in the database and contains 
- * details about a restaurant, including its ID, name, food preparation time, 
- * and delivery time.
- *
- * <p>The `RestaurantEntity` class is used to store and retrieve information about 
- * a restaurant, including its name and times related to food preparation and delivery.</p>
- */
-@Entity
-@Table(name = "Restaurants")
-@Data
-@NoArgsConstructor
-public class RestaurantEntity {
-
-    /**
-     * Unique identifier for the restaurant.
-     * This field is automatically generated as the primary key for the restaurant.
-     */
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Integer restaurantId;
-
-    /**
-     * Name of the restaurant.
-     * This field represents the name of the restaurant and cannot be null.
-     * It is a required field for creating or updating a restaurant entity.
-     */
-    @NotNull
-    private String restaurantName;
-
-    /**
-     * Time taken to prepare food at the restaurant, in minutes.
-     * This field represents the average time (in minutes) it takes for the restaurant 
-     * to prepare the food once the order is placed.
-     */
-    private Integer foodPreparationTime;
-
-    /**
-     * Time taken for delivery from the restaurant, in minutes.
-     * This field represents the average time (in minutes) it takes for the restaurant 
-     * to deliver food to the customer after preparation.
-     */
-    private Integer deliveryTime;
-}
+package com.acs560.FoodManagementSystem.entities;
+
+import java.util.Locale;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+/**
+ * Represents a restaurant entity in the food management system.
+ * This class is mapped to the "Restaurants" table in the database and contains 
+ * details about a restaurant, including its ID, name, food preparation time, 
+ * and delivery time.
+ *
+ * <p>The `RestaurantEntity` class is used to store and retrieve information about 
+ * a restaurant, including its name and times related to food preparation and delivery.</p>
+ *
+ * <p>Restaurants are unique by {@link #normalize(String) normalized} name, which is kept in the
+ * unique `normalized_name` column.</p>
+ *
+ * <p>Restaurants are kept in Hibernate's second-level cache, so loading the restaurant of an order
+ * is served from memory once the restaurant has been read.</p>
+ *
+ * <p>Restaurants are versioned for optimistic locking, and updates only write the changed columns.</p>
+ */
+@Entity
+@Table(name = "Restaurants")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = RestaurantEntity.CACHE_REGION)
+@DynamicUpdate
+@Data
+@NoArgsConstructor
+public class RestaurantEntity {
+
+    /**
+     * The name of the second-level cache region holding restaurants.
+     */
+    public static final String CACHE_REGION = "restaurantEntities";
+
+    /**
+     * Unique identifier for the restaurant.
+     * This field is automatically generated as the primary key for the restaurant.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer restaurantId;
+
+    /**
+     * Name of the restaurant.
+     * This field represents the name of the restaurant and cannot be null.
+     * It is a required field for creating or updating a restaurant entity.
+     */
+    @NotNull
+    private String restaurantName;
+
+    /**
+     * Time taken to prepare food at the restaurant, in minutes.
+     * This field represents the average time (in minutes) it takes for the restaurant 
+     * to prepare the food once the order is placed.
+     */
+    private Integer foodPreparationTime;
+
+    /**
+     * Time taken for delivery from the restaurant, in minutes.
+     * This field represents the average time (in minutes) it takes for the restaurant 
+     * to deliver food to the customer after preparation.
+     */
+    private Integer deliveryTime;
+
+    /**
+     * Normalized name of the restaurant, unique across restaurants.
+     * This field is derived from the restaurant name whenever the restaurant is saved.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(unique = true)
+    private String normalizedName;
+
+    /**
+     * Version of the restaurant, incremented by every update.
+     * An update based on an older version fails instead of overwriting a concurrent change.
+     */
+    @Version
+    private Long version;
+
+    /**
+     * Derives the normalized name from the restaurant name before the restaurant is inserted or updated.
+     */
+    @PrePersist
+    @PreUpdate
+    void updateNormalizedName() {
+        normalizedName = normalize(restaurantName);
+    }
+
+    /**
+     * Normalizes a restaurant name for lookups: surrounding whitespace is removed and letters are lower-cased,
+     * matching {@code LOWER(TRIM(restaurant_name))} in the database.
+     *
+     * @param restaurantName the restaurant name, or null
+     * @return the normalized name, or null if the name is null
+     */
+    public static String normalize(String restaurantName) {
+        return restaurantName == null ? null : restaurantName.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,106 @@
+package com.acs560.FoodManagementSystem.events;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.acs560.FoodManagementSystem.models.OrderSnapshot;
+import com.acs560.FoodManagementSystem.models.RestaurantRow;
+
+/**
+ * Event published by the order service whenever orders are inserted, updated or deleted.
+ * <p>
+ * Each {@link Change} carries the state of an order before and after the write: inserts have no
+ * {@code before} snapshot and deletes have no {@code after} snapshot. Listeners use the snapshots to
+ * update exactly the cache entries and index entries that depend on the changed orders.
+ * </p>
+ * <p>
+ * Restaurants deleted without any order in the changes, such as a restaurant without orders deleted
+ * explicitly, are listed separately so listeners can drop them too.
+ * </p>
+ */
+public class OrdersChangedEvent {
+
+    /**
+     * The state of one order before and after a write.
+     *
+     * @param before the order before the write, or null for an insert
+     * @param after the order after the write, or null for a delete
+     */
+    public record Change(OrderSnapshot before, OrderSnapshot after) {
+
+        /**
+         * Returns whether the customer columns of the order changed.
+         *
+         * @return true if the customer was added, removed, replaced or re-rated
+         */
+        public boolean customerChanged() {
+            return before == null || after == null
+                    || !Objects.equals(before.customerId(), after.customerId())
+                    || before.customerRating() != after.customerRating();
+        }
+
+        /**
+         * Returns whether the restaurant columns of the order changed.
+         *
+         * @return true if the restaurant was added, removed, replaced or edited
+         */
+        public boolean restaurantChanged() {
+            return before == null || after == null
+                    || !Objects.equals(before.restaurantId(), after.restaurantId())
+                    || !Objects.equals(before.restaurantName(), after.restaurantName())
+                    || !Objects.equals(before.foodPreparationTime(), after.foodPreparationTime())
+                    || !Objects.equals(before.deliveryTime(), after.deliveryTime());
+        }
+    }
+
+    private final List<Change> changes;
+    private final List<RestaurantRow> deletedRestaurants;
+
+    /**
+     * Creates an event for the given changes.
+     *
+     * @param changes the changed orders
+     */
+    public OrdersChangedEvent(List<Change> changes) {
+        this(changes, List.of());
+    }
+
+    /**
+     * Creates an event for the given changes and for restaurants deleted without any of the changed orders.
+     *
+     * @param changes the changed orders
+     * @param deletedRestaurants the deleted restaurants no change refers to
+     */
+    public OrdersChangedEvent(List<Change> changes, List<RestaurantRow> deletedRestaurants) {
+        this.changes = List.copyOf(changes);
+        this.deletedRestaurants = List.copyOf(deletedRestaurants);
+    }
+
+    /**
+     * Creates an event for a single inserted order.
+     *
+     * @param inserted the inserted order
+     * @return the event
+     */
+    public static OrdersChangedEvent inserted(OrderSnapshot inserted) {
+        return new OrdersChangedEvent(List.of(new Change(null, inserted)));
+    }
+
+    /**
+     * Returns the changed orders.
+     *
+     * @return the changes carried by this event
+     */
+    public List<Change> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Returns the restaurants deleted without any of the changed orders.
+     *
+     * @return the deleted restaurants no change refers to
+     */
+    public List<RestaurantRow> getDeletedRestaurants() {
+        return deletedRestaurants;
+    }
+}
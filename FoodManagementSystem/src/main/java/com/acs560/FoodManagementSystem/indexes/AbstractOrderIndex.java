@@ -0,0 +1,251 @@
+package com.acs560.FoodManagementSystem.indexes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.acs560.FoodManagementSystem.config.ReadWriteRoutingDataSource;
+import com.acs560.FoodManagementSystem.config.ReadWriteRoutingDataSource.RoutingScope;
+import com.acs560.FoodManagementSystem.events.OrdersChangedEvent;
+import com.acs560.FoodManagementSystem.services.OrderDerivedData;
+
+/**
+ * Base class of the in-memory indexes built from the orders and restaurants tables.
+ * <p>
+ * An index is built on the shared index loader once the application is ready and kept up to date by the
+ * {@link OrdersChangedEvent}s of committed order writes; writes that bypass the order service call
+ * {@link #reload()}. The current index keeps answering the queries while a build reads the database, and the
+ * changes committed meanwhile are buffered and replayed on top of the built index, so none is lost. Replaying
+ * a change the build already read must leave the index as it is. Callers check {@link #isReady()} and query
+ * the database otherwise.
+ * </p>
+ * <p>
+ * Builds and the lookups of {@link #changesOf} read the primary database through
+ * {@link ReadWriteRoutingDataSource#startPrimaryRead()}: a replica may not have the changes committed just
+ * before the build started, which no replay would restore.
+ * </p>
+ * <p>
+ * Subclasses read the database in {@link #build()}, install the result in {@link #install} and apply the
+ * changes in {@link #apply}; the last two are called with the write lock of {@link #lock} held.
+ * </p>
+ *
+ * @param <B> the type of a built index
+ * @param <C> the type of the changes applied to the index
+ */
+public abstract class AbstractOrderIndex<B, C> implements OrderDerivedData {
+
+    protected final Logger logger = LoggerFactory.getLogger(getClass());
+
+    /** The template the index is built with. */
+    protected final JdbcTemplate jdbcTemplate;
+
+    /** Guards the index; the changes are applied and the builds installed with the write lock held. */
+    protected final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final String name;
+    private final Executor loader;
+
+    // Serializes the builds, without blocking the writes that change the index meanwhile
+    private final Object reloadLock = new Object();
+
+    private volatile IndexState state;
+
+    // The changes committed while a build runs, replayed on top of the built index; guarded by the lock
+    private List<C> pendingChanges;
+
+    /**
+     * Constructs a new index.
+     *
+     * @param name the name of the index, used in the log messages
+     * @param dataSource the data source the index is built from
+     * @param fetchSize the number of rows fetched per round trip while building
+     * @param enabled whether the index is switched on
+     * @param loader the executor running the first build
+     */
+    protected AbstractOrderIndex(String name, DataSource dataSource, int fetchSize, boolean enabled,
+                                 Executor loader) {
+        this.name = name;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.loader = loader;
+        this.state = enabled ? IndexState.PENDING : IndexState.DISABLED;
+    }
+
+    /**
+     * Starts the first build once the application is ready. The build runs on the index loader; this method
+     * returns immediately.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (state != IndexState.PENDING) {
+            return;
+        }
+        state = IndexState.LOADING;
+        loader.execute(() -> {
+            try {
+                reload();
+            } catch (RuntimeException e) {
+                logger.warn("Could not build the {}, its queries use the database", name, e);
+            }
+        });
+    }
+
+    /**
+     * Returns the state of the index.
+     *
+     * @return the state
+     */
+    public IndexState getState() {
+        return state;
+    }
+
+    /**
+     * Returns whether the index answers the queries.
+     *
+     * @return true once the index is built
+     */
+    public boolean isReady() {
+        return state == IndexState.READY;
+    }
+
+    /**
+     * Rebuilds the index from the database. The current index keeps answering the queries while the database
+     * is read. If the build fails, the index is cleared and stops answering until a later reload succeeds.
+     * Does nothing if the index is disabled.
+     */
+    @Override
+    public void reload() {
+        synchronized (reloadLock) {
+            if (state == IndexState.DISABLED) {
+                return;
+            }
+            long start = System.nanoTime();
+            lock.writeLock().lock();
+            try {
+                pendingChanges = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            B built;
+            try (RoutingScope primaryRead = ReadWriteRoutingDataSource.startPrimaryRead()) {
+                built = build();
+            } catch (RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    pendingChanges = null;
+                    state = IndexState.FAILED;
+                    clear();
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+
+            String summary;
+            lock.writeLock().lock();
+            try {
+                List<C> replayed = pendingChanges;
+                pendingChanges = null;
+                state = IndexState.READY;
+                install(built, replayed);
+                summary = summary();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.info("Built the {} of {} in {} ms", name, summary,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Applies the changed orders once the write has committed.
+     *
+     * @param event the event describing the changed orders
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrdersChanged(OrdersChangedEvent event) {
+        if (state == IndexState.DISABLED) {
+            return;
+        }
+        List<C> changes;
+        try (RoutingScope primaryRead = ReadWriteRoutingDataSource.startPrimaryRead()) {
+            changes = changesOf(event);
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.addAll(changes);
+            }
+            apply(changes);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Moves the index to another state, such as out of service when it outgrows its budget. Must be called
+     * with the write lock held.
+     *
+     * @param state the new state
+     */
+    protected void setState(IndexState state) {
+        this.state = state;
+    }
+
+    /**
+     * Reads the database into a new index. Called without any lock held.
+     *
+     * @return the built index
+     */
+    protected abstract B build();
+
+    /**
+     * Replaces the index by a build and applies the changes committed while it was built.
+     *
+     * @param built the built index
+     * @param replayed the changes committed during the build, some of which the build may already contain
+     */
+    protected abstract void install(B built, List<C> replayed);
+
+    /**
+     * Applies committed changes to the index.
+     *
+     * @param changes the changes, in commit order
+     */
+    protected abstract void apply(List<C> changes);
+
+    /**
+     * Extracts the changes relevant to the index from an event. Called without any lock held.
+     *
+     * @param event the event describing the changed orders
+     * @return the changes to apply, possibly empty
+     */
+    protected abstract List<C> changesOf(OrdersChangedEvent event);
+
+    /**
+     * Drops the contents of the index after a failed build.
+     */
+    protected abstract void clear();
+
+    /**
+     * Describes the contents of the index for the log, such as "1000 orders".
+     *
+     * @return the description
+     */
+    protected abstract String summary();
+}
@@ -0,0 +1,19 @@
+package com.acs560.FoodManagementSystem.indexes;
+
+/**
+ * The states of an {@link AbstractOrderIndex}.
+ */
+public enum IndexState {
+    /** The index is switched off. */
+    DISABLED,
+    /** The first build has not started yet. */
+    PENDING,
+    /** The first build is running. */
+    LOADING,
+    /** The index answers the queries. */
+    READY,
+    /** The index outgrew its memory budget and was dropped until the next reload. */
+    OVER_BUDGET,
+    /** The last build failed; the queries use the database until a reload succeeds. */
+    FAILED
+}
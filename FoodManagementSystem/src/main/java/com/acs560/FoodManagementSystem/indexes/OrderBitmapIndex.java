@@ -0,0 +1,334 @@
+package com.acs560.FoodManagementSystem.indexes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+
+import javax.sql.DataSource;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import com.acs560.FoodManagementSystem.config.BitmapIndexProperties;
+import com.acs560.FoodManagementSystem.events.OrdersChangedEvent;
+import com.acs560.FoodManagementSystem.models.OrderFilter;
+import com.acs560.FoodManagementSystem.models.OrderSnapshot;
+
+/**
+ * Compressed bitmap indexes of the order IDs by day of the week, restaurant, customer rating bucket and cost
+ * bucket.
+ * <p>
+ * Every order ID is in exactly one bitmap per dimension, so the indexes grow with the number of orders, not
+ * with the number of filters. An {@link OrderFilter} is answered by OR-ing the bitmaps of the values or
+ * buckets it names and combining the results with bitmap ANDs and ORs. Rating and cost ranges read whole
+ * buckets, so the result is a superset of the matching orders for them: callers fetch the candidate rows
+ * and check them with {@link OrderFilter#test}.
+ * </p>
+ * <p>
+ * Ratings and costs beyond the {@code fms.bitmap-index.max-buckets} bucket share the last bucket, and if the
+ * bitmaps outgrow {@code fms.bitmap-index.max-size} they are dropped until the next reload, so the indexes
+ * never take more memory than configured.
+ * </p>
+ */
+@Component
+public class OrderBitmapIndex extends AbstractOrderIndex<OrderBitmapIndex.Bitmaps, OrdersChangedEvent.Change> {
+
+    private static final String SELECT_ORDERS = "SELECT o.order_id, o.cost_of_order, o.day_of_the_week,"
+            + " o.restaurant_id, c.rating FROM orders o JOIN customers c ON c.customer_id = o.customer_id";
+
+    private final BitmapIndexProperties properties;
+
+    // The bitmaps, guarded by the lock; empty bitmaps are removed
+    private Bitmaps bitmaps = new Bitmaps();
+
+    /**
+     * Constructs a new instance of {@link OrderBitmapIndex}.
+     *
+     * @param dataSource the data source the orders are read from
+     * @param properties the bucket widths and memory budget of the indexes
+     * @param loader the executor building the indexes once the application is ready
+     */
+    @Autowired
+    public OrderBitmapIndex(DataSource dataSource, BitmapIndexProperties properties,
+                            @Qualifier("orderIndexLoader") Executor loader) {
+        super("order bitmap indexes", dataSource, properties.getFetchSize(), properties.isEnabled(), loader);
+        this.properties = properties;
+    }
+
+    /**
+     * Returns the memory taken by the bitmaps.
+     *
+     * @return the size of the bitmaps, in bytes
+     */
+    public long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            return bitmaps.sizeInBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    protected Bitmaps build() {
+        Bitmaps built = new Bitmaps();
+        jdbcTemplate.query(SELECT_ORDERS, rs -> {
+            built.add(rs.getInt(1), rs.getString(3), rs.getInt(4), ratingBucket(rs.getFloat(5)),
+                    costBucket(rs.getFloat(2)));
+        });
+        built.runOptimize();
+        return built;
+    }
+
+    @Override
+    protected void install(Bitmaps built, List<OrdersChangedEvent.Change> replayed) {
+        bitmaps = built;
+        move(replayed);
+        checkBudget();
+    }
+
+    @Override
+    protected List<OrdersChangedEvent.Change> changesOf(OrdersChangedEvent event) {
+        return event.getChanges();
+    }
+
+    @Override
+    protected void apply(List<OrdersChangedEvent.Change> changes) {
+        // Dropped bitmaps stay empty until the next reload
+        if (getState() != IndexState.OVER_BUDGET) {
+            move(changes);
+        }
+        if (getState() == IndexState.READY) {
+            checkBudget();
+        }
+    }
+
+    @Override
+    protected void clear() {
+        bitmaps = new Bitmaps();
+    }
+
+    @Override
+    protected String summary() {
+        return bitmaps.all.getLongCardinality() + " orders (" + bitmaps.sizeInBytes() + " bytes)";
+    }
+
+    /**
+     * Returns the IDs of the orders that may match a filter: exactly the matching orders for the order ID,
+     * day and restaurant filters, and a superset of them for the rating and cost ranges.
+     *
+     * @param filter the filter
+     * @return a new bitmap of the candidate order IDs
+     */
+    public RoaringBitmap candidates(OrderFilter filter) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = evaluate(filter);
+            // Results of the leaf filters may be the index bitmaps themselves
+            return result.clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Evaluates a filter on the bitmaps. Must be called with the read lock held; the result must not be
+     * modified.
+     */
+    private RoaringBitmap evaluate(OrderFilter filter) {
+        if (filter instanceof OrderFilter.OrderIdIs orderIdIs) {
+            RoaringBitmap result = new RoaringBitmap();
+            if (bitmaps.all.contains(orderIdIs.orderId())) {
+                result.add(orderIdIs.orderId());
+            }
+            return result;
+        } else if (filter instanceof OrderFilter.DayIn dayIn) {
+            List<RoaringBitmap> matches = new ArrayList<>();
+            dayIn.days().forEach(day -> addIfPresent(matches, bitmaps.byDay.get(day)));
+            return union(matches);
+        } else if (filter instanceof OrderFilter.RestaurantIn restaurantIn) {
+            List<RoaringBitmap> matches = new ArrayList<>();
+            restaurantIn.restaurantIds().forEach(id -> addIfPresent(matches, bitmaps.byRestaurant.get(id)));
+            return union(matches);
+        } else if (filter instanceof OrderFilter.RatingBetween range) {
+            return union(buckets(bitmaps.byRatingBucket,
+                    range.min() == null ? null : ratingBucket(range.min()),
+                    range.max() == null ? null : ratingBucket(range.max())));
+        } else if (filter instanceof OrderFilter.CostBetween range) {
+            return union(buckets(bitmaps.byCostBucket,
+                    range.min() == null ? null : costBucket(range.min()),
+                    range.max() == null ? null : costBucket(range.max())));
+        } else if (filter instanceof OrderFilter.And and) {
+            if (and.filters().isEmpty()) {
+                return bitmaps.all;
+            }
+            List<RoaringBitmap> operands = new ArrayList<>();
+            for (OrderFilter operand : and.filters()) {
+                RoaringBitmap result = evaluate(operand);
+                if (result.isEmpty()) {
+                    return result;
+                }
+                operands.add(result);
+            }
+            return operands.size() == 1 ? operands.get(0) : FastAggregation.and(operands.iterator());
+        } else if (filter instanceof OrderFilter.Or or) {
+            List<RoaringBitmap> operands = new ArrayList<>();
+            or.filters().forEach(operand -> operands.add(evaluate(operand)));
+            return union(operands);
+        }
+        throw new IllegalArgumentException("Unsupported filter " + filter);
+    }
+
+    private static void addIfPresent(List<RoaringBitmap> bitmaps, RoaringBitmap bitmap) {
+        if (bitmap != null) {
+            bitmaps.add(bitmap);
+        }
+    }
+
+    private static Collection<RoaringBitmap> buckets(NavigableMap<Integer, RoaringBitmap> byBucket, Integer from,
+                                                     Integer to) {
+        if (from != null && to != null && from > to) {
+            return List.of();
+        }
+        if (from == null && to == null) {
+            return byBucket.values();
+        } else if (from == null) {
+            return byBucket.headMap(to, true).values();
+        } else if (to == null) {
+            return byBucket.tailMap(from, true).values();
+        }
+        return byBucket.subMap(from, true, to, true).values();
+    }
+
+    private static RoaringBitmap union(Collection<RoaringBitmap> bitmaps) {
+        if (bitmaps.isEmpty()) {
+            return new RoaringBitmap();
+        }
+        if (bitmaps.size() == 1) {
+            return bitmaps.iterator().next();
+        }
+        return FastAggregation.or(bitmaps.iterator());
+    }
+
+    /**
+     * Moves the changed orders between the bitmaps, removing each order from the bitmaps of its previous state
+     * and adding it to those of its new state. Must be called with the write lock held.
+     */
+    private void move(List<OrdersChangedEvent.Change> changes) {
+        for (OrdersChangedEvent.Change change : changes) {
+            OrderSnapshot before = change.before();
+            OrderSnapshot after = change.after();
+            if (before != null) {
+                bitmaps.remove(before.orderId(), before.dayOfTheWeek(), before.restaurantId(),
+                        ratingBucket(before.customerRating()), costBucket(before.costOfOrder()));
+            }
+            if (after != null) {
+                bitmaps.add(after.orderId(), after.dayOfTheWeek(), after.restaurantId(),
+                        ratingBucket(after.customerRating()), costBucket(after.costOfOrder()));
+            }
+        }
+    }
+
+    /**
+     * Drops the bitmaps if they outgrew their memory budget. Must be called with the write lock held.
+     */
+    private void checkBudget() {
+        long size = bitmaps.sizeInBytes();
+        if (size > properties.getMaxSize().toBytes()) {
+            bitmaps = new Bitmaps();
+            setState(IndexState.OVER_BUDGET);
+            logger.warn("The order bitmap indexes take {} bytes, more than their budget of {}; order filters use"
+                    + " the database until the next reload", size, properties.getMaxSize());
+        }
+    }
+
+    private int ratingBucket(float rating) {
+        return bucket(rating, properties.getRatingBucketWidth());
+    }
+
+    private int costBucket(float cost) {
+        return bucket(cost, properties.getCostBucketWidth());
+    }
+
+    private int bucket(float value, float width) {
+        int bucket = (int) Math.floor(value / width);
+        return Math.max(0, Math.min(bucket, properties.getMaxBuckets() - 1));
+    }
+
+    /**
+     * The bitmaps of one build of the indexes.
+     */
+    static final class Bitmaps {
+
+        private final RoaringBitmap all = new RoaringBitmap();
+        // Keyed by the lower-case day, matching the case-insensitive comparison of the database
+        private final Map<String, RoaringBitmap> byDay = new HashMap<>();
+        private final Map<Integer, RoaringBitmap> byRestaurant = new HashMap<>();
+        private final NavigableMap<Integer, RoaringBitmap> byRatingBucket = new TreeMap<>();
+        private final NavigableMap<Integer, RoaringBitmap> byCostBucket = new TreeMap<>();
+
+        void add(int orderId, String day, int restaurantId, int ratingBucket, int costBucket) {
+            all.add(orderId);
+            if (day != null) {
+                byDay.computeIfAbsent(day.toLowerCase(Locale.ROOT), key -> new RoaringBitmap()).add(orderId);
+            }
+            byRestaurant.computeIfAbsent(restaurantId, key -> new RoaringBitmap()).add(orderId);
+            byRatingBucket.computeIfAbsent(ratingBucket, key -> new RoaringBitmap()).add(orderId);
+            byCostBucket.computeIfAbsent(costBucket, key -> new RoaringBitmap()).add(orderId);
+        }
+
+        void remove(int orderId, String day, int restaurantId, int ratingBucket, int costBucket) {
+            all.remove(orderId);
+            if (day != null) {
+                remove(byDay, day.toLowerCase(Locale.ROOT), orderId);
+            }
+            remove(byRestaurant, restaurantId, orderId);
+            remove(byRatingBucket, ratingBucket, orderId);
+            remove(byCostBucket, costBucket, orderId);
+        }
+
+        private static <K> void remove(Map<K, RoaringBitmap> bitmaps, K key, int orderId) {
+            RoaringBitmap bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                bitmap.remove(orderId);
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(key);
+                }
+            }
+        }
+
+        void runOptimize() {
+            all.runOptimize();
+            byDay.values().forEach(RoaringBitmap::runOptimize);
+            byRestaurant.values().forEach(RoaringBitmap::runOptimize);
+            byRatingBucket.values().forEach(RoaringBitmap::runOptimize);
+            byCostBucket.values().forEach(RoaringBitmap::runOptimize);
+        }
+
+        long sizeInBytes() {
+            long size = all.getLongSizeInBytes();
+            for (RoaringBitmap bitmap : byDay.values()) {
+                size += bitmap.getLongSizeInBytes();
+            }
+            for (RoaringBitmap bitmap : byRestaurant.values()) {
+                size += bitmap.getLongSizeInBytes();
+            }
+            for (RoaringBitmap bitmap : byRatingBucket.values()) {
+                size += bitmap.getLongSizeInBytes();
+            }
+            for (RoaringBitmap bitmap : byCostBucket.values()) {
+                size += bitmap.getLongSizeInBytes();
+            }
+            return size;
+        }
+    }
+}
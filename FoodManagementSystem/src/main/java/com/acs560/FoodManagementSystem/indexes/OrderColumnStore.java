@@ -0,0 +1,378 @@
+package com.acs560.FoodManagementSystem.indexes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.IntPredicate;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import com.acs560.FoodManagementSystem.config.ColumnStoreProperties;
+import com.acs560.FoodManagementSystem.events.OrdersChangedEvent;
+import com.acs560.FoodManagementSystem.models.OrderRow;
+import com.acs560.FoodManagementSystem.models.OrderSnapshot;
+
+/**
+ * In-memory copy of the orders table, held as parallel primitive columns sorted by order ID.
+ * <p>
+ * Each order costs 21 bytes: its ID, cost, customer ID, restaurant ID and customer rating as {@code int}s and
+ * {@code float}s, and its day of the week as a one-byte code into a small dictionary of day names. Restaurant
+ * names are kept once per restaurant. The finders scan the columns in a tight loop and return
+ * {@link OrderRow}s, without a database round trip and without boxing a value per order.
+ * </p>
+ * <p>
+ * The store is only loaded if {@code fms.column-store.enabled} is set.
+ * </p>
+ */
+@Component
+public class OrderColumnStore extends AbstractOrderIndex<OrderColumnStore.Loaded, OrdersChangedEvent.Change> {
+
+    /** The code of orders without a day of the week. */
+    static final byte NO_DAY = -1;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final String SELECT_ORDERS = "SELECT o.order_id, o.cost_of_order, o.day_of_the_week,"
+            + " o.customer_id, o.restaurant_id, c.rating FROM orders o"
+            + " JOIN customers c ON c.customer_id = o.customer_id ORDER BY o.order_id";
+    private static final String SELECT_RESTAURANTS = "SELECT restaurant_id, restaurant_name FROM restaurants";
+
+    // The columns, guarded by the lock; the first size entries are used
+    private Columns columns = new Columns(0);
+    private final Map<Integer, String> restaurantNames = new HashMap<>();
+    private final DayDictionary days = new DayDictionary();
+
+    /**
+     * Constructs a new instance of {@link OrderColumnStore}.
+     *
+     * @param dataSource the data source the orders are loaded from
+     * @param properties the settings switching the store on and sizing its load
+     * @param loader the executor loading the store once the application is ready
+     */
+    @Autowired
+    public OrderColumnStore(DataSource dataSource, ColumnStoreProperties properties,
+                            @Qualifier("orderIndexLoader") Executor loader) {
+        super("order column store", dataSource, properties.getFetchSize(), properties.isEnabled(), loader);
+    }
+
+    /**
+     * Returns the number of orders in the store.
+     *
+     * @return the number of orders
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return columns.size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    protected Loaded build() {
+        Loaded loaded = new Loaded(new Columns(INITIAL_CAPACITY), new HashMap<>(), new DayDictionary());
+        jdbcTemplate.query(SELECT_RESTAURANTS, rs -> {
+            loaded.restaurantNames().put(rs.getInt(1), rs.getString(2));
+        });
+        jdbcTemplate.query(SELECT_ORDERS, rs -> {
+            loaded.columns().append(rs.getInt(1), rs.getFloat(2), loaded.days().codeOf(rs.getString(3)),
+                    rs.getInt(4), rs.getInt(5), rs.getFloat(6));
+        });
+        return loaded;
+    }
+
+    @Override
+    protected void install(Loaded loaded, List<OrdersChangedEvent.Change> replayed) {
+        columns = loaded.columns();
+        restaurantNames.clear();
+        restaurantNames.putAll(loaded.restaurantNames());
+        days.replaceWith(loaded.days());
+        apply(replayed);
+    }
+
+    @Override
+    protected List<OrdersChangedEvent.Change> changesOf(OrdersChangedEvent event) {
+        return event.getChanges();
+    }
+
+    @Override
+    protected void clear() {
+        columns = new Columns(0);
+        restaurantNames.clear();
+        days.replaceWith(new DayDictionary());
+    }
+
+    @Override
+    protected String summary() {
+        return columns.size + " orders";
+    }
+
+    /**
+     * Returns the rows of the orders of a customer.
+     *
+     * @param customerId the ID of the customer
+     * @return the rows of the matching orders, in ascending order ID
+     */
+    public List<OrderRow> findRowsByCustomerId(int customerId) {
+        lock.readLock().lock();
+        try {
+            int[] customerIds = columns.customerIds;
+            return rows(position -> customerIds[position] == customerId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the rows of the orders whose customer rating falls within a range, bounds included.
+     *
+     * @param minRating the lowest rating
+     * @param maxRating the highest rating
+     * @return the rows of the matching orders, in ascending order ID
+     */
+    public List<OrderRow> findRowsByCustomerRatingBetween(float minRating, float maxRating) {
+        lock.readLock().lock();
+        try {
+            float[] ratings = columns.ratings;
+            return rows(position -> ratings[position] >= minRating && ratings[position] <= maxRating);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the rows of the orders whose cost falls within a range, bounds included.
+     *
+     * @param minCost the lowest cost
+     * @param maxCost the highest cost
+     * @return the rows of the matching orders, in ascending order ID
+     */
+    public List<OrderRow> findRowsByCostOfOrderBetween(float minCost, float maxCost) {
+        lock.readLock().lock();
+        try {
+            float[] costs = columns.costs;
+            return rows(position -> costs[position] >= minCost && costs[position] <= maxCost);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Builds the rows of the orders at the matching positions. Must be called with the read lock held.
+     */
+    private List<OrderRow> rows(IntPredicate matches) {
+        Columns c = columns;
+        List<OrderRow> rows = new ArrayList<>();
+        for (int position = 0; position < c.size; position++) {
+            if (matches.test(position)) {
+                int restaurantId = c.restaurantIds[position];
+                rows.add(new OrderRow(c.orderIds[position], c.costs[position], days.nameOf(c.days[position]),
+                        c.customerIds[position], c.ratings[position], restaurantId,
+                        restaurantNames.get(restaurantId)));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Applies changes to the columns: updates in place, deletes in one compaction pass, and inserts by
+     * appending or, for IDs below the highest one, in one merge pass. Must be called with the write lock held.
+     */
+    @Override
+    protected void apply(List<OrdersChangedEvent.Change> changes) {
+        Map<Integer, OrderSnapshot> inserts = new LinkedHashMap<>();
+        boolean[] removed = null;
+        for (OrdersChangedEvent.Change change : changes) {
+            OrderSnapshot after = change.after();
+            if (after != null) {
+                restaurantNames.put(after.restaurantId(), after.restaurantName());
+                int position = columns.positionOf(after.orderId());
+                if (position >= 0) {
+                    columns.set(position, after, days.codeOf(after.dayOfTheWeek()));
+                    if (removed != null) {
+                        removed[position] = false;
+                    }
+                } else {
+                    inserts.put(after.orderId(), after);
+                }
+            } else if (change.before() != null) {
+                Integer orderId = change.before().orderId();
+                inserts.remove(orderId);
+                int position = columns.positionOf(orderId);
+                if (position >= 0) {
+                    if (removed == null) {
+                        removed = new boolean[columns.size];
+                    }
+                    removed[position] = true;
+                }
+            }
+        }
+        if (removed != null) {
+            columns.removeAll(removed);
+        }
+        if (!inserts.isEmpty()) {
+            List<OrderSnapshot> sorted = new ArrayList<>(inserts.values());
+            sorted.sort((a, b) -> Integer.compare(a.orderId(), b.orderId()));
+            columns = columns.insertAll(sorted, days);
+        }
+    }
+
+    /**
+     * The columns, restaurant names and day dictionary read by one load of the store.
+     */
+    record Loaded(Columns columns, Map<Integer, String> restaurantNames, DayDictionary days) {
+    }
+
+    /**
+     * The parallel columns of the orders, sorted by order ID.
+     */
+    static final class Columns {
+
+        private int size;
+        private int[] orderIds;
+        private float[] costs;
+        private byte[] days;
+        private int[] customerIds;
+        private int[] restaurantIds;
+        private float[] ratings;
+
+        Columns(int capacity) {
+            orderIds = new int[capacity];
+            costs = new float[capacity];
+            days = new byte[capacity];
+            customerIds = new int[capacity];
+            restaurantIds = new int[capacity];
+            ratings = new float[capacity];
+        }
+
+        int positionOf(int orderId) {
+            return Arrays.binarySearch(orderIds, 0, size, orderId);
+        }
+
+        void append(int orderId, float cost, byte day, int customerId, int restaurantId, float rating) {
+            if (size == orderIds.length) {
+                grow(Math.max(INITIAL_CAPACITY, size + (size >> 1)));
+            }
+            orderIds[size] = orderId;
+            costs[size] = cost;
+            days[size] = day;
+            customerIds[size] = customerId;
+            restaurantIds[size] = restaurantId;
+            ratings[size] = rating;
+            size++;
+        }
+
+        void set(int position, OrderSnapshot order, byte day) {
+            costs[position] = order.costOfOrder();
+            days[position] = day;
+            customerIds[position] = order.customerId();
+            restaurantIds[position] = order.restaurantId();
+            ratings[position] = order.customerRating();
+        }
+
+        void removeAll(boolean[] removed) {
+            int kept = 0;
+            for (int position = 0; position < size; position++) {
+                if (!removed[position]) {
+                    if (kept != position) {
+                        orderIds[kept] = orderIds[position];
+                        costs[kept] = costs[position];
+                        days[kept] = days[position];
+                        customerIds[kept] = customerIds[position];
+                        restaurantIds[kept] = restaurantIds[position];
+                        ratings[kept] = ratings[position];
+                    }
+                    kept++;
+                }
+            }
+            size = kept;
+        }
+
+        /**
+         * Inserts orders sorted by ID, none of which is in the columns yet. Returns these columns when every
+         * order goes after the last one, or new merged columns otherwise.
+         */
+        Columns insertAll(List<OrderSnapshot> sorted, DayDictionary dictionary) {
+            if (size == 0 || sorted.get(0).orderId() > orderIds[size - 1]) {
+                for (OrderSnapshot order : sorted) {
+                    append(order.orderId(), order.costOfOrder(), dictionary.codeOf(order.dayOfTheWeek()),
+                            order.customerId(), order.restaurantId(), order.customerRating());
+                }
+                return this;
+            }
+            Columns merged = new Columns(size + sorted.size());
+            int position = 0;
+            for (OrderSnapshot order : sorted) {
+                while (position < size && orderIds[position] < order.orderId()) {
+                    merged.append(orderIds[position], costs[position], days[position], customerIds[position],
+                            restaurantIds[position], ratings[position]);
+                    position++;
+                }
+                merged.append(order.orderId(), order.costOfOrder(), dictionary.codeOf(order.dayOfTheWeek()),
+                        order.customerId(), order.restaurantId(), order.customerRating());
+            }
+            for (; position < size; position++) {
+                merged.append(orderIds[position], costs[position], days[position], customerIds[position],
+                        restaurantIds[position], ratings[position]);
+            }
+            return merged;
+        }
+
+        private void grow(int capacity) {
+            orderIds = Arrays.copyOf(orderIds, capacity);
+            costs = Arrays.copyOf(costs, capacity);
+            days = Arrays.copyOf(days, capacity);
+            customerIds = Arrays.copyOf(customerIds, capacity);
+            restaurantIds = Arrays.copyOf(restaurantIds, capacity);
+            ratings = Arrays.copyOf(ratings, capacity);
+        }
+    }
+
+    /**
+     * The distinct day names of the orders, each with a one-byte code. Names are matched ignoring case, and
+     * the first spelling seen is the one returned.
+     */
+    static final class DayDictionary {
+
+        private final List<String> names = new ArrayList<>();
+        private final Map<String, Byte> codes = new HashMap<>();
+
+        byte codeOf(String dayOfTheWeek) {
+            if (dayOfTheWeek == null) {
+                return NO_DAY;
+            }
+            Byte code = codes.get(dayOfTheWeek.toLowerCase(Locale.ROOT));
+            if (code != null) {
+                return code;
+            }
+            if (names.size() > Byte.MAX_VALUE) {
+                throw new IllegalStateException("More than " + (Byte.MAX_VALUE + 1) + " distinct days of the week");
+            }
+            byte added = (byte) names.size();
+            names.add(dayOfTheWeek);
+            codes.put(dayOfTheWeek.toLowerCase(Locale.ROOT), added);
+            return added;
+        }
+
+        String nameOf(byte code) {
+            return code == NO_DAY ? null : names.get(code);
+        }
+
+        void replaceWith(DayDictionary other) {
+            names.clear();
+            names.addAll(other.names);
+            codes.clear();
+            codes.putAll(other.codes);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.acs560.FoodManagementSystem.indexes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import com.acs560.FoodManagementSystem.config.CostIndexProperties;
+import com.acs560.FoodManagementSystem.events.OrdersChangedEvent;
+import com.acs560.FoodManagementSystem.models.OrderSnapshot;
+
+/**
+ * In-memory index of the order IDs sorted by the cost of the order, for the most and least expensive orders
+ * of a cost range.
+ * <p>
+ * The index is a single sorted {@code long[]}: each entry packs the cost of an order, encoded so that the
+ * signed order of the entries is the order of the costs, into its upper half and the order ID into its
+ * lower half. It takes eight bytes per order, and a range is found with two binary searches, after which
+ * the first or last N entries of the range are the N cheapest or most expensive orders, ties broken by
+ * order ID.
+ * </p>
+ * <p>
+ * Committed writes replace the array by a merged copy, so readers never lock.
+ * </p>
+ */
+@Component
+public class OrderCostIndex extends AbstractOrderIndex<long[], OrdersChangedEvent.Change> {
+
+    private static final long[] EMPTY = new long[0];
+
+    private static final String SELECT_COSTS = "SELECT order_id, cost_of_order FROM orders";
+
+    // The sorted entries; replaced, never modified, and written only while holding the write lock, so the
+    // queries read them without locking
+    private volatile long[] entries = EMPTY;
+
+    /**
+     * Constructs a new instance of {@link OrderCostIndex}.
+     *
+     * @param dataSource the data source the orders are read from
+     * @param properties the settings of the index
+     * @param loader the executor building the index once the application is ready
+     */
+    @Autowired
+    public OrderCostIndex(DataSource dataSource, CostIndexProperties properties,
+                          @Qualifier("orderIndexLoader") Executor loader) {
+        super("order cost index", dataSource, properties.getFetchSize(), properties.isEnabled(), loader);
+    }
+
+    /**
+     * Returns the number of indexed orders.
+     *
+     * @return the number of orders
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    @Override
+    protected long[] build() {
+        EntryBuffer buffer = new EntryBuffer();
+        jdbcTemplate.query(SELECT_COSTS, rs -> {
+            buffer.add(entry(rs.getFloat(2), rs.getInt(1)));
+        });
+        long[] built = buffer.toArray();
+        Arrays.sort(built);
+        return built;
+    }
+
+    @Override
+    protected void install(long[] built, List<OrdersChangedEvent.Change> replayed) {
+        entries = apply(built, replayed);
+    }
+
+    @Override
+    protected List<OrdersChangedEvent.Change> changesOf(OrdersChangedEvent event) {
+        // Most changes of an update keep the cost; only changes of the cost move entries
+        List<OrdersChangedEvent.Change> moves = new ArrayList<>();
+        for (OrdersChangedEvent.Change change : event.getChanges()) {
+            OrderSnapshot before = change.before();
+            OrderSnapshot after = change.after();
+            if (before == null || after == null || before.costOfOrder() != after.costOfOrder()) {
+                moves.add(change);
+            }
+        }
+        return moves;
+    }
+
+    @Override
+    protected void apply(List<OrdersChangedEvent.Change> changes) {
+        entries = apply(entries, changes);
+    }
+
+    @Override
+    protected void clear() {
+        entries = EMPTY;
+    }
+
+    @Override
+    protected String summary() {
+        return entries.length + " orders";
+    }
+
+    /**
+     * Returns the IDs of the cheapest or most expensive orders whose cost lies in a closed range.
+     *
+     * @param minCost the lower bound of the cost
+     * @param maxCost the upper bound of the cost
+     * @param descending whether the most expensive instead of the cheapest orders are returned
+     * @param limit the maximum number of IDs returned
+     * @return the order IDs sorted by ascending or descending cost, ties by ascending or descending order ID
+     */
+    public int[] findIdsByCostBetween(float minCost, float maxCost, boolean descending, int limit) {
+        if (minCost > maxCost || limit <= 0) {
+            return new int[0];
+        }
+        long[] current = entries;
+        int from = firstIndex(current, entry(minCost, 0));
+        int to = firstIndex(current, entry(maxCost, -1) + 1);
+        int count = Math.min(limit, to - from);
+        int[] ids = new int[Math.max(count, 0)];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = orderId(current[descending ? to - 1 - i : from + i]);
+        }
+        return ids;
+    }
+
+    /**
+     * Returns a copy of the entries in which every changed order has the entry of its last state, or none if
+     * it was deleted. Entries are replaced by order ID rather than by previous cost, so replaying changes
+     * that a build already read leaves the entries as they are.
+     */
+    private static long[] apply(long[] current, List<OrdersChangedEvent.Change> changes) {
+        if (changes.isEmpty()) {
+            return current;
+        }
+        Map<Integer, OrderSnapshot> latest = new HashMap<>();
+        for (OrdersChangedEvent.Change change : changes) {
+            OrderSnapshot any = change.after() != null ? change.after() : change.before();
+            latest.put(any.orderId(), change.after());
+        }
+        int[] changedIds = new int[latest.size()];
+        long[] added = new long[latest.size()];
+        int changedCount = 0;
+        int addedCount = 0;
+        for (Map.Entry<Integer, OrderSnapshot> order : latest.entrySet()) {
+            changedIds[changedCount++] = order.getKey();
+            if (order.getValue() != null) {
+                added[addedCount++] = entry(order.getValue().costOfOrder(), order.getKey());
+            }
+        }
+        Arrays.sort(changedIds);
+        Arrays.sort(added, 0, addedCount);
+
+        long[] merged = new long[current.length + addedCount];
+        int size = 0;
+        int a = 0;
+        for (long entry : current) {
+            if (Arrays.binarySearch(changedIds, orderId(entry)) >= 0) {
+                continue;
+            }
+            while (a < addedCount && added[a] < entry) {
+                merged[size++] = added[a++];
+            }
+            merged[size++] = entry;
+        }
+        while (a < addedCount) {
+            merged[size++] = added[a++];
+        }
+        return size == merged.length ? merged : Arrays.copyOf(merged, size);
+    }
+
+    /**
+     * Returns the index of the first entry that is greater than or equal to the key.
+     */
+    private static int firstIndex(long[] entries, long key) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Packs a cost and an order ID into one entry. The bits of the cost are flipped for negative costs so
+     * that comparing the encoded costs as integers compares the costs, and -0.0 is folded into 0.0 as in SQL.
+     */
+    private static long entry(float cost, int orderId) {
+        int bits = Float.floatToIntBits(cost + 0.0f);
+        int sortable = bits ^ ((bits >> 31) & 0x7fffffff);
+        return ((long) sortable << 32) | (orderId & 0xffffffffL);
+    }
+
+    private static int orderId(long entry) {
+        return (int) entry;
+    }
+
+    /**
+     * A growing buffer of the entries read by a build.
+     */
+    private static final class EntryBuffer {
+
+        private long[] entries = new long[1024];
+        private int size;
+
+        void add(long entry) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size++] = entry;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(entries, size);
+        }
+    }
+}
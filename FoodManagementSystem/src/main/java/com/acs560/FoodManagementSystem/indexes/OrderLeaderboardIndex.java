@@ -0,0 +1,312 @@
+package com.acs560.FoodManagementSystem.indexes;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import com.acs560.FoodManagementSystem.config.LeaderboardProperties;
+import com.acs560.FoodManagementSystem.events.OrdersChangedEvent;
+import com.acs560.FoodManagementSystem.models.LeaderboardEntry;
+import com.acs560.FoodManagementSystem.models.OrderSnapshot;
+
+/**
+ * In-memory order counts per restaurant and per customer, for the leaderboards.
+ * <p>
+ * The index keeps a tally of the order count and cost in cents of every restaurant and customer with orders,
+ * and nothing per order. A change takes the state of its order before the write off the tallies and adds the
+ * state after it. A tally whose order count drops to zero is removed.
+ * </p>
+ * <p>
+ * Only the changes committed while a build runs need the state of their orders: the build may or may not have
+ * read them. The build therefore keeps the restaurant, customer and cost of each order it read, in arrays
+ * sorted by order ID that take 20 bytes per order, until the buffered changes are replayed. A replayed change
+ * replaces the state of its order as the build read it, which leaves the tallies as they are when the build
+ * already read the change. The arrays are dropped once the build is installed.
+ * </p>
+ * <p>
+ * The highest ranked tallies are selected with a min-heap bounded to the number requested: each tally is
+ * compared with the lowest one on the heap and only replaces it if it ranks higher, so a query takes one pass
+ * over the tallies and never sorts them.
+ * </p>
+ */
+@Component
+public class OrderLeaderboardIndex
+        extends AbstractOrderIndex<OrderLeaderboardIndex.Build, OrdersChangedEvent.Change> {
+
+    private static final String SELECT_ORDERS = "SELECT o.order_id, o.restaurant_id, r.restaurant_name,"
+            + " o.customer_id, o.cost_of_order FROM orders o JOIN restaurants r ON r.restaurant_id = o.restaurant_id"
+            + " ORDER BY o.order_id";
+
+    // Lowest ranked first: the fewest orders or cents, ties broken against the higher ID
+    private static final Comparator<Ranked> RANKING = Comparator.comparingLong(Ranked::score)
+            .thenComparing(Ranked::id, Comparator.reverseOrder());
+
+    // The tallies, guarded by the lock
+    private Tallies tallies = new Tallies();
+
+    /**
+     * Constructs a new instance of {@link OrderLeaderboardIndex}.
+     *
+     * @param dataSource the data source the orders are read from
+     * @param properties the settings of the leaderboards
+     * @param loader the executor building the index once the application is ready
+     */
+    @Autowired
+    public OrderLeaderboardIndex(DataSource dataSource, LeaderboardProperties properties,
+                                 @Qualifier("orderIndexLoader") Executor loader) {
+        super("order leaderboard index", dataSource, properties.getFetchSize(), properties.isEnabled(), loader);
+    }
+
+    /**
+     * Returns the restaurants with the most orders.
+     *
+     * @param size the maximum number of restaurants returned
+     * @return the restaurants, most orders first, ties by ascending ID
+     */
+    public List<LeaderboardEntry> topRestaurantsByOrderCount(int size) {
+        return top(true, false, size);
+    }
+
+    /**
+     * Returns the restaurants with the highest sum of order costs.
+     *
+     * @param size the maximum number of restaurants returned
+     * @return the restaurants, highest revenue first, ties by ascending ID
+     */
+    public List<LeaderboardEntry> topRestaurantsByRevenue(int size) {
+        return top(true, true, size);
+    }
+
+    /**
+     * Returns the customers with the most orders.
+     *
+     * @param size the maximum number of customers returned
+     * @return the customers, most orders first, ties by ascending ID
+     */
+    public List<LeaderboardEntry> topCustomersByOrderCount(int size) {
+        return top(false, false, size);
+    }
+
+    @Override
+    protected Build build() {
+        Tallies built = new Tallies();
+        OrderStates read = new OrderStates();
+        jdbcTemplate.query(SELECT_ORDERS, rs -> {
+            Counted counted = new Counted(rs.getInt(2), rs.getInt(4), cents(rs.getFloat(5)));
+            built.add(counted, rs.getString(3));
+            read.add(rs.getInt(1), counted);
+        });
+        return new Build(built, read);
+    }
+
+    @Override
+    protected void install(Build built, List<OrdersChangedEvent.Change> replayed) {
+        tallies = built.tallies();
+        // The states of the replayed orders, starting from the states the build read
+        Map<Integer, Counted> replayedStates = new HashMap<>();
+        for (OrdersChangedEvent.Change change : replayed) {
+            int orderId = (change.after() != null ? change.after() : change.before()).orderId();
+            Counted previous = replayedStates.containsKey(orderId)
+                    ? replayedStates.get(orderId) : built.read().find(orderId);
+            Counted counted = counted(change.after());
+            if (counted != null) {
+                tallies.add(counted, change.after().restaurantName());
+            }
+            if (previous != null) {
+                tallies.remove(previous);
+            }
+            replayedStates.put(orderId, counted);
+        }
+    }
+
+    @Override
+    protected List<OrdersChangedEvent.Change> changesOf(OrdersChangedEvent event) {
+        return event.getChanges();
+    }
+
+    @Override
+    protected void apply(List<OrdersChangedEvent.Change> changes) {
+        for (OrdersChangedEvent.Change change : changes) {
+            Counted before = counted(change.before());
+            Counted after = counted(change.after());
+            // Adding first keeps the tallies of an order that stays with its restaurant and customer
+            if (after != null) {
+                tallies.add(after, change.after().restaurantName());
+            }
+            if (before != null) {
+                tallies.remove(before);
+            }
+        }
+    }
+
+    @Override
+    protected void clear() {
+        tallies = new Tallies();
+    }
+
+    @Override
+    protected String summary() {
+        return tallies.restaurants.size() + " restaurants and " + tallies.customers.size() + " customers";
+    }
+
+    private List<LeaderboardEntry> top(boolean restaurants, boolean byRevenue, int size) {
+        if (size <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            PriorityQueue<Ranked> heap = new PriorityQueue<>(size, RANKING);
+            for (Map.Entry<Integer, Tally> counted : (restaurants ? tallies.restaurants : tallies.customers)
+                    .entrySet()) {
+                Tally tally = counted.getValue();
+                long score = byRevenue ? tally.cents : tally.orders;
+                int id = counted.getKey();
+                if (heap.size() == size) {
+                    Ranked lowest = heap.peek();
+                    if (score < lowest.score() || (score == lowest.score() && id > lowest.id())) {
+                        continue;
+                    }
+                    heap.poll();
+                }
+                heap.add(new Ranked(id, score, tally));
+            }
+            LeaderboardEntry[] entries = new LeaderboardEntry[heap.size()];
+            for (int i = entries.length - 1; i >= 0; i--) {
+                Ranked ranked = heap.poll();
+                Tally tally = ranked.tally();
+                entries[i] = new LeaderboardEntry(ranked.id(), tally.name, tally.orders, tally.cents / 100.0);
+            }
+            return List.of(entries);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static long cents(float cost) {
+        return Math.round(cost * 100.0);
+    }
+
+    /**
+     * Returns the counted state of an order, or null if the order does not exist or is not counted.
+     */
+    private static Counted counted(OrderSnapshot order) {
+        if (order == null || order.restaurantId() == null || order.customerId() == null) {
+            return null;
+        }
+        return new Counted(order.restaurantId(), order.customerId(), cents(order.costOfOrder()));
+    }
+
+    /**
+     * The counted state of one order.
+     */
+    private record Counted(int restaurantId, int customerId, long cents) {
+    }
+
+    /**
+     * A tally admitted to the heap, with its score.
+     */
+    private record Ranked(int id, long score, Tally tally) {
+    }
+
+    /**
+     * The order count and cost in cents of one restaurant or customer.
+     */
+    private static final class Tally {
+
+        private long orders;
+        private long cents;
+        private String name;
+    }
+
+    /**
+     * The tallies of one build of the index, with the states of the orders the build read.
+     */
+    record Build(Tallies tallies, OrderStates read) {
+    }
+
+    /**
+     * The tallies of the restaurants and customers.
+     */
+    static final class Tallies {
+
+        private final Map<Integer, Tally> restaurants = new HashMap<>();
+        private final Map<Integer, Tally> customers = new HashMap<>();
+
+        /**
+         * Adds the counted state of an order to the tallies of its restaurant and customer.
+         */
+        void add(Counted counted, String restaurantName) {
+            Tally restaurant = add(restaurants, counted.restaurantId(), 1, counted.cents());
+            if (restaurantName != null) {
+                restaurant.name = restaurantName;
+            }
+            add(customers, counted.customerId(), 1, counted.cents());
+        }
+
+        /**
+         * Takes the counted state of an order off the tallies of its restaurant and customer.
+         */
+        void remove(Counted counted) {
+            add(restaurants, counted.restaurantId(), -1, -counted.cents());
+            add(customers, counted.customerId(), -1, -counted.cents());
+        }
+
+        private static Tally add(Map<Integer, Tally> tallies, int id, int orders, long cents) {
+            Tally tally = tallies.computeIfAbsent(id, key -> new Tally());
+            tally.orders += orders;
+            tally.cents += cents;
+            if (tally.orders <= 0) {
+                tallies.remove(id);
+            }
+            return tally;
+        }
+    }
+
+    /**
+     * The counted states of the orders read by a build, in columns sorted by order ID.
+     */
+    static final class OrderStates {
+
+        private int size;
+        private int[] orderIds = new int[1024];
+        private int[] restaurantIds = new int[1024];
+        private int[] customerIds = new int[1024];
+        private long[] cents = new long[1024];
+
+        /**
+         * Appends the state of an order; orders must be added by ascending ID.
+         */
+        void add(int orderId, Counted counted) {
+            if (size == orderIds.length) {
+                int capacity = size * 2;
+                orderIds = Arrays.copyOf(orderIds, capacity);
+                restaurantIds = Arrays.copyOf(restaurantIds, capacity);
+                customerIds = Arrays.copyOf(customerIds, capacity);
+                cents = Arrays.copyOf(cents, capacity);
+            }
+            orderIds[size] = orderId;
+            restaurantIds[size] = counted.restaurantId();
+            customerIds[size] = counted.customerId();
+            cents[size] = counted.cents();
+            size++;
+        }
+
+        /**
+         * Returns the state of an order as read, or null if the build did not read the order.
+         */
+        Counted find(int orderId) {
+            int index = Arrays.binarySearch(orderIds, 0, size, orderId);
+            return index < 0 ? null : new Counted(restaurantIds[index], customerIds[index], cents[index]);
+        }
+    }
+}
@@ -0,0 +1,371 @@
+package com.acs560.FoodManagementSystem.indexes;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import javax.sql.DataSource;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.acs560.FoodManagementSystem.config.RestaurantSearchProperties;
+import com.acs560.FoodManagementSystem.entities.RestaurantEntity;
+import com.acs560.FoodManagementSystem.events.OrdersChangedEvent;
+import com.acs560.FoodManagementSystem.models.OrderSnapshot;
+import com.acs560.FoodManagementSystem.models.RestaurantRow;
+
+/**
+ * In-memory trigram index of the restaurant names, for name searches and suggestions.
+ * <p>
+ * Every normalized name is split into its overlapping three-letter substrings, and each trigram maps to a
+ * bitmap of the IDs of the restaurants whose name contains it. A search of three letters or more reads the
+ * bitmaps of its own trigrams and intersects them, so only names containing all of them are compared with
+ * the search; shorter searches compare every name. Matches are ranked: the name itself first, then names
+ * starting with the search, names with a word starting with it, and names merely containing it, each
+ * group by the position of the search and then by name.
+ * </p>
+ * <p>
+ * {@link #suggest(String, int)} also returns names that share most of the trigrams of the search without
+ * containing it, such as names the search misspells, ranked by the share of trigrams they contain.
+ * </p>
+ * <p>
+ * The {@link OrdersChangedEvent}s of committed order writes carry the new names and times of the restaurants
+ * of the changed orders; the restaurants of deleted orders are looked up, since deleting their last order
+ * deletes them.
+ * </p>
+ */
+@Component
+public class RestaurantNameIndex
+        extends AbstractOrderIndex<RestaurantNameIndex.Trigrams, RestaurantNameIndex.Delta> {
+
+    private static final int GRAM = 3;
+
+    private static final String SELECT_RESTAURANTS = "SELECT restaurant_id, restaurant_name, food_preparation_time,"
+            + " delivery_time FROM restaurants";
+
+    private static final String SELECT_EXISTING_IDS = "SELECT restaurant_id FROM restaurants"
+            + " WHERE restaurant_id IN (:restaurantIds)";
+
+    private static final Comparator<Match> BY_RANK = Comparator.comparingInt(Match::rank)
+            .thenComparingInt(Match::position)
+            .thenComparing(match -> match.entry().normalizedName())
+            .thenComparing(match -> match.entry().row().restaurantId());
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final RestaurantSearchProperties properties;
+
+    // The index, guarded by the lock
+    private Trigrams trigrams = new Trigrams();
+
+    /**
+     * Constructs a new instance of {@link RestaurantNameIndex}.
+     *
+     * @param dataSource the data source the restaurants are read from
+     * @param properties the settings of the index
+     * @param loader the executor building the index once the application is ready
+     */
+    @Autowired
+    public RestaurantNameIndex(DataSource dataSource, RestaurantSearchProperties properties,
+                               @Qualifier("orderIndexLoader") Executor loader) {
+        super("restaurant name index", dataSource, properties.getFetchSize(), properties.isEnabled(), loader);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.properties = properties;
+    }
+
+    /**
+     * Returns the number of indexed restaurants.
+     *
+     * @return the number of restaurants
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return trigrams.byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    protected Trigrams build() {
+        Trigrams built = new Trigrams();
+        jdbcTemplate.query(SELECT_RESTAURANTS, rs -> {
+            built.add(new RestaurantRow(rs.getInt(1), rs.getString(2), (Integer) rs.getObject(3),
+                    (Integer) rs.getObject(4)));
+        });
+        built.runOptimize();
+        return built;
+    }
+
+    @Override
+    protected void install(Trigrams built, List<Delta> replayed) {
+        trigrams = built;
+        apply(replayed);
+    }
+
+    /**
+     * Collects the new state of the restaurants of the changed orders, and looks up which of the restaurants
+     * of deleted or moved orders no longer exist; restaurants deleted without any order are dropped as well.
+     */
+    @Override
+    protected List<Delta> changesOf(OrdersChangedEvent event) {
+        Map<Integer, RestaurantRow> upserts = new HashMap<>();
+        Set<Integer> maybeDeleted = new HashSet<>();
+        for (OrdersChangedEvent.Change change : event.getChanges()) {
+            if (!change.restaurantChanged()) {
+                continue;
+            }
+            OrderSnapshot before = change.before();
+            OrderSnapshot after = change.after();
+            if (after != null && after.restaurantId() != null) {
+                upserts.put(after.restaurantId(), new RestaurantRow(after.restaurantId(), after.restaurantName(),
+                        after.foodPreparationTime(), after.deliveryTime()));
+            }
+            if (before != null && before.restaurantId() != null) {
+                maybeDeleted.add(before.restaurantId());
+            }
+        }
+        maybeDeleted.removeAll(upserts.keySet());
+        Set<Integer> deleted = new HashSet<>(maybeDeleted);
+        if (!maybeDeleted.isEmpty()) {
+            deleted.removeAll(namedJdbcTemplate.queryForList(SELECT_EXISTING_IDS,
+                    Map.of("restaurantIds", maybeDeleted), Integer.class));
+        }
+        event.getDeletedRestaurants().forEach(restaurant -> deleted.add(restaurant.restaurantId()));
+        if (upserts.isEmpty() && deleted.isEmpty()) {
+            return List.of();
+        }
+        return List.of(new Delta(List.copyOf(upserts.values()), Set.copyOf(deleted)));
+    }
+
+    /**
+     * Applies the changes of the writes. Must be called with the write lock held.
+     */
+    @Override
+    protected void apply(List<Delta> deltas) {
+        for (Delta delta : deltas) {
+            delta.deletedIds().forEach(trigrams::remove);
+            for (RestaurantRow row : delta.upserts()) {
+                trigrams.remove(row.restaurantId());
+                trigrams.add(row);
+            }
+        }
+    }
+
+    @Override
+    protected void clear() {
+        trigrams = new Trigrams();
+    }
+
+    @Override
+    protected String summary() {
+        return trigrams.byId.size() + " restaurants";
+    }
+
+    /**
+     * Returns the restaurants whose name contains the search, ignoring case and surrounding whitespace, in
+     * the order of their rank.
+     *
+     * @param search the searched part of the name
+     * @param limit the maximum number of restaurants returned
+     * @return the matching restaurants, best match first
+     */
+    public List<RestaurantRow> search(String search, int limit) {
+        return find(search, limit, false);
+    }
+
+    /**
+     * Returns the restaurants whose name contains the search, followed by those whose name is similar to it,
+     * for suggestions while a name is typed. An empty search returns the first names in alphabetical order.
+     *
+     * @param search the typed part of the name
+     * @param limit the maximum number of restaurants returned
+     * @return the suggested restaurants, best match first
+     */
+    public List<RestaurantRow> suggest(String search, int limit) {
+        return find(search, limit, true);
+    }
+
+    private List<RestaurantRow> find(String search, int limit, boolean similar) {
+        String normalized = RestaurantEntity.normalize(search);
+        if (normalized == null || limit <= 0) {
+            return List.of();
+        }
+        Set<String> grams = grams(normalized);
+        lock.readLock().lock();
+        try {
+            List<Match> matches = new ArrayList<>();
+            IntIterator candidates = candidates(grams).getIntIterator();
+            while (candidates.hasNext()) {
+                Entry entry = trigrams.byId.get(candidates.next());
+                int position = entry.normalizedName().indexOf(normalized);
+                if (position >= 0) {
+                    matches.add(new Match(entry, rank(entry.normalizedName(), normalized, position), position));
+                }
+            }
+            matches.sort(BY_RANK);
+            List<RestaurantRow> rows = new ArrayList<>(Math.min(limit, matches.size()));
+            for (int i = 0; i < matches.size() && rows.size() < limit; i++) {
+                rows.add(matches.get(i).entry().row());
+            }
+            if (similar && rows.size() < limit && !grams.isEmpty()) {
+                addSimilar(rows, grams, limit);
+            }
+            return rows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the IDs of the restaurants whose name contains every trigram of the search, or of every
+     * restaurant for searches shorter than a trigram. Must be called with the read lock held.
+     */
+    private RoaringBitmap candidates(Set<String> grams) {
+        if (grams.isEmpty()) {
+            return trigrams.all;
+        }
+        List<RoaringBitmap> bitmaps = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            RoaringBitmap bitmap = trigrams.byGram.get(gram);
+            if (bitmap == null) {
+                return new RoaringBitmap();
+            }
+            bitmaps.add(bitmap);
+        }
+        return bitmaps.size() == 1 ? bitmaps.get(0) : FastAggregation.and(bitmaps.iterator());
+    }
+
+    /**
+     * Adds the restaurants not yet listed that contain at least the configured share of the trigrams of the
+     * search, most similar first. Must be called with the read lock held.
+     */
+    private void addSimilar(List<RestaurantRow> rows, Set<String> grams, int limit) {
+        Set<Integer> listed = new HashSet<>();
+        rows.forEach(row -> listed.add(row.restaurantId()));
+        Map<Integer, Integer> shared = new HashMap<>();
+        for (String gram : grams) {
+            RoaringBitmap bitmap = trigrams.byGram.get(gram);
+            if (bitmap != null) {
+                bitmap.forEach((int id) -> shared.merge(id, 1, Integer::sum));
+            }
+        }
+        int minShared = Math.max(1, (int) Math.ceil(grams.size() * properties.getMinSimilarity()));
+        List<Map.Entry<Integer, Integer>> similar = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> candidate : shared.entrySet()) {
+            if (candidate.getValue() >= minShared && !listed.contains(candidate.getKey())) {
+                similar.add(candidate);
+            }
+        }
+        similar.sort(Comparator.<Map.Entry<Integer, Integer>>comparingInt(Map.Entry::getValue).reversed()
+                .thenComparing(candidate -> trigrams.byId.get(candidate.getKey()).normalizedName()));
+        for (int i = 0; i < similar.size() && rows.size() < limit; i++) {
+            rows.add(trigrams.byId.get(similar.get(i).getKey()).row());
+        }
+    }
+
+    /**
+     * Ranks a name containing the search: 0 for the name itself, 1 for a name starting with the search,
+     * 2 for a word starting with it, and 3 for any other occurrence.
+     */
+    private static int rank(String name, String search, int position) {
+        if (position == 0) {
+            return name.length() == search.length() ? 0 : 1;
+        }
+        int word = position;
+        while (word >= 0) {
+            if (word == 0 || !Character.isLetterOrDigit(name.charAt(word - 1))) {
+                return 2;
+            }
+            word = name.indexOf(search, word + 1);
+        }
+        return 3;
+    }
+
+    /**
+     * Returns the distinct trigrams of a normalized name or search.
+     */
+    private static Set<String> grams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    /**
+     * An indexed restaurant with its normalized name.
+     */
+    private record Entry(RestaurantRow row, String normalizedName) {
+    }
+
+    /**
+     * A restaurant whose name contains a search, with the rank and position of the occurrence.
+     */
+    private record Match(Entry entry, int rank, int position) {
+    }
+
+    /**
+     * The restaurants written by one order write: the new state of the restaurants of the changed orders,
+     * and the restaurants deleted with their last order.
+     */
+    record Delta(List<RestaurantRow> upserts, Set<Integer> deletedIds) {
+    }
+
+    /**
+     * The indexed restaurants of one build of the index.
+     */
+    static final class Trigrams {
+
+        private final Map<Integer, Entry> byId = new HashMap<>();
+        private final RoaringBitmap all = new RoaringBitmap();
+        private final Map<String, RoaringBitmap> byGram = new HashMap<>();
+
+        void add(RestaurantRow row) {
+            String normalized = RestaurantEntity.normalize(row.restaurantName());
+            if (normalized == null) {
+                return;
+            }
+            int id = row.restaurantId();
+            byId.put(id, new Entry(row, normalized));
+            all.add(id);
+            for (String gram : grams(normalized)) {
+                byGram.computeIfAbsent(gram, key -> new RoaringBitmap()).add(id);
+            }
+        }
+
+        void remove(int id) {
+            Entry entry = byId.remove(id);
+            if (entry == null) {
+                return;
+            }
+            all.remove(id);
+            for (String gram : grams(entry.normalizedName())) {
+                RoaringBitmap bitmap = byGram.get(gram);
+                if (bitmap != null) {
+                    bitmap.remove(id);
+                    if (bitmap.isEmpty()) {
+                        byGram.remove(gram);
+                    }
+                }
+            }
+        }
+
+        void runOptimize() {
+            all.runOptimize();
+            byGram.values().forEach(RoaringBitmap::runOptimize);
+        }
+    }
+}
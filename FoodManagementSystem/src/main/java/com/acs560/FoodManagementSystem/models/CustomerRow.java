@@ -0,0 +1,22 @@
+package com.acs560.FoodManagementSystem.models;
+
+import com.acs560.FoodManagementSystem.entities.CustomerEntity;
+
+/**
+ * Immutable row of the customer list, selected by a projection query instead of loading entities.
+ *
+ * @param customerId the ID of the customer
+ * @param rating the rating of the customer
+ */
+public record CustomerRow(Integer customerId, float rating) {
+
+    /**
+     * Copies the displayed columns of a customer entity that is already loaded.
+     *
+     * @param customer the customer to copy
+     * @return the row of the customer
+     */
+    public static CustomerRow of(CustomerEntity customer) {
+        return new CustomerRow(customer.getCustomerId(), customer.getRating());
+    }
+}
@@ -0,0 +1,12 @@
+package com.acs560.FoodManagementSystem.models;
+
+/**
+ * Aggregated order figures of one day of the week, computed by the database.
+ *
+ * @param dayOfTheWeek the day of the week
+ * @param orderCount the number of orders
+ * @param totalCost the sum of the order costs
+ * @param averageCost the average order cost
+ */
+public record DayOfWeekStats(String dayOfTheWeek, Long orderCount, Double totalCost, Double averageCost) {
+}
@@ -0,0 +1,21 @@
+package com.acs560.FoodManagementSystem.models;
+
+/**
+ * Number of rows removed by a delete operation of the order service.
+ *
+ * @param ordersDeleted the number of deleted orders
+ * @param customersDeleted the number of customers deleted because they had no orders left
+ * @param restaurantsDeleted the number of deleted restaurants
+ */
+public record DeleteResult(int ordersDeleted, int customersDeleted, int restaurantsDeleted) {
+
+    /**
+     * Returns a readable summary of the deleted rows.
+     *
+     * @return the summary
+     */
+    public String describe() {
+        return ordersDeleted + " orders, " + customersDeleted + " customers and " + restaurantsDeleted
+                + " restaurants deleted";
+    }
+}
@@ -0,0 +1,19 @@
+package com.acs560.FoodManagementSystem.models;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The restaurants and customers with the most orders or revenue, as of one refresh.
+ *
+ * @param restaurantsByOrderCount the restaurants with the most orders, most first
+ * @param restaurantsByRevenue the restaurants with the highest revenue, highest first
+ * @param customersByOrderCount the customers with the most orders, most first
+ * @param refreshedAt when the leaderboards were computed, or null before the first refresh
+ */
+public record Leaderboard(
+        List<LeaderboardEntry> restaurantsByOrderCount,
+        List<LeaderboardEntry> restaurantsByRevenue,
+        List<LeaderboardEntry> customersByOrderCount,
+        Instant refreshedAt) {
+}
@@ -0,0 +1,16 @@
+package com.acs560.FoodManagementSystem.models;
+
+/**
+ * One restaurant or customer on a leaderboard.
+ *
+ * @param id the ID of the restaurant or customer
+ * @param name the name of the restaurant, or null for a customer
+ * @param orderCount the number of orders
+ * @param revenue the sum of the order costs
+ */
+public record LeaderboardEntry(
+        Integer id,
+        String name,
+        long orderCount,
+        double revenue) {
+}
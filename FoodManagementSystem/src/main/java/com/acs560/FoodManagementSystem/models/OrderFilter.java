@@ -0,0 +1,155 @@
+package com.acs560.FoodManagementSystem.models;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A condition on orders, combining filters by day of the week, restaurant, customer rating, cost and order ID
+ * with AND and OR.
+ * <p>
+ * Filters are evaluated by the bitmap indexes of the orders, or translated into a query when the indexes are
+ * not available. {@link #test(OrderRow)} evaluates a filter on one row, and is the exact definition both
+ * must agree with. Range bounds are inclusive, and a null bound leaves its side of the range open.
+ * </p>
+ */
+public sealed interface OrderFilter {
+
+    /**
+     * Returns whether an order matches this filter.
+     *
+     * @param row the row of the order
+     * @return true if the order matches
+     */
+    boolean test(OrderRow row);
+
+    /**
+     * Matches the orders that match every filter; without filters, every order matches.
+     *
+     * @param filters the combined filters
+     * @return the filter
+     */
+    static OrderFilter and(List<OrderFilter> filters) {
+        return new And(filters);
+    }
+
+    /**
+     * Matches the orders that match any of the filters; without filters, no order matches.
+     *
+     * @param filters the combined filters
+     * @return the filter
+     */
+    static OrderFilter or(List<OrderFilter> filters) {
+        return new Or(filters);
+    }
+
+    /**
+     * Matches the order with the given ID.
+     *
+     * @param orderId the ID of the order
+     */
+    record OrderIdIs(int orderId) implements OrderFilter {
+
+        @Override
+        public boolean test(OrderRow row) {
+            return row.orderId() != null && row.orderId() == orderId;
+        }
+    }
+
+    /**
+     * Matches the orders placed on any of the given days, ignoring case as the database does.
+     *
+     * @param days the days of the week
+     */
+    record DayIn(Set<String> days) implements OrderFilter {
+
+        public DayIn {
+            days = days.stream().map(day -> day.toLowerCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet());
+        }
+
+        @Override
+        public boolean test(OrderRow row) {
+            return row.dayOfTheWeek() != null && days.contains(row.dayOfTheWeek().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Matches the orders placed at any of the given restaurants.
+     *
+     * @param restaurantIds the IDs of the restaurants
+     */
+    record RestaurantIn(Set<Integer> restaurantIds) implements OrderFilter {
+
+        public RestaurantIn {
+            restaurantIds = Set.copyOf(restaurantIds);
+        }
+
+        @Override
+        public boolean test(OrderRow row) {
+            return restaurantIds.contains(row.restaurantId());
+        }
+    }
+
+    /**
+     * Matches the orders whose customer rating falls within a range.
+     *
+     * @param min the lowest rating, or null
+     * @param max the highest rating, or null
+     */
+    record RatingBetween(Float min, Float max) implements OrderFilter {
+
+        @Override
+        public boolean test(OrderRow row) {
+            return (min == null || row.customerRating() >= min) && (max == null || row.customerRating() <= max);
+        }
+    }
+
+    /**
+     * Matches the orders whose cost falls within a range.
+     *
+     * @param min the lowest cost, or null
+     * @param max the highest cost, or null
+     */
+    record CostBetween(Float min, Float max) implements OrderFilter {
+
+        @Override
+        public boolean test(OrderRow row) {
+            return (min == null || row.costOfOrder() >= min) && (max == null || row.costOfOrder() <= max);
+        }
+    }
+
+    /**
+     * Matches the orders that match every filter.
+     *
+     * @param filters the combined filters
+     */
+    record And(List<OrderFilter> filters) implements OrderFilter {
+
+        public And {
+            filters = List.copyOf(filters);
+        }
+
+        @Override
+        public boolean test(OrderRow row) {
+            return filters.stream().allMatch(filter -> filter.test(row));
+        }
+    }
+
+    /**
+     * Matches the orders that match any of the filters.
+     *
+     * @param filters the combined filters
+     */
+    record Or(List<OrderFilter> filters) implements OrderFilter {
+
+        public Or {
+            filters = List.copyOf(filters);
+        }
+
+        @Override
+        public boolean test(OrderRow row) {
+            return filters.stream().anyMatch(filter -> filter.test(row));
+        }
+    }
+}
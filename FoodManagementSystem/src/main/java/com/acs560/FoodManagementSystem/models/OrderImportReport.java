@@ -0,0 +1,39 @@
+package com.acs560.FoodManagementSystem.models;
+
+import java.util.List;
+
+/**
+ * Progress or final result of a bulk order import.
+ * <p>
+ * A report is an immutable snapshot: the import publishes a new one after every written batch, and returns
+ * the last one when it finishes.
+ * </p>
+ *
+ * @param rowsRead the number of data rows read from the file so far
+ * @param rowsImported the number of orders written to the database
+ * @param rowsRejected the number of rows that could not be parsed or written
+ * @param customersCreated the number of customers created for rows with an unknown customer ID
+ * @param restaurantsCreated the number of restaurants created for rows with an unknown restaurant name
+ * @param elapsedMillis the time spent on the import so far, in milliseconds
+ * @param rejections descriptions of the first rejected rows, with their line numbers
+ * @param finished whether the whole file has been processed
+ */
+public record OrderImportReport(
+        long rowsRead,
+        long rowsImported,
+        long rowsRejected,
+        int customersCreated,
+        int restaurantsCreated,
+        long elapsedMillis,
+        List<String> rejections,
+        boolean finished) {
+
+    /**
+     * Returns the import throughput.
+     *
+     * @return the number of rows read per second
+     */
+    public double rowsPerSecond() {
+        return elapsedMillis == 0 ? 0 : rowsRead * 1000.0 / elapsedMillis;
+    }
+}
@@ -0,0 +1,45 @@
+package com.acs560.FoodManagementSystem.models;
+
+import com.acs560.FoodManagementSystem.entities.OrderEntity;
+
+/**
+ * Immutable row of the order lists, holding only the columns the order grids display.
+ * <p>
+ * Rows are selected by projection queries that read these columns straight into the record, so listing
+ * orders neither loads managed entities nor keeps whole customers and restaurants in the session.
+ * </p>
+ *
+ * @param orderId the ID of the order
+ * @param costOfOrder the cost of the order
+ * @param dayOfTheWeek the day of the week the order was placed
+ * @param customerId the ID of the customer who placed the order
+ * @param customerRating the rating of the customer
+ * @param restaurantId the ID of the restaurant the order was placed at
+ * @param restaurantName the name of the restaurant
+ */
+public record OrderRow(
+        Integer orderId,
+        float costOfOrder,
+        String dayOfTheWeek,
+        Integer customerId,
+        float customerRating,
+        Integer restaurantId,
+        String restaurantName) {
+
+    /**
+     * Copies the displayed columns of an order entity that is already loaded.
+     *
+     * @param order the order to copy
+     * @return the row of the order
+     */
+    public static OrderRow of(OrderEntity order) {
+        return new OrderRow(
+                order.getOrderId(),
+                order.getCostOfOrder(),
+                order.getDayOfTheWeek(),
+                order.getCustomer() != null ? order.getCustomer().getCustomerId() : null,
+                order.getCustomer() != null ? order.getCustomer().getRating() : 0f,
+                order.getRestaurant() != null ? order.getRestaurant().getRestaurantId() : null,
+                order.getRestaurant() != null ? order.getRestaurant().getRestaurantName() : null);
+    }
+}
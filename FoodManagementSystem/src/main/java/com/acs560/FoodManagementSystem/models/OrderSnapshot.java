@@ -0,0 +1,55 @@
+package com.acs560.FoodManagementSystem.models;
+
+import com.acs560.FoodManagementSystem.entities.CustomerEntity;
+import com.acs560.FoodManagementSystem.entities.OrderEntity;
+import com.acs560.FoodManagementSystem.entities.RestaurantEntity;
+
+/**
+ * Immutable copy of the state of an order, including the customer and restaurant columns it depends on.
+ * <p>
+ * Snapshots are taken before and after an order write so that caches and in-memory indexes can work out
+ * exactly which of their entries the write affected, without holding on to managed entities.
+ * </p>
+ *
+ * @param orderId the ID of the order
+ * @param costOfOrder the cost of the order
+ * @param dayOfTheWeek the day of the week the order was placed
+ * @param customerId the ID of the customer who placed the order
+ * @param customerRating the rating of the customer
+ * @param restaurantId the ID of the restaurant the order was placed at
+ * @param restaurantName the name of the restaurant
+ * @param foodPreparationTime the food preparation time of the restaurant, in minutes
+ * @param deliveryTime the delivery time of the restaurant, in minutes
+ */
+public record OrderSnapshot(
+        Integer orderId,
+        float costOfOrder,
+        String dayOfTheWeek,
+        Integer customerId,
+        float customerRating,
+        Integer restaurantId,
+        String restaurantName,
+        Integer foodPreparationTime,
+        Integer deliveryTime) {
+
+    /**
+     * Takes a snapshot of the current state of an order entity.
+     *
+     * @param order the order to copy
+     * @return the snapshot of the order
+     */
+    public static OrderSnapshot of(OrderEntity order) {
+        CustomerEntity customer = order.getCustomer();
+        RestaurantEntity restaurant = order.getRestaurant();
+        return new OrderSnapshot(
+                order.getOrderId(),
+                order.getCostOfOrder(),
+                order.getDayOfTheWeek(),
+                customer != null ? customer.getCustomerId() : null,
+                customer != null ? customer.getRating() : 0f,
+                restaurant != null ? restaurant.getRestaurantId() : null,
+                restaurant != null ? restaurant.getRestaurantName() : null,
+                restaurant != null ? restaurant.getFoodPreparationTime() : null,
+                restaurant != null ? restaurant.getDeliveryTime() : null);
+    }
+}
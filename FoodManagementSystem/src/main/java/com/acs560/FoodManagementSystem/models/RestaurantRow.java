@@ -0,0 +1,13 @@
+package com.acs560.FoodManagementSystem.models;
+
+/**
+ * Immutable row of the restaurant list, selected by a projection query instead of loading entities.
+ *
+ * @param restaurantId the ID of the restaurant
+ * @param restaurantName the name of the restaurant
+ * @param foodPreparationTime the food preparation time, in minutes
+ * @param deliveryTime the delivery time, in minutes
+ */
+public record RestaurantRow(Integer restaurantId, String restaurantName, Integer foodPreparationTime,
+                            Integer deliveryTime) {
+}
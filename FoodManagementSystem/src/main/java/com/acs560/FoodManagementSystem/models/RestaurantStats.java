@@ -0,0 +1,20 @@
+package com.acs560.FoodManagementSystem.models;
+
+/**
+ * Aggregated order figures of one restaurant, computed by the database.
+ *
+ * @param restaurantId the ID of the restaurant
+ * @param restaurantName the name of the restaurant
+ * @param orderCount the number of orders
+ * @param totalCost the sum of the order costs
+ * @param averageCost the average order cost
+ * @param averageCustomerRating the average rating of the customers of the orders, one per order
+ */
+public record RestaurantStats(
+        Integer restaurantId,
+        String restaurantName,
+        Long orderCount,
+        Double totalCost,
+        Double averageCost,
+        Double averageCustomerRating) {
+}
@@ -0,0 +1,32 @@
+package com.acs560.FoodManagementSystem.models;
+
+import java.util.List;
+
+/**
+ * Result of comparing the order statistics tables with the orders they summarize.
+ *
+ * @param restaurantsChecked the number of restaurants compared
+ * @param daysChecked the number of days of the week compared
+ * @param mismatches one description per row that is missing, superfluous or has different totals
+ */
+public record RollupCheckReport(int restaurantsChecked, int daysChecked, List<String> mismatches) {
+
+    /**
+     * Returns whether the statistics tables match the orders.
+     *
+     * @return true if no mismatch was found
+     */
+    public boolean isConsistent() {
+        return mismatches.isEmpty();
+    }
+
+    /**
+     * Returns a readable summary of the check.
+     *
+     * @return the summary
+     */
+    public String describe() {
+        return restaurantsChecked + " restaurants and " + daysChecked + " days checked, "
+                + mismatches.size() + " mismatches";
+    }
+}
@@ -1,31 +1,56 @@
-package com.acs560.FoodManagementSystem.repositories;
-
-import java.util.List;
-import org.springframework.data.repository.CrudRepository;
-import com.acs560.FoodManagementSystem.entities.CustomerEntity;
-
-/**
- * Repository interface for accessing and manipulating {@link CustomerEntity} data.
- * <p>
- * This interface provides methods to perform CRUD operations on the customer data stored in the database. 
- * It extends {@link CrudRepository}, which offers basic operations such as saving, updating, and deleting customers.
- * </p>
- */
-public interface CustomerRepository extends CrudRepository<CustomerEntity, Integer> {
-
-    /**
-     * Find a customer by their unique customer ID.
-     *
-     * @param customerId the ID of the customer to find
-     * @return the {@link CustomerEntity} with the specified ID, or null if not found
-     */
-    CustomerEntity findByCustomerId(Integer customerId);
-
-    /**
-     * Find all customers with a specific rating.
-     *
-     * @param rating the rating to filter customers
-     * @return a list of {@link CustomerEntity} objects matching the specified rating
-     */
-    List<CustomerEntity> findByRating(float rating);
-}
+package com.acs560.FoodManagementSystem.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import com.acs560.FoodManagementSystem.entities.CustomerEntity;
+import com.acs560.FoodManagementSystem.models.CustomerRow;
+
+/**
+ * Repository interface for accessing and manipulating {@link CustomerEntity} data.
+ * <p>
+ * This interface provides methods to perform CRUD operations on the customer data stored in the database. 
+ * It extends {@link CrudRepository}, which offers basic operations such as saving, updating, and deleting customers.
+ * </p>
+ */
+public interface CustomerRepository extends CrudRepository<CustomerEntity, Integer> {
+
+    /**
+     * Find a customer by their unique customer ID.
+     *
+     * @param customerId the ID of the customer to find
+     * @return the {@link CustomerEntity} with the specified ID, or null if not found
+     */
+    CustomerEntity findByCustomerId(Integer customerId);
+
+    /**
+     * Find all customers with a specific rating.
+     *
+     * @param rating the rating to filter customers
+     * @return a list of {@link CustomerEntity} objects matching the specified rating
+     */
+    List<CustomerEntity> findByRating(float rating);
+
+    /**
+     * Find the rows of all customers, selected by a projection query without loading entities.
+     *
+     * @return the rows of all customers, by customer ID
+     */
+    @Query("SELECT new com.acs560.FoodManagementSystem.models.CustomerRow(c.customerId, c.rating)"
+            + " FROM CustomerEntity c ORDER BY c.customerId")
+    List<CustomerRow> findAllRows();
+
+    /**
+     * Delete, in one statement, those of the given customers that have no orders left.
+     *
+     * @param customerIds the IDs of the candidate customers
+     * @return the number of deleted customers
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM CustomerEntity c WHERE c.customerId IN :customerIds"
+            + " AND NOT EXISTS (SELECT o.orderId FROM OrderEntity o WHERE o.customer = c)")
+    int deleteOrphansByCustomerIdIn(@Param("customerIds") Collection<Integer> customerIds);
+}
@@ -1,67 +1,355 @@
-package com.acs560.FoodManagementSystem.repositories;
-
-import java.util.List;
-
-import org.springframework.data.repository.CrudRepository;
-
-import com.acs560.FoodManagementSystem.entities.OrderEntity;
-
-/**
- * Repository interface for accessing and manipulating {@link OrderEntity} data.
- * <p>
- * This interface extends {@link CrudRepository} to provide basic CRUD operations such as saving, updating, and deleting orders.
- * It also includes custom query methods for retrieving orders based on specific attributes like order ID, cost, day of the week,
- * associated customer, and restaurant, as well as filtering based on customer ratings.
- * </p>
- */
-public interface OrderRepository extends CrudRepository<OrderEntity, Integer> {
-
-    /**
-     * Find an order by its unique order ID.
-     *
-     * @param orderId the ID of the order to find
-     * @return the {@link OrderEntity} with the specified ID, or null if not found
-     */
-    OrderEntity findByOrderId(Integer orderId);
-
-    /**
-     * Find all orders with a specific cost.
-     *
-     * @param costOfOrder the cost of the orders to find
-     * @return a list of {@link OrderEntity} objects matching the specified cost
-     */
-    List<OrderEntity> findByCostOfOrder(float costOfOrder);
-
-    /**
-     * Find all orders placed on a specific day of the week.
-     *
-     * @param dayOfTheWeek the day of the week to filter orders (e.g., "Monday", "Tuesday")
-     * @return a list of {@link OrderEntity} objects placed on the specified day
-     */
-    List<OrderEntity> findByDayOfTheWeek(String dayOfTheWeek);
-
-    /**
-     * Find all orders associated with a specific customer ID.
-     *
-     * @param customerId the ID of the customer whose orders are to be found
-     * @return a list of {@link OrderEntity} objects associated with the specified customer
-     */
-    List<OrderEntity> findByCustomer_CustomerId(Integer customerId);
-
-    /**
-     * Find all orders associated with a specific restaurant ID.
-     *
-     * @param restaurantId the ID of the restaurant whose orders are to be found
-     * @return a list of {@link OrderEntity} objects associated with the specified restaurant
-     */
-    List<OrderEntity> findByRestaurant_RestaurantId(Integer restaurantId);
-
-    /**
-     * Find all orders where the customer rating falls within a specified range.
-     *
-     * @param minRating the minimum rating in the range
-     * @param maxRating the maximum rating in the range
-     * @return a list of {@link OrderEntity} objects with a customer rating between the specified minimum and maximum values
-     */
-    List<OrderEntity> findByCustomer_RatingBetween(float minRating, float maxRating);
-}
+package com.acs560.FoodManagementSystem.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
+
+import com.acs560.FoodManagementSystem.entities.OrderEntity;
+import com.acs560.FoodManagementSystem.models.DayOfWeekStats;
+import com.acs560.FoodManagementSystem.models.OrderRow;
+import com.acs560.FoodManagementSystem.models.OrderSnapshot;
+import com.acs560.FoodManagementSystem.models.RestaurantStats;
+
+/**
+ * Repository interface for accessing and manipulating {@link OrderEntity} data.
+ * <p>
+ * This interface extends {@link CrudRepository} to provide basic CRUD operations such as saving, updating, and deleting orders.
+ * It also includes custom query methods for retrieving orders based on specific attributes like order ID, cost, day of the week,
+ * associated customer, and restaurant, as well as filtering based on customer ratings.
+ * </p>
+ * <p>
+ * It also extends {@link PagingAndSortingRepository} for offset pagination, and declares keyset finders that continue
+ * after the last order ID of the previous page, so deep pages cost as little as the first one.
+ * </p>
+ * <p>
+ * Every query that returns orders fetches their customer and restaurant in the same statement through the
+ * {@link OrderEntity#WITH_CUSTOMER_AND_RESTAURANT} entity graph, so a list costs one statement however many
+ * customers and restaurants it references.
+ * </p>
+ * <p>
+ * The list views read {@link OrderRow}s instead: projection queries that select only the displayed columns,
+ * joined in the same statement, without loading any entity into the persistence context.
+ * </p>
+ * <p>
+ * The analytics queries aggregate orders with GROUP BY in the database and return one record per group.
+ * Each of their filters is skipped when its parameter is null.
+ * </p>
+ * <p>
+ * Bulk deletes are single set-based statements that bypass the persistence context; callers read the
+ * {@link OrderSnapshot}s of the doomed orders first, with one projection query, to invalidate caches.
+ * </p>
+ */
+public interface OrderRepository extends CrudRepository<OrderEntity, Integer>, PagingAndSortingRepository<OrderEntity, Integer> {
+
+    /** The select and joins shared by the {@link OrderRow} queries. */
+    String ROW_SELECT = "SELECT new com.acs560.FoodManagementSystem.models.OrderRow(o.orderId, o.costOfOrder,"
+            + " o.dayOfTheWeek, c.customerId, c.rating, r.restaurantId, r.restaurantName)"
+            + " FROM OrderEntity o JOIN o.customer c JOIN o.restaurant r";
+
+    /** The optional filters shared by the analytics queries. */
+    String ANALYTICS_FILTER = " WHERE (:dayOfTheWeek IS NULL OR o.dayOfTheWeek = :dayOfTheWeek)"
+            + " AND (:restaurantId IS NULL OR r.restaurantId = :restaurantId)"
+            + " AND (:minRating IS NULL OR c.rating >= :minRating)"
+            + " AND (:maxRating IS NULL OR c.rating <= :maxRating)"
+            + " AND (:minCost IS NULL OR o.costOfOrder >= :minCost)"
+            + " AND (:maxCost IS NULL OR o.costOfOrder <= :maxCost)";
+
+    /**
+     * Find all orders, together with their customer and restaurant.
+     *
+     * @return all orders
+     */
+    @Override
+    @EntityGraph(OrderEntity.WITH_CUSTOMER_AND_RESTAURANT)
+    Iterable<OrderEntity> findAll();
+
+    /**
+     * Find one page of orders, together with their customer and restaurant.
+     *
+     * @param pageable the page number, page size and sort order
+     * @return the page of orders
+     */
+    @Override
+    @EntityGraph(OrderEntity.WITH_CUSTOMER_AND_RESTAURANT)
+    Page<OrderEntity> findAll(Pageable pageable);
+
+    /**
+     * Find an order by its ID, together with its customer and restaurant.
+     *
+     * @param orderId the ID of the order to find
+     * @return the order, or an empty Optional if not found
+     */
+    @Override
+    @EntityGraph(OrderEntity.WITH_CUSTOMER_AND_RESTAURANT)
+    Optional<OrderEntity> findById(Integer orderId);
+
+    /**
+     * Find an order by its unique order ID.
+     *
+     * @param orderId the ID of the order to find
+     * @return the {@link OrderEntity} with the specified ID, or null if not found
+     */
+    @EntityGraph(OrderEntity.WITH_CUSTOMER_AND_RESTAURANT)
+    OrderEntity findByOrderId(Integer orderId);
+
+    /**
+     * Find all orders placed on a specific day of the week.
+     *
+     * @param dayOfTheWeek the day of the week to filter orders (e.g., "Monday", "Tuesday")
+     * @return a list of {@link OrderEntity} objects placed on the specified day
+     */
+    @EntityGraph(OrderEntity.WITH_CUSTOMER_AND_RESTAURANT)
+    List<OrderEntity> findByDayOfTheWeek(String dayOfTheWeek);
+
+    /**
+     * Find all orders associated with a specific customer ID.
+     *
+     * @param customerId the ID of the customer whose orders are to be found
+     * @return a list of {@link OrderEntity} objects associated with the specified customer
+     */
+    @EntityGraph(OrderEntity.WITH_CUSTOMER_AND_RESTAURANT)
+    List<OrderEntity> findByCustomer_CustomerId(Integer customerId);
+
+    /**
+     * Find all orders associated with a specific restaurant ID.
+     *
+     * @param restaurantId the ID of the restaurant whose orders are to be found
+     * @return a list of {@link OrderEntity} objects associated with the specified restaurant
+     */
+    @EntityGraph(OrderEntity.WITH_CUSTOMER_AND_RESTAURANT)
+    List<OrderEntity> findByRestaurant_RestaurantId(Integer restaurantId);
+
+    /**
+     * Find all orders where the customer rating falls within a specified range.
+     *
+     * @param minRating the minimum rating in the range
+     * @param maxRating the maximum rating in the range
+     * @return a list of {@link OrderEntity} objects with a customer rating between the specified minimum and maximum values
+     */
+    @EntityGraph(OrderEntity.WITH_CUSTOMER_AND_RESTAURANT)
+    List<OrderEntity> findByCustomer_RatingBetween(float minRating, float maxRating);
+
+    /**
+     * Find all orders whose cost falls within a specified range.
+     *
+     * @param minCost the minimum cost in the range
+     * @param maxCost the maximum cost in the range
+     * @return a list of {@link OrderEntity} objects with a cost between the specified minimum and maximum values
+     */
+    @EntityGraph(OrderEntity.WITH_CUSTOMER_AND_RESTAURANT)
+    List<OrderEntity> findByCostOfOrderBetween(float minCost, float maxCost);
+
+    /**
+     * Find the page of orders that follows an order ID in ascending ID order.
+     *
+     * @param orderId the last order ID of the previous page
+     * @param pageable the page size, sorted by ascending order ID
+     * @return the orders with a greater ID, at most one page of them
+     */
+    @EntityGraph(OrderEntity.WITH_CUSTOMER_AND_RESTAURANT)
+    List<OrderEntity> findByOrderIdGreaterThan(Integer orderId, Pageable pageable);
+
+    /**
+     * Find the page of orders that follows an order ID in descending ID order.
+     *
+     * @param orderId the last order ID of the previous page
+     * @param pageable the page size, sorted by descending order ID
+     * @return the orders with a smaller ID, at most one page of them
+     */
+    @EntityGraph(OrderEntity.WITH_CUSTOMER_AND_RESTAURANT)
+    List<OrderEntity> findByOrderIdLessThan(Integer orderId, Pageable pageable);
+
+    /**
+     * Find the IDs of the customers with the most orders, most orders first.
+     *
+     * @param pageable the number of customers to return
+     * @return the customer IDs ordered by descending order count
+     */
+    @Query("SELECT o.customer.customerId FROM OrderEntity o GROUP BY o.customer.customerId ORDER BY COUNT(o) DESC")
+    List<Integer> findTopCustomerIds(Pageable pageable);
+
+    /**
+     * Find the IDs of the restaurants with the most orders, most orders first.
+     *
+     * @param pageable the number of restaurants to return
+     * @return the restaurant IDs ordered by descending order count
+     */
+    @Query("SELECT o.restaurant.restaurantId FROM OrderEntity o GROUP BY o.restaurant.restaurantId ORDER BY COUNT(o) DESC")
+    List<Integer> findTopRestaurantIds(Pageable pageable);
+
+    /**
+     * Find one page of order rows. The pageable's sort properties are those of {@link OrderEntity}.
+     *
+     * @param pageable the page number, page size and sort order
+     * @return the rows of the page
+     */
+    @Query(ROW_SELECT)
+    List<OrderRow> findRows(Pageable pageable);
+
+    /**
+     * Find the page of order rows that follows an order ID in ascending ID order.
+     *
+     * @param orderId the last order ID of the previous page
+     * @param pageable the page size, sorted by ascending order ID
+     * @return the rows with a greater ID, at most one page of them
+     */
+    @Query(ROW_SELECT + " WHERE o.orderId > :orderId")
+    List<OrderRow> findRowsByOrderIdGreaterThan(@Param("orderId") Integer orderId, Pageable pageable);
+
+    /**
+     * Find the page of order rows that follows an order ID in descending ID order.
+     *
+     * @param orderId the last order ID of the previous page
+     * @param pageable the page size, sorted by descending order ID
+     * @return the rows with a smaller ID, at most one page of them
+     */
+    @Query(ROW_SELECT + " WHERE o.orderId < :orderId")
+    List<OrderRow> findRowsByOrderIdLessThan(@Param("orderId") Integer orderId, Pageable pageable);
+
+    /**
+     * Find the rows of the orders of a customer.
+     *
+     * @param customerId the ID of the customer
+     * @return the rows of the customer's orders, by order ID
+     */
+    @Query(ROW_SELECT + " WHERE c.customerId = :customerId ORDER BY o.orderId")
+    List<OrderRow> findRowsByCustomerId(@Param("customerId") Integer customerId);
+
+    /**
+     * Find the rows of the orders whose customer rating falls within a range.
+     *
+     * @param minRating the minimum rating, inclusive
+     * @param maxRating the maximum rating, inclusive
+     * @return the rows of the matching orders
+     */
+    @Query(ROW_SELECT + " WHERE c.rating BETWEEN :minRating AND :maxRating")
+    List<OrderRow> findRowsByCustomerRatingBetween(@Param("minRating") float minRating,
+                                                   @Param("maxRating") float maxRating);
+
+    /**
+     * Find the rows of the orders whose cost falls within a range.
+     *
+     * @param minCost the minimum cost, inclusive
+     * @param maxCost the maximum cost, inclusive
+     * @return the rows of the matching orders
+     */
+    @Query(ROW_SELECT + " WHERE o.costOfOrder BETWEEN :minCost AND :maxCost")
+    List<OrderRow> findRowsByCostOfOrderBetween(@Param("minCost") float minCost, @Param("maxCost") float maxCost);
+
+    /**
+     * Find one page of the rows of the orders whose cost falls within a range, such as the most expensive
+     * ones when sorted by descending cost. The range and the sort by cost are read from the cost index.
+     *
+     * @param minCost the minimum cost, inclusive
+     * @param maxCost the maximum cost, inclusive
+     * @param pageable the page size and sort order
+     * @return the rows of the matching orders of the page
+     */
+    @Query(ROW_SELECT + " WHERE o.costOfOrder BETWEEN :minCost AND :maxCost")
+    List<OrderRow> findRowsByCostOfOrderBetween(@Param("minCost") float minCost, @Param("maxCost") float maxCost,
+                                                Pageable pageable);
+
+    /**
+     * Find the rows of the orders with the given IDs, in one statement.
+     *
+     * @param orderIds the IDs of the orders
+     * @return the rows of the orders that exist, in ascending ID order
+     */
+    @Query(ROW_SELECT + " WHERE o.orderId IN :orderIds ORDER BY o.orderId")
+    List<OrderRow> findRowsByOrderIdIn(@Param("orderIds") Collection<Integer> orderIds);
+
+    /**
+     * Aggregate the matching orders per restaurant.
+     *
+     * @param dayOfTheWeek the day of the week of the orders, or null for any day
+     * @param restaurantId the ID of the restaurant, or null for every restaurant
+     * @param minRating the lowest customer rating, or null
+     * @param maxRating the highest customer rating, or null
+     * @param minCost the lowest order cost, or null
+     * @param maxCost the highest order cost, or null
+     * @return the figures of every restaurant with matching orders, most orders first
+     */
+    @Query("SELECT new com.acs560.FoodManagementSystem.models.RestaurantStats(r.restaurantId, r.restaurantName,"
+            + " COUNT(o), SUM(o.costOfOrder), AVG(o.costOfOrder), AVG(c.rating))"
+            + " FROM OrderEntity o JOIN o.customer c JOIN o.restaurant r" + ANALYTICS_FILTER
+            + " GROUP BY r.restaurantId, r.restaurantName ORDER BY COUNT(o) DESC, r.restaurantId")
+    List<RestaurantStats> findRestaurantStats(@Param("dayOfTheWeek") String dayOfTheWeek,
+                                              @Param("restaurantId") Integer restaurantId,
+                                              @Param("minRating") Float minRating,
+                                              @Param("maxRating") Float maxRating,
+                                              @Param("minCost") Float minCost,
+                                              @Param("maxCost") Float maxCost);
+
+    /**
+     * Aggregate the matching orders per day of the week.
+     *
+     * @param dayOfTheWeek the day of the week of the orders, or null for any day
+     * @param restaurantId the ID of the restaurant, or null for every restaurant
+     * @param minRating the lowest customer rating, or null
+     * @param maxRating the highest customer rating, or null
+     * @param minCost the lowest order cost, or null
+     * @param maxCost the highest order cost, or null
+     * @return the figures of every day with matching orders, in no particular order
+     */
+    @Query("SELECT new com.acs560.FoodManagementSystem.models.DayOfWeekStats(o.dayOfTheWeek,"
+            + " COUNT(o), SUM(o.costOfOrder), AVG(o.costOfOrder))"
+            + " FROM OrderEntity o JOIN o.customer c JOIN o.restaurant r" + ANALYTICS_FILTER
+            + " GROUP BY o.dayOfTheWeek")
+    List<DayOfWeekStats> findDayOfWeekStats(@Param("dayOfTheWeek") String dayOfTheWeek,
+                                            @Param("restaurantId") Integer restaurantId,
+                                            @Param("minRating") Float minRating,
+                                            @Param("maxRating") Float maxRating,
+                                            @Param("minCost") Float minCost,
+                                            @Param("maxCost") Float maxCost);
+
+    /**
+     * Find the snapshots of the orders with the given IDs, in one statement and without loading entities.
+     *
+     * @param orderIds the IDs of the orders
+     * @return the snapshots of the orders that exist
+     */
+    @Query("SELECT new com.acs560.FoodManagementSystem.models.OrderSnapshot(o.orderId, o.costOfOrder, o.dayOfTheWeek,"
+            + " c.customerId, c.rating, r.restaurantId, r.restaurantName, r.foodPreparationTime, r.deliveryTime)"
+            + " FROM OrderEntity o JOIN o.customer c JOIN o.restaurant r WHERE o.orderId IN :orderIds")
+    List<OrderSnapshot> findSnapshotsByOrderIdIn(@Param("orderIds") Collection<Integer> orderIds);
+
+    /**
+     * Find the snapshots of the orders of a restaurant, in one statement and without loading entities.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @return the snapshots of the restaurant's orders
+     */
+    @Query("SELECT new com.acs560.FoodManagementSystem.models.OrderSnapshot(o.orderId, o.costOfOrder, o.dayOfTheWeek,"
+            + " c.customerId, c.rating, r.restaurantId, r.restaurantName, r.foodPreparationTime, r.deliveryTime)"
+            + " FROM OrderEntity o JOIN o.customer c JOIN o.restaurant r WHERE r.restaurantId = :restaurantId")
+    List<OrderSnapshot> findSnapshotsByRestaurantId(@Param("restaurantId") Integer restaurantId);
+
+    /**
+     * Delete the orders with the given IDs in one statement.
+     *
+     * @param orderIds the IDs of the orders to delete
+     * @return the number of deleted orders
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OrderEntity o WHERE o.orderId IN :orderIds")
+    int deleteByOrderIdIn(@Param("orderIds") Collection<Integer> orderIds);
+
+    /**
+     * Delete all orders of a restaurant in one statement.
+     *
+     * @param restaurantId the ID of the restaurant
+     * @return the number of deleted orders
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OrderEntity o WHERE o.restaurant.restaurantId = :restaurantId")
+    int deleteByRestaurantId(@Param("restaurantId") Integer restaurantId);
+}
@@ -1,50 +1,131 @@
-package com.acs560.FoodManagementSystem.repositories;
-
-import java.util.List;
-
-import org.springframework.data.repository.CrudRepository;
-import com.acs560.FoodManagementSystem.entities.RestaurantEntity;
-
-/**
- * Repository interface for accessing and manipulating {@link RestaurantEntity} data.
- * <p>
- * This interface extends {@link CrudRepository} to provide basic CRUD operations for managing restaurant data.
- * It includes custom query methods for retrieving restaurants based on specific attributes such as restaurant ID,
- * restaurant name, food preparation time, and delivery time.
- * </p>
- */
-public interface RestaurantRepository extends CrudRepository<RestaurantEntity, Integer> {
-
-    /**
-     * Find a restaurant by its unique restaurant ID.
-     *
-     * @param restaurantId the ID of the restaurant to find
-     * @return the {@link RestaurantEntity} with the specified ID, or null if not found
-     */
-    RestaurantEntity findByRestaurantId(Integer restaurantId);
-
-    /**
-     * Find all restaurants with a name containing the specified string, case-insensitive.
-     *
-     * @param restaurantName the name of the restaurant to find (part of the name)
-     * @return a list of {@link RestaurantEntity} objects matching the specified name
-     *         (case-insensitive search)
-     */
-    List<RestaurantEntity> findByRestaurantNameContainingIgnoreCase(String restaurantName);
-
-    /**
-     * Find all restaurants with a specific food preparation time.
-     *
-     * @param foodPreparationTime the food preparation time to filter restaurants
-     * @return a list of {@link RestaurantEntity} objects matching the specified food preparation time
-     */
-    List<RestaurantEntity> findByFoodPreparationTime(Integer foodPreparationTime);
-
-    /**
-     * Find all restaurants with a specific delivery time.
-     *
-     * @param deliveryTime the delivery time to filter restaurants
-     * @return a list of {@link RestaurantEntity} objects matching the specified delivery time
-     */
-    List<RestaurantEntity> findByDeliveryTime(Integer deliveryTime);
-}
+package com.acs560.FoodManagementSystem.repositories;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import com.acs560.FoodManagementSystem.entities.RestaurantEntity;
+import com.acs560.FoodManagementSystem.models.RestaurantRow;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repository interface for accessing and manipulating {@link RestaurantEntity} data.
+ * <p>
+ * This interface extends {@link CrudRepository} to provide basic CRUD operations for managing restaurant data.
+ * It includes custom query methods for retrieving restaurants based on specific attributes such as restaurant ID,
+ * restaurant name, food preparation time, and delivery time.
+ * </p>
+ * <p>
+ * The restaurant list reads {@link RestaurantRow}s, selected by projection queries without loading entities.
+ * </p>
+ * <p>
+ * The read finders use Hibernate's query cache, in the {@value #QUERY_CACHE_REGION} region. A cached result is
+ * dropped whenever Hibernate writes the restaurants table; writes that bypass Hibernate must evict the region.
+ * </p>
+ */
+public interface RestaurantRepository extends CrudRepository<RestaurantEntity, Integer> {
+
+    /** The name of the query cache region holding the results of the restaurant finders. */
+    String QUERY_CACHE_REGION = "restaurantQueries";
+
+    /**
+     * Find a restaurant by its unique restaurant ID.
+     *
+     * @param restaurantId the ID of the restaurant to find
+     * @return the {@link RestaurantEntity} with the specified ID, or null if not found
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    RestaurantEntity findByRestaurantId(Integer restaurantId);
+
+    /**
+     * Find the rows of all restaurants.
+     *
+     * @return the rows of all restaurants, by restaurant ID
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    @Query("SELECT new com.acs560.FoodManagementSystem.models.RestaurantRow(r.restaurantId, r.restaurantName,"
+            + " r.foodPreparationTime, r.deliveryTime) FROM RestaurantEntity r ORDER BY r.restaurantId")
+    List<RestaurantRow> findAllRows();
+
+    /**
+     * Find the rows of the restaurants with a name containing the specified string, case-insensitive.
+     *
+     * @param restaurantName the name of the restaurant to find (part of the name)
+     * @return the rows of the matching restaurants (case-insensitive search)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    List<RestaurantRow> findRowsByRestaurantNameContainingIgnoreCase(String restaurantName);
+
+    /**
+     * Find the restaurant with the specified normalized name.
+     * <p>
+     * This finder bypasses the query cache: the resolver uses it right after a concurrent insert failed,
+     * and must see the row committed by the other transaction.
+     * </p>
+     *
+     * @param normalizedName the name normalized with {@link RestaurantEntity#normalize(String)}
+     * @return the {@link RestaurantEntity} with the specified normalized name, or null if not found
+     */
+    RestaurantEntity findByNormalizedName(String normalizedName);
+
+    /**
+     * Find all restaurants with a specific food preparation time.
+     *
+     * @param foodPreparationTime the food preparation time to filter restaurants
+     * @return a list of {@link RestaurantEntity} objects matching the specified food preparation time
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    List<RestaurantEntity> findByFoodPreparationTime(Integer foodPreparationTime);
+
+    /**
+     * Find all restaurants with a specific delivery time.
+     *
+     * @param deliveryTime the delivery time to filter restaurants
+     * @return a list of {@link RestaurantEntity} objects matching the specified delivery time
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    List<RestaurantEntity> findByDeliveryTime(Integer deliveryTime);
+
+    /**
+     * Retrieves the rows of the given restaurants, bypassing the query cache.
+     *
+     * @param restaurantIds the IDs of the restaurants
+     * @return the rows of the restaurants that exist
+     */
+    @Query("SELECT new com.acs560.FoodManagementSystem.models.RestaurantRow(r.restaurantId, r.restaurantName,"
+            + " r.foodPreparationTime, r.deliveryTime) FROM RestaurantEntity r"
+            + " WHERE r.restaurantId IN :restaurantIds")
+    List<RestaurantRow> findRowsByRestaurantIdIn(@Param("restaurantIds") Collection<Integer> restaurantIds);
+
+    /**
+     * Delete, in one statement, those of the given restaurants that have no orders left.
+     *
+     * @param restaurantIds the IDs of the candidate restaurants
+     * @return the number of deleted restaurants
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM RestaurantEntity r WHERE r.restaurantId IN :restaurantIds"
+            + " AND NOT EXISTS (SELECT o.orderId FROM OrderEntity o WHERE o.restaurant = r)")
+    int deleteOrphansByRestaurantIdIn(@Param("restaurantIds") Collection<Integer> restaurantIds);
+}
@@ -0,0 +1,46 @@
+package com.acs560.FoodManagementSystem.requests;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents the filters of an order analytics query.
+ * <p>
+ * Every filter is optional; a request without filters aggregates all orders. The rating filters apply to the
+ * customer rating, and all range filters are inclusive.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+public class OrderAnalyticsRequest {
+
+    /**
+     * The day of the week of the aggregated orders (e.g., "Monday").
+     */
+    private String dayOfTheWeek;
+
+    /**
+     * The ID of the restaurant of the aggregated orders.
+     */
+    private Integer restaurantId;
+
+    /**
+     * The lowest customer rating of the aggregated orders.
+     */
+    private Float minRating;
+
+    /**
+     * The highest customer rating of the aggregated orders.
+     */
+    private Float maxRating;
+
+    /**
+     * The lowest cost of the aggregated orders.
+     */
+    private Float minCost;
+
+    /**
+     * The highest cost of the aggregated orders.
+     */
+    private Float maxCost;
+}
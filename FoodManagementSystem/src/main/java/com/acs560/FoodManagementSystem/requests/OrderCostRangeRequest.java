@@ -0,0 +1,52 @@
+package com.acs560.FoodManagementSystem.requests;
+
+import org.springframework.data.domain.Sort;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a query for the orders within a cost range.
+ * <p>
+ * Both bounds are inclusive. The query returns at most {@code limit} orders: the cheapest ({@code ASC} or
+ * no direction) or most expensive ({@code DESC}) orders of the range.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+public class OrderCostRangeRequest {
+
+    /** The number of orders returned when the request sets no limit. */
+    public static final int DEFAULT_LIMIT = 100;
+
+    /** The largest limit a request may set. */
+    public static final int MAX_LIMIT = 1000;
+
+    /**
+     * The lowest cost of the returned orders.
+     */
+    private float minCost = 0;
+
+    /**
+     * The highest cost of the returned orders.
+     */
+    private float maxCost = Float.MAX_VALUE;
+
+    /**
+     * The direction of the sort by cost ({@code ASC} or {@code DESC}); without it the cheapest orders are
+     * returned, as with {@code ASC}.
+     */
+    private Sort.Direction sort;
+
+    /**
+     * The maximum number of returned orders, between 1 and {@value #MAX_LIMIT}.
+     *
+     * @see jakarta.validation.constraints.Min
+     * @see jakarta.validation.constraints.Max
+     */
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = MAX_LIMIT, message = "Limit must be at most " + MAX_LIMIT)
+    private int limit = DEFAULT_LIMIT;
+}
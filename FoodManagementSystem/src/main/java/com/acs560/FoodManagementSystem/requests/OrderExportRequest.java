@@ -0,0 +1,107 @@
+package com.acs560.FoodManagementSystem.requests;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a request to export orders.
+ * <p>
+ * Every filter is optional; a request without filters exports all orders. The rating filters apply to the
+ * customer rating and are inclusive.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+public class OrderExportRequest {
+
+    /**
+     * The formats orders can be exported in.
+     */
+    public enum Format {
+
+        /** Comma-separated values with a header row, readable by the order import. */
+        CSV("text/csv", "csv"),
+
+        /** Newline-delimited JSON, one object per order. */
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        /**
+         * Returns the media type of an uncompressed export in this format.
+         *
+         * @return the content type
+         */
+        public String getContentType() {
+            return contentType;
+        }
+
+        /**
+         * Returns the file extension of an uncompressed export in this format.
+         *
+         * @return the extension, without a dot
+         */
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * The day of the week of the exported orders (e.g., "Monday").
+     */
+    private String dayOfTheWeek;
+
+    /**
+     * The ID of the restaurant of the exported orders.
+     */
+    private Integer restaurantId;
+
+    /**
+     * The ID of the customer of the exported orders.
+     */
+    private Integer customerId;
+
+    /**
+     * The lowest customer rating of the exported orders.
+     */
+    private Float minRating;
+
+    /**
+     * The highest customer rating of the exported orders.
+     */
+    private Float maxRating;
+
+    /**
+     * The format of the export; CSV by default.
+     */
+    private Format format = Format.CSV;
+
+    /**
+     * Whether the export is compressed with gzip.
+     */
+    private boolean gzip;
+
+    /**
+     * Returns the name of the file produced by this request.
+     *
+     * @return the file name, with the extension of the format and compression
+     */
+    public String getFileName() {
+        return "orders." + format.getExtension() + (gzip ? ".gz" : "");
+    }
+
+    /**
+     * Returns the media type of the file produced by this request.
+     *
+     * @return the content type
+     */
+    public String getContentType() {
+        return gzip ? "application/gzip" : format.getContentType();
+    }
+}
@@ -0,0 +1,28 @@
+package com.acs560.FoodManagementSystem.services;
+
+import com.acs560.FoodManagementSystem.models.Leaderboard;
+
+/**
+ * Service interface for the restaurant and customer leaderboards.
+ * <p>
+ * The order counts per restaurant and customer are kept in memory and updated by every committed order write;
+ * the service recomputes the leaderboards from them every {@code fms.leaderboard.refresh-interval}, so
+ * reading them never touches the orders.
+ * </p>
+ */
+public interface LeaderboardService {
+
+    /**
+     * Retrieves the leaderboards of the last refresh.
+     *
+     * @return the leaderboards, empty until the order counts are built
+     */
+    Leaderboard getLeaderboard();
+
+    /**
+     * Recomputes the leaderboards from the order counts now, without waiting for the next refresh.
+     *
+     * @return the recomputed leaderboards, empty while the order counts are not built
+     */
+    Leaderboard refresh();
+}
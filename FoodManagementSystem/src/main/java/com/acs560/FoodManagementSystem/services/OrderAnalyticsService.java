@@ -0,0 +1,34 @@
+package com.acs560.FoodManagementSystem.services;
+
+import java.util.List;
+
+import com.acs560.FoodManagementSystem.models.DayOfWeekStats;
+import com.acs560.FoodManagementSystem.models.RestaurantStats;
+import com.acs560.FoodManagementSystem.requests.OrderAnalyticsRequest;
+
+/**
+ * Service interface for aggregated order figures.
+ * <p>
+ * The figures are computed with GROUP BY queries in the database, so only one small record per group
+ * reaches the application, however many orders are aggregated. Unfiltered figures are read from the
+ * statistics tables maintained by every order write instead.
+ * </p>
+ */
+public interface OrderAnalyticsService {
+
+    /**
+     * Retrieves the order count, total and average cost, and average customer rating per restaurant.
+     *
+     * @param request the optional filters of the aggregated orders
+     * @return the figures of every restaurant with matching orders, most orders first
+     */
+    List<RestaurantStats> getRestaurantStats(OrderAnalyticsRequest request);
+
+    /**
+     * Retrieves the order count and the total and average cost per day of the week.
+     *
+     * @param request the optional filters of the aggregated orders
+     * @return the figures of every day with matching orders, from Monday to Sunday
+     */
+    List<DayOfWeekStats> getDayOfWeekStats(OrderAnalyticsRequest request);
+}
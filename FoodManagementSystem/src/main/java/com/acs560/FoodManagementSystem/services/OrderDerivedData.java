@@ -0,0 +1,21 @@
+package com.acs560.FoodManagementSystem.services;
+
+/**
+ * Data derived from the orders and kept up to date by the order writes, such as the in-memory indexes and the
+ * order statistics tables.
+ * <p>
+ * Writes that bypass the order service, such as the CSV import, reload every implementation afterwards, each
+ * on its own, so one failed reload does not keep the others stale.
+ * </p>
+ */
+public interface OrderDerivedData {
+
+    /**
+     * Rebuilds the data from the orders in the database. An in-memory index whose rebuild fails stops
+     * answering queries until a later rebuild succeeds; the statistics tables keep their previous figures
+     * until their next consistency check repairs them.
+     *
+     * @throws RuntimeException if the orders could not be read or the data could not be written
+     */
+    void reload();
+}
@@ -0,0 +1,26 @@
+package com.acs560.FoodManagementSystem.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.acs560.FoodManagementSystem.requests.OrderExportRequest;
+
+/**
+ * Service interface for the export of orders to CSV or newline-delimited JSON.
+ * <p>
+ * Exports stream the rows from the database to the output as they are read, so memory use does not depend
+ * on the number of exported orders. The CSV columns match those accepted by {@link OrderImportService}.
+ * </p>
+ */
+public interface OrderExportService {
+
+    /**
+     * Writes the orders matching a request to an output stream.
+     *
+     * @param request the filters, format and compression of the export
+     * @param out     the stream to write to; flushed but not closed
+     * @return the number of exported orders
+     * @throws IOException if writing to the stream fails
+     */
+    long exportOrders(OrderExportRequest request, OutputStream out) throws IOException;
+}
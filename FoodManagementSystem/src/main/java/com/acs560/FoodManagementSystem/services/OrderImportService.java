@@ -0,0 +1,35 @@
+package com.acs560.FoodManagementSystem.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+import com.acs560.FoodManagementSystem.models.OrderImportReport;
+
+/**
+ * Service interface for the bulk import of orders from CSV files.
+ * <p>
+ * The file must start with a header row. The columns are matched by name, in any order:
+ * {@code customer_id}, {@code restaurant_name}, {@code cost_of_the_order} (or {@code cost_of_order}),
+ * {@code day_of_the_week}, {@code food_preparation_time} and {@code delivery_time} are required;
+ * {@code order_id} and {@code rating} (the customer rating) are optional. Other columns are ignored.
+ * </p>
+ */
+public interface OrderImportService {
+
+    /**
+     * Imports the orders of a CSV file.
+     * <p>
+     * Customers are matched by ID and restaurants by name; unknown ones are created. A new customer takes the
+     * rating of its row, so rows of unknown customers without a rating are rejected. Rows that cannot be
+     * parsed or written are rejected and reported without stopping the import.
+     * </p>
+     *
+     * @param csv      the CSV content, read to the end but not closed
+     * @param progress called with a report after every written batch
+     * @return the final report of the import
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is empty or lacks a required column
+     */
+    OrderImportReport importOrders(InputStream csv, Consumer<OrderImportReport> progress) throws IOException;
+}
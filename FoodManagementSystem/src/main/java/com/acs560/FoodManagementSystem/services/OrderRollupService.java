@@ -0,0 +1,46 @@
+package com.acs560.FoodManagementSystem.services;
+
+import java.util.List;
+
+import com.acs560.FoodManagementSystem.models.DayOfWeekStats;
+import com.acs560.FoodManagementSystem.models.RestaurantStats;
+import com.acs560.FoodManagementSystem.models.RollupCheckReport;
+
+/**
+ * Service interface for the order statistics tables.
+ * <p>
+ * The tables hold the order count, total cost and total customer rating per restaurant and per day of the
+ * week. Every order write adds and subtracts its orders in the same transaction, so reading the figures
+ * costs one row per restaurant or day, however many orders there are.
+ * </p>
+ */
+public interface OrderRollupService {
+
+    /**
+     * Retrieves the figures of one restaurant, or of every restaurant.
+     *
+     * @param restaurantId the ID of the restaurant, or null for every restaurant
+     * @return the figures of the restaurants with orders, most orders first
+     */
+    List<RestaurantStats> getRestaurantStats(Integer restaurantId);
+
+    /**
+     * Retrieves the figures of one day of the week, or of every day.
+     *
+     * @param dayOfTheWeek the day of the week, or null for every day
+     * @return the figures of the days with orders
+     */
+    List<DayOfWeekStats> getDayOfWeekStats(String dayOfTheWeek);
+
+    /**
+     * Recomputes the statistics tables from the orders, in one transaction.
+     */
+    void rebuild();
+
+    /**
+     * Compares the statistics tables with the orders, without changing them.
+     *
+     * @return the rows that differ
+     */
+    RollupCheckReport check();
+}
@@ -1,161 +1,273 @@
-package com.acs560.FoodManagementSystem.services;
-
-import java.util.List;
-import java.util.Optional;
-
-import com.acs560.FoodManagementSystem.entities.OrderEntity;
-import com.acs560.FoodManagementSystem.models.Order;
-
-/**
- * Service interface for managing order-related operations.
- * <p>
- * This interface provides methods for retrieving and managing order information
- * based on various criteria, such as order ID, cost, customer ID, restaurant ID,
- * and customer rating. It abstracts the logic for interacting with the underlying
- * order data, enabling order management in a food delivery system.
- * </p>
- */
-public interface OrderService {
-
-    /**
-     * Retrieves a list of all orders.
-     * <p>
-     * This method fetches all order records from the data source and returns them
-     * as a list of {@link OrderEntity} objects.
-     * </p>
-     *
-     * @return a list of all {@link OrderEntity} objects
-     */
-    List<OrderEntity> getAll();
-
-    /**
-     * Retrieves an order by its unique order ID.
-     * <p>
-     * This method fetches an order record from the data source using the
-     * specified order ID. If an order with the given ID exists, it is returned
-     * wrapped in an {@link Optional}. Otherwise, an empty {@link Optional} is returned.
-     * </p>
-     *
-     * @param orderId the ID of the order to retrieve
-     * @return an {@link Optional} containing the {@link OrderEntity} if found, or
-     *         an empty {@link Optional} if not found
-     */
-    Optional<OrderEntity> getByOrderId(Integer orderId);
-
-    /**
-     * Retrieves a list of orders with a specific cost.
-     * <p>
-     * This method queries the data source to find all orders matching the specified
-     * cost. It returns a list of {@link OrderEntity} objects with the given cost.
-     * </p>
-     *
-     * @param costOfOrder the cost of the orders to find
-     * @return a list of {@link OrderEntity} objects matching the specified cost
-     */
-    List<OrderEntity> getByCostOfOrder(float costOfOrder);
-
-    /**
-     * Retrieves a list of orders placed on a specific day of the week.
-     * <p>
-     * This method filters orders based on the day of the week they were placed. It
-     * returns all orders placed on the specified day (e.g., "Monday", "Tuesday").
-     * </p>
-     *
-     * @param dayOfTheWeek the day of the week to filter orders (e.g., "Monday", "Tuesday")
-     * @return a list of {@link OrderEntity} objects placed on the specified day
-     */
-    List<OrderEntity> getByDayOfTheWeek(String dayOfTheWeek);
-
-    /**
-     * Retrieves a list of orders associated with a specific customer ID.
-     * <p>
-     * This method fetches all orders placed by a customer with the specified ID.
-     * It returns a list of {@link OrderEntity} objects associated with that customer.
-     * </p>
-     *
-     * @param customerId the ID of the customer whose orders are to be found
-     * @return a list of {@link OrderEntity} objects associated with the specified customer
-     */
-    List<OrderEntity> getByCustomer_CustomerId(Integer customerId);
-
-    /**
-     * Retrieves a list of orders associated with a specific restaurant ID.
-     * <p>
-     * This method fetches all orders placed at the restaurant with the specified ID.
-     * It returns a list of {@link OrderEntity} objects associated with that restaurant.
-     * </p>
-     *
-     * @param restaurantId the ID of the restaurant whose orders are to be found
-     * @return a list of {@link OrderEntity} objects associated with the specified restaurant
-     */
-    List<OrderEntity> getByRestaurant_RestaurantId(Integer restaurantId);
-
-    /**
-     * Adds a new order to the system.
-     * <p>
-     * This method saves a new order, along with the associated restaurant details,
-     * food preparation time, delivery time, and customer rating.
-     * </p>
-     *
-     * @param order               the {@link Order} object containing order details
-     * @param restaurantName      the name of the restaurant associated with the order
-     * @param foodPreparationTime the time required for food preparation
-     * @param deliveryTime        the time required for delivery
-     * @param customerRating      the customer's rating for the order
-     */
-    void addOrder(Order order, String restaurantName, Integer foodPreparationTime, Integer deliveryTime,
-                  float customerRating);
-
-    /**
-     * Updates an existing order with new information.
-     * <p>
-     * This method modifies the details of an existing order, including the restaurant
-     * name, food preparation time, delivery time, and customer rating.
-     * </p>
-     *
-     * @param orderId             the ID of the order to update
-     * @param updatedOrder        the {@link Order} object containing updated order details
-     * @param restaurantName      the updated name of the restaurant associated with the order
-     * @param foodPreparationTime the updated time required for food preparation
-     * @param deliveryTime        the updated time required for delivery
-     * @param customerRating      the updated customer's rating for the order
-     */
-    void updateOrder(Integer orderId, Order updatedOrder, String restaurantName, Integer foodPreparationTime,
-                     Integer deliveryTime, Float customerRating);
-
-    /**
-     * Deletes an order from the system by its ID.
-     * <p>
-     * This method removes the order with the specified ID from the system.
-     * </p>
-     *
-     * @param orderId the ID of the order to delete
-     */
-    void delete(Integer orderId);
-
-    /**
-     * Retrieves a list of orders where the customer rating falls within a specified range.
-     * <p>
-     * This method filters orders based on the customer rating, returning only those
-     * whose ratings fall within the specified range.
-     * </p>
-     *
-     * @param minRating the minimum rating in the range
-     * @param maxRating the maximum rating in the range
-     * @return a list of {@link OrderEntity} objects with a customer rating between the specified minimum and maximum values
-     */
-    List<OrderEntity> getByCustomerRatingRange(float minRating, float maxRating);
-
-    /**
-     * Retrieves a list of orders for a specific customer based on their customer ID.
-     * <p>
-     * This method fetches the order history for the customer identified by the given
-     * customer ID. The order records are returned as a list of {@link OrderEntity} objects.
-     * </p>
-     *
-     * @param customerId The unique ID of the customer whose order history is to be retrieved.
-     * @return A list of {@link OrderEntity} objects representing the customer's order history.
-     *         Returns an empty list if no orders are found for the specified customer.
-     */
-    List<OrderEntity> getOrderHistoryByCustomerId(Integer customerId);
-}
+package com.acs560.FoodManagementSystem.services;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.acs560.FoodManagementSystem.entities.OrderEntity;
+import com.acs560.FoodManagementSystem.models.DeleteResult;
+import com.acs560.FoodManagementSystem.models.Order;
+import com.acs560.FoodManagementSystem.models.OrderFilter;
+import com.acs560.FoodManagementSystem.models.OrderRow;
+
+/**
+ * Service interface for managing order-related operations.
+ * <p>
+ * This interface provides methods for retrieving and managing order information
+ * based on various criteria, such as order ID, cost, customer ID, restaurant ID,
+ * and customer rating. It abstracts the logic for interacting with the underlying
+ * order data, enabling order management in a food delivery system.
+ * </p>
+ * <p>
+ * The methods backing the order lists return immutable {@link OrderRow}s holding only the displayed columns;
+ * lookups used for editing return entities.
+ * </p>
+ */
+public interface OrderService {
+
+    /**
+     * Retrieves a list of all orders.
+     * <p>
+     * This method fetches all order records from the data source and returns them
+     * as a list of {@link OrderEntity} objects.
+     * </p>
+     *
+     * @return a list of all {@link OrderEntity} objects
+     */
+    List<OrderEntity> getAll();
+
+    /**
+     * Retrieves one page of orders.
+     * <p>
+     * This method uses offset pagination and supports any sort order. For pages sorted by order ID,
+     * {@link #getOrdersAfter(Integer, int, boolean)} is cheaper.
+     * </p>
+     *
+     * @param pageable the page number, page size and sort order
+     * @return the rows of the orders of the page
+     */
+    List<OrderRow> getOrders(Pageable pageable);
+
+    /**
+     * Retrieves the page of orders that follows a given order ID.
+     * <p>
+     * This method uses keyset pagination: instead of skipping the previous rows, it continues after the
+     * last order ID of the previous page, so every page costs the same.
+     * </p>
+     *
+     * @param lastOrderId the last order ID of the previous page, or null for the first page
+     * @param limit       the maximum number of orders to return
+     * @param descending  whether the orders are sorted by descending instead of ascending order ID
+     * @return the rows of the orders of the page, sorted by order ID
+     */
+    List<OrderRow> getOrdersAfter(Integer lastOrderId, int limit, boolean descending);
+
+    /**
+     * Counts all orders.
+     *
+     * @return the number of orders
+     */
+    long countOrders();
+
+    /**
+     * Retrieves an order by its unique order ID.
+     * <p>
+     * This method fetches an order record from the data source using the
+     * specified order ID. If an order with the given ID exists, it is returned
+     * wrapped in an {@link Optional}. Otherwise, an empty {@link Optional} is returned.
+     * </p>
+     *
+     * @param orderId the ID of the order to retrieve
+     * @return an {@link Optional} containing the {@link OrderEntity} if found, or
+     *         an empty {@link Optional} if not found
+     */
+    Optional<OrderEntity> getByOrderId(Integer orderId);
+
+    /**
+     * Retrieves a list of orders placed on a specific day of the week.
+     * <p>
+     * This method filters orders based on the day of the week they were placed. It
+     * returns all orders placed on the specified day (e.g., "Monday", "Tuesday").
+     * </p>
+     *
+     * @param dayOfTheWeek the day of the week to filter orders (e.g., "Monday", "Tuesday")
+     * @return a list of {@link OrderEntity} objects placed on the specified day
+     */
+    List<OrderEntity> getByDayOfTheWeek(String dayOfTheWeek);
+
+    /**
+     * Retrieves a list of orders associated with a specific customer ID.
+     * <p>
+     * This method fetches all orders placed by a customer with the specified ID.
+     * It returns a list of {@link OrderEntity} objects associated with that customer.
+     * </p>
+     *
+     * @param customerId the ID of the customer whose orders are to be found
+     * @return a list of {@link OrderEntity} objects associated with the specified customer
+     */
+    List<OrderEntity> getByCustomer_CustomerId(Integer customerId);
+
+    /**
+     * Retrieves a list of orders associated with a specific restaurant ID.
+     * <p>
+     * This method fetches all orders placed at the restaurant with the specified ID.
+     * It returns a list of {@link OrderEntity} objects associated with that restaurant.
+     * </p>
+     *
+     * @param restaurantId the ID of the restaurant whose orders are to be found
+     * @return a list of {@link OrderEntity} objects associated with the specified restaurant
+     */
+    List<OrderEntity> getByRestaurant_RestaurantId(Integer restaurantId);
+
+    /**
+     * Adds a new order to the system.
+     * <p>
+     * This method saves a new order, along with the associated restaurant details,
+     * food preparation time, delivery time, and customer rating.
+     * </p>
+     * <p>
+     * An existing restaurant with the same name (ignoring case and surrounding whitespace) is reused, keeping
+     * its times. The customer set on the order is reused when it exists; otherwise a new customer with the
+     * given rating is created.
+     * </p>
+     *
+     * @param order               the {@link Order} object containing order details
+     * @param restaurantName      the name of the restaurant associated with the order
+     * @param foodPreparationTime the time required for food preparation
+     * @param deliveryTime        the time required for delivery
+     * @param customerRating      the customer's rating for the order
+     */
+    void addOrder(Order order, String restaurantName, Integer foodPreparationTime, Integer deliveryTime,
+                  float customerRating);
+
+    /**
+     * Updates an existing order with new information.
+     * <p>
+     * This method modifies the details of an existing order, including the restaurant
+     * name, food preparation time, delivery time, and customer rating.
+     * </p>
+     * <p>
+     * A restaurant name moves the order to the existing restaurant of that name (ignoring case and surrounding
+     * whitespace), or to a new restaurant created with the given times; other orders keep their restaurant.
+     * Given times are applied to the restaurant of the order.
+     * </p>
+     * <p>
+     * Only changed columns are written. An update that conflicts with a concurrent change of the same rows
+     * is retried on the current rows a bounded number of times.
+     * </p>
+     *
+     * @param orderId             the ID of the order to update
+     * @param updatedOrder        the {@link Order} object containing updated order details
+     * @param restaurantName      the name of the restaurant of the order, or null to keep its restaurant
+     * @param foodPreparationTime the updated time required for food preparation
+     * @param deliveryTime        the updated time required for delivery
+     * @param customerRating      the updated customer's rating for the order
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the update kept conflicting
+     *         with concurrent changes
+     */
+    void updateOrder(Integer orderId, Order updatedOrder, String restaurantName, Integer foodPreparationTime,
+                     Integer deliveryTime, Float customerRating);
+
+    /**
+     * Deletes an order from the system by its ID.
+     * <p>
+     * This method removes the order with the specified ID from the system, together with its customer
+     * and restaurant if they have no other orders.
+     * </p>
+     *
+     * @param orderId the ID of the order to delete
+     * @return the number of deleted orders, customers and restaurants
+     */
+    DeleteResult delete(Integer orderId);
+
+    /**
+     * Deletes several orders by their IDs.
+     * <p>
+     * The orders are removed with set-based statements, together with the customers and restaurants
+     * left without orders. IDs of missing orders are ignored.
+     * </p>
+     *
+     * @param orderIds the IDs of the orders to delete
+     * @return the number of deleted orders, customers and restaurants
+     */
+    DeleteResult deleteOrders(Collection<Integer> orderIds);
+
+    /**
+     * Deletes a restaurant together with all of its orders.
+     * <p>
+     * The orders are removed with one set-based statement, together with the customers left without orders.
+     * </p>
+     *
+     * @param restaurantId the ID of the restaurant to delete
+     * @return the number of deleted orders, customers and restaurants
+     */
+    DeleteResult deleteRestaurant(Integer restaurantId);
+
+    /**
+     * Retrieves a list of orders where the customer rating falls within a specified range.
+     * <p>
+     * This method filters orders based on the customer rating, returning only those
+     * whose ratings fall within the specified range.
+     * </p>
+     *
+     * @param minRating the minimum rating in the range
+     * @param maxRating the maximum rating in the range
+     * @return a list of {@link OrderRow} objects with a customer rating between the specified minimum and maximum values
+     */
+    List<OrderRow> getByCustomerRatingRange(float minRating, float maxRating);
+
+    /**
+     * Retrieves a list of orders whose cost falls within a specified range.
+     * <p>
+     * This method filters orders based on their cost, returning only those
+     * whose cost falls within the specified range.
+     * </p>
+     *
+     * @param minCost the minimum cost in the range
+     * @param maxCost the maximum cost in the range
+     * @return a list of {@link OrderRow} objects with a cost between the specified minimum and maximum values
+     */
+    List<OrderRow> getByCostRange(float minCost, float maxCost);
+
+    /**
+     * Retrieves the orders whose cost falls within a specified range, optionally sorted by cost and limited
+     * to the first orders, such as the ten most expensive orders under a given cost.
+     * <p>
+     * Orders of equal cost are sorted by order ID in the same direction. A limited query without a direction
+     * returns the cheapest orders.
+     * </p>
+     *
+     * @param minCost   the minimum cost in the range
+     * @param maxCost   the maximum cost in the range
+     * @param direction the direction of the sort by cost, or null for no particular order
+     * @param limit     the maximum number of orders to return, or zero for all of them
+     * @return a list of {@link OrderRow} objects with a cost between the specified minimum and maximum values
+     */
+    List<OrderRow> getByCostRange(float minCost, float maxCost, Sort.Direction direction, int limit);
+
+    /**
+     * Retrieves a list of orders for a specific customer based on their customer ID.
+     * <p>
+     * This method fetches the order history for the customer identified by the given
+     * customer ID. The order records are returned as a list of {@link OrderRow} objects.
+     * </p>
+     *
+     * @param customerId The unique ID of the customer whose order history is to be retrieved.
+     * @return A list of {@link OrderRow} objects representing the customer's order history.
+     *         Returns an empty list if no orders are found for the specified customer.
+     */
+    List<OrderRow> getOrderHistoryByCustomerId(Integer customerId);
+
+    /**
+     * Retrieves the orders matching a combination of filters by order ID, day of the week, restaurant,
+     * customer rating and cost.
+     *
+     * @param filter the filters, combined with AND and OR
+     * @param limit the maximum number of orders returned
+     * @return the matching orders in ascending order ID, at most {@code limit} of them
+     */
+    List<OrderRow> findOrders(OrderFilter filter, int limit);
+}
@@ -1,79 +1,95 @@
-package com.acs560.FoodManagementSystem.services;
-
-import java.util.List;
-import java.util.Optional;
-
-import com.acs560.FoodManagementSystem.entities.RestaurantEntity;
-
-/**
- * Service interface for managing restaurant-related operations.
- * <p>
- * This interface provides methods for retrieving and managing restaurant information
- * based on various criteria, such as restaurant ID, name, food preparation time,
- * and delivery time. It enables interaction with the restaurant data in the food 
- * delivery system.
- * </p>
- */
-public interface RestaurantService {
-    
-    /**
-     * Retrieves a list of all restaurants.
-     * <p>
-     * This method fetches all restaurant records from the data source and returns them
-     * as a list of {@link RestaurantEntity} objects.
-     * </p>
-     *
-     * @return a list of all {@link RestaurantEntity} objects
-     */
-    List<RestaurantEntity> getAll();
-
-    /**
-     * Retrieves a restaurant by its unique restaurant ID.
-     * <p>
-     * This method fetches a restaurant record from the data source using the
-     * specified restaurant ID. If a restaurant with the given ID exists, it is returned
-     * wrapped in an {@link Optional}. Otherwise, an empty {@link Optional} is returned.
-     * </p>
-     *
-     * @param restaurantId the ID of the restaurant to retrieve
-     * @return an {@link Optional} containing the {@link RestaurantEntity} if found, or
-     *         an empty {@link Optional} if not found
-     */
-    Optional<RestaurantEntity> getByRestaurantId(Integer restaurantId);
-
-    /**
-     * Retrieves a list of restaurants with a specific name.
-     * <p>
-     * This method queries the data source to find all restaurants matching the specified
-     * name. It returns a list of {@link RestaurantEntity} objects with the given name.
-     * </p>
-     *
-     * @param restaurantName the name of the restaurant to find
-     * @return a list of {@link RestaurantEntity} objects matching the specified name
-     */
-    List<RestaurantEntity> getByRestaurantName(String restaurantName);
-
-    /**
-     * Retrieves a list of restaurants that have a specific food preparation time.
-     * <p>
-     * This method filters restaurants based on the time required for food preparation.
-     * It returns a list of {@link RestaurantEntity} objects with the specified preparation time.
-     * </p>
-     *
-     * @param foodPreparationTime the food preparation time to filter restaurants
-     * @return a list of {@link RestaurantEntity} objects matching the specified preparation time
-     */
-    List<RestaurantEntity> getByFoodPreparationTime(Integer foodPreparationTime);
-
-    /**
-     * Retrieves a list of restaurants that have a specific delivery time.
-     * <p>
-     * This method filters restaurants based on the time required for delivery.
-     * It returns a list of {@link RestaurantEntity} objects with the specified delivery time.
-     * </p>
-     *
-     * @param deliveryTime the delivery time to filter restaurants
-     * @return a list of {@link RestaurantEntity} objects matching the specified delivery time
-     */
-    List<RestaurantEntity> getByDeliveryTime(Integer deliveryTime);
-}
+package com.acs560.FoodManagementSystem.services;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.acs560.FoodManagementSystem.entities.RestaurantEntity;
+import com.acs560.FoodManagementSystem.models.RestaurantRow;
+
+/**
+ * Service interface for managing restaurant-related operations.
+ * <p>
+ * This interface provides methods for retrieving and managing restaurant information
+ * based on various criteria, such as restaurant ID, name, food preparation time,
+ * and delivery time. It enables interaction with the restaurant data in the food 
+ * delivery system.
+ * </p>
+ */
+public interface RestaurantService {
+    
+    /**
+     * Retrieves a list of all restaurants.
+     * <p>
+     * This method selects the displayed columns of all restaurant records and returns them
+     * as a list of immutable {@link RestaurantRow} objects.
+     * </p>
+     *
+     * @return a list of all {@link RestaurantRow} objects
+     */
+    List<RestaurantRow> getAll();
+
+    /**
+     * Retrieves a restaurant by its unique restaurant ID.
+     * <p>
+     * This method fetches a restaurant record from the data source using the
+     * specified restaurant ID. If a restaurant with the given ID exists, it is returned
+     * wrapped in an {@link Optional}. Otherwise, an empty {@link Optional} is returned.
+     * </p>
+     *
+     * @param restaurantId the ID of the restaurant to retrieve
+     * @return an {@link Optional} containing the {@link RestaurantEntity} if found, or
+     *         an empty {@link Optional} if not found
+     */
+    Optional<RestaurantEntity> getByRestaurantId(Integer restaurantId);
+
+    /**
+     * Retrieves a list of restaurants with a specific name.
+     * <p>
+     * This method finds all restaurants whose name contains the specified name, ignoring case. The
+     * restaurants are ranked: the exact name first, then names starting with it, names with a word starting
+     * with it, and other names containing it.
+     * </p>
+     *
+     * @param restaurantName the name of the restaurant to find
+     * @return a list of {@link RestaurantRow} objects matching the specified name, best match first
+     */
+    List<RestaurantRow> getByRestaurantName(String restaurantName);
+
+    /**
+     * Suggests restaurant names for a partially typed name.
+     * <p>
+     * The names containing the typed text come first, ranked like {@link #getByRestaurantName(String)},
+     * followed by similar names, such as names the typed text misspells. Without typed text, the first names
+     * in alphabetical order are suggested.
+     * </p>
+     *
+     * @param typedName the typed part of the name
+     * @param limit     the maximum number of names to suggest
+     * @return the suggested restaurant names, best match first
+     */
+    List<String> suggestRestaurantNames(String typedName, int limit);
+
+    /**
+     * Retrieves a list of restaurants that have a specific food preparation time.
+     * <p>
+     * This method filters restaurants based on the time required for food preparation.
+     * It returns a list of {@link RestaurantEntity} objects with the specified preparation time.
+     * </p>
+     *
+     * @param foodPreparationTime the food preparation time to filter restaurants
+     * @return a list of {@link RestaurantEntity} objects matching the specified preparation time
+     */
+    List<RestaurantEntity> getByFoodPreparationTime(Integer foodPreparationTime);
+
+    /**
+     * Retrieves a list of restaurants that have a specific delivery time.
+     * <p>
+     * This method filters restaurants based on the time required for delivery.
+     * It returns a list of {@link RestaurantEntity} objects with the specified delivery time.
+     * </p>
+     *
+     * @param deliveryTime the delivery time to filter restaurants
+     * @return a list of {@link RestaurantEntity} objects matching the specified delivery time
+     */
+    List<RestaurantEntity> getByDeliveryTime(Integer deliveryTime);
+}
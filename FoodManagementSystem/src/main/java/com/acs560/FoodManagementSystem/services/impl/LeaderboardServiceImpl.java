@@ -0,0 +1,100 @@
+package com.acs560.FoodManagementSystem.services.impl;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.acs560.FoodManagementSystem.config.LeaderboardProperties;
+import com.acs560.FoodManagementSystem.indexes.OrderLeaderboardIndex;
+import com.acs560.FoodManagementSystem.models.Leaderboard;
+import com.acs560.FoodManagementSystem.services.LeaderboardService;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Implementation of the {@link LeaderboardService} interface on the {@link OrderLeaderboardIndex}.
+ * <p>
+ * A background task recomputes the leaderboards every {@code fms.leaderboard.refresh-interval}, keeping
+ * {@code fms.leaderboard.size} entries per leaderboard. While the index is not ready, such as during its
+ * first build or after a failed reload, the leaderboards are empty.
+ * </p>
+ */
+@Service
+public class LeaderboardServiceImpl implements LeaderboardService {
+
+    private static final Leaderboard EMPTY = new Leaderboard(List.of(), List.of(), List.of(), null);
+
+    private final OrderLeaderboardIndex index;
+    private final LeaderboardProperties properties;
+
+    private volatile Leaderboard leaderboard = EMPTY;
+
+    private ScheduledExecutorService refresher;
+
+    /**
+     * Constructs a new instance of {@link LeaderboardServiceImpl}.
+     *
+     * @param index the order counts per restaurant and customer
+     * @param properties the size and refresh interval of the leaderboards
+     */
+    @Autowired
+    public LeaderboardServiceImpl(OrderLeaderboardIndex index, LeaderboardProperties properties) {
+        this.index = index;
+        this.properties = properties;
+    }
+
+    /**
+     * Schedules the refreshes of the leaderboards once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (refresher != null || !properties.isEnabled()) {
+            return;
+        }
+        refresher = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "leaderboard-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getRefreshInterval().toMillis();
+        refresher.scheduleWithFixedDelay(this::refresh, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the background refreshes.
+     */
+    @PreDestroy
+    public void close() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    @Override
+    public Leaderboard getLeaderboard() {
+        return leaderboard;
+    }
+
+    @Override
+    public Leaderboard refresh() {
+        if (!index.isReady()) {
+            leaderboard = EMPTY;
+            return EMPTY;
+        }
+        int size = properties.getSize();
+        Leaderboard refreshed = new Leaderboard(
+                index.topRestaurantsByOrderCount(size),
+                index.topRestaurantsByRevenue(size),
+                index.topCustomersByOrderCount(size),
+                Instant.now());
+        leaderboard = refreshed;
+        return refreshed;
+    }
+}
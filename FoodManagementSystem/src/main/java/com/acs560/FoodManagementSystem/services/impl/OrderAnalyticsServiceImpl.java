@@ -0,0 +1,113 @@
+package com.acs560.FoodManagementSystem.services.impl;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import com.acs560.FoodManagementSystem.models.DayOfWeekStats;
+import com.acs560.FoodManagementSystem.models.RestaurantStats;
+import com.acs560.FoodManagementSystem.repositories.OrderRepository;
+import com.acs560.FoodManagementSystem.requests.OrderAnalyticsRequest;
+import com.acs560.FoodManagementSystem.services.OrderAnalyticsService;
+import com.acs560.FoodManagementSystem.services.OrderRollupService;
+
+/**
+ * Implementation of the {@link OrderAnalyticsService} interface.
+ * <p>
+ * Requests filtered by nothing but the restaurant, for the figures per restaurant, or by nothing but the day,
+ * for the figures per day, are read from the statistics tables of the {@link OrderRollupService}, whatever
+ * the number of orders. Any other filter needs the aggregate queries of the {@link OrderRepository}.
+ * </p>
+ * <p>
+ * The figures are cached in the "restaurantStats" and "dayOfWeekStats" caches, keyed by the filters, with a
+ * short time-to-live instead of being evicted by writes: a figure may lag behind the latest orders by at most
+ * that time.
+ * </p>
+ */
+@Service
+public class OrderAnalyticsServiceImpl implements OrderAnalyticsService {
+
+    // Known day names in week order, anything else after them in alphabetical order
+    private static final Comparator<DayOfWeekStats> WEEK_ORDER = Comparator
+            .comparingInt((DayOfWeekStats stats) -> dayIndex(stats.dayOfTheWeek()))
+            .thenComparing(DayOfWeekStats::dayOfTheWeek, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final OrderRepository orderRepository;
+    private final OrderRollupService rollupService;
+
+    /**
+     * Constructs a new instance of {@link OrderAnalyticsServiceImpl}.
+     *
+     * @param orderRepository the repository running the aggregate queries
+     * @param rollupService the service reading the statistics tables
+     */
+    @Autowired
+    public OrderAnalyticsServiceImpl(OrderRepository orderRepository, OrderRollupService rollupService) {
+        this.orderRepository = orderRepository;
+        this.rollupService = rollupService;
+    }
+
+    /**
+     * Retrieves the figures per restaurant from the statistics tables, or with one GROUP BY query when the
+     * orders are filtered by more than the restaurant.
+     *
+     * @param request the optional filters of the aggregated orders
+     * @return the figures of every restaurant with matching orders, most orders first
+     */
+    @Override
+    @Cacheable(value = "restaurantStats", key = "#request.toString()", sync = true)
+    public List<RestaurantStats> getRestaurantStats(OrderAnalyticsRequest request) {
+        if (request.getDayOfTheWeek() == null && !filtersOrderRows(request)) {
+            return rollupService.getRestaurantStats(request.getRestaurantId());
+        }
+        return orderRepository.findRestaurantStats(request.getDayOfTheWeek(), request.getRestaurantId(),
+                request.getMinRating(), request.getMaxRating(), request.getMinCost(), request.getMaxCost());
+    }
+
+    /**
+     * Retrieves the figures per day of the week from the statistics tables, or with one GROUP BY query when
+     * the orders are filtered by more than the day.
+     *
+     * @param request the optional filters of the aggregated orders
+     * @return the figures of every day with matching orders, from Monday to Sunday
+     */
+    @Override
+    @Cacheable(value = "dayOfWeekStats", key = "#request.toString()", sync = true)
+    public List<DayOfWeekStats> getDayOfWeekStats(OrderAnalyticsRequest request) {
+        List<DayOfWeekStats> stats;
+        if (request.getRestaurantId() == null && !filtersOrderRows(request)) {
+            stats = new ArrayList<>(rollupService.getDayOfWeekStats(request.getDayOfTheWeek()));
+        } else {
+            stats = new ArrayList<>(orderRepository.findDayOfWeekStats(request.getDayOfTheWeek(),
+                    request.getRestaurantId(), request.getMinRating(), request.getMaxRating(), request.getMinCost(),
+                    request.getMaxCost()));
+        }
+        stats.sort(WEEK_ORDER);
+        return stats;
+    }
+
+    /**
+     * Returns whether the request filters by rating or cost, which the statistics tables do not break down.
+     */
+    private static boolean filtersOrderRows(OrderAnalyticsRequest request) {
+        return request.getMinRating() != null || request.getMaxRating() != null
+                || request.getMinCost() != null || request.getMaxCost() != null;
+    }
+
+    private static int dayIndex(String dayOfTheWeek) {
+        if (dayOfTheWeek == null) {
+            return DayOfWeek.values().length;
+        }
+        try {
+            return DayOfWeek.valueOf(dayOfTheWeek.trim().toUpperCase(Locale.ROOT)).ordinal();
+        } catch (IllegalArgumentException e) {
+            return DayOfWeek.values().length;
+        }
+    }
+}
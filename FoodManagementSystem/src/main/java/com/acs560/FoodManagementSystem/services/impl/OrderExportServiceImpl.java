@@ -0,0 +1,227 @@
+package com.acs560.FoodManagementSystem.services.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.acs560.FoodManagementSystem.config.ExportProperties;
+import com.acs560.FoodManagementSystem.requests.OrderExportRequest;
+import com.acs560.FoodManagementSystem.services.OrderExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opencsv.CSVWriter;
+
+/**
+ * Implementation of the {@link OrderExportService} interface that streams orders from a forward-only
+ * JDBC cursor.
+ * <p>
+ * The query runs on a dedicated {@link JdbcTemplate} with a fetch size, so the driver holds one fetch of
+ * rows at a time (MySQL needs {@code useCursorFetch=true} on the URL to honour it). Each row is written
+ * through a fixed-size buffer, optionally gzip-compressed, as soon as it is read; no entities are created
+ * and nothing is collected, so memory use is flat however many rows are exported.
+ * </p>
+ */
+@Service
+public class OrderExportServiceImpl implements OrderExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderExportServiceImpl.class);
+
+    /** The exported columns, named as the order import expects them. */
+    static final String[] HEADER = {"order_id", "customer_id", "rating", "restaurant_id", "restaurant_name",
+            "cost_of_the_order", "day_of_the_week", "food_preparation_time", "delivery_time"};
+
+    private static final String SELECT_ORDERS =
+            "SELECT o.order_id, o.customer_id, c.rating, o.restaurant_id, r.restaurant_name, o.cost_of_order,"
+            + " o.day_of_the_week, r.food_preparation_time, r.delivery_time"
+            + " FROM orders o"
+            + " JOIN customers c ON c.customer_id = o.customer_id"
+            + " JOIN restaurants r ON r.restaurant_id = o.restaurant_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ExportProperties properties;
+
+    /**
+     * Constructs a new instance of {@link OrderExportServiceImpl}.
+     *
+     * @param dataSource the data source the orders are read from
+     * @param objectMapper the mapper whose factory writes the JSON rows
+     * @param properties the fetch and buffer sizes
+     */
+    @Autowired
+    public OrderExportServiceImpl(DataSource dataSource, ObjectMapper objectMapper, ExportProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.getFetchSize());
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    @Override
+    public long exportOrders(OrderExportRequest request, OutputStream out) throws IOException {
+        List<Object> args = new ArrayList<>();
+        String sql = SELECT_ORDERS + where(request, args) + " ORDER BY o.order_id";
+
+        GZIPOutputStream gzip = request.isGzip() ? new GZIPOutputStream(out, properties.getBufferSize()) : null;
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(gzip != null ? gzip : out, StandardCharsets.UTF_8), properties.getBufferSize());
+        RowWriter rows = request.getFormat() == OrderExportRequest.Format.NDJSON
+                ? new JsonRowWriter(writer)
+                : new CsvRowWriter(writer);
+
+        long start = System.nanoTime();
+        long[] count = {0};
+        try {
+            jdbcTemplate.query(sql, rs -> {
+                try {
+                    rows.write(rs);
+                } catch (IOException e) {
+                    // Usually a closed connection; stop reading the cursor
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            }, args.toArray());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        rows.finish();
+        writer.flush();
+        if (gzip != null) {
+            gzip.finish();
+        }
+        out.flush();
+
+        logger.info("Exported {} orders as {} in {} ms", count[0], request.getFileName(),
+                (System.nanoTime() - start) / 1_000_000);
+        return count[0];
+    }
+
+    /**
+     * Builds the WHERE clause of the filters set on a request and collects their arguments.
+     */
+    private static String where(OrderExportRequest request, List<Object> args) {
+        List<String> conditions = new ArrayList<>();
+        if (request.getDayOfTheWeek() != null && !request.getDayOfTheWeek().isBlank()) {
+            conditions.add("o.day_of_the_week = ?");
+            args.add(request.getDayOfTheWeek().trim());
+        }
+        if (request.getRestaurantId() != null) {
+            conditions.add("o.restaurant_id = ?");
+            args.add(request.getRestaurantId());
+        }
+        if (request.getCustomerId() != null) {
+            conditions.add("o.customer_id = ?");
+            args.add(request.getCustomerId());
+        }
+        if (request.getMinRating() != null) {
+            conditions.add("c.rating >= ?");
+            args.add(request.getMinRating());
+        }
+        if (request.getMaxRating() != null) {
+            conditions.add("c.rating <= ?");
+            args.add(request.getMaxRating());
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    /**
+     * Writes the current row of the result set in one export format.
+     */
+    private interface RowWriter {
+
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        void finish() throws IOException;
+    }
+
+    /**
+     * Writes rows as CSV with a header row.
+     */
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final CSVWriter csv;
+        private final String[] values = new String[HEADER.length];
+
+        CsvRowWriter(Writer writer) {
+            this.csv = new CSVWriter(writer);
+            csv.writeNext(HEADER, false);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            for (int i = 0; i < values.length; i++) {
+                Object value = rs.getObject(i + 1);
+                values[i] = value == null ? "" : value.toString();
+            }
+            csv.writeNext(values, false);
+            // The writer records write failures instead of throwing them
+            if (csv.getException() != null) {
+                throw csv.getException();
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            csv.flush();
+        }
+    }
+
+    /**
+     * Writes rows as newline-delimited JSON objects keyed by the header names.
+     */
+    private final class JsonRowWriter implements RowWriter {
+
+        private final JsonGenerator json;
+
+        JsonRowWriter(Writer writer) throws IOException {
+            this.json = objectMapper.getFactory().createGenerator(writer);
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            json.writeStartObject();
+            json.writeNumberField(HEADER[0], rs.getInt(1));
+            json.writeNumberField(HEADER[1], rs.getInt(2));
+            json.writeNumberField(HEADER[2], rs.getFloat(3));
+            json.writeNumberField(HEADER[3], rs.getInt(4));
+            json.writeStringField(HEADER[4], rs.getString(5));
+            json.writeNumberField(HEADER[5], rs.getFloat(6));
+            json.writeStringField(HEADER[6], rs.getString(7));
+            writeNullableInt(HEADER[7], rs, 8);
+            writeNullableInt(HEADER[8], rs, 9);
+            json.writeEndObject();
+            json.writeRaw('\n');
+        }
+
+        private void writeNullableInt(String name, ResultSet rs, int column) throws SQLException, IOException {
+            int value = rs.getInt(column);
+            if (rs.wasNull()) {
+                json.writeNullField(name);
+            } else {
+                json.writeNumberField(name, value);
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            json.flush();
+        }
+    }
+}
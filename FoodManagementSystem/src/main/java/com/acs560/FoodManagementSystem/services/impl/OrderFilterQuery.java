@@ -0,0 +1,103 @@
+package com.acs560.FoodManagementSystem.services.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.acs560.FoodManagementSystem.models.OrderFilter;
+import com.acs560.FoodManagementSystem.models.OrderRow;
+import com.acs560.FoodManagementSystem.repositories.OrderRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Translates an {@link OrderFilter} into one JPQL row query, for when the bitmap indexes cannot answer it.
+ * <p>
+ * Each filter becomes a condition with named parameters, nested in parentheses as the filter is, so the
+ * query matches exactly the rows {@link OrderFilter#test} accepts.
+ * </p>
+ */
+@Component
+public class OrderFilterQuery {
+
+    private final EntityManager entityManager;
+
+    /**
+     * Constructs a new instance of {@link OrderFilterQuery}.
+     *
+     * @param entityManager the shared entity manager running the queries
+     */
+    @Autowired
+    public OrderFilterQuery(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Finds the rows of the orders matching a filter.
+     *
+     * @param filter the filter
+     * @param limit the maximum number of rows
+     * @return the matching rows in ascending order ID
+     */
+    public List<OrderRow> find(OrderFilter filter, int limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        String condition = condition(filter, parameters);
+        TypedQuery<OrderRow> query = entityManager.createQuery(
+                OrderRepository.ROW_SELECT + " WHERE " + condition + " ORDER BY o.orderId", OrderRow.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    private static String condition(OrderFilter filter, Map<String, Object> parameters) {
+        if (filter instanceof OrderFilter.OrderIdIs orderIdIs) {
+            return "o.orderId = :" + parameter(parameters, orderIdIs.orderId());
+        } else if (filter instanceof OrderFilter.DayIn dayIn) {
+            return dayIn.days().isEmpty() ? "1 = 0"
+                    : "LOWER(o.dayOfTheWeek) IN :" + parameter(parameters, new ArrayList<>(dayIn.days()));
+        } else if (filter instanceof OrderFilter.RestaurantIn restaurantIn) {
+            return restaurantIn.restaurantIds().isEmpty() ? "1 = 0"
+                    : "r.restaurantId IN :" + parameter(parameters, new ArrayList<>(restaurantIn.restaurantIds()));
+        } else if (filter instanceof OrderFilter.RatingBetween range) {
+            return range("c.rating", range.min(), range.max(), parameters);
+        } else if (filter instanceof OrderFilter.CostBetween range) {
+            return range("o.costOfOrder", range.min(), range.max(), parameters);
+        } else if (filter instanceof OrderFilter.And and) {
+            return join(and.filters(), " AND ", "1 = 1", parameters);
+        } else if (filter instanceof OrderFilter.Or or) {
+            return join(or.filters(), " OR ", "1 = 0", parameters);
+        }
+        throw new IllegalArgumentException("Unsupported filter " + filter);
+    }
+
+    private static String range(String path, Float min, Float max, Map<String, Object> parameters) {
+        List<String> bounds = new ArrayList<>();
+        if (min != null) {
+            bounds.add(path + " >= :" + parameter(parameters, min));
+        }
+        if (max != null) {
+            bounds.add(path + " <= :" + parameter(parameters, max));
+        }
+        return bounds.isEmpty() ? "1 = 1" : "(" + String.join(" AND ", bounds) + ")";
+    }
+
+    private static String join(List<OrderFilter> filters, String operator, String empty,
+                               Map<String, Object> parameters) {
+        if (filters.isEmpty()) {
+            return empty;
+        }
+        List<String> conditions = new ArrayList<>();
+        filters.forEach(filter -> conditions.add(condition(filter, parameters)));
+        return "(" + String.join(operator, conditions) + ")";
+    }
+
+    private static String parameter(Map<String, Object> parameters, Object value) {
+        String name = "p" + parameters.size();
+        parameters.put(name, value);
+        return name;
+    }
+}
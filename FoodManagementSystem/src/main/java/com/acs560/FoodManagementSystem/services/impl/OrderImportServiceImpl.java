@@ -0,0 +1,588 @@
+package com.acs560.FoodManagementSystem.services.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.time.DayOfWeek;
+import java.time.format.TextStyle;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.acs560.FoodManagementSystem.caches.OrderCacheInvalidator;
+import com.acs560.FoodManagementSystem.config.ImportProperties;
+import com.acs560.FoodManagementSystem.entities.RestaurantEntity;
+import com.acs560.FoodManagementSystem.models.OrderImportReport;
+import com.acs560.FoodManagementSystem.services.OrderDerivedData;
+import com.acs560.FoodManagementSystem.services.OrderImportService;
+import com.opencsv.CSVParser;
+
+/**
+ * Implementation of the {@link OrderImportService} interface that streams a CSV file into the database.
+ * <p>
+ * The calling thread reads the file record by record and hands chunks of {@code fms.import.batch-size} raw
+ * records to a pool of parser threads. Only a few chunks are in flight at a time, so memory stays constant
+ * however large the file is. The calling thread then takes the parsed chunks back in file order, resolves
+ * customers and restaurants through in-memory lookup maps loaded once at the start, and writes each chunk
+ * with JDBC batches in one transaction. If a batch fails, the chunk is written again row by row so only the
+ * offending rows are rejected.
+ * </p>
+ * <p>
+ * A row of an unknown customer creates the customer with the rating of the row; rows of unknown customers
+ * without a rating, such as "Not given", are rejected. The rating of an existing customer is never changed.
+ * </p>
+ * <p>
+ * The import bypasses JPA and the order events, so every {@link OrderDerivedData}, such as the order
+ * statistics tables and the in-memory indexes, is rebuilt and every cache is cleared when it finishes.
+ * </p>
+ */
+@Service
+public class OrderImportServiceImpl implements OrderImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderImportServiceImpl.class);
+
+    private static final String INSERT_CUSTOMER = "INSERT INTO customers (customer_id, rating) VALUES (?, ?)";
+    private static final String INSERT_RESTAURANT = "INSERT INTO restaurants"
+            + " (restaurant_name, normalized_name, food_preparation_time, delivery_time) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_ORDER =
+            "INSERT INTO orders (cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_ORDER_WITH_ID =
+            "INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (?, ?, ?, ?, ?)";
+
+    private static final Map<String, String> DAYS = new HashMap<>();
+
+    static {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            String name = day.getDisplayName(TextStyle.FULL, Locale.ENGLISH);
+            DAYS.put(name.toLowerCase(Locale.ROOT), name);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderCacheInvalidator cacheInvalidator;
+    private final List<OrderDerivedData> derivedData;
+    private final ImportProperties properties;
+
+    /**
+     * Constructs a new instance of {@link OrderImportServiceImpl}.
+     *
+     * @param jdbcTemplate the template used for the batched inserts
+     * @param transactionManager the transaction manager used to write each batch atomically
+     * @param cacheInvalidator the invalidator used to clear the caches after the import
+     * @param derivedData the indexes and statistics tables rebuilt after the import
+     * @param properties the batch size and parser pool settings
+     */
+    @Autowired
+    public OrderImportServiceImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                  OrderCacheInvalidator cacheInvalidator, List<OrderDerivedData> derivedData,
+                                  ImportProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheInvalidator = cacheInvalidator;
+        this.derivedData = derivedData;
+        this.properties = properties;
+    }
+
+    @Override
+    public OrderImportReport importOrders(InputStream csv, Consumer<OrderImportReport> progress) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8), 1 << 16);
+        RecordReader records = new RecordReader(reader);
+        String header = records.next();
+        if (header == null) {
+            throw new IllegalArgumentException("The file is empty");
+        }
+        Columns columns = Columns.of(new CSVParser().parseLine(header));
+
+        ImportRun run = new ImportRun(progress);
+        int threads = Math.max(1, properties.getParserThreads());
+        int batchSize = Math.max(1, properties.getBatchSize());
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService parsers = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "order-import-parser-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Deque<Future<ParsedChunk>> inFlight = new ArrayDeque<>();
+        try {
+            RawChunk chunk = new RawChunk(batchSize);
+            for (String record = records.next(); record != null; record = records.next()) {
+                chunk.add(record, records.getRecordLine());
+                if (chunk.size() == batchSize) {
+                    RawChunk full = chunk;
+                    inFlight.addLast(parsers.submit(() -> parse(full, columns)));
+                    chunk = new RawChunk(batchSize);
+                    // Bound the number of chunks held in memory
+                    if (inFlight.size() >= threads * 2) {
+                        write(await(inFlight.removeFirst()), columns, run);
+                    }
+                }
+            }
+            if (chunk.size() > 0) {
+                RawChunk last = chunk;
+                inFlight.addLast(parsers.submit(() -> parse(last, columns)));
+            }
+            while (!inFlight.isEmpty()) {
+                write(await(inFlight.removeFirst()), columns, run);
+            }
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+            parsers.shutdownNow();
+            try {
+                if (run.rowsImported > 0) {
+                    reloadDerivedData();
+                }
+            } finally {
+                if (run.rowsImported > 0 || run.customersCreated > 0 || run.restaurantsCreated > 0) {
+                    cacheInvalidator.clearAll();
+                }
+            }
+        }
+
+        OrderImportReport report = run.report(true);
+        logger.info("Imported {} of {} orders ({} rejected, {} customers and {} restaurants created) in {} ms, {} rows/s",
+                report.rowsImported(), report.rowsRead(), report.rowsRejected(), report.customersCreated(),
+                report.restaurantsCreated(), report.elapsedMillis(), Math.round(report.rowsPerSecond()));
+        progress.accept(report);
+        return report;
+    }
+
+    /**
+     * Reloads every index and statistics table from the imported orders. A failed reload is logged and does
+     * not stop the others; the failed index stops answering until it is reloaded.
+     */
+    private void reloadDerivedData() {
+        for (OrderDerivedData data : derivedData) {
+            try {
+                data.reload();
+            } catch (RuntimeException e) {
+                logger.error("Could not reload {} after the import", data.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    private static ParsedChunk await(Future<ParsedChunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("The import was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Parsing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Parses and validates a chunk of raw records. Runs on a parser thread.
+     */
+    private static ParsedChunk parse(RawChunk chunk, Columns columns) {
+        CSVParser parser = new CSVParser();
+        ParsedChunk parsed = new ParsedChunk(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            long line = chunk.lines[i];
+            try {
+                parsed.rows.add(columns.toRow(parser.parseLine(chunk.records.get(i)), line));
+            } catch (IOException | IllegalArgumentException e) {
+                parsed.rejections.add("Line " + line + ": " + e.getMessage());
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * Resolves the customers and restaurants of a parsed chunk and writes its orders. Runs on the calling thread.
+     */
+    private void write(ParsedChunk chunk, Columns columns, ImportRun run) {
+        run.rowsRead += chunk.rows.size() + chunk.rejections.size();
+        chunk.rejections.forEach(run::reject);
+
+        List<Object[]> newCustomers = new ArrayList<>();
+        List<Object[]> orders = new ArrayList<>(chunk.rows.size());
+        List<OrderRow> orderRows = new ArrayList<>(chunk.rows.size());
+        for (OrderRow row : chunk.rows) {
+            if (!run.customerIds().contains(row.customerId())) {
+                // A made-up rating would skew the averages of every order of the customer
+                if (row.rating() == null) {
+                    run.reject("Line " + row.line() + ": Missing rating of new customer " + row.customerId());
+                    continue;
+                }
+                run.customerIds().add(row.customerId());
+                newCustomers.add(new Object[] {row.customerId(), row.rating()});
+            }
+            Integer restaurantId;
+            try {
+                restaurantId = resolveRestaurant(row, run);
+            } catch (DataAccessException e) {
+                run.reject("Line " + row.line() + ": " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                continue;
+            }
+            orders.add(columns.hasOrderId()
+                    ? new Object[] {row.orderId(), row.cost(), row.day(), row.customerId(), restaurantId}
+                    : new Object[] {row.cost(), row.day(), row.customerId(), restaurantId});
+            orderRows.add(row);
+        }
+        String insertOrder = columns.hasOrderId() ? INSERT_ORDER_WITH_ID : INSERT_ORDER;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!newCustomers.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_CUSTOMER, newCustomers);
+                }
+                jdbcTemplate.batchUpdate(insertOrder, orders);
+            });
+            run.customersCreated += newCustomers.size();
+            run.rowsImported += orders.size();
+        } catch (DataAccessException e) {
+            logger.debug("Batch failed, writing its rows one by one", e);
+            writeRowByRow(newCustomers, orderRows, orders, insertOrder, run);
+        }
+        run.publish();
+    }
+
+    /**
+     * Writes a chunk whose batch failed one row at a time, rejecting the rows that fail.
+     */
+    private void writeRowByRow(List<Object[]> newCustomers, List<OrderRow> orderRows, List<Object[]> orders,
+                               String insertOrder, ImportRun run) {
+        for (Object[] customer : newCustomers) {
+            try {
+                jdbcTemplate.update(INSERT_CUSTOMER, customer);
+                run.customersCreated++;
+            } catch (DataAccessException e) {
+                // The customer exists already; the orders referring to it are still valid
+                logger.debug("Customer {} not created", customer[0], e);
+            }
+        }
+        for (int i = 0; i < orders.size(); i++) {
+            try {
+                jdbcTemplate.update(insertOrder, orders.get(i));
+                run.rowsImported++;
+            } catch (DataAccessException e) {
+                run.reject("Line " + orderRows.get(i).line() + ": "
+                        + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the ID of the restaurant of a row, creating the restaurant if its name is unknown.
+     */
+    private Integer resolveRestaurant(OrderRow row, ImportRun run) {
+        String key = RestaurantEntity.normalize(row.restaurantName());
+        Integer restaurantId = run.restaurantIds().get(key);
+        if (restaurantId != null) {
+            return restaurantId;
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(INSERT_RESTAURANT,
+                        new String[] {"restaurant_id"});
+                statement.setString(1, row.restaurantName().trim());
+                statement.setString(2, key);
+                statement.setInt(3, row.foodPreparationTime());
+                statement.setInt(4, row.deliveryTime());
+                return statement;
+            }, keyHolder);
+            restaurantId = keyHolder.getKey().intValue();
+            run.restaurantsCreated++;
+        } catch (DuplicateKeyException e) {
+            // Created by an order form or another import since the lookup map was loaded
+            restaurantId = jdbcTemplate.queryForObject(
+                    "SELECT restaurant_id FROM restaurants WHERE normalized_name = ?", Integer.class, key);
+        }
+        run.restaurantIds().put(key, restaurantId);
+        return restaurantId;
+    }
+
+    /**
+     * The state of one import, owned by the calling thread.
+     */
+    private final class ImportRun {
+
+        private final Consumer<OrderImportReport> progress;
+        private final long start = System.nanoTime();
+        private final List<String> rejections = new ArrayList<>();
+        private Set<Integer> customerIds;
+        private Map<String, Integer> restaurantIds;
+        private long rowsRead;
+        private long rowsImported;
+        private long rowsRejected;
+        private int customersCreated;
+        private int restaurantsCreated;
+
+        ImportRun(Consumer<OrderImportReport> progress) {
+            this.progress = progress;
+        }
+
+        /**
+         * Returns the IDs of the existing customers, loaded on first use.
+         */
+        Set<Integer> customerIds() {
+            if (customerIds == null) {
+                Set<Integer> ids = new HashSet<>();
+                jdbcTemplate.query("SELECT customer_id FROM customers", rs -> {
+                    ids.add(rs.getInt(1));
+                });
+                customerIds = ids;
+            }
+            return customerIds;
+        }
+
+        /**
+         * Returns the IDs of the existing restaurants by normalized name, loaded on first use.
+         */
+        Map<String, Integer> restaurantIds() {
+            if (restaurantIds == null) {
+                Map<String, Integer> ids = new HashMap<>();
+                jdbcTemplate.query("SELECT restaurant_id, normalized_name FROM restaurants", rs -> {
+                    String name = rs.getString(2);
+                    if (name != null) {
+                        ids.put(name, rs.getInt(1));
+                    }
+                });
+                restaurantIds = ids;
+            }
+            return restaurantIds;
+        }
+
+        void reject(String rejection) {
+            rowsRejected++;
+            if (rejections.size() < properties.getMaxReportedRejections()) {
+                rejections.add(rejection);
+            }
+        }
+
+        void publish() {
+            progress.accept(report(false));
+        }
+
+        OrderImportReport report(boolean finished) {
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            return new OrderImportReport(rowsRead, rowsImported, rowsRejected, customersCreated, restaurantsCreated,
+                    elapsedMillis, List.copyOf(rejections), finished);
+        }
+    }
+
+    /**
+     * The positions of the known columns in the header row.
+     */
+    private record Columns(int orderId, int customerId, int restaurantName, int cost, int day, int rating,
+                           int foodPreparationTime, int deliveryTime) {
+
+        static Columns of(String[] header) {
+            Map<String, Integer> positions = new HashMap<>();
+            for (int i = 0; i < header.length; i++) {
+                positions.putIfAbsent(header[i].trim().toLowerCase(Locale.ROOT), i);
+            }
+            return new Columns(
+                    optional(positions, "order_id"),
+                    required(positions, "customer_id"),
+                    required(positions, "restaurant_name"),
+                    required(positions, "cost_of_the_order", "cost_of_order"),
+                    required(positions, "day_of_the_week"),
+                    optional(positions, "rating", "customer_rating"),
+                    required(positions, "food_preparation_time"),
+                    required(positions, "delivery_time"));
+        }
+
+        private static int optional(Map<String, Integer> positions, String... names) {
+            for (String name : names) {
+                Integer position = positions.get(name);
+                if (position != null) {
+                    return position;
+                }
+            }
+            return -1;
+        }
+
+        private static int required(Map<String, Integer> positions, String... names) {
+            int position = optional(positions, names);
+            if (position < 0) {
+                throw new IllegalArgumentException("Missing column: " + names[0]);
+            }
+            return position;
+        }
+
+        boolean hasOrderId() {
+            return orderId >= 0;
+        }
+
+        /**
+         * Converts and validates one record.
+         *
+         * @throws IllegalArgumentException if a value is missing or invalid
+         */
+        OrderRow toRow(String[] values, long line) {
+            String restaurant = text(values, restaurantName, "restaurant_name");
+            String dayName = DAYS.get(text(values, day, "day_of_the_week").toLowerCase(Locale.ROOT));
+            if (dayName == null) {
+                throw new IllegalArgumentException("Invalid day_of_the_week: " + values[day]);
+            }
+            float costOfOrder = Float.parseFloat(text(values, cost, "cost_of_order"));
+            if (costOfOrder < 0 || Float.isNaN(costOfOrder) || Float.isInfinite(costOfOrder)) {
+                throw new IllegalArgumentException("Invalid cost_of_order: " + values[cost]);
+            }
+            return new OrderRow(
+                    line,
+                    hasOrderId() ? Integer.valueOf(text(values, orderId, "order_id")) : null,
+                    Integer.parseInt(text(values, customerId, "customer_id")),
+                    restaurant,
+                    costOfOrder,
+                    dayName,
+                    parseRating(values),
+                    Integer.parseInt(text(values, foodPreparationTime, "food_preparation_time")),
+                    Integer.parseInt(text(values, deliveryTime, "delivery_time")));
+        }
+
+        /**
+         * Returns the customer rating of a record, or null when the column is absent or holds no number
+         * (such as "Not given").
+         */
+        private Float parseRating(String[] values) {
+            if (rating < 0 || rating >= values.length) {
+                return null;
+            }
+            try {
+                return Float.valueOf(values[rating].trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private static String text(String[] values, int position, String name) {
+            if (position >= values.length || values[position].isBlank()) {
+                throw new IllegalArgumentException("Missing " + name);
+            }
+            return values[position].trim();
+        }
+    }
+
+    /**
+     * A parsed and validated row.
+     */
+    private record OrderRow(long line, Integer orderId, int customerId, String restaurantName, float cost,
+                            String day, Float rating, int foodPreparationTime, int deliveryTime) {
+    }
+
+    /**
+     * A chunk of raw records with the line numbers they start at.
+     */
+    private static final class RawChunk {
+
+        private final List<String> records;
+        private final long[] lines;
+
+        RawChunk(int capacity) {
+            this.records = new ArrayList<>(capacity);
+            this.lines = new long[capacity];
+        }
+
+        void add(String record, long line) {
+            lines[records.size()] = line;
+            records.add(record);
+        }
+
+        int size() {
+            return records.size();
+        }
+    }
+
+    /**
+     * The rows and rejections of a parsed chunk, in file order.
+     */
+    private static final class ParsedChunk {
+
+        private final List<OrderRow> rows;
+        private final List<String> rejections = new ArrayList<>();
+
+        ParsedChunk(int capacity) {
+            this.rows = new ArrayList<>(capacity);
+        }
+    }
+
+    /**
+     * Splits the file into records. A record ends at a line break outside quotes, so quoted values may span
+     * lines; blank lines are skipped.
+     */
+    private static final class RecordReader {
+
+        private final BufferedReader reader;
+        private long lineNumber;
+        private long recordLine;
+
+        RecordReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        String next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+                lineNumber++;
+            } while (line.isBlank());
+            recordLine = lineNumber;
+
+            int quotes = countQuotes(line);
+            if (quotes % 2 == 0) {
+                return line;
+            }
+            StringBuilder record = new StringBuilder(line);
+            while (quotes % 2 != 0) {
+                String continuation = reader.readLine();
+                if (continuation == null) {
+                    break;
+                }
+                lineNumber++;
+                record.append('\n').append(continuation);
+                quotes += countQuotes(continuation);
+            }
+            return record.toString();
+        }
+
+        long getRecordLine() {
+            return recordLine;
+        }
+
+        private static int countQuotes(String line) {
+            int count = 0;
+            for (int i = 0; i < line.length(); i++) {
+                if (line.charAt(i) == '"') {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
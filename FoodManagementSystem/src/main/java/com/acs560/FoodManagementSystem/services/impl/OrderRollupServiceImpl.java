@@ -0,0 +1,359 @@
+package com.acs560.FoodManagementSystem.services.impl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.acs560.FoodManagementSystem.config.RollupProperties;
+import com.acs560.FoodManagementSystem.events.OrdersChangedEvent;
+import com.acs560.FoodManagementSystem.models.DayOfWeekStats;
+import com.acs560.FoodManagementSystem.models.OrderSnapshot;
+import com.acs560.FoodManagementSystem.models.RestaurantStats;
+import com.acs560.FoodManagementSystem.models.RollupCheckReport;
+import com.acs560.FoodManagementSystem.services.OrderDerivedData;
+import com.acs560.FoodManagementSystem.services.OrderRollupService;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Implementation of the {@link OrderRollupService} interface on the {@code restaurant_order_stats} and
+ * {@code day_order_stats} tables.
+ * <p>
+ * The service listens to the {@link OrdersChangedEvent}s synchronously, so the statistics are written in the
+ * transaction of the order write that published them: the changes of one event are summed per restaurant and
+ * day, and each sum is applied with one upsert that adds it to the stored totals. The upsert only locks the
+ * rows it changes, so concurrent writes of different restaurants do not wait for each other. Rows whose
+ * count drops to zero are deleted.
+ * </p>
+ * <p>
+ * The upserts name their row with an alias ({@code VALUES (...) AS delta}), which requires MySQL 8.0.19 or
+ * later; older servers reject every order write with a syntax error.
+ * </p>
+ * <p>
+ * Writes that bypass the order service, such as the CSV import, call {@link #rebuild()} instead. A background
+ * check every {@code fms.rollup.check-interval} compares the tables with the orders and, if
+ * {@code fms.rollup.repair} is set, rebuilds them when they differ.
+ * </p>
+ */
+@Service
+public class OrderRollupServiceImpl implements OrderRollupService, OrderDerivedData {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderRollupServiceImpl.class);
+
+    // The row alias replaces VALUES(), which MySQL deprecated in 8.0.20; it needs MySQL 8.0.19 or later
+    private static final String UPSERT_RESTAURANT = "INSERT INTO restaurant_order_stats"
+            + " (restaurant_id, order_count, total_cost, total_rating) VALUES (?, ?, ?, ?) AS delta"
+            + " ON DUPLICATE KEY UPDATE order_count = order_count + delta.order_count,"
+            + " total_cost = total_cost + delta.total_cost, total_rating = total_rating + delta.total_rating";
+    private static final String UPSERT_DAY = "INSERT INTO day_order_stats"
+            + " (day_of_the_week, order_count, total_cost, total_rating) VALUES (?, ?, ?, ?) AS delta"
+            + " ON DUPLICATE KEY UPDATE order_count = order_count + delta.order_count,"
+            + " total_cost = total_cost + delta.total_cost, total_rating = total_rating + delta.total_rating";
+    private static final String DELETE_EMPTY_RESTAURANT =
+            "DELETE FROM restaurant_order_stats WHERE restaurant_id = ? AND order_count <= 0";
+    private static final String DELETE_EMPTY_DAY =
+            "DELETE FROM day_order_stats WHERE day_of_the_week = ? AND order_count <= 0";
+
+    private static final String AGGREGATE_RESTAURANTS = "SELECT o.restaurant_id, COUNT(*), SUM(o.cost_of_order),"
+            + " SUM(c.rating) FROM orders o JOIN customers c ON c.customer_id = o.customer_id GROUP BY o.restaurant_id";
+    private static final String AGGREGATE_DAYS = "SELECT o.day_of_the_week, COUNT(*), SUM(o.cost_of_order),"
+            + " SUM(c.rating) FROM orders o JOIN customers c ON c.customer_id = o.customer_id"
+            + " WHERE o.day_of_the_week IS NOT NULL GROUP BY o.day_of_the_week";
+
+    private static final String SELECT_RESTAURANTS = "SELECT s.restaurant_id, r.restaurant_name, s.order_count,"
+            + " s.total_cost, s.total_rating FROM restaurant_order_stats s"
+            + " JOIN restaurants r ON r.restaurant_id = s.restaurant_id";
+    private static final String SELECT_DAYS =
+            "SELECT day_of_the_week, order_count, total_cost, total_rating FROM day_order_stats";
+
+    // The averages are derived from the totals, as the GROUP BY queries of the order repository compute them
+    private static final RowMapper<RestaurantStats> RESTAURANT_MAPPER = (rs, rowNum) -> {
+        long count = rs.getLong("order_count");
+        double cost = rs.getDouble("total_cost");
+        return new RestaurantStats(rs.getInt("restaurant_id"), rs.getString("restaurant_name"), count, cost,
+                cost / count, rs.getDouble("total_rating") / count);
+    };
+    private static final RowMapper<DayOfWeekStats> DAY_MAPPER = (rs, rowNum) -> {
+        long count = rs.getLong("order_count");
+        double cost = rs.getDouble("total_cost");
+        return new DayOfWeekStats(rs.getString("day_of_the_week"), count, cost, cost / count);
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate snapshotTemplate;
+    private final RollupProperties properties;
+    private ScheduledExecutorService checker;
+
+    /**
+     * Constructs a new instance of {@link OrderRollupServiceImpl}.
+     *
+     * @param jdbcTemplate the template used to read and write the statistics tables
+     * @param transactionManager the transaction manager used for the rebuilds and checks
+     * @param properties the consistency check settings
+     */
+    @Autowired
+    public OrderRollupServiceImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                  RollupProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // The check compares two queries, which must see the same orders
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setReadOnly(true);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.properties = properties;
+    }
+
+    /**
+     * Starts the background consistency checks once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (checker != null || properties.getCheckInterval().isZero()) {
+            return;
+        }
+        checker = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "order-rollup-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getCheckInterval().toMillis();
+        checker.scheduleWithFixedDelay(this::checkAndRepair, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the background consistency checks.
+     */
+    @PreDestroy
+    public void close() {
+        if (checker != null) {
+            checker.shutdownNow();
+        }
+    }
+
+    /**
+     * Applies the changed orders to the statistics tables, in the transaction that wrote them.
+     *
+     * @param event the changed orders
+     */
+    @EventListener
+    public void onOrdersChanged(OrdersChangedEvent event) {
+        Map<Integer, Delta> restaurants = new HashMap<>();
+        Map<String, Delta> days = new HashMap<>();
+        for (OrdersChangedEvent.Change change : event.getChanges()) {
+            add(restaurants, days, change.before(), -1);
+            add(restaurants, days, change.after(), 1);
+        }
+        restaurants.values().removeIf(Delta::isZero);
+        days.values().removeIf(Delta::isZero);
+
+        if (!restaurants.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_RESTAURANT, upsertArguments(restaurants));
+            jdbcTemplate.batchUpdate(DELETE_EMPTY_RESTAURANT, keyArguments(restaurants));
+        }
+        if (!days.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_DAY, upsertArguments(days));
+            jdbcTemplate.batchUpdate(DELETE_EMPTY_DAY, keyArguments(days));
+        }
+    }
+
+    private static void add(Map<Integer, Delta> restaurants, Map<String, Delta> days, OrderSnapshot order, int sign) {
+        if (order == null) {
+            return;
+        }
+        restaurants.computeIfAbsent(order.restaurantId(), id -> new Delta()).add(order, sign);
+        if (order.dayOfTheWeek() != null) {
+            days.computeIfAbsent(order.dayOfTheWeek(), day -> new Delta()).add(order, sign);
+        }
+    }
+
+    private static List<Object[]> upsertArguments(Map<?, Delta> deltas) {
+        List<Object[]> arguments = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> arguments.add(new Object[] {key, delta.count, delta.cost, delta.rating}));
+        return arguments;
+    }
+
+    private static List<Object[]> keyArguments(Map<?, Delta> deltas) {
+        List<Object[]> arguments = new ArrayList<>(deltas.size());
+        deltas.keySet().forEach(key -> arguments.add(new Object[] {key}));
+        return arguments;
+    }
+
+    /**
+     * Retrieves the figures of one restaurant by its primary key, or of every restaurant with one row each.
+     *
+     * @param restaurantId the ID of the restaurant, or null for every restaurant
+     * @return the figures of the restaurants with orders, most orders first
+     */
+    @Override
+    public List<RestaurantStats> getRestaurantStats(Integer restaurantId) {
+        String order = " ORDER BY s.order_count DESC, s.restaurant_id";
+        if (restaurantId == null) {
+            return jdbcTemplate.query(SELECT_RESTAURANTS + order, RESTAURANT_MAPPER);
+        }
+        return jdbcTemplate.query(SELECT_RESTAURANTS + " WHERE s.restaurant_id = ?" + order, RESTAURANT_MAPPER,
+                restaurantId);
+    }
+
+    /**
+     * Retrieves the figures of one day by its primary key, or of every day with one row each.
+     *
+     * @param dayOfTheWeek the day of the week, or null for every day
+     * @return the figures of the days with orders
+     */
+    @Override
+    public List<DayOfWeekStats> getDayOfWeekStats(String dayOfTheWeek) {
+        if (dayOfTheWeek == null) {
+            return jdbcTemplate.query(SELECT_DAYS, DAY_MAPPER);
+        }
+        return jdbcTemplate.query(SELECT_DAYS + " WHERE day_of_the_week = ?", DAY_MAPPER, dayOfTheWeek);
+    }
+
+    /**
+     * Rebuilds the statistics tables after writes that bypass the order service.
+     */
+    @Override
+    public void reload() {
+        rebuild();
+    }
+
+    /**
+     * Recomputes the statistics tables with two INSERT ... SELECT statements. The statements lock the orders
+     * they read, so order writes wait for the rebuild and then apply their changes on top of it.
+     */
+    @Override
+    public void rebuild() {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM restaurant_order_stats");
+            jdbcTemplate.update("DELETE FROM day_order_stats");
+            jdbcTemplate.update("INSERT INTO restaurant_order_stats"
+                    + " (restaurant_id, order_count, total_cost, total_rating) " + AGGREGATE_RESTAURANTS);
+            jdbcTemplate.update("INSERT INTO day_order_stats"
+                    + " (day_of_the_week, order_count, total_cost, total_rating) " + AGGREGATE_DAYS);
+        });
+        logger.info("Rebuilt the order statistics tables in {} ms",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Compares the statistics tables with GROUP BY queries over the orders, in one repeatable-read
+     * transaction so both sides see the same orders.
+     *
+     * @return the rows that differ
+     */
+    @Override
+    public RollupCheckReport check() {
+        return snapshotTemplate.execute(status -> {
+            List<String> mismatches = new ArrayList<>();
+            Map<Object, Totals> expectedRestaurants = totals(AGGREGATE_RESTAURANTS);
+            Map<Object, Totals> storedRestaurants = totals("SELECT restaurant_id, order_count, total_cost,"
+                    + " total_rating FROM restaurant_order_stats");
+            compare("restaurant", expectedRestaurants, storedRestaurants, mismatches);
+            Map<Object, Totals> expectedDays = totals(AGGREGATE_DAYS);
+            Map<Object, Totals> storedDays = totals(SELECT_DAYS);
+            compare("day", expectedDays, storedDays, mismatches);
+            return new RollupCheckReport(expectedRestaurants.size(), expectedDays.size(), mismatches);
+        });
+    }
+
+    /**
+     * Checks the statistics tables and rebuilds them if they differ and repairs are enabled.
+     */
+    private void checkAndRepair() {
+        try {
+            RollupCheckReport report = check();
+            if (report.isConsistent()) {
+                logger.debug("Order statistics check: {}", report.describe());
+                return;
+            }
+            logger.warn("Order statistics differ from the orders ({}): {}", report.describe(),
+                    report.mismatches().subList(0, Math.min(10, report.mismatches().size())));
+            if (properties.isRepair()) {
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Order statistics check failed: {}", e.getMessage());
+        }
+    }
+
+    private Map<Object, Totals> totals(String sql) {
+        Map<Object, Totals> totals = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            Object key = rs.getObject(1);
+            // Days are grouped by the case-insensitive collation of the column
+            if (key instanceof String day) {
+                key = day.toLowerCase(Locale.ROOT);
+            }
+            totals.put(key, new Totals(rs.getLong(2), rs.getDouble(3), rs.getDouble(4)));
+        });
+        return totals;
+    }
+
+    private void compare(String kind, Map<Object, Totals> expected, Map<Object, Totals> stored,
+                         List<String> mismatches) {
+        double tolerance = properties.getTolerance();
+        Set<Object> keys = new HashSet<>(expected.keySet());
+        keys.addAll(stored.keySet());
+        for (Object key : keys) {
+            Totals want = expected.get(key);
+            Totals have = stored.get(key);
+            if (want == null || have == null || want.count() != have.count()
+                    || Math.abs(want.cost() - have.cost()) > tolerance
+                    || Math.abs(want.rating() - have.rating()) > tolerance) {
+                mismatches.add(kind + " " + key + ": expected " + want + ", stored " + have);
+            }
+        }
+    }
+
+    /**
+     * Totals of the orders of one restaurant or day.
+     */
+    private record Totals(long count, double cost, double rating) {
+    }
+
+    /**
+     * Sum of the changes of one event for one restaurant or day. The decimals match the columns, so adding
+     * and then subtracting an order leaves the totals exactly as they were.
+     */
+    private static final class Delta {
+
+        private long count;
+        private BigDecimal cost = BigDecimal.ZERO;
+        private BigDecimal rating = BigDecimal.ZERO;
+
+        void add(OrderSnapshot order, int sign) {
+            count += sign;
+            cost = cost.add(decimal(order.costOfOrder(), sign));
+            rating = rating.add(decimal(order.customerRating(), sign));
+        }
+
+        boolean isZero() {
+            return count == 0 && cost.signum() == 0 && rating.signum() == 0;
+        }
+
+        private static BigDecimal decimal(float value, int sign) {
+            return new BigDecimal(Float.toString(value)).multiply(BigDecimal.valueOf(sign));
+        }
+    }
+}
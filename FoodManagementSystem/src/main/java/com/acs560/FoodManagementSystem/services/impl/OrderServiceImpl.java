@@ -1,282 +1,674 @@
-package com.acs560.FoodManagementSystem.services.impl;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
-
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Service;
-
-import com.acs560.FoodManagementSystem.entities.CustomerEntity;
-import com.acs560.FoodManagementSystem.entities.OrderEntity;
-import com.acs560.FoodManagementSystem.entities.RestaurantEntity;
-import com.acs560.FoodManagementSystem.models.Order;
-import com.acs560.FoodManagementSystem.repositories.CustomerRepository;
-import com.acs560.FoodManagementSystem.repositories.OrderRepository;
-import com.acs560.FoodManagementSystem.repositories.RestaurantRepository;
-import com.acs560.FoodManagementSystem.services.OrderService;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.CacheEvict;
-
-import jakarta.transaction.Transactional;
-
-/**
- * Implementation of the {@link OrderService} interface for managing
- * order-related operations.
- * <p>
- * This class provides methods for retrieving order information based on various
- * criteria, such as order ID, cost, customer, and restaurant. It utilizes the
- * {@link OrderRepository} to access order data from the underlying data source.
- * </p>
- */
-@Service
-public class OrderServiceImpl implements OrderService {
-
-    private final OrderRepository orderRepository;
-    private final RestaurantRepository restaurantRepository;
-    private final CustomerRepository customerRepository;
-
-    /**
-     * Constructs a new instance of {@link OrderServiceImpl}.
-     * 
-     * @param orderRepository the repository used to access order data
-     * @param restaurantRepository the repository used to access restaurant data
-     * @param customerRepository the repository used to access customer data
-     */
-    @Autowired
-    public OrderServiceImpl(OrderRepository orderRepository, RestaurantRepository restaurantRepository, 
-                            CustomerRepository customerRepository) {
-        this.orderRepository = orderRepository;
-        this.restaurantRepository = restaurantRepository;
-        this.customerRepository = customerRepository;
-    }
-
-    /**
-     * Retrieves a list of all orders.
-     *
-     * @return a list of all {@link OrderEntity} objects
-     */
-    @Override
-    public List<OrderEntity> getAll() {
-        List<OrderEntity> orderList = new ArrayList<>();
-        orderRepository.findAll().forEach(orderList::add);
-        return orderList;
-    }
-
-    /**
-     * Retrieves an order by its unique order ID.
-     *
-     * @param orderId the ID of the order to retrieve
-     * @return an {@link Optional} containing the {@link OrderEntity} if found, or
-     *         an empty Optional if not found
-     */
-    @Override
-    @Cacheable(value = "orders", key = "#orderId")
-    public Optional<OrderEntity> getByOrderId(Integer orderId) {
-        return Optional.ofNullable(orderRepository.findByOrderId(orderId));
-    }
-
-    /**
-     * Retrieves a list of orders with a specific cost.
-     *
-     * @param costOfOrder the cost of the order to filter
-     * @return a list of {@link OrderEntity} objects matching the specified cost
-     */
-    @Override
-    @Cacheable(value = "ordersByCost", key = "#costOfOrder")
-    public List<OrderEntity> getByCostOfOrder(float costOfOrder) {
-        return orderRepository.findByCostOfOrder(costOfOrder);
-    }
-
-    /**
-     * Retrieves a list of orders made on a specific day of the week.
-     *
-     * @param dayOfTheWeek the day of the week to filter orders
-     * @return a list of {@link OrderEntity} objects matching the specified day of
-     *         the week
-     */
-    @Override
-    @Cacheable(value = "ordersByDay", key = "#dayOfTheWeek")
-    public List<OrderEntity> getByDayOfTheWeek(String dayOfTheWeek) {
-        return orderRepository.findByDayOfTheWeek(dayOfTheWeek);
-    }
-
-    /**
-     * Retrieves a list of orders placed by a specific customer.
-     *
-     * @param customerId the ID of the customer whose orders to retrieve
-     * @return a list of {@link OrderEntity} objects associated with the specified
-     *         customer
-     */
-    @Override
-    @Cacheable(value = "ordersByCustomer", key = "#customerId")
-    public List<OrderEntity> getByCustomer_CustomerId(Integer customerId) {
-        return orderRepository.findByCustomer_CustomerId(customerId);
-    }
-
-    /**
-     * Retrieves a list of orders associated with a specific restaurant.
-     *
-     * @param restaurantId the ID of the restaurant whose orders to retrieve
-     * @return a list of {@link OrderEntity} objects associated with the specified
-     *         restaurant
-     */
-    @Override
-    @Cacheable(value = "ordersByRestaurant", key = "#restaurantId")
-    public List<OrderEntity> getByRestaurant_RestaurantId(Integer restaurantId) {
-        return orderRepository.findByRestaurant_RestaurantId(restaurantId);
-    }
-
-    /**
-     * Adds a new order, including associated customer and restaurant data.
-     *
-     * @param order the order to be added
-     * @param restaurantName the name of the restaurant for the order
-     * @param foodPreparationTime the food preparation time for the order
-     * @param deliveryTime the delivery time for the order
-     * @param customerRating the rating of the customer for the order
-     */
-    @Transactional
-    public void addOrder(Order order, String restaurantName, Integer foodPreparationTime, Integer deliveryTime,
-            float customerRating) {
-        CustomerEntity customerEntity = new CustomerEntity();
-        customerEntity.setRating(customerRating);
-        CustomerEntity savedCustomer = customerRepository.save(customerEntity);
-
-        RestaurantEntity restaurantEntity = new RestaurantEntity();
-        restaurantEntity.setRestaurantName(restaurantName);
-        restaurantEntity.setFoodPreparationTime(foodPreparationTime);
-        restaurantEntity.setDeliveryTime(deliveryTime);
-        RestaurantEntity savedRestaurant = restaurantRepository.save(restaurantEntity);
-
-        OrderEntity orderEntity = new OrderEntity();
-        orderEntity.setCostOfOrder(order.getCostOfOrder());
-        orderEntity.setDayOfTheWeek(order.getDayOfTheWeek());
-        orderEntity.setCustomer(savedCustomer);
-        orderEntity.setRestaurant(savedRestaurant);
-
-        orderRepository.save(orderEntity);
-    }
-
-    /**
-     * Updates an existing order with new values, including associated customer
-     * and restaurant data.
-     * 
-     * @param orderId the ID of the order to be updated
-     * @param updatedOrder the updated order data
-     * @param restaurantName the name of the restaurant for the order
-     * @param foodPreparationTime the food preparation time for the order
-     * @param deliveryTime the delivery time for the order
-     * @param customerRating the new rating of the customer for the order
-     */
-    @Transactional
-    @CachePut(value = "orders", key = "#orderId")
-    public void updateOrder(Integer orderId, Order updatedOrder, String restaurantName, Integer foodPreparationTime,
-                            Integer deliveryTime, Float customerRating) {
-        OrderEntity orderEntity = orderRepository.findByOrderId(orderId);
-        if (orderEntity == null) {
-            throw new IllegalArgumentException("Order not found for ID: " + orderId);
-        }
-
-        if (updatedOrder.getCostOfOrder() > 0) {
-            orderEntity.setCostOfOrder(updatedOrder.getCostOfOrder());
-        }
-
-        if (updatedOrder.getDayOfTheWeek() != null) {
-            orderEntity.setDayOfTheWeek(updatedOrder.getDayOfTheWeek());
-        }
-
-        RestaurantEntity restaurantEntity = orderEntity.getRestaurant();
-        if (restaurantEntity != null) {
-            if (restaurantName != null) {
-                restaurantEntity.setRestaurantName(restaurantName);
-            }
-            if (foodPreparationTime != null) {
-                restaurantEntity.setFoodPreparationTime(foodPreparationTime);
-            }
-            if (deliveryTime != null) {
-                restaurantEntity.setDeliveryTime(deliveryTime);
-            }
-        }
-
-        CustomerEntity customerEntity = orderEntity.getCustomer();
-        if (customerEntity != null && customerRating != null) {
-            customerEntity.setRating(customerRating);
-        }
-
-        orderRepository.save(orderEntity);
-        if (restaurantEntity != null) {
-            restaurantRepository.save(restaurantEntity);
-        }
-        if (customerEntity != null) {
-            customerRepository.save(customerEntity);
-        }
-    }
-
-    /**
-     * Deletes an order by its ID, along with the associated customer and
-     * restaurant data.
-     *
-     * @param orderId the ID of the order to be deleted
-     */
-    @Override
-    @Transactional
-    @CacheEvict(value = "orders", key = "#orderId")
-    public void delete(Integer orderId) {
-        Optional<OrderEntity> orderOpt = orderRepository.findById(orderId);
-        if (orderOpt.isPresent()) {
-            OrderEntity order = orderOpt.get();
-
-            // Delete associated order from the orders table
-            orderRepository.delete(order);
-
-            // Delete the associated CustomerEntity if it exists
-            CustomerEntity customer = order.getCustomer();
-            if (customer != null) {
-                customerRepository.delete(customer);
-            }
-
-            // Delete the associated RestaurantEntity if it exists
-            RestaurantEntity restaurant = order.getRestaurant();
-            if (restaurant != null) {
-                // Before deleting the restaurant, ensure all orders for this restaurant are deleted
-                List<OrderEntity> ordersForRestaurant = orderRepository.findByRestaurant_RestaurantId(restaurant.getRestaurantId());
-                for (OrderEntity restaurantOrder : ordersForRestaurant) {
-                    orderRepository.delete(restaurantOrder); // Delete all orders for this restaurant
-                }
-                // Finally, delete the restaurant
-                restaurantRepository.delete(restaurant);
-            }
-        }
-    }
-
-    /**
-     * Retrieves a list of orders placed by customers within a specified rating
-     * range.
-     *
-     * @param minRating the minimum customer rating
-     * @param maxRating the maximum customer rating
-     * @return a list of {@link OrderEntity} objects within the specified rating range
-     */
-    @Override
-    @Cacheable(value = "ordersByCustomerRatingRange", key = "#minRating + '-' + #maxRating")
-    public List<OrderEntity> getByCustomerRatingRange(float minRating, float maxRating) {
-        return orderRepository.findByCustomer_RatingBetween(minRating, maxRating);
-    }
-
-    /**
-     * Retrieves a list of orders for a given customer by their customer ID.
-     * 
-     * This method queries the order repository to fetch all orders associated with 
-     * the specified customer ID. The customer ID is used to find the related orders 
-     * from the order records.
-     * 
-     * @param customerId The ID of the customer whose order history is to be retrieved.
-     * @return A list of {@link OrderEntity} objects representing the customer's order history.
-     *         If no orders are found, an empty list is returned.
-     */
-    public List<OrderEntity> getOrderHistoryByCustomerId(Integer customerId){
-        return orderRepository.findByCustomer_CustomerId(customerId);
-    }
-}
+package com.acs560.FoodManagementSystem.services.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.acs560.FoodManagementSystem.caches.OrderCacheInvalidator;
+import com.acs560.FoodManagementSystem.caches.OrderRangeCaches;
+import com.acs560.FoodManagementSystem.config.UpdateRetryProperties;
+
+import com.acs560.FoodManagementSystem.entities.CustomerEntity;
+import com.acs560.FoodManagementSystem.entities.OrderEntity;
+import com.acs560.FoodManagementSystem.entities.RestaurantEntity;
+import com.acs560.FoodManagementSystem.events.OrdersChangedEvent;
+import com.acs560.FoodManagementSystem.indexes.OrderBitmapIndex;
+import com.acs560.FoodManagementSystem.indexes.OrderColumnStore;
+import com.acs560.FoodManagementSystem.indexes.OrderCostIndex;
+import com.acs560.FoodManagementSystem.models.DeleteResult;
+import com.acs560.FoodManagementSystem.models.Order;
+import com.acs560.FoodManagementSystem.models.OrderFilter;
+import com.acs560.FoodManagementSystem.models.OrderRow;
+import com.acs560.FoodManagementSystem.models.OrderSnapshot;
+import com.acs560.FoodManagementSystem.models.RestaurantRow;
+import com.acs560.FoodManagementSystem.repositories.CustomerRepository;
+import com.acs560.FoodManagementSystem.repositories.OrderRepository;
+import com.acs560.FoodManagementSystem.repositories.RestaurantRepository;
+import com.acs560.FoodManagementSystem.services.OrderService;
+import org.springframework.cache.annotation.Cacheable;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.transaction.Transactional;
+
+/**
+ * Implementation of the {@link OrderService} interface for managing
+ * order-related operations.
+ * <p>
+ * This class provides methods for retrieving order information based on various
+ * criteria, such as order ID, cost, customer, and restaurant. It utilizes the
+ * {@link OrderRepository} to access order data from the underlying data source.
+ * </p>
+ * <p>
+ * Every write publishes an {@link OrdersChangedEvent} with snapshots of the affected orders before and
+ * after the write, which the {@link OrderCacheInvalidator} uses to evict exactly the dependent cache entries.
+ * Rating and cost range queries are served by the interval-aware {@link OrderRangeCaches}. The most and
+ * least expensive orders of a cost range come from the sorted {@link OrderCostIndex} when it is ready, and
+ * from a range scan of the cost index of the database otherwise.
+ * </p>
+ * <p>
+ * When the {@link OrderColumnStore} is enabled and loaded, the rating range, cost range and customer history
+ * finders scan its in-memory columns instead of querying the database. Combined filters are answered by
+ * the {@link OrderBitmapIndex} when it is ready, and by one query otherwise.
+ * </p>
+ * <p>
+ * Updates rely on the version columns of orders, customers and restaurants: an update that read a row
+ * changed concurrently by another session fails at commit and is retried on fresh rows, a bounded number
+ * of times with exponential backoff. Conflicts and retries are counted by the {@code orders.update.conflicts}
+ * and {@code orders.update.retries} meters.
+ * </p>
+ */
+@Service
+public class OrderServiceImpl implements OrderService {
+
+    /** The maximum number of order IDs in one bulk DELETE statement. */
+    static final int DELETE_CHUNK_SIZE = 1000;
+
+    /** The maximum number of order IDs in one fetch of orders by ID. */
+    static final int FILTER_FETCH_SIZE = 1000;
+
+    private final OrderRepository orderRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final CustomerRepository customerRepository;
+    private final OrderRangeCaches rangeCaches;
+    private final OrderColumnStore columnStore;
+    private final OrderBitmapIndex bitmapIndex;
+    private final OrderCostIndex costIndex;
+    private final OrderFilterQuery filterQuery;
+    private final RestaurantResolver restaurantResolver;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final UpdateRetryProperties updateRetry;
+    private final Counter updateConflicts;
+    private final Counter updateRetries;
+
+    /**
+     * Constructs a new instance of {@link OrderServiceImpl}.
+     * 
+     * @param orderRepository the repository used to access order data
+     * @param restaurantRepository the repository used to access restaurant data
+     * @param customerRepository the repository used to access customer data
+     * @param rangeCaches the caches of orders by customer rating and cost ranges
+     * @param columnStore the in-memory columns of the orders
+     * @param bitmapIndex the bitmap indexes answering combined filters
+     * @param costIndex the index of the orders sorted by cost
+     * @param filterQuery the query answering combined filters without the bitmap indexes
+     * @param restaurantResolver the resolver that finds or creates restaurants by name
+     * @param eventPublisher the publisher of {@link OrdersChangedEvent}s
+     * @param transactionManager the transaction manager running each update attempt
+     * @param updateRetry the limits of the retries of conflicting updates
+     * @param meterRegistry the registry of the conflict and retry counters
+     */
+    @Autowired
+    public OrderServiceImpl(OrderRepository orderRepository, RestaurantRepository restaurantRepository, 
+                            CustomerRepository customerRepository, OrderRangeCaches rangeCaches,
+                            OrderColumnStore columnStore, OrderBitmapIndex bitmapIndex, OrderCostIndex costIndex,
+                            OrderFilterQuery filterQuery, RestaurantResolver restaurantResolver, ApplicationEventPublisher eventPublisher,
+                            PlatformTransactionManager transactionManager, UpdateRetryProperties updateRetry,
+                            MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.customerRepository = customerRepository;
+        this.rangeCaches = rangeCaches;
+        this.columnStore = columnStore;
+        this.bitmapIndex = bitmapIndex;
+        this.costIndex = costIndex;
+        this.filterQuery = filterQuery;
+        this.restaurantResolver = restaurantResolver;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.updateRetry = updateRetry;
+        this.updateConflicts = Counter.builder("orders.update.conflicts")
+                .description("The number of order updates that lost an optimistic locking conflict")
+                .register(meterRegistry);
+        this.updateRetries = Counter.builder("orders.update.retries")
+                .description("The number of order updates retried after a conflict")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retrieves a list of all orders.
+     * The list is cached and evicted whenever an order is written.
+     *
+     * @return a list of all {@link OrderEntity} objects
+     */
+    @Override
+    @Cacheable(value = "orders", key = "'all'", sync = true)
+    public List<OrderEntity> getAll() {
+        List<OrderEntity> orderList = new ArrayList<>();
+        orderRepository.findAll().forEach(orderList::add);
+        return orderList;
+    }
+
+    /**
+     * Retrieves one page of orders using offset pagination.
+     *
+     * @param pageable the page number, page size and sort order
+     * @return the rows of the orders of the page
+     */
+    @Override
+    public List<OrderRow> getOrders(Pageable pageable) {
+        return orderRepository.findRows(pageable);
+    }
+
+    /**
+     * Retrieves the page of orders that follows a given order ID using keyset pagination.
+     *
+     * @param lastOrderId the last order ID of the previous page, or null for the first page
+     * @param limit the maximum number of orders to return
+     * @param descending whether the orders are sorted by descending order ID
+     * @return the rows of the orders of the page, sorted by order ID
+     */
+    @Override
+    public List<OrderRow> getOrdersAfter(Integer lastOrderId, int limit, boolean descending) {
+        Pageable page = PageRequest.of(0, limit,
+                Sort.by(descending ? Sort.Direction.DESC : Sort.Direction.ASC, "orderId"));
+        if (lastOrderId == null) {
+            return orderRepository.findRows(page);
+        }
+        return descending
+                ? orderRepository.findRowsByOrderIdLessThan(lastOrderId, page)
+                : orderRepository.findRowsByOrderIdGreaterThan(lastOrderId, page);
+    }
+
+    /**
+     * Counts all orders. The count is cached and evicted whenever an order is written.
+     *
+     * @return the number of orders
+     */
+    @Override
+    @Cacheable(value = "orders", key = "'count'", sync = true)
+    public long countOrders() {
+        return orderRepository.count();
+    }
+
+    /**
+     * Retrieves an order by its unique order ID.
+     *
+     * @param orderId the ID of the order to retrieve
+     * @return an {@link Optional} containing the {@link OrderEntity} if found, or
+     *         an empty Optional if not found
+     */
+    @Override
+    @Cacheable(value = "orders", key = "#orderId", sync = true)
+    public Optional<OrderEntity> getByOrderId(Integer orderId) {
+        return Optional.ofNullable(orderRepository.findByOrderId(orderId));
+    }
+
+    /**
+     * Retrieves a list of orders made on a specific day of the week.
+     *
+     * @param dayOfTheWeek the day of the week to filter orders
+     * @return a list of {@link OrderEntity} objects matching the specified day of
+     *         the week
+     */
+    @Override
+    @Cacheable(value = "ordersByDay", key = "#dayOfTheWeek", sync = true)
+    public List<OrderEntity> getByDayOfTheWeek(String dayOfTheWeek) {
+        return orderRepository.findByDayOfTheWeek(dayOfTheWeek);
+    }
+
+    /**
+     * Retrieves a list of orders placed by a specific customer.
+     *
+     * @param customerId the ID of the customer whose orders to retrieve
+     * @return a list of {@link OrderEntity} objects associated with the specified
+     *         customer
+     */
+    @Override
+    @Cacheable(value = "ordersByCustomer", key = "#customerId", sync = true)
+    public List<OrderEntity> getByCustomer_CustomerId(Integer customerId) {
+        return orderRepository.findByCustomer_CustomerId(customerId);
+    }
+
+    /**
+     * Retrieves a list of orders associated with a specific restaurant.
+     *
+     * @param restaurantId the ID of the restaurant whose orders to retrieve
+     * @return a list of {@link OrderEntity} objects associated with the specified
+     *         restaurant
+     */
+    @Override
+    @Cacheable(value = "ordersByRestaurant", key = "#restaurantId", sync = true)
+    public List<OrderEntity> getByRestaurant_RestaurantId(Integer restaurantId) {
+        return orderRepository.findByRestaurant_RestaurantId(restaurantId);
+    }
+
+    /**
+     * Adds a new order, including associated customer and restaurant data.
+     * <p>
+     * The restaurant is resolved by name through the {@link RestaurantResolver} before the transaction that
+     * saves the order begins, so a restaurant it creates in its own transaction is visible to it, and the
+     * resolver never needs a second connection while this method holds one. The customer set on the order
+     * is reused when it exists. The method must therefore not be called inside another transaction.
+     * </p>
+     *
+     * @param order the order to be added
+     * @param restaurantName the name of the restaurant for the order
+     * @param foodPreparationTime the food preparation time for the order
+     * @param deliveryTime the delivery time for the order
+     * @param customerRating the rating of the customer for the order
+     */
+    public void addOrder(Order order, String restaurantName, Integer foodPreparationTime, Integer deliveryTime,
+            float customerRating) {
+        RestaurantEntity restaurant = restaurantResolver.resolve(restaurantName, foodPreparationTime, deliveryTime);
+        transactionTemplate.executeWithoutResult(status -> saveOrder(order, restaurant, customerRating));
+    }
+
+    /**
+     * Saves a new order of a resolved restaurant, creating its customer if needed.
+     */
+    private void saveOrder(Order order, RestaurantEntity restaurant, float customerRating) {
+        CustomerEntity customer = null;
+        if (order.getCustomerId() != null && order.getCustomerId().getCustomerId() != null) {
+            customer = customerRepository.findByCustomerId(order.getCustomerId().getCustomerId());
+        }
+        if (customer == null) {
+            CustomerEntity customerEntity = new CustomerEntity();
+            customerEntity.setRating(customerRating);
+            customer = customerRepository.save(customerEntity);
+        }
+
+        OrderEntity orderEntity = new OrderEntity();
+        orderEntity.setCostOfOrder(order.getCostOfOrder());
+        orderEntity.setDayOfTheWeek(order.getDayOfTheWeek());
+        orderEntity.setCustomer(customer);
+        orderEntity.setRestaurant(restaurant);
+
+        OrderEntity savedOrder = orderRepository.save(orderEntity);
+        eventPublisher.publishEvent(OrdersChangedEvent.inserted(OrderSnapshot.of(savedOrder)));
+    }
+
+    /**
+     * Updates an existing order with new values, including associated customer
+     * and restaurant data.
+     * <p>
+     * A restaurant name moves the order to the restaurant of that name, which is resolved through the
+     * {@link RestaurantResolver} before each attempt and created if it does not exist; the restaurant the order
+     * had is left unchanged, as are its other orders. Given times are applied to the restaurant of the order.
+     * </p>
+     * <p>
+     * Each attempt runs in its own transaction. An attempt that loses an optimistic locking conflict is
+     * retried on the current rows after a backoff, up to {@code fms.order-update.retry.max-attempts} attempts;
+     * the conflict of the last attempt is rethrown. The method must therefore not be called inside another
+     * transaction.
+     * </p>
+     * 
+     * @param orderId the ID of the order to be updated
+     * @param updatedOrder the updated order data
+     * @param restaurantName the name of the restaurant for the order
+     * @param foodPreparationTime the food preparation time for the order
+     * @param deliveryTime the delivery time for the order
+     * @param customerRating the new rating of the customer for the order
+     * @throws OptimisticLockingFailureException if every attempt conflicted with a concurrent change
+     */
+    public void updateOrder(Integer orderId, Order updatedOrder, String restaurantName, Integer foodPreparationTime,
+                            Integer deliveryTime, Float customerRating) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Integer restaurantId = restaurantName == null ? null
+                        : restaurantResolver.resolve(restaurantName, foodPreparationTime, deliveryTime).getRestaurantId();
+                transactionTemplate.executeWithoutResult(status -> applyUpdate(orderId, updatedOrder, restaurantId,
+                        foodPreparationTime, deliveryTime, customerRating));
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                updateConflicts.increment();
+                if (attempt >= updateRetry.getMaxAttempts()) {
+                    throw e;
+                }
+                updateRetries.increment();
+                backOff(attempt, e);
+            }
+        }
+    }
+
+    /**
+     * Waits before retrying a conflicting update: the initial backoff doubles with every attempt up to the
+     * maximum backoff, and a random part of it spreads out sessions that conflicted with each other.
+     */
+    private void backOff(int attempt, OptimisticLockingFailureException conflict) {
+        long initial = updateRetry.getInitialBackoff().toMillis();
+        long backoff = Math.min(updateRetry.getMaxBackoff().toMillis(), initial << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+
+    /**
+     * Applies an update to the managed order, customer and restaurant; Hibernate's dirty checking writes
+     * only the changed columns at commit, and nothing at all if no value changed.
+     */
+    private void applyUpdate(Integer orderId, Order updatedOrder, Integer restaurantId, Integer foodPreparationTime,
+                             Integer deliveryTime, Float customerRating) {
+        OrderEntity orderEntity = orderRepository.findByOrderId(orderId);
+        if (orderEntity == null) {
+            throw new IllegalArgumentException("Order not found for ID: " + orderId);
+        }
+        RestaurantEntity restaurantEntity = orderEntity.getRestaurant();
+        if (restaurantId != null && (restaurantEntity == null
+                || !restaurantId.equals(restaurantEntity.getRestaurantId()))) {
+            restaurantEntity = restaurantRepository.findByRestaurantId(restaurantId);
+            if (restaurantEntity == null) {
+                // Deleted since it was resolved; the next attempt resolves the name again
+                throw new OptimisticLockingFailureException("Restaurant " + restaurantId + " was deleted");
+            }
+        }
+
+        // Other orders of the same customer or restaurant are cached with the columns about to change
+        Map<Integer, OrderEntity> affectedOrders = new LinkedHashMap<>();
+        affectedOrders.put(orderEntity.getOrderId(), orderEntity);
+        CustomerEntity currentCustomer = orderEntity.getCustomer();
+        if (currentCustomer != null && customerRating != null && currentCustomer.getRating() != customerRating) {
+            orderRepository.findByCustomer_CustomerId(currentCustomer.getCustomerId())
+                    .forEach(order -> affectedOrders.putIfAbsent(order.getOrderId(), order));
+        }
+        if (restaurantEntity != null
+                && (isChanged(foodPreparationTime, restaurantEntity.getFoodPreparationTime())
+                        || isChanged(deliveryTime, restaurantEntity.getDeliveryTime()))) {
+            orderRepository.findByRestaurant_RestaurantId(restaurantEntity.getRestaurantId())
+                    .forEach(order -> affectedOrders.putIfAbsent(order.getOrderId(), order));
+        }
+        Map<Integer, OrderSnapshot> before = new LinkedHashMap<>();
+        affectedOrders.forEach((id, order) -> before.put(id, OrderSnapshot.of(order)));
+
+        if (updatedOrder.getCostOfOrder() > 0) {
+            orderEntity.setCostOfOrder(updatedOrder.getCostOfOrder());
+        }
+
+        if (updatedOrder.getDayOfTheWeek() != null) {
+            orderEntity.setDayOfTheWeek(updatedOrder.getDayOfTheWeek());
+        }
+
+        if (restaurantEntity != null) {
+            orderEntity.setRestaurant(restaurantEntity);
+            if (isChanged(foodPreparationTime, restaurantEntity.getFoodPreparationTime())) {
+                restaurantEntity.setFoodPreparationTime(foodPreparationTime);
+            }
+            if (isChanged(deliveryTime, restaurantEntity.getDeliveryTime())) {
+                restaurantEntity.setDeliveryTime(deliveryTime);
+            }
+        }
+
+        CustomerEntity customerEntity = orderEntity.getCustomer();
+        if (customerEntity != null && customerRating != null) {
+            customerEntity.setRating(customerRating);
+        }
+
+        List<OrdersChangedEvent.Change> changes = new ArrayList<>();
+        affectedOrders.forEach((id, order) -> changes.add(
+                new OrdersChangedEvent.Change(before.get(id), OrderSnapshot.of(order))));
+        eventPublisher.publishEvent(new OrdersChangedEvent(changes));
+    }
+
+    /**
+     * Returns whether an optional update value differs from the current value.
+     */
+    private static boolean isChanged(Object requested, Object current) {
+        return requested != null && !Objects.equals(requested, current);
+    }
+
+    /**
+     * Deletes an order by its ID, along with its customer and restaurant if they have no other orders.
+     *
+     * @param orderId the ID of the order to be deleted
+     * @return the number of deleted orders, customers and restaurants
+     */
+    @Override
+    @Transactional
+    public DeleteResult delete(Integer orderId) {
+        return deleteOrders(List.of(orderId));
+    }
+
+    /**
+     * Deletes several orders by their IDs, along with the customers and restaurants left without orders.
+     * <p>
+     * The IDs are processed in chunks of {@value #DELETE_CHUNK_SIZE}; each chunk costs one projection query
+     * for the snapshots that drive the cache invalidation and one DELETE statement.
+     * </p>
+     *
+     * @param orderIds the IDs of the orders to be deleted
+     * @return the number of deleted orders, customers and restaurants
+     */
+    @Override
+    @Transactional
+    public DeleteResult deleteOrders(Collection<Integer> orderIds) {
+        List<Integer> ids = new ArrayList<>(new LinkedHashSet<>(orderIds));
+        List<OrderSnapshot> deleted = new ArrayList<>();
+        int ordersDeleted = 0;
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+            List<Integer> chunk = ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size()));
+            deleted.addAll(orderRepository.findSnapshotsByOrderIdIn(chunk));
+            ordersDeleted += orderRepository.deleteByOrderIdIn(chunk);
+        }
+        return deleteOrphans(deleted, ordersDeleted, Set.of());
+    }
+
+    /**
+     * Deletes a restaurant with all of its orders, along with the customers left without orders.
+     *
+     * @param restaurantId the ID of the restaurant to be deleted
+     * @return the number of deleted orders, customers and restaurants
+     */
+    @Override
+    @Transactional
+    public DeleteResult deleteRestaurant(Integer restaurantId) {
+        List<OrderSnapshot> deleted = orderRepository.findSnapshotsByRestaurantId(restaurantId);
+        int ordersDeleted = orderRepository.deleteByRestaurantId(restaurantId);
+        return deleteOrphans(deleted, ordersDeleted, Set.of(restaurantId));
+    }
+
+    /**
+     * Deletes the customers and restaurants of the deleted orders that have no orders left, and publishes
+     * the deletes for cache invalidation, including restaurants deleted without any of the deleted orders.
+     *
+     * @param deleted the snapshots of the deleted orders
+     * @param ordersDeleted the number of deleted orders
+     * @param restaurantIds restaurants to delete even if none of the deleted orders referenced them
+     * @return the number of deleted orders, customers and restaurants
+     */
+    private DeleteResult deleteOrphans(List<OrderSnapshot> deleted, int ordersDeleted, Set<Integer> restaurantIds) {
+        Set<Integer> customerIds = new HashSet<>();
+        Set<Integer> candidateRestaurantIds = new HashSet<>(restaurantIds);
+        for (OrderSnapshot order : deleted) {
+            customerIds.add(order.customerId());
+            candidateRestaurantIds.add(order.restaurantId());
+        }
+        // Restaurants deleted explicitly without any of the deleted orders are published on their own
+        Set<Integer> unreferencedIds = new HashSet<>(restaurantIds);
+        deleted.forEach(order -> unreferencedIds.remove(order.restaurantId()));
+        List<RestaurantRow> unreferenced = unreferencedIds.isEmpty()
+                ? List.of() : restaurantRepository.findRowsByRestaurantIdIn(unreferencedIds);
+
+        int customersDeleted = customerIds.isEmpty() ? 0 : customerRepository.deleteOrphansByCustomerIdIn(customerIds);
+        int restaurantsDeleted = candidateRestaurantIds.isEmpty()
+                ? 0 : restaurantRepository.deleteOrphansByRestaurantIdIn(candidateRestaurantIds);
+
+        if (!deleted.isEmpty() || restaurantsDeleted > 0) {
+            List<OrdersChangedEvent.Change> changes = new ArrayList<>(deleted.size());
+            deleted.forEach(order -> changes.add(new OrdersChangedEvent.Change(order, null)));
+            eventPublisher.publishEvent(new OrdersChangedEvent(changes, unreferenced));
+        }
+        return new DeleteResult(ordersDeleted, customersDeleted, restaurantsDeleted);
+    }
+
+    /**
+     * Retrieves a list of orders placed by customers within a specified rating
+     * range. Any range inside an already cached range is answered from the cache,
+     * unless the column store answers it.
+     *
+     * @param minRating the minimum customer rating
+     * @param maxRating the maximum customer rating
+     * @return a list of {@link OrderRow} objects within the specified rating range
+     */
+    @Override
+    public List<OrderRow> getByCustomerRatingRange(float minRating, float maxRating) {
+        if (columnStore.isReady()) {
+            return columnStore.findRowsByCustomerRatingBetween(minRating, maxRating);
+        }
+        return rangeCaches.byCustomerRating().get(minRating, maxRating,
+                (min, max) -> orderRepository.findRowsByCustomerRatingBetween((float) min, (float) max));
+    }
+
+    /**
+     * Retrieves a list of orders whose cost falls within a specified range.
+     * Any range inside an already cached range is answered from the cache,
+     * unless the column store answers it.
+     *
+     * @param minCost the minimum cost
+     * @param maxCost the maximum cost
+     * @return a list of {@link OrderRow} objects within the specified cost range
+     */
+    @Override
+    public List<OrderRow> getByCostRange(float minCost, float maxCost) {
+        if (columnStore.isReady()) {
+            return columnStore.findRowsByCostOfOrderBetween(minCost, maxCost);
+        }
+        return rangeCaches.byCost().get(minCost, maxCost,
+                (min, max) -> orderRepository.findRowsByCostOfOrderBetween((float) min, (float) max));
+    }
+
+    /**
+     * Retrieves the orders whose cost falls within a specified range, optionally sorted by cost and limited.
+     * <p>
+     * A limited query takes the IDs of the first orders from the {@link OrderCostIndex} and fetches only their
+     * rows, or, while the index is not ready, reads the first rows of the range from the cost index of the
+     * database; without a direction it returns the cheapest orders. Unlimited queries sort the whole range,
+     * which is answered like {@link #getByCostRange(float, float)}.
+     * </p>
+     *
+     * @param minCost the minimum cost
+     * @param maxCost the maximum cost
+     * @param direction the direction of the sort by cost, or null for no particular order
+     * @param limit the maximum number of orders to return, or zero for all of them
+     * @return a list of {@link OrderRow} objects within the specified cost range
+     */
+    @Override
+    public List<OrderRow> getByCostRange(float minCost, float maxCost, Sort.Direction direction, int limit) {
+        if (limit > 0) {
+            // Any order will do without a direction, and the index reads the cheapest orders without a sort
+            Sort.Direction order = direction == null ? Sort.Direction.ASC : direction;
+            if (costIndex.isReady()) {
+                return findRowsInOrder(costIndex.findIdsByCostBetween(minCost, maxCost, order.isDescending(),
+                        limit));
+            }
+            return orderRepository.findRowsByCostOfOrderBetween(minCost, maxCost,
+                    PageRequest.of(0, limit, Sort.by(order, "costOfOrder", "orderId")));
+        }
+
+        List<OrderRow> orders = getByCostRange(minCost, maxCost);
+        if (direction != null) {
+            Comparator<OrderRow> byCost = Comparator.comparingDouble(OrderRow::costOfOrder)
+                    .thenComparingInt(OrderRow::orderId);
+            orders = new ArrayList<>(orders);
+            orders.sort(direction.isDescending() ? byCost.reversed() : byCost);
+        }
+        return orders;
+    }
+
+    /**
+     * Fetches the rows of the orders with the given IDs, {@value #FILTER_FETCH_SIZE} at most per query, in
+     * the order of the IDs. Orders deleted since their IDs were read are left out.
+     */
+    private List<OrderRow> findRowsInOrder(int[] orderIds) {
+        Map<Integer, OrderRow> rows = new HashMap<>();
+        List<Integer> chunk = new ArrayList<>(Math.min(orderIds.length, FILTER_FETCH_SIZE));
+        for (int from = 0; from < orderIds.length; from += FILTER_FETCH_SIZE) {
+            chunk.clear();
+            for (int i = from; i < Math.min(from + FILTER_FETCH_SIZE, orderIds.length); i++) {
+                chunk.add(orderIds[i]);
+            }
+            orderRepository.findRowsByOrderIdIn(chunk).forEach(row -> rows.put(row.orderId(), row));
+        }
+        List<OrderRow> orders = new ArrayList<>(rows.size());
+        for (int orderId : orderIds) {
+            OrderRow row = rows.get(orderId);
+            if (row != null) {
+                orders.add(row);
+            }
+        }
+        return orders;
+    }
+
+    /**
+     * Retrieves a list of orders for a given customer by their customer ID.
+     * 
+     * This method queries the order repository to fetch all orders associated with 
+     * the specified customer ID. The customer ID is used to find the related orders 
+     * from the order records.
+     * 
+     * @param customerId The ID of the customer whose order history is to be retrieved.
+     * @return A list of {@link OrderRow} objects representing the customer's order history.
+     *         If no orders are found, an empty list is returned.
+     */
+    public List<OrderRow> getOrderHistoryByCustomerId(Integer customerId){
+        if (columnStore.isReady() && customerId != null) {
+            return columnStore.findRowsByCustomerId(customerId);
+        }
+        return orderRepository.findRowsByCustomerId(customerId);
+    }
+
+    /**
+     * Retrieves the orders matching a combination of filters.
+     * <p>
+     * With the bitmap indexes, the candidate order IDs come from bitmap intersections and unions, and their
+     * rows are fetched by ID, {@value #FILTER_FETCH_SIZE} at most per query, which is usually a single one.
+     * Rating and cost ranges read whole buckets, so the fetched rows are checked against the exact filter.
+     * Without the indexes, the filter is translated into one query.
+     * </p>
+     *
+     * @param filter the filters, combined with AND and OR
+     * @param limit the maximum number of orders returned
+     * @return the matching orders in ascending order ID, at most {@code limit} of them
+     */
+    @Override
+    public List<OrderRow> findOrders(OrderFilter filter, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        if (!bitmapIndex.isReady()) {
+            return filterQuery.find(filter, limit);
+        }
+        RoaringBitmap candidates = bitmapIndex.candidates(filter);
+        IntIterator ids = candidates.getIntIterator();
+        int fetchSize = Math.min(limit, FILTER_FETCH_SIZE);
+        List<OrderRow> orders = new ArrayList<>();
+        List<Integer> chunk = new ArrayList<>(fetchSize);
+        while (orders.size() < limit && ids.hasNext()) {
+            chunk.clear();
+            while (chunk.size() < fetchSize && ids.hasNext()) {
+                chunk.add(ids.next());
+            }
+            for (OrderRow order : orderRepository.findRowsByOrderIdIn(chunk)) {
+                if (orders.size() < limit && filter.test(order)) {
+                    orders.add(order);
+                }
+            }
+        }
+        return orders;
+    }
+}
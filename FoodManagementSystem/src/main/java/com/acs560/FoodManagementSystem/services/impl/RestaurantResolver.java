@@ -0,0 +1,139 @@
+package com.acs560.FoodManagementSystem.services.impl;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.acs560.FoodManagementSystem.entities.RestaurantEntity;
+import com.acs560.FoodManagementSystem.repositories.RestaurantRepository;
+
+/**
+ * Finds the restaurant with a given name, creating it when it does not exist yet.
+ * <p>
+ * Names are compared by their {@link RestaurantEntity#normalize(String) normalized} form. Resolved IDs are
+ * kept in the "restaurantIdsByName" cache, so a known restaurant costs one primary key lookup; unknown names
+ * are looked up through the unique index on {@code normalized_name}.
+ * </p>
+ * <p>
+ * A missing restaurant is created in its own transaction while holding one of a fixed set of locks chosen
+ * by the name, so threads of this instance creating the same restaurant wait for each other and then find
+ * it. Another instance may still win the race; the unique index then rejects the second insert and the
+ * restaurant it created is read instead. Because the creation commits separately on a connection of its own,
+ * callers must resolve the restaurant before their own transaction begins: the new row may not be visible to a
+ * transaction that already read, and a caller holding a connection while the resolver waits for another one
+ * can exhaust the pool.
+ * </p>
+ */
+@Component
+public class RestaurantResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantResolver.class);
+
+    /** The name of the cache of restaurant IDs by normalized name. */
+    public static final String CACHE_NAME = "restaurantIdsByName";
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final RestaurantRepository restaurantRepository;
+    private final TransactionTemplate newTransaction;
+    private final CacheManager cacheManager;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    /**
+     * Constructs a new instance of {@link RestaurantResolver}.
+     *
+     * @param restaurantRepository the repository used to find and create restaurants
+     * @param transactionManager the transaction manager used to create restaurants in their own transaction
+     * @param cacheManager the cache manager holding the "restaurantIdsByName" cache
+     */
+    @Autowired
+    public RestaurantResolver(RestaurantRepository restaurantRepository, PlatformTransactionManager transactionManager,
+                              CacheManager cacheManager) {
+        this.restaurantRepository = restaurantRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.cacheManager = cacheManager;
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Returns the restaurant with the given name, creating it with the given times if it does not exist.
+     * The times of an existing restaurant are left unchanged.
+     *
+     * @param restaurantName the name of the restaurant
+     * @param foodPreparationTime the food preparation time of a new restaurant
+     * @param deliveryTime the delivery time of a new restaurant
+     * @return the existing or created restaurant
+     * @throws IllegalArgumentException if the name is blank
+     */
+    public RestaurantEntity resolve(String restaurantName, Integer foodPreparationTime, Integer deliveryTime) {
+        if (restaurantName == null || restaurantName.isBlank()) {
+            throw new IllegalArgumentException("Restaurant name is required");
+        }
+        String normalizedName = RestaurantEntity.normalize(restaurantName);
+        Cache cache = cache();
+
+        Integer cachedId = cache.get(normalizedName, Integer.class);
+        if (cachedId != null) {
+            RestaurantEntity restaurant = restaurantRepository.findByRestaurantId(cachedId);
+            if (restaurant != null && normalizedName.equals(restaurant.getNormalizedName())) {
+                return restaurant;
+            }
+            cache.evict(normalizedName);
+        }
+
+        ReentrantLock lock = locks[Math.floorMod(normalizedName.hashCode(), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            RestaurantEntity restaurant = newTransaction.execute(status ->
+                    findOrCreate(restaurantName.trim(), normalizedName, foodPreparationTime, deliveryTime));
+            cache.put(normalizedName, restaurant.getRestaurantId());
+            return restaurant;
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created the restaurant between the lookup and the insert
+            logger.debug("Restaurant '{}' was created concurrently", normalizedName, e);
+            RestaurantEntity restaurant = newTransaction.execute(status ->
+                    restaurantRepository.findByNormalizedName(normalizedName));
+            if (restaurant == null) {
+                throw e;
+            }
+            cache.put(normalizedName, restaurant.getRestaurantId());
+            return restaurant;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private RestaurantEntity findOrCreate(String restaurantName, String normalizedName, Integer foodPreparationTime,
+                                          Integer deliveryTime) {
+        RestaurantEntity restaurant = restaurantRepository.findByNormalizedName(normalizedName);
+        if (restaurant != null) {
+            return restaurant;
+        }
+        restaurant = new RestaurantEntity();
+        restaurant.setRestaurantName(restaurantName);
+        restaurant.setFoodPreparationTime(foodPreparationTime);
+        restaurant.setDeliveryTime(deliveryTime);
+        logger.debug("Creating restaurant '{}'", restaurantName);
+        return restaurantRepository.save(restaurant);
+    }
+
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + CACHE_NAME);
+        }
+        return cache;
+    }
+}
@@ -1,114 +1,151 @@
-package com.acs560.FoodManagementSystem.services.impl;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
-
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.stereotype.Service;
-
-import com.acs560.FoodManagementSystem.entities.RestaurantEntity;
-import com.acs560.FoodManagementSystem.repositories.RestaurantRepository;
-import com.acs560.FoodManagementSystem.services.RestaurantService;
-
-/**
- * Implementation of the {@link RestaurantService} interface for managing restaurant-related operations.
- * <p>
- * This class provides methods for retrieving restaurant information based on various criteria,
- * such as restaurant ID, name, food preparation time, and delivery time. It utilizes the
- * {@link RestaurantRepository} to access restaurant data from the underlying data source.
- * </p>
- */
-@Service
-public class RestaurantServiceImpl implements RestaurantService {
-    
-    private final RestaurantRepository restaurantRepository;
-
-    /**
-     * Constructs a new instance of {@link RestaurantServiceImpl}.
-     *
-     * @param restaurantRepository the repository used to access restaurant data
-     */
-    @Autowired
-    public RestaurantServiceImpl(RestaurantRepository restaurantRepository) {
-        this.restaurantRepository = restaurantRepository;
-    }
-
-    /**
-     * Retrieves a list of all restaurants.
-     * <p>
-     * This method queries the repository to fetch all restaurant records from the database.
-     * </p>
-     *
-     * @return a list of all {@link RestaurantEntity} objects
-     */
-    @Override
-    @Cacheable(value = "restaurants", key = "'all'")
-    public List<RestaurantEntity> getAll() {
-        List<RestaurantEntity> restaurantList = new ArrayList<>();
-        restaurantRepository.findAll().forEach(restaurantList::add);
-        return restaurantList;
-    }
-
-    /**
-     * Retrieves a restaurant by its unique restaurant ID.
-     * <p>
-     * This method queries the repository to fetch the restaurant record with the specified ID.
-     * </p>
-     *
-     * @param restaurantId the ID of the restaurant to retrieve
-     * @return an {@link Optional} containing the {@link RestaurantEntity} if found,
-     *         or an empty Optional if not found
-     */
-    @Override
-    @Cacheable(value = "restaurants", key = "#restaurantId")
-    public Optional<RestaurantEntity> getByRestaurantId(Integer restaurantId) {
-        return Optional.ofNullable(restaurantRepository.findByRestaurantId(restaurantId));
-    }
-
-    /**
-     * Retrieves a list of restaurants with a specific name.
-     * <p>
-     * This method queries the repository to find restaurants whose name contains the specified string, ignoring case.
-     * </p>
-     *
-     * @param restaurantName the name of the restaurant to filter
-     * @return a list of {@link RestaurantEntity} objects matching the specified name
-     */
-    @Override
-    @Cacheable(value = "restaurants", key = "#restaurantName")
-    public List<RestaurantEntity> getByRestaurantName(String restaurantName) {
-        return this.restaurantRepository.findByRestaurantNameContainingIgnoreCase(restaurantName);
-    }
-
-    /**
-     * Retrieves a list of restaurants with a specific food preparation time.
-     * <p>
-     * This method queries the repository to find restaurants that match the specified food preparation time.
-     * </p>
-     *
-     * @param foodPreparationTime the food preparation time to filter restaurants
-     * @return a list of {@link RestaurantEntity} objects matching the specified food preparation time
-     */
-    @Override
-    @Cacheable(value = "restaurants", key = "#foodPreparationTime")
-    public List<RestaurantEntity> getByFoodPreparationTime(Integer foodPreparationTime) {
-        return this.restaurantRepository.findByFoodPreparationTime(foodPreparationTime);
-    }
-
-    /**
-     * Retrieves a list of restaurants with a specific delivery time.
-     * <p>
-     * This method queries the repository to find restaurants that match the specified delivery time.
-     * </p>
-     *
-     * @param deliveryTime the delivery time to filter restaurants
-     * @return a list of {@link RestaurantEntity} objects matching the specified delivery time
-     */
-    @Override
-    @Cacheable(value = "restaurants", key = "#deliveryTime")
-    public List<RestaurantEntity> getByDeliveryTime(Integer deliveryTime) {
-        return this.restaurantRepository.findByDeliveryTime(deliveryTime);
-    }
-}
+package com.acs560.FoodManagementSystem.services.impl;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import com.acs560.FoodManagementSystem.entities.RestaurantEntity;
+import com.acs560.FoodManagementSystem.indexes.RestaurantNameIndex;
+import com.acs560.FoodManagementSystem.models.RestaurantRow;
+import com.acs560.FoodManagementSystem.repositories.RestaurantRepository;
+import com.acs560.FoodManagementSystem.services.RestaurantService;
+
+/**
+ * Implementation of the {@link RestaurantService} interface for managing restaurant-related operations.
+ * <p>
+ * This class provides methods for retrieving restaurant information based on various criteria,
+ * such as restaurant ID, name, food preparation time, and delivery time. It utilizes the
+ * {@link RestaurantRepository} to access restaurant data from the underlying data source.
+ * </p>
+ * <p>
+ * All lookups share the "restaurants" cache, so every key except {@code 'all'} is prefixed with the
+ * attribute it filters on. Otherwise a restaurant ID and a preparation time of the same value would
+ * collide on the same entry.
+ * </p>
+ * <p>
+ * Name searches and suggestions are answered by the in-memory {@link RestaurantNameIndex} and are not
+ * cached. While the index is not ready, they fall back to a {@code LIKE} query.
+ * </p>
+ */
+@Service
+public class RestaurantServiceImpl implements RestaurantService {
+    
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantNameIndex nameIndex;
+
+    /**
+     * Constructs a new instance of {@link RestaurantServiceImpl}.
+     *
+     * @param restaurantRepository the repository used to access restaurant data
+     * @param nameIndex the trigram index answering name searches
+     */
+    @Autowired
+    public RestaurantServiceImpl(RestaurantRepository restaurantRepository, RestaurantNameIndex nameIndex) {
+        this.restaurantRepository = restaurantRepository;
+        this.nameIndex = nameIndex;
+    }
+
+    /**
+     * Retrieves a list of all restaurants.
+     * <p>
+     * This method selects the restaurant rows with a projection query, without loading entities.
+     * </p>
+     *
+     * @return a list of all {@link RestaurantRow} objects
+     */
+    @Override
+    @Cacheable(value = "restaurants", key = "'all'", sync = true)
+    public List<RestaurantRow> getAll() {
+        return restaurantRepository.findAllRows();
+    }
+
+    /**
+     * Retrieves a restaurant by its unique restaurant ID.
+     * <p>
+     * This method queries the repository to fetch the restaurant record with the specified ID.
+     * </p>
+     *
+     * @param restaurantId the ID of the restaurant to retrieve
+     * @return an {@link Optional} containing the {@link RestaurantEntity} if found,
+     *         or an empty Optional if not found
+     */
+    @Override
+    @Cacheable(value = "restaurants", key = "'id:' + #restaurantId", sync = true)
+    public Optional<RestaurantEntity> getByRestaurantId(Integer restaurantId) {
+        return Optional.ofNullable(restaurantRepository.findByRestaurantId(restaurantId));
+    }
+
+    /**
+     * Retrieves a list of restaurants with a specific name.
+     * <p>
+     * This method finds the restaurants whose name contains the specified string, ignoring case, in the
+     * trigram index, or with a query while the index is not ready; the query results are not ranked.
+     * </p>
+     *
+     * @param restaurantName the name of the restaurant to filter
+     * @return a list of {@link RestaurantRow} objects matching the specified name
+     */
+    @Override
+    public List<RestaurantRow> getByRestaurantName(String restaurantName) {
+        if (nameIndex.isReady()) {
+            return nameIndex.search(restaurantName, Integer.MAX_VALUE);
+        }
+        return this.restaurantRepository.findRowsByRestaurantNameContainingIgnoreCase(restaurantName.trim());
+    }
+
+    /**
+     * Suggests restaurant names for a partially typed name.
+     * <p>
+     * This method reads the suggestions from the trigram index, or, while the index is not ready, takes the
+     * first names containing the typed text from a query, without similar names.
+     * </p>
+     *
+     * @param typedName the typed part of the name
+     * @param limit the maximum number of names to suggest
+     * @return the suggested restaurant names, best match first
+     */
+    @Override
+    public List<String> suggestRestaurantNames(String typedName, int limit) {
+        List<RestaurantRow> restaurants = nameIndex.isReady()
+                ? nameIndex.suggest(typedName, limit)
+                : restaurantRepository.findRowsByRestaurantNameContainingIgnoreCase(typedName.trim());
+        return restaurants.stream()
+                .map(RestaurantRow::restaurantName)
+                .distinct()
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Retrieves a list of restaurants with a specific food preparation time.
+     * <p>
+     * This method queries the repository to find restaurants that match the specified food preparation time.
+     * </p>
+     *
+     * @param foodPreparationTime the food preparation time to filter restaurants
+     * @return a list of {@link RestaurantEntity} objects matching the specified food preparation time
+     */
+    @Override
+    @Cacheable(value = "restaurants", key = "'prep:' + #foodPreparationTime", sync = true)
+    public List<RestaurantEntity> getByFoodPreparationTime(Integer foodPreparationTime) {
+        return this.restaurantRepository.findByFoodPreparationTime(foodPreparationTime);
+    }
+
+    /**
+     * Retrieves a list of restaurants with a specific delivery time.
+     * <p>
+     * This method queries the repository to find restaurants that match the specified delivery time.
+     * </p>
+     *
+     * @param deliveryTime the delivery time to filter restaurants
+     * @return a list of {@link RestaurantEntity} objects matching the specified delivery time
+     */
+    @Override
+    @Cacheable(value = "restaurants", key = "'delivery:' + #deliveryTime", sync = true)
+    public List<RestaurantEntity> getByDeliveryTime(Integer deliveryTime) {
+        return this.restaurantRepository.findByDeliveryTime(deliveryTime);
+    }
+}
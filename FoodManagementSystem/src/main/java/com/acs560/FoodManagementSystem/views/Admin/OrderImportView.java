@@ -0,0 +1,144 @@
+package com.acs560.FoodManagementSystem.views.Admin;
+
+import java.io.InputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.acs560.FoodManagementSystem.models.OrderImportReport;
+import com.acs560.FoodManagementSystem.services.OrderImportService;
+import com.acs560.FoodManagementSystem.views.MainLayout;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.html.Paragraph;
+import com.vaadin.flow.component.notification.Notification;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.progressbar.ProgressBar;
+import com.vaadin.flow.component.textfield.TextArea;
+import com.vaadin.flow.component.upload.Upload;
+import com.vaadin.flow.component.upload.receivers.FileBuffer;
+import com.vaadin.flow.router.PageTitle;
+import com.vaadin.flow.router.Route;
+
+import jakarta.annotation.security.RolesAllowed;
+
+/**
+ * A view for importing orders in bulk from a CSV file, restricted to administrators.
+ * <p>
+ * The uploaded file is buffered to a temporary file and imported on a background thread through the
+ * {@link OrderImportService}. While the import runs, the view polls the server and shows the rows read,
+ * imported and rejected, the throughput and the first rejected rows.
+ * </p>
+ */
+@RolesAllowed("ADMIN")
+@Route(value = "admin/import", layout = MainLayout.class)
+@PageTitle("Import Orders | Food Management System")
+public class OrderImportView extends VerticalLayout {
+
+    private static final long serialVersionUID = 4361257800219655430L;
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderImportView.class);
+
+    private static final int POLL_INTERVAL_MILLIS = 500;
+
+    private final OrderImportService orderImportService;
+    private final FileBuffer buffer = new FileBuffer();
+    private final Upload upload = new Upload(buffer);
+    private final ProgressBar progressBar = new ProgressBar();
+    private final Paragraph status = new Paragraph("Upload a CSV file with a header row to import its orders.");
+    private final TextArea rejections = new TextArea("Rejected rows");
+
+    /**
+     * Constructs an instance of {@link OrderImportView}.
+     *
+     * @param orderImportService the service used to import the uploaded file
+     */
+    @Autowired
+    public OrderImportView(OrderImportService orderImportService) {
+        this.orderImportService = orderImportService;
+
+        upload.setAcceptedFileTypes("text/csv", ".csv");
+        upload.setMaxFiles(1);
+        upload.addSucceededListener(event -> startImport(event.getFileName()));
+
+        progressBar.setIndeterminate(true);
+        progressBar.setVisible(false);
+
+        rejections.setReadOnly(true);
+        rejections.setWidthFull();
+        rejections.setHeight("200px");
+        rejections.setVisible(false);
+
+        add(upload, progressBar, status, rejections);
+    }
+
+    /**
+     * Starts the import of the uploaded file on a background thread.
+     *
+     * @param fileName the name of the uploaded file
+     */
+    private void startImport(String fileName) {
+        UI ui = UI.getCurrent();
+        upload.setVisible(false);
+        progressBar.setVisible(true);
+        rejections.setVisible(false);
+        status.setText("Importing " + fileName + "...");
+        ui.setPollInterval(POLL_INTERVAL_MILLIS);
+
+        Thread worker = new Thread(() -> runImport(ui, fileName), "order-import");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Runs the import and pushes its progress to the UI. Runs on the background thread.
+     */
+    private void runImport(UI ui, String fileName) {
+        try (InputStream csv = buffer.getInputStream()) {
+            orderImportService.importOrders(csv, report -> ui.access(() -> showReport(report)));
+        } catch (Exception e) {
+            logger.warn("Import of {} failed", fileName, e);
+            ui.access(() -> {
+                status.setText("Import of " + fileName + " failed: " + e.getMessage());
+                Notification.show("Import failed", 5000, Notification.Position.MIDDLE);
+                finish(ui);
+            });
+        } finally {
+            buffer.getFileData().getFile().delete();
+        }
+    }
+
+    /**
+     * Shows a progress or final report of the import.
+     *
+     * @param report the report to show
+     */
+    private void showReport(OrderImportReport report) {
+        status.setText(String.format("%s: %,d rows read, %,d imported, %,d rejected, %,d customers and %,d restaurants created, %,.0f rows/s",
+                report.finished() ? "Finished" : "Importing",
+                report.rowsRead(), report.rowsImported(), report.rowsRejected(),
+                report.customersCreated(), report.restaurantsCreated(), report.rowsPerSecond()));
+        if (!report.rejections().isEmpty()) {
+            String shown = String.join("\n", report.rejections());
+            if (report.rowsRejected() > report.rejections().size()) {
+                shown += "\n... and " + (report.rowsRejected() - report.rejections().size()) + " more";
+            }
+            rejections.setValue(shown);
+            rejections.setVisible(true);
+        }
+        if (report.finished()) {
+            Notification.show("Imported " + report.rowsImported() + " orders", 3000, Notification.Position.MIDDLE);
+            finish(UI.getCurrent());
+        }
+    }
+
+    /**
+     * Stops polling and allows another upload.
+     */
+    private void finish(UI ui) {
+        ui.setPollInterval(-1);
+        progressBar.setVisible(false);
+        upload.clearFileList();
+        upload.setVisible(true);
+    }
+}
@@ -0,0 +1,96 @@
+package com.acs560.FoodManagementSystem.views;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+import com.acs560.FoodManagementSystem.models.Leaderboard;
+import com.acs560.FoodManagementSystem.models.LeaderboardEntry;
+import com.acs560.FoodManagementSystem.services.LeaderboardService;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.html.H2;
+import com.vaadin.flow.component.html.H3;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.router.PageTitle;
+import com.vaadin.flow.router.Route;
+
+import jakarta.annotation.security.PermitAll;
+
+/**
+ * The {@link LeaderboardView} class displays the restaurants with the most orders and the highest revenue,
+ * and the customers with the most orders.
+ * <p>
+ * The leaderboards are read from the {@link LeaderboardService}, which recomputes them in the background,
+ * so opening or refreshing the view never queries the orders.
+ * </p>
+ */
+@PermitAll
+@Route(value = "leaderboard", layout = MainLayout.class)
+@PageTitle("Leaderboard | Food Management System")
+public class LeaderboardView extends VerticalLayout {
+
+    private static final DateTimeFormatter REFRESHED_AT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+
+    private final LeaderboardService leaderboardService;
+    private final Grid<LeaderboardEntry> restaurantsByOrderCount = createGrid(true);
+    private final Grid<LeaderboardEntry> restaurantsByRevenue = createGrid(true);
+    private final Grid<LeaderboardEntry> customersByOrderCount = createGrid(false);
+    private final Span refreshedAt = new Span();
+
+    /**
+     * Constructs the {@link LeaderboardView} with the provided {@link LeaderboardService}.
+     * Initializes a grid per leaderboard and a button showing the latest leaderboards.
+     *
+     * @param leaderboardService the service holding the leaderboards
+     */
+    public LeaderboardView(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+
+        Button refreshButton = new Button("Refresh", event -> updateGrids());
+        HorizontalLayout toolbar = new HorizontalLayout(refreshButton, refreshedAt);
+        toolbar.setDefaultVerticalComponentAlignment(Alignment.CENTER);
+
+        add(new H2("Leaderboard"), toolbar,
+                new H3("Restaurants by orders"), restaurantsByOrderCount,
+                new H3("Restaurants by revenue"), restaurantsByRevenue,
+                new H3("Customers by orders"), customersByOrderCount);
+        setSpacing(true);
+        setPadding(true);
+        updateGrids();
+    }
+
+    /**
+     * Creates a grid of leaderboard entries, with a name column for restaurants.
+     *
+     * @param restaurants whether the grid lists restaurants rather than customers
+     * @return the grid
+     */
+    private static Grid<LeaderboardEntry> createGrid(boolean restaurants) {
+        Grid<LeaderboardEntry> grid = new Grid<>();
+        grid.addColumn(LeaderboardEntry::id).setHeader(restaurants ? "Restaurant ID" : "Customer ID");
+        if (restaurants) {
+            grid.addColumn(LeaderboardEntry::name).setHeader("Restaurant Name");
+        }
+        grid.addColumn(LeaderboardEntry::orderCount).setHeader("Orders");
+        grid.addColumn(entry -> String.format("%.2f", entry.revenue())).setHeader("Revenue");
+        grid.setAllRowsVisible(true);
+        grid.setWidthFull();
+        return grid;
+    }
+
+    /**
+     * Shows the leaderboards of the last refresh of the {@link LeaderboardService}.
+     */
+    private void updateGrids() {
+        Leaderboard leaderboard = leaderboardService.getLeaderboard();
+        restaurantsByOrderCount.setItems(leaderboard.restaurantsByOrderCount());
+        restaurantsByRevenue.setItems(leaderboard.restaurantsByRevenue());
+        customersByOrderCount.setItems(leaderboard.customersByOrderCount());
+        refreshedAt.setText(leaderboard.refreshedAt() == null
+                ? "Not computed yet"
+                : "Computed at " + REFRESHED_AT.format(leaderboard.refreshedAt()));
+    }
+}
@@ -0,0 +1,105 @@
+package com.acs560.FoodManagementSystem.views.Order;
+
+import com.acs560.FoodManagementSystem.requests.OrderExportRequest;
+import com.acs560.FoodManagementSystem.services.OrderExportService;
+import com.acs560.FoodManagementSystem.views.MainLayout;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.button.ButtonVariant;
+import com.vaadin.flow.component.checkbox.Checkbox;
+import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.component.formlayout.FormLayout;
+import com.vaadin.flow.component.html.Anchor;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.textfield.IntegerField;
+import com.vaadin.flow.component.textfield.NumberField;
+import com.vaadin.flow.router.PageTitle;
+import com.vaadin.flow.router.Route;
+import com.vaadin.flow.server.StreamResource;
+import jakarta.annotation.security.PermitAll;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * A view for downloading orders as a CSV or newline-delimited JSON file.
+ * <p>
+ * The orders can be filtered by day of the week, restaurant, customer and customer rating range. The
+ * download link is backed by a {@link StreamResource} that writes the export straight into the download
+ * response through the {@link OrderExportService}, so the file is never held in memory.
+ * </p>
+ */
+@PermitAll
+@Route(value = "export-orders", layout = MainLayout.class)
+@PageTitle("Export Orders | Food Management System")
+public class OrderExportView extends VerticalLayout {
+
+    private static final long serialVersionUID = -2719406148635227154L;
+
+    private final OrderExportService orderExportService;
+
+    private final ComboBox<String> dayOfTheWeekField = new ComboBox<>("Day of the Week");
+    private final IntegerField restaurantIdField = new IntegerField("Restaurant ID");
+    private final IntegerField customerIdField = new IntegerField("Customer ID");
+    private final NumberField minRatingField = new NumberField("Min Rating");
+    private final NumberField maxRatingField = new NumberField("Max Rating");
+    private final ComboBox<OrderExportRequest.Format> formatField = new ComboBox<>("Format");
+    private final Checkbox gzipField = new Checkbox("Compress with gzip");
+    private final Anchor download = new Anchor();
+
+    /**
+     * Constructs an instance of {@link OrderExportView}.
+     *
+     * @param orderExportService the service that writes the export
+     */
+    @Autowired
+    public OrderExportView(OrderExportService orderExportService) {
+        this.orderExportService = orderExportService;
+
+        dayOfTheWeekField.setItems("Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday", "Sunday");
+        dayOfTheWeekField.setClearButtonVisible(true);
+        restaurantIdField.setClearButtonVisible(true);
+        customerIdField.setClearButtonVisible(true);
+        minRatingField.setClearButtonVisible(true);
+        maxRatingField.setClearButtonVisible(true);
+        formatField.setItems(OrderExportRequest.Format.values());
+        formatField.setValue(OrderExportRequest.Format.CSV);
+        formatField.setAllowCustomValue(false);
+
+        dayOfTheWeekField.addValueChangeListener(e -> updateDownload());
+        restaurantIdField.addValueChangeListener(e -> updateDownload());
+        customerIdField.addValueChangeListener(e -> updateDownload());
+        minRatingField.addValueChangeListener(e -> updateDownload());
+        maxRatingField.addValueChangeListener(e -> updateDownload());
+        formatField.addValueChangeListener(e -> updateDownload());
+        gzipField.addValueChangeListener(e -> updateDownload());
+
+        Button downloadButton = new Button("Download");
+        downloadButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
+        download.add(downloadButton);
+        download.getElement().setAttribute("download", true);
+        updateDownload();
+
+        FormLayout formLayout = new FormLayout(dayOfTheWeekField, restaurantIdField, customerIdField,
+                minRatingField, maxRatingField, formatField, gzipField);
+        add(formLayout, download);
+    }
+
+    /**
+     * Points the download link at a new resource for the current filter values.
+     */
+    private void updateDownload() {
+        OrderExportRequest request = new OrderExportRequest();
+        request.setDayOfTheWeek(dayOfTheWeekField.getValue());
+        request.setRestaurantId(restaurantIdField.getValue());
+        request.setCustomerId(customerIdField.getValue());
+        request.setMinRating(minRatingField.getValue() == null ? null : minRatingField.getValue().floatValue());
+        request.setMaxRating(maxRatingField.getValue() == null ? null : maxRatingField.getValue().floatValue());
+        if (formatField.getValue() != null) {
+            request.setFormat(formatField.getValue());
+        }
+        request.setGzip(gzipField.getValue());
+
+        StreamResource resource = new StreamResource(request.getFileName(),
+                (out, session) -> orderExportService.exportOrders(request, out));
+        resource.setContentType(request.getContentType());
+        download.setHref(resource);
+    }
+}
@@ -1,226 +1,410 @@
-package com.acs560.FoodManagementSystem.views.Order;
-
-import com.acs560.FoodManagementSystem.entities.OrderEntity;
-import com.acs560.FoodManagementSystem.services.OrderService;
-import com.acs560.FoodManagementSystem.views.MainLayout;
-import com.vaadin.flow.component.Component;
-import com.vaadin.flow.component.button.Button;
-import com.vaadin.flow.component.grid.Grid;
-import com.vaadin.flow.component.notification.Notification;
-import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
-import com.vaadin.flow.component.orderedlayout.VerticalLayout;
-import com.vaadin.flow.component.textfield.TextField;
-import com.vaadin.flow.data.value.ValueChangeMode;
-import com.vaadin.flow.router.PageTitle;
-import com.vaadin.flow.router.Route;
-import com.vaadin.flow.spring.annotation.SpringComponent;
-import jakarta.annotation.security.PermitAll;
-
-import java.util.List;
-import java.util.Optional;
-
-import org.springframework.context.annotation.Scope;
-
-/**
- * The {@link OrderListView} class represents the view for displaying a list of orders in the Food Management System.
- * It provides filters for order ID and customer rating, as well as options to add, update, or delete orders.
- * The view interacts with the {@link OrderService} to fetch and display the orders.
- */
-@SpringComponent
-@PermitAll
-@Route(value = "", layout = MainLayout.class)
-@PageTitle("Orders | Food Management System")
-@Scope("prototype")
-public class OrderListView extends VerticalLayout {
-
-    private static final long serialVersionUID = 1L;
-
-    private final OrderService orderService;
-    private final Grid<OrderEntity> grid;
-    private final TextField filterText;
-    private final TextField minRatingField;
-    private final TextField maxRatingField;
-    private final Button addOrderButton;
-    private final Button updateOrderButton;
-    private final Button deleteOrderButton;
-
-    /**
-     * Constructs the {@link OrderListView} with the provided {@link OrderService}.
-     * Initializes the layout components, including the grid, filter fields, and action buttons.
-     *
-     * @param orderService The service used to fetch and manage orders.
-     */
-    public OrderListView(OrderService orderService) {
-        this.orderService = orderService;
-
-        addClassName("list-view");
-        setSizeFull();
-        setPadding(true);
-        setSpacing(true);
-
-        grid = createGrid();
-        filterText = createFilter();
-        minRatingField = createMinRatingFilter();
-        maxRatingField = createMaxRatingFilter();
-        addOrderButton = new Button("Add Order", event -> navigateToAddOrder());
-        updateOrderButton = new Button("Update Order", event -> navigateToUpdateOrder());
-        deleteOrderButton = new Button("Delete Order", event -> navigateToDeleteOrder());
-
-        var filters = createFiltersLayout(filterText, minRatingField, maxRatingField);
-        var toolbar = createToolbar(addOrderButton, updateOrderButton, deleteOrderButton);
-
-        add(filters, toolbar, grid);
-        updateGrid();
-    }
-
-    /**
-     * Creates the grid component that displays the list of orders.
-     * The grid includes columns for order ID, cost, day of the week, customer, and restaurant.
-     *
-     * @return a configured {@link Grid} displaying order information.
-     */
-    private Grid<OrderEntity> createGrid() {
-        Grid<OrderEntity> grid = new Grid<>(OrderEntity.class);
-        grid.addClassNames("order-grid");
-        grid.setSizeFull();
-        grid.setColumns("orderId", "costOfOrder", "dayOfTheWeek", "customer", "restaurant");
-        grid.getColumns().forEach(col -> col.setAutoWidth(true));
-
-        grid.asSingleSelect().addValueChangeListener(event -> updateOrderButton.setEnabled(event.getValue() != null));
-        return grid;
-    }
-
-    /**
-     * Creates the filter field for searching orders by order ID.
-     *
-     * @return a {@link TextField} for entering the order ID filter.
-     */
-    private TextField createFilter() {
-        TextField filterText = new TextField();
-        filterText.setPlaceholder("Filter by order ID...");
-        filterText.setClearButtonVisible(true);
-        filterText.setValueChangeMode(ValueChangeMode.LAZY);
-        filterText.addValueChangeListener(e -> updateGrid());
-        return filterText;
-    }
-
-    /**
-     * Creates the filter field for specifying the minimum rating of the customer.
-     *
-     * @return a {@link TextField} for entering the minimum rating filter.
-     */
-    private TextField createMinRatingFilter() {
-        TextField minRatingField = new TextField();
-        minRatingField.setPlaceholder("Min rating...");
-        minRatingField.setClearButtonVisible(true);
-        minRatingField.setValueChangeMode(ValueChangeMode.LAZY);
-        minRatingField.addValueChangeListener(e -> updateGrid());
-        return minRatingField;
-    }
-
-    /**
-     * Creates the filter field for specifying the maximum rating of the customer.
-     *
-     * @return a {@link TextField} for entering the maximum rating filter.
-     */
-    private TextField createMaxRatingFilter() {
-        TextField maxRatingField = new TextField();
-        maxRatingField.setPlaceholder("Max rating...");
-        maxRatingField.setClearButtonVisible(true);
-        maxRatingField.setValueChangeMode(ValueChangeMode.LAZY);
-        maxRatingField.addValueChangeListener(e -> updateGrid());
-        return maxRatingField;
-    }
-
-    /**
-     * Creates the layout for the filter fields (order ID, min rating, and max rating).
-     *
-     * @param filterText The filter for order ID.
-     * @param minRatingField The filter for minimum rating.
-     * @param maxRatingField The filter for maximum rating.
-     * @return a {@link HorizontalLayout} containing the filter fields.
-     */
-    private Component createFiltersLayout(TextField filterText, TextField minRatingField, TextField maxRatingField) {
-        var filtersLayout = new HorizontalLayout(filterText, minRatingField, maxRatingField);
-        filtersLayout.addClassName("filters-layout");
-        filtersLayout.setWidthFull();
-        filtersLayout.setSpacing(true);
-        filtersLayout.setPadding(false);
-        return filtersLayout;
-    }
-
-    /**
-     * Creates the toolbar containing action buttons for adding, updating, and deleting orders.
-     *
-     * @param addOrderButton The button for adding a new order.
-     * @param updateOrderButton The button for updating an existing order.
-     * @param deleteOrderButton The button for deleting an order.
-     * @return a {@link HorizontalLayout} containing the action buttons.
-     */
-    private Component createToolbar(Button addOrderButton, Button updateOrderButton, Button deleteOrderButton) {
-        var toolbar = new HorizontalLayout(addOrderButton, updateOrderButton, deleteOrderButton);
-        toolbar.addClassName("toolbar");
-        toolbar.setWidthFull();
-        toolbar.setJustifyContentMode(JustifyContentMode.START);
-        toolbar.setSpacing(true);
-        toolbar.setPadding(false);
-        return toolbar;
-    }
-
-    /**
-     * Updates the grid to display orders based on the current filter values (order ID and customer rating range).
-     * Filters the orders by order ID, and if the rating filters are provided, by the customer rating range.
-     */
-    private void updateGrid() {
-        String filter = filterText.getValue();
-        String minRating = minRatingField.getValue();
-        String maxRating = maxRatingField.getValue();
-        List<OrderEntity> orders;
-
-        if (filter == null || filter.isEmpty()) {
-            orders = orderService.getAll();
-        } else {
-            try {
-                Integer orderId = Integer.parseInt(filter);
-                Optional<OrderEntity> orderOpt = orderService.getByOrderId(orderId);
-                orders = orderOpt.map(List::of).orElseGet(List::of);
-            } catch (NumberFormatException e) {
-                orders = List.of();
-            }
-        }
-
-        if ((minRating != null && !minRating.isEmpty()) && (maxRating != null && !maxRating.isEmpty())) {
-            try {
-                float min = Float.parseFloat(minRating);
-                float max = Float.parseFloat(maxRating);
-                orders = orderService.getByCustomerRatingRange(min, max);
-            } catch (NumberFormatException e) {
-                Notification.show("Invalid rating range.");
-                orders = List.of();
-            }
-        }
-
-        grid.setItems(orders);
-    }
-
-    /**
-     * Navigates to the add order form view.
-     */
-    private void navigateToAddOrder() {
-        getUI().ifPresent(ui -> ui.navigate("add-order-form"));
-    }
-
-    /**
-     * Navigates to the update order form view.
-     */
-    private void navigateToUpdateOrder() {
-        getUI().ifPresent(ui -> ui.navigate("update-order-form"));
-    }
-
-    /**
-     * Navigates to the delete order form view.
-     */
-    private void navigateToDeleteOrder() {
-        getUI().ifPresent(ui -> ui.navigate("delete-order-form"));
-    }
-}
+package com.acs560.FoodManagementSystem.views.Order;
+
+import com.acs560.FoodManagementSystem.models.OrderFilter;
+import com.acs560.FoodManagementSystem.models.OrderRow;
+import com.acs560.FoodManagementSystem.models.RestaurantRow;
+import com.acs560.FoodManagementSystem.services.OrderService;
+import com.acs560.FoodManagementSystem.services.RestaurantService;
+import com.acs560.FoodManagementSystem.views.MainLayout;
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.combobox.MultiSelectComboBox;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.notification.Notification;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.select.Select;
+import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.provider.CallbackDataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.value.ValueChangeMode;
+import com.vaadin.flow.router.PageTitle;
+import com.vaadin.flow.router.Route;
+import com.vaadin.flow.spring.annotation.SpringComponent;
+import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
+import jakarta.annotation.security.PermitAll;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.context.annotation.Scope;
+import org.springframework.data.domain.Sort;
+
+/**
+ * The {@link OrderListView} class represents the view for displaying a list of orders in the Food Management System.
+ * It provides filters for order ID, day of the week, restaurant, customer rating and cost, as well as options to add,
+ * update, or delete orders. The view interacts with the {@link OrderService} to fetch and display the orders.
+ *
+ * <p>The filters that are filled in are combined into one {@link OrderFilter}, matching either all of them or any
+ * of them; the selected days and restaurants each match any of their values. The service answers the filter with
+ * its bitmap indexes and shows at most {@value #MAX_FILTERED_ORDERS} matching orders.</p>
+ *
+ * <p>Without filters the grid is backed by a lazy {@link CallbackDataProvider} that only fetches the visible
+ * window of orders and a cached order count. Windows sorted by order ID are fetched with keyset pagination,
+ * continuing after the last order ID of the previous window; other sort orders fall back to offset pages.</p>
+ *
+ * <p>The grid is bound to immutable {@link OrderRow}s, which hold only the displayed columns, including the
+ * customer rating and restaurant name, so no entities are loaded to fill it.</p>
+ */
+@SpringComponent
+@PermitAll
+@Route(value = "", layout = MainLayout.class)
+@PageTitle("Orders | Food Management System")
+@Scope("prototype")
+public class OrderListView extends VerticalLayout {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The maximum number of orders shown for a filter. */
+    static final int MAX_FILTERED_ORDERS = 1000;
+
+    private static final String MATCH_ALL = "Match all filters";
+    private static final String MATCH_ANY = "Match any filter";
+
+    private final OrderService orderService;
+    private final Grid<OrderRow> grid;
+    private final TextField filterText;
+    private final MultiSelectComboBox<String> dayField;
+    private final MultiSelectComboBox<RestaurantRow> restaurantField;
+    private final TextField minRatingField;
+    private final TextField maxRatingField;
+    private final TextField minCostField;
+    private final TextField maxCostField;
+    private final Select<String> matchField;
+    private final Button addOrderButton;
+    private final Button updateOrderButton;
+    private final Button deleteOrderButton;
+    private final CallbackDataProvider<OrderRow, Void> lazyOrders;
+
+    // Last order ID before each fetched offset, valid for cursorSort only
+    private final Map<Integer, Integer> keysetCursors = new HashMap<>();
+    private Sort cursorSort = Sort.unsorted();
+
+    /**
+     * Constructs the {@link OrderListView} with the provided {@link OrderService}.
+     * Initializes the layout components, including the grid, filter fields, and action buttons.
+     *
+     * @param orderService The service used to fetch and manage orders.
+     * @param restaurantService The service providing the restaurants of the restaurant filter.
+     */
+    public OrderListView(OrderService orderService, RestaurantService restaurantService) {
+        this.orderService = orderService;
+        this.lazyOrders = new CallbackDataProvider<>(this::fetchOrders, query -> (int) orderService.countOrders());
+
+        addClassName("list-view");
+        setSizeFull();
+        setPadding(true);
+        setSpacing(true);
+
+        grid = createGrid();
+        filterText = createFilter();
+        dayField = createDayFilter();
+        restaurantField = createRestaurantFilter(restaurantService);
+        minRatingField = createMinRatingFilter();
+        maxRatingField = createMaxRatingFilter();
+        minCostField = createRangeFilter("Min cost...");
+        maxCostField = createRangeFilter("Max cost...");
+        matchField = createMatchSelect();
+        addOrderButton = new Button("Add Order", event -> navigateToAddOrder());
+        updateOrderButton = new Button("Update Order", event -> navigateToUpdateOrder());
+        deleteOrderButton = new Button("Delete Order", event -> navigateToDeleteOrder());
+
+        var filters = createFiltersLayout(filterText, dayField, restaurantField, minRatingField, maxRatingField,
+                minCostField, maxCostField, matchField);
+        var toolbar = createToolbar(addOrderButton, updateOrderButton, deleteOrderButton);
+
+        add(filters, toolbar, grid);
+        updateGrid();
+    }
+
+    /**
+     * Creates the grid component that displays the list of orders.
+     * The grid includes columns for order ID, cost, day of the week, customer, and restaurant.
+     * The sort properties of the sortable columns are those of the order entity, used by the backend queries.
+     *
+     * @return a configured {@link Grid} displaying order information.
+     */
+    private Grid<OrderRow> createGrid() {
+        Grid<OrderRow> grid = new Grid<>(OrderRow.class, false);
+        grid.addClassNames("order-grid");
+        grid.setSizeFull();
+        grid.addColumn(OrderRow::orderId).setHeader("Order ID").setKey("orderId").setSortProperty("orderId");
+        grid.addColumn(OrderRow::costOfOrder).setHeader("Cost").setKey("costOfOrder").setSortProperty("costOfOrder");
+        grid.addColumn(OrderRow::dayOfTheWeek).setHeader("Day").setKey("dayOfTheWeek")
+                .setSortProperty("dayOfTheWeek");
+        grid.addColumn(OrderRow::customerId).setHeader("Customer ID").setKey("customerId").setSortable(false);
+        grid.addColumn(OrderRow::customerRating).setHeader("Customer Rating").setKey("customerRating")
+                .setSortable(false);
+        grid.addColumn(OrderRow::restaurantName).setHeader("Restaurant").setKey("restaurantName").setSortable(false);
+        grid.getColumns().forEach(col -> col.setAutoWidth(true));
+
+        grid.asSingleSelect().addValueChangeListener(event -> updateOrderButton.setEnabled(event.getValue() != null));
+        return grid;
+    }
+
+    /**
+     * Creates the filter field for searching orders by order ID.
+     *
+     * @return a {@link TextField} for entering the order ID filter.
+     */
+    private TextField createFilter() {
+        TextField filterText = new TextField();
+        filterText.setPlaceholder("Filter by order ID...");
+        filterText.setClearButtonVisible(true);
+        filterText.setValueChangeMode(ValueChangeMode.LAZY);
+        filterText.addValueChangeListener(e -> updateGrid());
+        return filterText;
+    }
+
+    /**
+     * Creates the filter field for specifying the minimum rating of the customer.
+     *
+     * @return a {@link TextField} for entering the minimum rating filter.
+     */
+    private TextField createMinRatingFilter() {
+        TextField minRatingField = new TextField();
+        minRatingField.setPlaceholder("Min rating...");
+        minRatingField.setClearButtonVisible(true);
+        minRatingField.setValueChangeMode(ValueChangeMode.LAZY);
+        minRatingField.addValueChangeListener(e -> updateGrid());
+        return minRatingField;
+    }
+
+    /**
+     * Creates the filter field for specifying the maximum rating of the customer.
+     *
+     * @return a {@link TextField} for entering the maximum rating filter.
+     */
+    private TextField createMaxRatingFilter() {
+        TextField maxRatingField = new TextField();
+        maxRatingField.setPlaceholder("Max rating...");
+        maxRatingField.setClearButtonVisible(true);
+        maxRatingField.setValueChangeMode(ValueChangeMode.LAZY);
+        maxRatingField.addValueChangeListener(e -> updateGrid());
+        return maxRatingField;
+    }
+
+    /**
+     * Creates the filter for the days of the week the orders were placed on.
+     *
+     * @return a {@link MultiSelectComboBox} for selecting days of the week.
+     */
+    private MultiSelectComboBox<String> createDayFilter() {
+        MultiSelectComboBox<String> dayField = new MultiSelectComboBox<>();
+        dayField.setPlaceholder("Days...");
+        dayField.setItems("Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday", "Sunday");
+        dayField.setClearButtonVisible(true);
+        dayField.addValueChangeListener(e -> updateGrid());
+        return dayField;
+    }
+
+    /**
+     * Creates the filter for the restaurants the orders were placed at.
+     *
+     * @param restaurantService The service providing the restaurants.
+     * @return a {@link MultiSelectComboBox} for selecting restaurants.
+     */
+    private MultiSelectComboBox<RestaurantRow> createRestaurantFilter(RestaurantService restaurantService) {
+        MultiSelectComboBox<RestaurantRow> restaurantField = new MultiSelectComboBox<>();
+        restaurantField.setPlaceholder("Restaurants...");
+        restaurantField.setItems(restaurantService.getAll());
+        restaurantField.setItemLabelGenerator(RestaurantRow::restaurantName);
+        restaurantField.setClearButtonVisible(true);
+        restaurantField.addValueChangeListener(e -> updateGrid());
+        return restaurantField;
+    }
+
+    /**
+     * Creates a filter field for one bound of a range.
+     *
+     * @param placeholder The placeholder of the field.
+     * @return a {@link TextField} for entering the bound.
+     */
+    private TextField createRangeFilter(String placeholder) {
+        TextField field = new TextField();
+        field.setPlaceholder(placeholder);
+        field.setClearButtonVisible(true);
+        field.setValueChangeMode(ValueChangeMode.LAZY);
+        field.addValueChangeListener(e -> updateGrid());
+        return field;
+    }
+
+    /**
+     * Creates the selection of whether the orders must match all filled filters or any of them.
+     *
+     * @return a {@link Select} of the two ways of combining the filters.
+     */
+    private Select<String> createMatchSelect() {
+        Select<String> matchField = new Select<>();
+        matchField.setItems(MATCH_ALL, MATCH_ANY);
+        matchField.setValue(MATCH_ALL);
+        matchField.addValueChangeListener(e -> updateGrid());
+        return matchField;
+    }
+
+    /**
+     * Creates the layout for the filter fields.
+     *
+     * @param filters The filter fields, in display order.
+     * @return a {@link HorizontalLayout} containing the filter fields.
+     */
+    private Component createFiltersLayout(Component... filters) {
+        var filtersLayout = new HorizontalLayout(filters);
+        filtersLayout.getStyle().set("flex-wrap", "wrap");
+        filtersLayout.addClassName("filters-layout");
+        filtersLayout.setWidthFull();
+        filtersLayout.setSpacing(true);
+        filtersLayout.setPadding(false);
+        return filtersLayout;
+    }
+
+    /**
+     * Creates the toolbar containing action buttons for adding, updating, and deleting orders.
+     *
+     * @param addOrderButton The button for adding a new order.
+     * @param updateOrderButton The button for updating an existing order.
+     * @param deleteOrderButton The button for deleting an order.
+     * @return a {@link HorizontalLayout} containing the action buttons.
+     */
+    private Component createToolbar(Button addOrderButton, Button updateOrderButton, Button deleteOrderButton) {
+        var toolbar = new HorizontalLayout(addOrderButton, updateOrderButton, deleteOrderButton);
+        toolbar.addClassName("toolbar");
+        toolbar.setWidthFull();
+        toolbar.setJustifyContentMode(JustifyContentMode.START);
+        toolbar.setSpacing(true);
+        toolbar.setPadding(false);
+        return toolbar;
+    }
+
+    /**
+     * Updates the grid to display orders based on the current filter values.
+     * The filled filters are combined into one {@link OrderFilter} that matches all or any of them, and the
+     * matching orders are fetched at once. Without filters, the grid lazily fetches the visible window of all orders.
+     */
+    private void updateGrid() {
+        List<OrderFilter> filters = new ArrayList<>();
+        try {
+            String filter = filterText.getValue();
+            if (filter != null && !filter.isEmpty()) {
+                filters.add(new OrderFilter.OrderIdIs(Integer.parseInt(filter.trim())));
+            }
+        } catch (NumberFormatException e) {
+            grid.setItems(List.of());
+            return;
+        }
+        if (!dayField.getValue().isEmpty()) {
+            filters.add(new OrderFilter.DayIn(dayField.getValue()));
+        }
+        if (!restaurantField.getValue().isEmpty()) {
+            filters.add(new OrderFilter.RestaurantIn(restaurantField.getValue().stream()
+                    .map(RestaurantRow::restaurantId).collect(Collectors.toSet())));
+        }
+        try {
+            Float minRating = parseBound(minRatingField);
+            Float maxRating = parseBound(maxRatingField);
+            if (minRating != null || maxRating != null) {
+                filters.add(new OrderFilter.RatingBetween(minRating, maxRating));
+            }
+        } catch (NumberFormatException e) {
+            Notification.show("Invalid rating range.");
+            grid.setItems(List.of());
+            return;
+        }
+        try {
+            Float minCost = parseBound(minCostField);
+            Float maxCost = parseBound(maxCostField);
+            if (minCost != null || maxCost != null) {
+                filters.add(new OrderFilter.CostBetween(minCost, maxCost));
+            }
+        } catch (NumberFormatException e) {
+            Notification.show("Invalid cost range.");
+            grid.setItems(List.of());
+            return;
+        }
+
+        if (filters.isEmpty()) {
+            keysetCursors.clear();
+            grid.setItems(lazyOrders);
+            return;
+        }
+
+        OrderFilter filter = MATCH_ANY.equals(matchField.getValue())
+                ? OrderFilter.or(filters) : OrderFilter.and(filters);
+        List<OrderRow> orders = orderService.findOrders(filter, MAX_FILTERED_ORDERS);
+        if (orders.size() == MAX_FILTERED_ORDERS) {
+            Notification.show("Showing the first " + MAX_FILTERED_ORDERS + " matching orders.");
+        }
+        grid.setItems(orders);
+    }
+
+    /**
+     * Parses the bound of a range filter.
+     *
+     * @param field The field holding the bound.
+     * @return the bound, or null if the field is empty.
+     * @throws NumberFormatException if the field does not hold a number.
+     */
+    private static Float parseBound(TextField field) {
+        String value = field.getValue();
+        return value == null || value.isBlank() ? null : Float.parseFloat(value.trim());
+    }
+
+    /**
+     * Fetches the window of orders requested by the grid.
+     * Windows sorted by order ID (or unsorted) continue after the cursor recorded for their offset;
+     * any other window is fetched as an offset page.
+     *
+     * @param query the offset, limit and sort order requested by the grid
+     * @return the orders of the window
+     */
+    private Stream<OrderRow> fetchOrders(Query<OrderRow, Void> query) {
+        int offset = query.getOffset();
+        int limit = query.getLimit();
+        Sort sort = VaadinSpringDataHelpers.toSpringDataSort(query);
+        if (!sort.equals(cursorSort)) {
+            keysetCursors.clear();
+            cursorSort = sort;
+        }
+
+        Sort.Order idOrder = sort.getOrderFor("orderId");
+        boolean keyset = sort.isUnsorted() || (idOrder != null && sort.stream().count() == 1);
+        boolean descending = idOrder != null && idOrder.isDescending();
+        Integer cursor = keysetCursors.get(offset);
+
+        List<OrderRow> orders;
+        if (keyset && (offset == 0 || cursor != null)) {
+            orders = orderService.getOrdersAfter(offset == 0 ? null : cursor, limit, descending);
+        } else {
+            orders = orderService.getOrders(VaadinSpringDataHelpers.toSpringPageRequest(query));
+        }
+        if (keyset && !orders.isEmpty()) {
+            keysetCursors.put(offset + orders.size(), orders.get(orders.size() - 1).orderId());
+        }
+        return orders.stream();
+    }
+
+    /**
+     * Navigates to the add order form view.
+     */
+    private void navigateToAddOrder() {
+        getUI().ifPresent(ui -> ui.navigate("add-order-form"));
+    }
+
+    /**
+     * Navigates to the update order form view.
+     */
+    private void navigateToUpdateOrder() {
+        getUI().ifPresent(ui -> ui.navigate("update-order-form"));
+    }
+
+    /**
+     * Navigates to the delete order form view.
+     */
+    private void navigateToDeleteOrder() {
+        getUI().ifPresent(ui -> ui.navigate("delete-order-form"));
+    }
+}
@@ -0,0 +1,34 @@
+package com.acs560.FoodManagementSystem.views.Order;
+
+import com.acs560.FoodManagementSystem.services.RestaurantService;
+import com.vaadin.flow.component.combobox.ComboBox;
+
+/**
+ * A restaurant name field that suggests existing restaurant names while a name is typed.
+ * <p>
+ * The suggestions are fetched from the server for the typed text, page by page, through
+ * {@link RestaurantService#suggestRestaurantNames(String, int)}, so the browser never receives the whole
+ * restaurant list. Names that match no restaurant are accepted as typed, for orders at new restaurants.
+ * </p>
+ */
+class RestaurantNameField extends ComboBox<String> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new instance of {@link RestaurantNameField}.
+     *
+     * @param label the label of the field
+     * @param restaurantService the service suggesting the restaurant names
+     */
+    RestaurantNameField(String label, RestaurantService restaurantService) {
+        super(label);
+        setItems(query -> restaurantService
+                .suggestRestaurantNames(query.getFilter().orElse(""), query.getOffset() + query.getLimit())
+                .stream()
+                .skip(query.getOffset()));
+        setAllowCustomValue(true);
+        addCustomValueSetListener(event -> setValue(event.getDetail()));
+        setClearButtonVisible(true);
+    }
+}
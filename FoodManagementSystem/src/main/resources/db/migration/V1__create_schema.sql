@@ -0,0 +1,25 @@
+-- Schema previously generated by Hibernate with ddl-auto=create
+CREATE TABLE customers (
+    customer_id INT NOT NULL AUTO_INCREMENT,
+    rating FLOAT NOT NULL,
+    PRIMARY KEY (customer_id)
+);
+
+CREATE TABLE restaurants (
+    restaurant_id INT NOT NULL AUTO_INCREMENT,
+    restaurant_name VARCHAR(255),
+    food_preparation_time INT,
+    delivery_time INT,
+    PRIMARY KEY (restaurant_id)
+);
+
+CREATE TABLE orders (
+    order_id INT NOT NULL AUTO_INCREMENT,
+    cost_of_order FLOAT NOT NULL,
+    day_of_the_week VARCHAR(255),
+    customer_id INT NOT NULL,
+    restaurant_id INT NOT NULL,
+    PRIMARY KEY (order_id),
+    CONSTRAINT fk_orders_customer FOREIGN KEY (customer_id) REFERENCES customers (customer_id),
+    CONSTRAINT fk_orders_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurants (restaurant_id)
+);
@@ -0,0 +1,104 @@
+-- Sample data, previously loaded from import.sql on every start
+INSERT INTO customers (customer_id, rating) VALUES (337525, 4.5);
+INSERT INTO customers (customer_id, rating) VALUES (358141, 3.9);
+INSERT INTO customers (customer_id, rating) VALUES (66393, 4.0);
+INSERT INTO customers (customer_id, rating) VALUES (106968, 4.2);
+INSERT INTO customers (customer_id, rating) VALUES (76942, 3.8);
+INSERT INTO customers (customer_id, rating) VALUES (147468, 4.1);
+INSERT INTO customers (customer_id, rating) VALUES (157711, 4.3);
+INSERT INTO customers (customer_id, rating) VALUES (89574, 4.0);
+INSERT INTO customers (customer_id, rating) VALUES (121706, 3.9);
+INSERT INTO customers (customer_id, rating) VALUES (39705, 4.0);
+INSERT INTO customers (customer_id, rating) VALUES (30927, 4.5);
+INSERT INTO customers (customer_id, rating) VALUES (70348, 4.1);
+INSERT INTO customers (customer_id, rating) VALUES (186231, 4.0);
+INSERT INTO customers (customer_id, rating) VALUES (138896, 4.2);
+INSERT INTO customers (customer_id, rating) VALUES (56393, 3.8);
+INSERT INTO customers (customer_id, rating) VALUES (163331, 4.1);
+INSERT INTO customers (customer_id, rating) VALUES (21803, 4.5);
+INSERT INTO customers (customer_id, rating) VALUES (144633, 3.7);
+INSERT INTO customers (customer_id, rating) VALUES (129992, 4.4);
+INSERT INTO customers (customer_id, rating) VALUES (108097, 4.0);
+INSERT INTO customers (customer_id, rating) VALUES (115939, 3.8);
+INSERT INTO customers (customer_id, rating) VALUES (133753, 4.1);
+INSERT INTO customers (customer_id, rating) VALUES (85940, 4.0);
+INSERT INTO customers (customer_id, rating) VALUES (98022, 4.5);
+INSERT INTO customers (customer_id, rating) VALUES (327612, 4.2);
+INSERT INTO customers (customer_id, rating) VALUES (412358, 3.6);
+INSERT INTO customers (customer_id, rating) VALUES (552798, 4.3);
+INSERT INTO customers (customer_id, rating) VALUES (618935, 4.1);
+INSERT INTO customers (customer_id, rating) VALUES (729128, 3.8);
+INSERT INTO customers (customer_id, rating) VALUES (884642, 4.4);
+INSERT INTO customers (customer_id, rating) VALUES (910273, 4.0);
+INSERT INTO customers (customer_id, rating) VALUES (104518, 4.5);
+INSERT INTO customers (customer_id, rating) VALUES (211264, 4.0);
+INSERT INTO customers (customer_id, rating) VALUES (123785, 3.9);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (1, 'Hangawi', 25, 20);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (2, 'Blue Ribbon Sushi Izakaya', 25, 23);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (3, 'Cafe Habana', 23, 28);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (4, 'Blue Ribbon Fried Chicken', 25, 15);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (5, 'Dirty Bird to Go', 25, 24);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (6, 'Tamarind TriBeCa', 20, 24);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (7, 'The Meatball Shop', 28, 21);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (8, 'Barbounia', 33, 30);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (9, 'Anjappar Chettinad', 21, 26);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (10, 'Bukhara Grill', 29, 26);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (11, 'The Halal Guys', 30, 18);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (12, 'Fatty Crab', 28, 25);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (13, 'Shawarma Bros', 20, 22);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (14, 'Dig Inn', 21, 30);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (15, 'Pio Pio', 26, 27);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (16, 'Taco Mix', 32, 19);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (17, 'Sushi of Gari', 18, 20);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (18, 'Cafe Mogador', 22, 29);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (19, 'Sarabeth''s', 24, 25);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (20, 'Bistro Vendome', 30, 30);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (21, 'Shake Shack', 22, 20);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (22, 'Mamma Mia', 20, 24);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (23, 'Vanessa''s Dumpling House', 30, 22);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (24, 'Wild Ginger', 25, 27);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (25, 'Bistro Vendome', 20, 23);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (26, 'La Poubelle', 28, 22);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (27, 'Nobu', 35, 30);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (28, 'The Spotted Pig', 40, 35);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (29, 'Osteria Morini', 30, 25);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (30, 'Momofuku', 25, 20);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (31, 'The NoMad', 22, 22);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (32, 'Lupa', 20, 15);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (33, 'The Dutch', 33, 30);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (34, 'Union Square Cafe', 28, 20);
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES (35, 'Le Bernardin', 40, 35);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477147, 30.75, 'Saturday', 337525, 1);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477685, 12.08, 'Saturday', 358141, 2);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477070, 12.23, 'Monday', 66393, 3);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477334, 29.20, 'Saturday', 106968, 4);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1478249, 11.59, 'Tuesday', 76942, 5);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477224, 25.22, 'Wednesday', 147468, 6);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477894, 6.07, 'Saturday', 157711, 7);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477859, 5.97, 'Thursday', 89574, 8);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477174, 16.44, 'Friday', 121706, 9);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477311, 7.18, 'Monday', 39705, 10);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1478308, 15.00, 'Saturday', 30927, 11);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477186, 29.01, 'Wednesday', 70348, 12);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477854, 20.00, 'Saturday', 186231, 13);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477475, 11.99, 'Thursday', 138896, 14);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477250, 10.50, 'Tuesday', 56393, 15);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1478353, 12.89, 'Saturday', 163331, 16);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477332, 50.00, 'Saturday', 21803, 17);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477276, 19.95, 'Friday', 144633, 18);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477227, 12.00, 'Wednesday', 129992, 19);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1478301, 22.00, 'Saturday', 108097, 20);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477268, 11.25, 'Saturday', 115939, 21);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1478351, 14.99, 'Saturday', 133753, 22);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477361, 5.99, 'Monday', 85940, 23);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477697, 20.00, 'Saturday', 98022, 24);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477148, 22.50, 'Saturday', 327612, 26);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477686, 40.75, 'Friday', 412358, 27);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477071, 28.30, 'Sunday', 552798, 28);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477335, 35.00, 'Wednesday', 618935, 29);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1478248, 18.75, 'Monday', 729128, 30);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477225, 21.50, 'Tuesday', 884642, 31);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477895, 29.90, 'Thursday', 910273, 32);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477352, 26.80, 'Saturday', 104518, 33);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477687, 39.40, 'Friday', 211264, 34);
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES (1477301, 15.60, 'Monday', 123785, 35);
@@ -0,0 +1,19 @@
+-- Indexes for the columns the repositories filter on.
+-- On MySQL the named foreign key indexes replace the ones created implicitly for the constraints.
+
+-- findByCostOfOrder, findByCostOfOrderBetween
+CREATE INDEX idx_orders_cost_of_order ON orders (cost_of_order);
+
+-- findByDayOfTheWeek; the cost column lets per-day queries sort and filter by cost from the index
+CREATE INDEX idx_orders_day_cost ON orders (day_of_the_week, cost_of_order);
+
+-- findByCustomer_CustomerId, findByRestaurant_RestaurantId and the joins to customers and restaurants
+CREATE INDEX idx_orders_customer_id ON orders (customer_id);
+CREATE INDEX idx_orders_restaurant_id ON orders (restaurant_id);
+
+-- findByRating, findByCustomer_RatingBetween
+CREATE INDEX idx_customers_rating ON customers (rating);
+
+-- findByFoodPreparationTime, findByDeliveryTime
+CREATE INDEX idx_restaurants_food_preparation_time ON restaurants (food_preparation_time);
+CREATE INDEX idx_restaurants_delivery_time ON restaurants (delivery_time);
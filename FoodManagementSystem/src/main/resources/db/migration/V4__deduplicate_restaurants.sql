@@ -0,0 +1,30 @@
+-- Restaurants were created once per order, so the same restaurant exists many times.
+-- Key every restaurant by its trimmed, lower-case name, merge the duplicates into the restaurant with the
+-- lowest ID and enforce one restaurant per name from now on.
+
+ALTER TABLE restaurants ADD COLUMN normalized_name VARCHAR(255);
+
+UPDATE restaurants SET normalized_name = LOWER(TRIM(restaurant_name));
+
+-- Point the orders of every duplicate at the restaurant that is kept
+UPDATE orders o
+    JOIN restaurants r ON r.restaurant_id = o.restaurant_id
+    JOIN (SELECT normalized_name, MIN(restaurant_id) AS kept_id
+          FROM restaurants
+          WHERE normalized_name IS NOT NULL
+          GROUP BY normalized_name
+          HAVING COUNT(*) > 1) k ON k.normalized_name = r.normalized_name
+SET o.restaurant_id = k.kept_id
+WHERE o.restaurant_id <> k.kept_id;
+
+-- The duplicates no longer have orders
+DELETE r FROM restaurants r
+    JOIN (SELECT normalized_name, MIN(restaurant_id) AS kept_id
+          FROM restaurants
+          WHERE normalized_name IS NOT NULL
+          GROUP BY normalized_name
+          HAVING COUNT(*) > 1) k ON k.normalized_name = r.normalized_name
+WHERE r.restaurant_id <> k.kept_id;
+
+-- findByNormalizedName, and the guard against concurrent creation of the same restaurant
+CREATE UNIQUE INDEX uk_restaurants_normalized_name ON restaurants (normalized_name);
@@ -0,0 +1,4 @@
+-- Version columns for optimistic locking; existing rows start at version 0
+ALTER TABLE orders ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE customers ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE restaurants ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,32 @@
+-- Running totals of the orders per restaurant and per day of the week. The order service adds and subtracts
+-- each order in the transaction that writes it, so the analytics read one row instead of scanning the orders.
+-- The averages are derived from the totals; there is no foreign key, so rows never block a delete.
+CREATE TABLE restaurant_order_stats (
+    restaurant_id INT NOT NULL,
+    order_count BIGINT NOT NULL,
+    total_cost DECIMAL(19, 4) NOT NULL,
+    total_rating DECIMAL(19, 4) NOT NULL,
+    PRIMARY KEY (restaurant_id)
+);
+
+CREATE TABLE day_order_stats (
+    day_of_the_week VARCHAR(255) NOT NULL,
+    order_count BIGINT NOT NULL,
+    total_cost DECIMAL(19, 4) NOT NULL,
+    total_rating DECIMAL(19, 4) NOT NULL,
+    PRIMARY KEY (day_of_the_week)
+);
+
+INSERT INTO restaurant_order_stats (restaurant_id, order_count, total_cost, total_rating)
+SELECT o.restaurant_id, COUNT(*), SUM(o.cost_of_order), SUM(c.rating)
+FROM orders o
+    JOIN customers c ON c.customer_id = o.customer_id
+GROUP BY o.restaurant_id;
+
+-- Orders without a day are left out, as they are from the figures per day
+INSERT INTO day_order_stats (day_of_the_week, order_count, total_cost, total_rating)
+SELECT o.day_of_the_week, COUNT(*), SUM(o.cost_of_order), SUM(c.rating)
+FROM orders o
+    JOIN customers c ON c.customer_id = o.customer_id
+WHERE o.day_of_the_week IS NOT NULL
+GROUP BY o.day_of_the_week;
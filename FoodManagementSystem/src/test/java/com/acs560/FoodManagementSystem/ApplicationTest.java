@@ -1,13 +1,13 @@
-package com.acs560.FoodManagementSystem;
-
-import org.junit.jupiter.api.Test;
-
-import static org.junit.jupiter.api.Assertions.assertTrue;
-
-class ApplicationTest {
-
-    @Test
-    void shouldAnswerWithTrue() {
-        assertTrue(true);
-    }
-}
+package com.acs560.FoodManagementSystem;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApplicationTest {
+
+    @Test
+    void shouldAnswerWithTrue() {
+        assertTrue(true);
+    }
+}
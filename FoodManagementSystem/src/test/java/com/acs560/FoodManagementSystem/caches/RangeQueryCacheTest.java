@@ -0,0 +1,165 @@
+package com.acs560.FoodManagementSystem.caches;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.acs560.FoodManagementSystem.config.CacheMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks which range queries {@link RangeQueryCache} answers from its segments and which it loads, with a
+ * loader over a list of values that counts its loads.
+ */
+class RangeQueryCacheTest {
+
+    private final List<Double> table = new ArrayList<>();
+    private final List<String> loads = new ArrayList<>();
+    private final RangeQueryCache.RangeLoader<Double> loader = (min, max) -> {
+        loads.add(min + "-" + max);
+        return table.stream().filter(value -> min <= value && value <= max).toList();
+    };
+
+    @BeforeEach
+    void setUp() {
+        // 0.0, 0.5, ..., 10.0, in reverse so the cache sorts what it loads
+        for (int i = 20; i >= 0; i--) {
+            table.add(i / 2.0);
+        }
+    }
+
+    @Test
+    void rangesInsideASegmentAreNotLoaded() {
+        RangeQueryCache<Double> cache = cache(1000, Duration.ofMinutes(10), 0);
+
+        assertEquals(List.of(2.0, 2.5, 3.0, 3.5, 4.0), cache.get(2.0, 4.0, loader));
+        assertEquals(List.of(2.5, 3.0), cache.get(2.2, 3.0, loader));
+        assertEquals(List.of(4.0), cache.get(4.0, 4.0, loader));
+        assertEquals(List.of(), cache.get(2.1, 2.4, loader));
+
+        assertEquals(List.of("2.0-4.0"), loads);
+        assertEquals(6, cache.getWeight());
+    }
+
+    @Test
+    void missesLoadTheWholeBucketsAroundTheRange() {
+        RangeQueryCache<Double> cache = cache(1000, Duration.ofMinutes(10), 1.0);
+
+        assertEquals(List.of(2.5), cache.get(2.2, 2.7, loader));
+        assertEquals(List.of(2.0, 2.5, 3.0), cache.get(2.0, 3.0, loader));
+
+        assertEquals(List.of("2.0-3.0"), loads);
+    }
+
+    @Test
+    void overlappingLoadsMergeIntoOneSegment() {
+        RangeQueryCache<Double> cache = cache(1000, Duration.ofMinutes(10), 0);
+        cache.get(1.0, 2.0, loader);
+        cache.get(4.0, 5.0, loader);
+
+        assertEquals(List.of(1.5, 2.0, 2.5, 3.0, 3.5, 4.0, 4.5), cache.get(1.5, 4.5, loader));
+        assertEquals(List.of(1.0, 1.5, 2.0, 2.5, 3.0, 3.5, 4.0, 4.5, 5.0), cache.get(1.0, 5.0, loader));
+
+        assertEquals(List.of("1.0-2.0", "4.0-5.0", "1.5-4.5"), loads);
+        // One segment of nine values, each held once
+        assertEquals(10, cache.getWeight());
+    }
+
+    @Test
+    void freshLoadWinsInsideItsRange() {
+        RangeQueryCache<Double> cache = cache(1000, Duration.ofMinutes(10), 0);
+        cache.get(0.0, 2.0, loader);
+        // Changed behind the cache's back: the old segment still holds both values
+        table.remove(Double.valueOf(0.5));
+        table.remove(Double.valueOf(1.5));
+
+        cache.get(1.0, 3.0, loader);
+
+        assertEquals(List.of(0.0, 0.5, 1.0, 2.0, 2.5, 3.0), cache.get(0.0, 3.0, loader));
+        assertEquals(List.of("0.0-2.0", "1.0-3.0"), loads);
+    }
+
+    @Test
+    void leastRecentlyUsedSegmentsAreEvictedByWeight() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RangeQueryCache<Double> cache = new RangeQueryCache<>(Double::doubleValue, 10, Duration.ofMinutes(10),
+                new CacheMetrics(registry).forCache("test"));
+        cache.get(0.0, 1.0, loader);
+        cache.get(3.0, 4.0, loader);
+        cache.get(0.0, 1.0, loader);
+
+        // Three values and the segment weigh four, so the third segment evicts the least recently used one
+        cache.get(6.0, 7.0, loader);
+        assertEquals(8, cache.getWeight());
+        cache.get(0.0, 1.0, loader);
+        cache.get(6.0, 7.0, loader);
+        cache.get(3.0, 4.0, loader);
+
+        assertEquals(List.of("0.0-1.0", "3.0-4.0", "6.0-7.0", "3.0-4.0"), loads);
+        assertEquals(2, registry.get("cache.evictions").counter().count());
+        assertEquals(3, registry.get("cache.gets").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void resultsHeavierThanTheBudgetAreNotCached() {
+        RangeQueryCache<Double> cache = cache(10, Duration.ofMinutes(10), 0);
+
+        assertEquals(21, cache.get(0.0, 10.0, loader).size());
+        assertEquals(21, cache.get(0.0, 10.0, loader).size());
+
+        assertEquals(2, loads.size());
+        assertEquals(0, cache.getWeight());
+    }
+
+    @Test
+    void invalidationDropsTheSegmentsContainingTheValue() {
+        RangeQueryCache<Double> cache = cache(1000, Duration.ofMinutes(10), 0);
+        cache.get(0.0, 2.0, loader);
+        cache.get(5.0, 6.0, loader);
+
+        cache.invalidate(1.2);
+        cache.get(0.0, 2.0, loader);
+        cache.get(5.0, 6.0, loader);
+
+        assertEquals(List.of("0.0-2.0", "5.0-6.0", "0.0-2.0"), loads);
+    }
+
+    @Test
+    void loadsOverlappingAnInvalidationAreNotCached() {
+        RangeQueryCache<Double> cache = cache(1000, Duration.ofMinutes(10), 0);
+        // A write commits while the load reads, after the load read the old value
+        RangeQueryCache.RangeLoader<Double> racingLoader = (min, max) -> {
+            List<Double> loaded = loader.load(min, max);
+            table.remove(Double.valueOf(1.0));
+            cache.invalidate(1.0);
+            return loaded;
+        };
+
+        assertEquals(List.of(0.5, 1.0, 1.5), cache.get(0.5, 1.5, racingLoader));
+        assertEquals(0, cache.getWeight());
+        assertEquals(List.of(0.5, 1.5), cache.get(0.5, 1.5, loader));
+        assertEquals(List.of(0.5, 1.5), cache.get(0.5, 1.5, loader));
+
+        assertEquals(List.of("0.5-1.5", "0.5-1.5"), loads);
+    }
+
+    @Test
+    void expiredSegmentsAreLoadedAgain() {
+        RangeQueryCache<Double> cache = cache(1000, Duration.ZERO, 0);
+        cache.get(0.0, 2.0, loader);
+        cache.get(0.5, 1.0, loader);
+
+        assertEquals(List.of("0.0-2.0", "0.5-1.0"), loads);
+    }
+
+    private static RangeQueryCache<Double> cache(long maxWeight, Duration ttl, double bucketWidth) {
+        return new RangeQueryCache<>(Double::doubleValue, maxWeight, ttl, bucketWidth,
+                new CacheMetrics(new SimpleMeterRegistry()).forCache("test"));
+    }
+}
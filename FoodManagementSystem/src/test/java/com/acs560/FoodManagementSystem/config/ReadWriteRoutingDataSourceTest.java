@@ -0,0 +1,265 @@
+package com.acs560.FoodManagementSystem.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the routing of reads and writes with two embedded H2 databases standing in for the MySQL primary
+ * and replica. Each database holds its own name in a one-row table, so a query shows where it was routed.
+ * A service cached by the application's cache manager shows where the loads of shared caches are routed.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    private final TestClock clock = new TestClock();
+    private ReadWriteRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        connect(primary, replica);
+    }
+
+    @AfterEach
+    void tearDown() {
+        routing.close();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertEquals("replica", readOnly.execute(status -> node()));
+    }
+
+    @Test
+    void readOutsideTransactionUsesReplica() {
+        assertEquals("replica", node());
+    }
+
+    @Test
+    void writeTransactionUsesPrimary() {
+        assertEquals("primary", readWrite.execute(status -> node()));
+    }
+
+    @Test
+    void readsStayOnPrimaryDuringReadYourWritesWindow() {
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+        assertEquals("primary", node());
+        assertEquals("primary", readOnly.execute(status -> node()));
+
+        clock.advance(WINDOW.plusMillis(1));
+        assertEquals("replica", node());
+    }
+
+    @Test
+    void primaryReadsUsePrimary() {
+        try (ReadWriteRoutingDataSource.RoutingScope primaryRead = ReadWriteRoutingDataSource.startPrimaryRead()) {
+            assertEquals("primary", node());
+            try (ReadWriteRoutingDataSource.RoutingScope nested = ReadWriteRoutingDataSource.startPrimaryRead()) {
+                assertEquals("primary", readOnly.execute(status -> node()));
+            }
+            assertEquals("primary", node());
+        }
+        assertEquals("replica", node());
+    }
+
+    @Test
+    void sharedCacheLoadsUsePrimaryAfterAnyUsersWrite() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.registerBean(JdbcTemplate.class, () -> jdbcTemplate);
+            context.register(CachedNodeConfig.class);
+            context.refresh();
+            CachedNodeService cachedNodes = context.getBean(CachedNodeService.class);
+
+            signIn("alice");
+            readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+
+            // Bob's own reads may lag, but what he puts into a cache is served to Alice as well
+            signIn("bob");
+            assertEquals("replica", node());
+            assertEquals("primary", cachedNodes.node("first"));
+
+            clock.advance(WINDOW.plusMillis(1));
+            assertEquals("replica", cachedNodes.node("second"));
+            assertEquals("primary", cachedNodes.node("first"));
+        }
+    }
+
+    @Test
+    void unavailableReplicaFallsBackToPrimary() {
+        DataSource broken = new DelegatingDataSource(database("replica")) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                throw new SQLException("Replica down");
+            }
+        };
+        routing.close();
+        connect(database("primary"), broken);
+
+        assertEquals("primary", node());
+        routing.checkReplicas();
+        assertEquals("primary", readOnly.execute(status -> node()));
+    }
+
+    @Test
+    void closingClosesTheReplicasButNotThePrimary() {
+        ClosableDataSource primary = new ClosableDataSource(database("primary"));
+        ClosableDataSource replica = new ClosableDataSource(database("replica"));
+        routing.close();
+        connect(primary, replica);
+
+        routing.close();
+        assertTrue(replica.closed);
+        assertFalse(primary.closed);
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private void connect(DataSource primary, DataSource replica) {
+        routing = new ReadWriteRoutingDataSource(primary, List.of(replica), WINDOW, Duration.ZERO, clock);
+        routing.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        setup.update("DELETE FROM node");
+        setup.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static void signIn(String user) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(user, null));
+    }
+
+    /**
+     * The cache manager of the application over an in-memory backend, and a service cached by it.
+     */
+    @Configuration
+    @EnableCaching
+    static class CachedNodeConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new LoggingCacheManager(new ConcurrentMapCacheManager(), new CacheEventRecorder(16),
+                    new CacheMetrics(new SimpleMeterRegistry()), new CacheProperties(), Runnable::run, List::of);
+        }
+
+        @Bean
+        CachedNodeService cachedNodeService(JdbcTemplate jdbcTemplate) {
+            return new CachedNodeService(jdbcTemplate);
+        }
+    }
+
+    /**
+     * Caches the name of the database a query was routed to.
+     */
+    static class CachedNodeService {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        CachedNodeService(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @Cacheable(value = "nodes", key = "#key", sync = true)
+        public String node(String key) {
+            return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+        }
+    }
+
+    /**
+     * A data source that records whether it was closed, like a connection pool.
+     */
+    private static final class ClosableDataSource extends DelegatingDataSource implements AutoCloseable {
+
+        private boolean closed;
+
+        ClosableDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    /**
+     * A clock that only moves when told to.
+     */
+    private static final class TestClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.acs560.FoodManagementSystem.indexes;
+
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.unit.DataSize;
+
+import com.acs560.FoodManagementSystem.config.BitmapIndexProperties;
+import com.acs560.FoodManagementSystem.events.OrdersChangedEvent;
+import com.acs560.FoodManagementSystem.models.OrderFilter;
+import com.acs560.FoodManagementSystem.models.OrderRow;
+import com.acs560.FoodManagementSystem.models.OrderSnapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the candidates of the bitmap indexes, once checked with {@link OrderFilter#test}, are exactly
+ * the orders matching the filters, before and after writes.
+ */
+class OrderBitmapIndexTest {
+
+    /** Filter trees mixing exact filters, ranges whose bounds fall inside buckets, and empty operands. */
+    private static final List<OrderFilter> FILTERS = List.of(
+            OrderFilter.and(List.of(new OrderFilter.DayIn(Set.of("weekend")),
+                    OrderFilter.or(List.of(new OrderFilter.RestaurantIn(Set.of(3)),
+                            new OrderFilter.CostBetween(20f, null))))),
+            OrderFilter.or(List.of(new OrderFilter.OrderIdIs(10),
+                    OrderFilter.and(List.of(new OrderFilter.RatingBetween(4.1f, null),
+                            new OrderFilter.CostBetween(null, 7.1f))))),
+            new OrderFilter.DayIn(Set.of("WEEKDAY", "Monday")),
+            new OrderFilter.RatingBetween(2.5f, 2.5f),
+            new OrderFilter.CostBetween(7.1f, 12.4f),
+            OrderFilter.and(List.of()),
+            OrderFilter.or(List.of()));
+
+    private JdbcTemplate jdbcTemplate;
+    private BitmapIndexProperties properties;
+    private OrderBitmapIndex index;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = OrderTestDatabase.create();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        properties = new BitmapIndexProperties();
+        index = new OrderBitmapIndex(dataSource, properties, Runnable::run);
+        index.reload();
+    }
+
+    @Test
+    void checkedCandidatesAreTheMatchingOrders() {
+        assertTrue(index.isReady());
+        assertMatches(rows());
+    }
+
+    @Test
+    void rangesReadWholeBucketsAndAreCheckedByTheFilter() {
+        // Order 10 has a rating of 4.0, in the same bucket as 4.1; order 60 costs 7.0, in the same bucket as 7.1
+        OrderFilter rating = new OrderFilter.RatingBetween(4.1f, null);
+        OrderFilter cost = new OrderFilter.CostBetween(7.1f, null);
+        OrderRow order10 = row(10);
+        OrderRow order60 = row(60);
+
+        assertTrue(index.candidates(rating).contains(10));
+        assertFalse(rating.test(order10));
+        assertTrue(index.candidates(cost).contains(60));
+        assertFalse(cost.test(order60));
+    }
+
+    @Test
+    void daysAreMatchedIgnoringCase() {
+        OrderFilter.DayIn weekend = new OrderFilter.DayIn(Set.of("WEEKEND"));
+
+        assertEquals(Set.of("weekend"), weekend.days());
+        assertEquals(RoaringBitmap.bitmapOf(20, 30, 60), index.candidates(weekend));
+        assertTrue(weekend.test(row(20)));
+    }
+
+    @Test
+    void writesMoveOrdersBetweenBitmaps() {
+        jdbcTemplate.update("INSERT INTO orders VALUES (70, 19.0, 'Monday', 300, 1)");
+        jdbcTemplate.update("UPDATE orders SET cost_of_order = 31.0, day_of_the_week = 'Weekday'"
+                + " WHERE order_id = 20");
+        jdbcTemplate.update("DELETE FROM orders WHERE order_id = 30");
+        index.onOrdersChanged(new OrdersChangedEvent(List.of(
+                new OrdersChangedEvent.Change(null, order(70, 19.0f, "Monday", 300, 4.5f, 1)),
+                new OrdersChangedEvent.Change(order(20, 30.0f, "Weekend", 200, 2.5f, 2),
+                        order(20, 31.0f, "Weekday", 200, 2.5f, 2)),
+                new OrdersChangedEvent.Change(order(30, 12.5f, "Weekend", 100, 4.0f, 2), null))));
+
+        assertMatches(rows());
+    }
+
+    @Test
+    void indexesOverTheirBudgetAreDropped() {
+        properties.setMaxSize(DataSize.ofBytes(1));
+        index.reload();
+
+        assertEquals(IndexState.OVER_BUDGET, index.getState());
+        assertFalse(index.isReady());
+        assertTrue(index.candidates(OrderFilter.and(List.of())).isEmpty());
+    }
+
+    private void assertMatches(List<OrderRow> rows) {
+        for (OrderFilter filter : FILTERS) {
+            RoaringBitmap candidates = index.candidates(filter);
+            List<Integer> expected = rows.stream().filter(filter::test).map(OrderRow::orderId).toList();
+            List<Integer> checked = rows.stream()
+                    .filter(row -> candidates.contains(row.orderId()) && filter.test(row))
+                    .map(OrderRow::orderId).toList();
+            assertEquals(expected, checked, filter.toString());
+        }
+    }
+
+    private OrderRow row(int orderId) {
+        return rows().stream().filter(row -> row.orderId() == orderId).findFirst().orElseThrow();
+    }
+
+    private List<OrderRow> rows() {
+        return jdbcTemplate.query("SELECT o.order_id, o.cost_of_order, o.day_of_the_week, c.customer_id,"
+                + " c.rating, r.restaurant_id, r.restaurant_name FROM orders o"
+                + " JOIN customers c ON c.customer_id = o.customer_id"
+                + " JOIN restaurants r ON r.restaurant_id = o.restaurant_id ORDER BY o.order_id",
+                (rs, rowNum) -> new OrderRow(rs.getInt(1), rs.getFloat(2), rs.getString(3), rs.getInt(4),
+                        rs.getFloat(5), rs.getInt(6), rs.getString(7)));
+    }
+
+    private static OrderSnapshot order(int orderId, float cost, String day, int customerId, float rating,
+                                       int restaurantId) {
+        return new OrderSnapshot(orderId, cost, day, customerId, rating, restaurantId, null, null, null);
+    }
+}
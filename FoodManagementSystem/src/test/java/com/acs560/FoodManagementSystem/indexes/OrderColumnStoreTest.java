@@ -0,0 +1,69 @@
+package com.acs560.FoodManagementSystem.indexes;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.acs560.FoodManagementSystem.config.ColumnStoreProperties;
+import com.acs560.FoodManagementSystem.events.OrdersChangedEvent;
+import com.acs560.FoodManagementSystem.models.OrderRow;
+import com.acs560.FoodManagementSystem.models.OrderSnapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the column store answers the order finders like the database does, before and after writes.
+ */
+class OrderColumnStoreTest {
+
+    private OrderColumnStore store;
+
+    @BeforeEach
+    void setUp() {
+        ColumnStoreProperties properties = new ColumnStoreProperties();
+        properties.setEnabled(true);
+        store = new OrderColumnStore(OrderTestDatabase.create(), properties, Runnable::run);
+        store.reload();
+    }
+
+    @Test
+    void loadedOrdersAnswerTheFinders() {
+        assertTrue(store.isReady());
+        assertEquals(6, store.size());
+        assertEquals(List.of(new OrderRow(10, 12.5f, "Weekday", 100, 4.0f, 1, "Shake Shack"),
+                        new OrderRow(30, 12.5f, "Weekend", 100, 4.0f, 2, "Blue Ribbon Sushi")),
+                store.findRowsByCustomerId(100));
+        assertEquals(List.of(20, 60), ids(store.findRowsByCustomerRatingBetween(2.0f, 3.0f)));
+        assertEquals(List.of(10, 20, 30), ids(store.findRowsByCostOfOrderBetween(12.5f, 30.0f)));
+    }
+
+    @Test
+    void writesAreAppliedInOrderIdOrder() {
+        store.onOrdersChanged(new OrdersChangedEvent(List.of(
+                new OrdersChangedEvent.Change(null, order(70, 8.0f, "Weekday", 200, 2.5f, 1, "Shake Shack")),
+                new OrdersChangedEvent.Change(null, order(15, 9.0f, "Monday", 200, 2.5f, 2, "Blue Ribbon Sushi")),
+                new OrdersChangedEvent.Change(order(20, 30.0f, "Weekend", 200, 2.5f, 2, "Blue Ribbon Sushi"),
+                        order(20, 31.0f, "Weekday", 200, 2.5f, 2, "Blue Ribbon Sushi")),
+                new OrdersChangedEvent.Change(order(30, 12.5f, "Weekend", 100, 4.0f, 2, "Blue Ribbon Sushi"),
+                        null))));
+
+        assertEquals(7, store.size());
+        assertEquals(List.of(10, 15, 20, 40, 50, 60, 70), ids(store.findRowsByCostOfOrderBetween(0f, 100f)));
+        assertEquals(List.of(new OrderRow(15, 9.0f, "Monday", 200, 2.5f, 2, "Blue Ribbon Sushi"),
+                        new OrderRow(20, 31.0f, "Weekday", 200, 2.5f, 2, "Blue Ribbon Sushi"),
+                        new OrderRow(60, 7.0f, "Weekend", 200, 2.5f, 3, "Sushi of Gari"),
+                        new OrderRow(70, 8.0f, "Weekday", 200, 2.5f, 1, "Shake Shack")),
+                store.findRowsByCustomerId(200));
+    }
+
+    private static OrderSnapshot order(int orderId, float cost, String day, int customerId, float rating,
+                                       int restaurantId, String restaurantName) {
+        return new OrderSnapshot(orderId, cost, day, customerId, rating, restaurantId, restaurantName, null, null);
+    }
+
+    private static List<Integer> ids(List<OrderRow> rows) {
+        return rows.stream().map(OrderRow::orderId).toList();
+    }
+}
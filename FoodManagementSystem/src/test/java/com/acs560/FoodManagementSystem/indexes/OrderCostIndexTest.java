@@ -0,0 +1,67 @@
+package com.acs560.FoodManagementSystem.indexes;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.acs560.FoodManagementSystem.config.CostIndexProperties;
+import com.acs560.FoodManagementSystem.events.OrdersChangedEvent;
+import com.acs560.FoodManagementSystem.models.OrderSnapshot;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the cheapest and most expensive orders of cost ranges, before and after writes.
+ */
+class OrderCostIndexTest {
+
+    private OrderCostIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new OrderCostIndex(OrderTestDatabase.create(), new CostIndexProperties(), Runnable::run);
+        index.reload();
+    }
+
+    @Test
+    void rangesAreSortedByCostThenOrderId() {
+        assertTrue(index.isReady());
+        assertEquals(6, index.size());
+        assertArrayEquals(new int[] {40, 60, 50, 10, 30, 20}, index.findIdsByCostBetween(0f, 100f, false, 10));
+        assertArrayEquals(new int[] {20, 30}, index.findIdsByCostBetween(0f, 100f, true, 2));
+        assertArrayEquals(new int[] {10, 30}, index.findIdsByCostBetween(12.5f, 12.5f, false, 10));
+        assertArrayEquals(new int[] {30, 10, 50, 60}, index.findIdsByCostBetween(5f, 20f, true, 10));
+        assertArrayEquals(new int[0], index.findIdsByCostBetween(31f, 40f, true, 10));
+        assertArrayEquals(new int[0], index.findIdsByCostBetween(20f, 5f, false, 10));
+    }
+
+    @Test
+    void writesMoveOrdersToTheirNewCost() {
+        index.onOrdersChanged(new OrdersChangedEvent(List.of(
+                new OrdersChangedEvent.Change(null, order(70, 99.0f)),
+                new OrdersChangedEvent.Change(order(20, 30.0f), order(20, 1.0f)),
+                new OrdersChangedEvent.Change(order(10, 12.5f), null))));
+
+        assertEquals(6, index.size());
+        assertArrayEquals(new int[] {70, 30, 50}, index.findIdsByCostBetween(0f, 100f, true, 3));
+        assertArrayEquals(new int[] {40, 20, 60}, index.findIdsByCostBetween(0f, 100f, false, 3));
+    }
+
+    @Test
+    void replayedChangesAreNotAppliedTwice() {
+        OrdersChangedEvent event = new OrdersChangedEvent(List.of(
+                new OrdersChangedEvent.Change(order(20, 30.0f), order(20, 1.0f))));
+        index.onOrdersChanged(event);
+        index.onOrdersChanged(event);
+
+        assertEquals(6, index.size());
+        assertArrayEquals(new int[] {40, 20}, index.findIdsByCostBetween(0f, 100f, false, 2));
+    }
+
+    private static OrderSnapshot order(int orderId, float cost) {
+        return new OrderSnapshot(orderId, cost, "Weekday", 100, 4.0f, 1, "Shake Shack", null, null);
+    }
+}
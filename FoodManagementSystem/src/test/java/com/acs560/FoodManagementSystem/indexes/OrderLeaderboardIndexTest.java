@@ -0,0 +1,126 @@
+package com.acs560.FoodManagementSystem.indexes;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.acs560.FoodManagementSystem.config.LeaderboardProperties;
+import com.acs560.FoodManagementSystem.events.OrdersChangedEvent;
+import com.acs560.FoodManagementSystem.models.LeaderboardEntry;
+import com.acs560.FoodManagementSystem.models.OrderSnapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the restaurants and customers with the most orders or revenue, before and after writes, and that the
+ * writes committed during a build are counted once whether or not the build read them.
+ */
+class OrderLeaderboardIndexTest {
+
+    /** An insert of a Blue Ribbon Sushi order and a price cut of another, committed during a build. */
+    private static final OrdersChangedEvent REPLAYED = new OrdersChangedEvent(List.of(
+            new OrdersChangedEvent.Change(null, order(70, 100.0f, 300, 2, "Blue Ribbon Sushi")),
+            new OrdersChangedEvent.Change(order(30, 12.5f, 100, 2, "Blue Ribbon Sushi"),
+                    order(30, 1.0f, 100, 2, "Blue Ribbon Sushi"))));
+
+    private DataSource database;
+    private OrdersChangedEvent committedDuringBuild;
+    private OrderLeaderboardIndex index;
+
+    @BeforeEach
+    void setUp() {
+        database = OrderTestDatabase.create();
+        // The build takes its connection after the index started buffering the changes
+        DataSource buildingDataSource = new DelegatingDataSource(database) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (committedDuringBuild != null) {
+                    index.onOrdersChanged(committedDuringBuild);
+                    committedDuringBuild = null;
+                }
+                return super.getConnection();
+            }
+        };
+        index = new OrderLeaderboardIndex(buildingDataSource, new LeaderboardProperties(), Runnable::run);
+        index.reload();
+    }
+
+    @Test
+    void leaderboardsKeepTheHighestRankedEntries() {
+        assertEquals(List.of(new LeaderboardEntry(3, "Sushi of Gari", 3, 14.25),
+                new LeaderboardEntry(2, "Blue Ribbon Sushi", 2, 42.5)), index.topRestaurantsByOrderCount(2));
+        assertEquals(List.of(new LeaderboardEntry(2, "Blue Ribbon Sushi", 2, 42.5),
+                new LeaderboardEntry(3, "Sushi of Gari", 3, 14.25)), index.topRestaurantsByRevenue(2));
+        // Customers 100, 200 and 300 all have two orders; ties go to the lower ID
+        assertEquals(List.of(100, 200), ids(index.topCustomersByOrderCount(2)));
+    }
+
+    @Test
+    void writesMoveOrdersBetweenTallies() {
+        index.onOrdersChanged(new OrdersChangedEvent(List.of(
+                new OrdersChangedEvent.Change(null, order(70, 100.0f, 300, 2, "Blue Ribbon Sushi")),
+                new OrdersChangedEvent.Change(order(10, 12.5f, 100, 1, "Shake Shack"),
+                        order(10, 12.5f, 300, 2, "Blue Ribbon Sushi")),
+                new OrdersChangedEvent.Change(order(40, 0.0f, 300, 3, "Sushi of Gari"), null))));
+
+        assertEquals(List.of(new LeaderboardEntry(2, "Blue Ribbon Sushi", 4, 155.0),
+                new LeaderboardEntry(3, "Sushi of Gari", 2, 14.25)), index.topRestaurantsByOrderCount(2));
+        assertEquals(List.of(2, 3), ids(index.topRestaurantsByRevenue(2)));
+        assertEquals(List.of(300, 200), ids(index.topCustomersByOrderCount(2)));
+    }
+
+    @Test
+    void changesTheBuildReadAreNotCountedTwice() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.update("INSERT INTO orders VALUES (70, 100.0, 'Weekday', 300, 2)");
+        jdbcTemplate.update("UPDATE orders SET cost_of_order = 1.0 WHERE order_id = 30");
+
+        rebuildWhileCommitting(REPLAYED);
+
+        assertReplayedChangesCountedOnce();
+    }
+
+    @Test
+    void changesTheBuildMissedAreReplayed() {
+        rebuildWhileCommitting(REPLAYED);
+
+        assertReplayedChangesCountedOnce();
+    }
+
+    @Test
+    void talliesWithoutOrdersAreRemoved() {
+        index.onOrdersChanged(new OrdersChangedEvent(List.of(
+                new OrdersChangedEvent.Change(order(20, 30.0f, 200, 2, "Blue Ribbon Sushi"), null),
+                new OrdersChangedEvent.Change(order(30, 12.5f, 100, 2, "Blue Ribbon Sushi"), null),
+                new OrdersChangedEvent.Change(order(60, 7.0f, 200, 3, "Sushi of Gari"), null))));
+
+        assertEquals(List.of(3, 1), ids(index.topRestaurantsByOrderCount(10)));
+        assertEquals(List.of(300, 100), ids(index.topCustomersByOrderCount(10)));
+    }
+
+    private void rebuildWhileCommitting(OrdersChangedEvent event) {
+        committedDuringBuild = event;
+        index.reload();
+    }
+
+    private void assertReplayedChangesCountedOnce() {
+        assertEquals(List.of(new LeaderboardEntry(2, "Blue Ribbon Sushi", 3, 131.0)),
+                index.topRestaurantsByRevenue(1));
+        assertEquals(List.of(new LeaderboardEntry(300, null, 3, 107.25)), index.topCustomersByOrderCount(1));
+    }
+
+    private static List<Integer> ids(List<LeaderboardEntry> entries) {
+        return entries.stream().map(LeaderboardEntry::id).toList();
+    }
+
+    private static OrderSnapshot order(int orderId, float cost, int customerId, int restaurantId, String name) {
+        return new OrderSnapshot(orderId, cost, "Weekday", customerId, 4.0f, restaurantId, name, null, null);
+    }
+}
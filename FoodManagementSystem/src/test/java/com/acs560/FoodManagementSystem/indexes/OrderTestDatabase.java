@@ -0,0 +1,32 @@
+package com.acs560.FoodManagementSystem.indexes;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * The embedded H2 database the index tests build from: the tables of {@code db/orders-schema.sql} holding the
+ * customers, restaurants and orders of {@code db/orders-seed.sql}.
+ */
+final class OrderTestDatabase {
+
+    private OrderTestDatabase() {
+    }
+
+    /**
+     * Returns a data source of a freshly seeded database; every call drops the changes of the previous test.
+     *
+     * @return the data source
+     */
+    static DataSource create() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:orders;DB_CLOSE_DELAY=-1");
+        new JdbcTemplate(dataSource).execute("DROP ALL OBJECTS");
+        new ResourceDatabasePopulator(new ClassPathResource("db/orders-schema.sql"),
+                new ClassPathResource("db/orders-seed.sql")).execute(dataSource);
+        return dataSource;
+    }
+}
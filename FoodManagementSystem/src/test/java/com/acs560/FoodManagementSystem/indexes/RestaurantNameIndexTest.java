@@ -0,0 +1,84 @@
+package com.acs560.FoodManagementSystem.indexes;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.acs560.FoodManagementSystem.config.RestaurantSearchProperties;
+import com.acs560.FoodManagementSystem.events.OrdersChangedEvent;
+import com.acs560.FoodManagementSystem.models.OrderSnapshot;
+import com.acs560.FoodManagementSystem.models.RestaurantRow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the ranking of restaurant name searches and suggestions, before and after writes.
+ */
+class RestaurantNameIndexTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RestaurantNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = OrderTestDatabase.create();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        index = new RestaurantNameIndex(dataSource, new RestaurantSearchProperties(), Runnable::run);
+        index.reload();
+    }
+
+    @Test
+    void matchesAreRankedByWhereTheSearchOccurs() {
+        assertTrue(index.isReady());
+        assertEquals(5, index.size());
+        assertEquals(List.of(4, 3, 2), ids(index.search("SUSHI ", 10)));
+        assertEquals(List.of(1, 5, 4, 3, 2), ids(index.search("sh", 10)));
+        assertEquals(List.of(5), ids(index.search("eatball", 10)));
+        assertEquals(List.of(), ids(index.search("pizza", 10)));
+        assertEquals(List.of(4, 3), ids(index.search("sushi", 2)));
+    }
+
+    @Test
+    void suggestionsIncludeSimilarNames() {
+        assertEquals(List.of(4, 3, 2), ids(index.suggest("sushi", 10)));
+        assertEquals(List.of(1), ids(index.suggest("shake shak", 10).subList(0, 1)));
+        assertEquals(List.of(5), ids(index.suggest("meatbal shop", 10).subList(0, 1)));
+        assertEquals(List.of(2, 1), ids(index.suggest("", 2)));
+    }
+
+    @Test
+    void writesReindexTheRestaurantsOfTheChangedOrders() {
+        jdbcTemplate.update("DELETE FROM restaurants WHERE restaurant_id = 3");
+        index.onOrdersChanged(new OrdersChangedEvent(List.of(
+                new OrdersChangedEvent.Change(order(10, 1, "Shake Shack"), order(10, 1, "Shake Shack Madison")),
+                new OrdersChangedEvent.Change(order(20, 3, "Sushi of Gari"), null),
+                new OrdersChangedEvent.Change(null, order(30, 6, "Sushi Nakazawa")))));
+
+        assertEquals(5, index.size());
+        assertEquals(List.of(4, 6, 2), ids(index.search("sushi", 10)));
+        assertEquals(List.of(1), ids(index.search("madison", 10)));
+    }
+
+    @Test
+    void restaurantsDeletedWithoutOrdersAreDropped() {
+        jdbcTemplate.update("DELETE FROM restaurants WHERE restaurant_id = 4");
+        index.onOrdersChanged(new OrdersChangedEvent(List.of(),
+                List.of(new RestaurantRow(4, "Sushi", 20, 15))));
+
+        assertEquals(4, index.size());
+        assertEquals(List.of(3, 2), ids(index.search("sushi", 10)));
+    }
+
+    private static OrderSnapshot order(int orderId, int restaurantId, String restaurantName) {
+        return new OrderSnapshot(orderId, 10f, "Weekday", 1, 4.0f, restaurantId, restaurantName, 20, 15);
+    }
+
+    private static List<Integer> ids(List<RestaurantRow> rows) {
+        return rows.stream().map(RestaurantRow::restaurantId).toList();
+    }
+}
@@ -0,0 +1,252 @@
+package com.acs560.FoodManagementSystem.repositories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import com.acs560.FoodManagementSystem.config.CacheProperties;
+import com.acs560.FoodManagementSystem.config.HibernateCacheConfig;
+import com.acs560.FoodManagementSystem.entities.CustomerEntity;
+import com.acs560.FoodManagementSystem.entities.OrderEntity;
+import com.acs560.FoodManagementSystem.entities.RestaurantEntity;
+import com.acs560.FoodManagementSystem.models.DayOfWeekStats;
+import com.acs560.FoodManagementSystem.models.OrderRow;
+import com.acs560.FoodManagementSystem.models.OrderSnapshot;
+import com.acs560.FoodManagementSystem.models.RestaurantStats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the order list queries fetch customers and restaurants without extra statements per row,
+ * that the row projections and aggregates load no entities, that updates only write changed entities, and that bulk deletes
+ * run as single set-based statements.
+ * <p>
+ * The second-level cache runs with the bounded regions of {@link HibernateCacheConfig}, as in the application,
+ * so the customers and restaurants of orders loaded without their entity graph come from the regions.
+ * </p>
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+@Import(HibernateCacheConfig.class)
+@EnableConfigurationProperties(CacheProperties.class)
+class OrderRepositoryTest {
+
+    private static final int ORDERS = 10;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    private Statistics statistics;
+    private Integer firstCustomerId;
+    private Integer firstRestaurantId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ORDERS; i++) {
+            CustomerEntity customer = new CustomerEntity();
+            customer.setRating(3.0f + i * 0.1f);
+            entityManager.persist(customer);
+
+            RestaurantEntity restaurant = new RestaurantEntity();
+            restaurant.setRestaurantName("Restaurant " + i);
+            restaurant.setFoodPreparationTime(20 + i);
+            restaurant.setDeliveryTime(15 + i);
+            entityManager.persist(restaurant);
+
+            OrderEntity order = new OrderEntity();
+            order.setCostOfOrder(10f + i);
+            order.setDayOfTheWeek(i % 2 == 0 ? "Monday" : "Tuesday");
+            order.setCustomer(customer);
+            order.setRestaurant(restaurant);
+            entityManager.persist(order);
+
+            if (i == 0) {
+                firstCustomerId = customer.getCustomerId();
+                firstRestaurantId = restaurant.getRestaurantId();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllUsesOneStatement() {
+        assertStatements(1, ORDERS, () -> {
+            List<OrderEntity> orders = new ArrayList<>();
+            orderRepository.findAll().forEach(orders::add);
+            return orders;
+        });
+    }
+
+    @Test
+    void findByDayOfTheWeekUsesOneStatement() {
+        assertStatements(1, ORDERS / 2, () -> orderRepository.findByDayOfTheWeek("Monday"));
+    }
+
+    @Test
+    void findByCustomerRatingBetweenUsesOneStatement() {
+        assertStatements(1, ORDERS, () -> orderRepository.findByCustomer_RatingBetween(0f, 5f));
+    }
+
+    @Test
+    void findByCustomerAndRestaurantUseOneStatementEach() {
+        assertStatements(1, 1, () -> orderRepository.findByCustomer_CustomerId(firstCustomerId));
+        statistics.clear();
+        assertStatements(1, 1, () -> orderRepository.findByRestaurant_RestaurantId(firstRestaurantId));
+    }
+
+    @Test
+    void associationLoadsAreServedFromTheRegions() {
+        // Hibernate does not cache the entities a transaction inserted, so the orders are committed and read
+        // again; the reads cache their customers and restaurants for the transactions started after them
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        TestTransaction.start();
+        try {
+            assertStatements(1, ORDERS, () -> orderRepository.findByCostOfOrderBetween(0f, 100f));
+            TestTransaction.end();
+            // Cached entries are unreadable to transactions that start in the millisecond they were cached
+            long cachedAt = System.currentTimeMillis();
+            while (System.currentTimeMillis() <= cachedAt) {
+                Thread.onSpinWait();
+            }
+            TestTransaction.start();
+            statistics.clear();
+
+            // Without the entity graph, each customer and restaurant is looked up in its region first
+            assertStatements(1, ORDERS, () -> entityManager.getEntityManager()
+                    .createQuery("SELECT o FROM OrderEntity o", OrderEntity.class).getResultList());
+            assertEquals(ORDERS, statistics.getDomainDataRegionStatistics(CustomerEntity.CACHE_REGION)
+                    .getHitCount());
+            assertEquals(ORDERS, statistics.getDomainDataRegionStatistics(RestaurantEntity.CACHE_REGION)
+                    .getHitCount());
+            assertEquals(0, statistics.getSecondLevelCacheMissCount());
+        } finally {
+            // The other tests expect an empty database before their own orders
+            if (!TestTransaction.isActive()) {
+                TestTransaction.start();
+            }
+            for (String entity : List.of("OrderEntity", "CustomerEntity", "RestaurantEntity")) {
+                entityManager.getEntityManager().createQuery("DELETE FROM " + entity).executeUpdate();
+            }
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+            TestTransaction.start();
+        }
+    }
+
+    @Test
+    void keysetPageUsesOneStatement() {
+        assertStatements(1, 4, () -> orderRepository.findByOrderIdGreaterThan(0,
+                PageRequest.of(0, 4, Sort.by("orderId"))));
+    }
+
+    @Test
+    void offsetPageUsesOneStatementPlusCount() {
+        assertStatements(2, 4, () -> orderRepository.findAll(PageRequest.of(0, 4, Sort.by("costOfOrder")))
+                .getContent());
+    }
+
+    @Test
+    void rowQueriesLoadNoEntities() {
+        List<OrderRow> page = orderRepository.findRowsByOrderIdGreaterThan(0,
+                PageRequest.of(0, 4, Sort.by(Sort.Direction.DESC, "orderId")));
+        List<OrderRow> rated = orderRepository.findRowsByCustomerRatingBetween(3.0f, 3.25f);
+
+        assertEquals(4, page.size());
+        assertTrue(page.get(0).orderId() > page.get(3).orderId());
+        assertEquals(3, rated.size());
+        assertEquals("Restaurant 0", orderRepository.findRowsByCustomerId(firstCustomerId).get(0).restaurantName());
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void analyticsAggregateInTheDatabase() {
+        List<DayOfWeekStats> days = orderRepository.findDayOfWeekStats(null, null, null, null, null, null);
+        DayOfWeekStats monday = days.stream().filter(day -> day.dayOfTheWeek().equals("Monday")).findFirst().get();
+        List<RestaurantStats> restaurants = orderRepository.findRestaurantStats("Monday", firstRestaurantId,
+                null, null, 5f, null);
+
+        assertEquals(2, days.size());
+        assertEquals(5L, monday.orderCount());
+        assertEquals(70.0, monday.totalCost(), 0.001);
+        assertEquals(14.0, monday.averageCost(), 0.001);
+        assertEquals(1, restaurants.size());
+        assertEquals(3.0, restaurants.get(0).averageCustomerRating(), 0.001);
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void onlyChangedEntitiesAreWrittenAndVersioned() {
+        CustomerEntity customer = entityManager.find(CustomerEntity.class, firstCustomerId);
+        entityManager.flush();
+        assertEquals(0, statistics.getEntityUpdateCount());
+
+        customer.setRating(4.5f);
+        entityManager.flush();
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(1L, customer.getVersion());
+    }
+
+    @Test
+    void restaurantDeleteUsesSetBasedStatements() {
+        List<OrderSnapshot> snapshots = orderRepository.findSnapshotsByRestaurantId(firstRestaurantId);
+        int ordersDeleted = orderRepository.deleteByRestaurantId(firstRestaurantId);
+        int restaurantsDeleted = restaurantRepository.deleteOrphansByRestaurantIdIn(List.of(firstRestaurantId));
+
+        assertEquals(1, snapshots.size());
+        assertEquals(1, ordersDeleted);
+        assertEquals(1, restaurantsDeleted);
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(ORDERS - 1, orderRepository.count());
+    }
+
+    @Test
+    void orphanDeleteKeepsRestaurantsWithOrders() {
+        assertEquals(0, restaurantRepository.deleteOrphansByRestaurantIdIn(List.of(firstRestaurantId)));
+    }
+
+    /**
+     * Runs the query, reads the customer and restaurant of every order, and checks the number of
+     * prepared statements.
+     */
+    private void assertStatements(long expectedStatements, int expectedOrders, Supplier<List<OrderEntity>> query) {
+        List<OrderEntity> orders = query.get();
+        for (OrderEntity order : orders) {
+            order.getCustomer().getRating();
+            order.getRestaurant().getRestaurantName();
+        }
+        assertEquals(expectedOrders, orders.size());
+        assertEquals(expectedStatements, statistics.getPrepareStatementCount());
+    }
+}
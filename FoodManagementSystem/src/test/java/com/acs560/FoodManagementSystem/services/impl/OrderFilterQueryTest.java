@@ -0,0 +1,120 @@
+package com.acs560.FoodManagementSystem.services.impl;
+
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import com.acs560.FoodManagementSystem.config.BitmapIndexProperties;
+import com.acs560.FoodManagementSystem.config.UpdateRetryProperties;
+import com.acs560.FoodManagementSystem.indexes.IndexState;
+import com.acs560.FoodManagementSystem.indexes.OrderBitmapIndex;
+import com.acs560.FoodManagementSystem.models.OrderFilter;
+import com.acs560.FoodManagementSystem.models.OrderRow;
+import com.acs560.FoodManagementSystem.repositories.CustomerRepository;
+import com.acs560.FoodManagementSystem.repositories.OrderRepository;
+import com.acs560.FoodManagementSystem.repositories.RestaurantRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that {@link OrderServiceImpl#findOrders} returns the same orders through the bitmap indexes as
+ * through the JPQL of {@link OrderFilterQuery}, and uses the query when the indexes are over their budget.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+@Import(OrderFilterQuery.class)
+@Sql("/db/orders-seed.sql")
+class OrderFilterQueryTest {
+
+    private static final List<OrderFilter> FILTERS = List.of(
+            OrderFilter.and(List.of(new OrderFilter.DayIn(Set.of("weekend")),
+                    OrderFilter.or(List.of(new OrderFilter.RestaurantIn(Set.of(3)),
+                            new OrderFilter.CostBetween(20f, null))))),
+            OrderFilter.or(List.of(new OrderFilter.OrderIdIs(10),
+                    OrderFilter.and(List.of(new OrderFilter.RatingBetween(4.1f, null),
+                            new OrderFilter.CostBetween(null, 7.1f))))),
+            new OrderFilter.DayIn(Set.of("WEEKDAY", "Monday")),
+            new OrderFilter.RestaurantIn(Set.of(4, 5)),
+            new OrderFilter.RatingBetween(2.5f, 2.5f),
+            new OrderFilter.CostBetween(7.1f, 12.4f),
+            OrderFilter.and(List.of()),
+            OrderFilter.or(List.of()));
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private OrderFilterQuery filterQuery;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private BitmapIndexProperties properties;
+    private OrderBitmapIndex bitmapIndex;
+    private OrderServiceImpl orderService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BitmapIndexProperties();
+        bitmapIndex = new OrderBitmapIndex(dataSource, properties, Runnable::run);
+        bitmapIndex.reload();
+        // findOrders only reads through the repository, the bitmap indexes and the filter query
+        orderService = new OrderServiceImpl(orderRepository, restaurantRepository, customerRepository, null, null,
+                bitmapIndex, null, filterQuery, null, null, transactionManager, new UpdateRetryProperties(),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void bitmapIndexesAndQueryReturnTheSameOrders() {
+        for (OrderFilter filter : FILTERS) {
+            List<Integer> queried = ids(filterQuery.find(filter, 100));
+            assertEquals(queried, ids(orderService.findOrders(filter, 100)), filter.toString());
+            assertEquals(queried.subList(0, Math.min(2, queried.size())), ids(orderService.findOrders(filter, 2)),
+                    filter.toString());
+        }
+        assertEquals(List.of(20, 60), ids(filterQuery.find(FILTERS.get(0), 100)));
+        assertEquals(List.of(10, 40), ids(filterQuery.find(FILTERS.get(1), 100)));
+    }
+
+    @Test
+    void indexesOverTheirBudgetFallBackToTheQuery() {
+        properties.setMaxSize(DataSize.ofBytes(1));
+        bitmapIndex.reload();
+
+        assertEquals(IndexState.OVER_BUDGET, bitmapIndex.getState());
+        for (OrderFilter filter : FILTERS) {
+            assertEquals(ids(filterQuery.find(filter, 100)), ids(orderService.findOrders(filter, 100)),
+                    filter.toString());
+        }
+        assertEquals(List.of(10, 40, 50), ids(orderService.findOrders(FILTERS.get(2), 100)));
+    }
+
+    private static List<Integer> ids(List<OrderRow> rows) {
+        return rows.stream().map(OrderRow::orderId).toList();
+    }
+}
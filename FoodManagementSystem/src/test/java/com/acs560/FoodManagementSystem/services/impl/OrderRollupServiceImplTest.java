@@ -0,0 +1,168 @@
+package com.acs560.FoodManagementSystem.services.impl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.acs560.FoodManagementSystem.config.RollupProperties;
+import com.acs560.FoodManagementSystem.events.OrdersChangedEvent;
+import com.acs560.FoodManagementSystem.models.DayOfWeekStats;
+import com.acs560.FoodManagementSystem.models.OrderSnapshot;
+import com.acs560.FoodManagementSystem.models.RestaurantStats;
+import com.acs560.FoodManagementSystem.models.RollupCheckReport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the order statistics tables follow the order writes, and that {@link OrderRollupServiceImpl#check()}
+ * finds the rows that differ from the orders and {@link OrderRollupServiceImpl#rebuild()} repairs them.
+ * <p>
+ * The tables are those of {@code V6__create_order_rollups.sql} in an H2 database in MySQL mode. H2 does not
+ * accept the row alias of the upserts, so the template runs them with the {@code VALUES()} function instead,
+ * which MySQL evaluates the same way.
+ * </p>
+ */
+class OrderRollupServiceImplTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RecordingJdbcTemplate recorder;
+    private OrderRollupServiceImpl rollupService;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:rollups;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        new ResourceDatabasePopulator(new ClassPathResource("db/orders-schema.sql"),
+                new ClassPathResource("db/orders-seed.sql"),
+                new ClassPathResource("db/migration/V6__create_order_rollups.sql")).execute(dataSource);
+        recorder = new RecordingJdbcTemplate(dataSource);
+        rollupService = new OrderRollupServiceImpl(recorder, new DataSourceTransactionManager(dataSource),
+                new RollupProperties());
+    }
+
+    @Test
+    void changesOfOneEventAreSummedPerRestaurantAndDay() {
+        jdbcTemplate.update("INSERT INTO orders VALUES (70, 8.0, 'Weekday', 200, 1)");
+        jdbcTemplate.update("UPDATE orders SET cost_of_order = 31.0, restaurant_id = 1 WHERE order_id = 20");
+        rollupService.onOrdersChanged(new OrdersChangedEvent(List.of(
+                new OrdersChangedEvent.Change(null, order(70, 8.0f, "Weekday", 2.5f, 1)),
+                new OrdersChangedEvent.Change(order(20, 30.0f, "Weekend", 2.5f, 2),
+                        order(20, 31.0f, "Weekend", 2.5f, 1)),
+                // Only the restaurant name differs, which the statistics do not depend on
+                new OrdersChangedEvent.Change(order(50, 7.25f, "Weekday", 4.5f, 3),
+                        new OrderSnapshot(50, 7.25f, "Weekday", 300, 4.5f, 3, "Gari", null, null)))));
+
+        // One upsert per restaurant and day, and none for the changes that cancel out
+        assertEquals(Map.of(1, "2 39 5", 2, "-1 -30 -2.5"), recorder.deltas("restaurant_order_stats"));
+        assertEquals(Map.of("Weekday", "1 8 2.5", "Weekend", "0 1 0"), recorder.deltas("day_order_stats"));
+        assertEquals(List.of(new RestaurantStats(1, "Shake Shack", 3L, 51.5, 51.5 / 3, 9.0 / 3)),
+                rollupService.getRestaurantStats(1));
+        assertEquals(List.of(new RestaurantStats(2, "Blue Ribbon Sushi", 1L, 12.5, 12.5, 4.0)),
+                rollupService.getRestaurantStats(2));
+        assertEquals(List.of(new DayOfWeekStats("Weekend", 3L, 50.5, 50.5 / 3)),
+                rollupService.getDayOfWeekStats("Weekend"));
+        assertTrue(rollupService.check().isConsistent());
+    }
+
+    @Test
+    void rowsWhoseCountReachesZeroAreDeleted() {
+        jdbcTemplate.update("DELETE FROM orders WHERE order_id IN (10, 40, 50)");
+        rollupService.onOrdersChanged(new OrdersChangedEvent(List.of(
+                new OrdersChangedEvent.Change(order(10, 12.5f, "Weekday", 4.0f, 1), null),
+                new OrdersChangedEvent.Change(order(40, 0.0f, "Weekday", 4.5f, 3), null),
+                new OrdersChangedEvent.Change(order(50, 7.25f, "Weekday", 4.5f, 3), null))));
+
+        assertEquals(List.of(), rollupService.getRestaurantStats(1));
+        assertEquals(List.of(), rollupService.getDayOfWeekStats("Weekday"));
+        assertEquals(List.of(new RestaurantStats(3, "Sushi of Gari", 1L, 7.0, 7.0, 2.5)),
+                rollupService.getRestaurantStats(3));
+        assertTrue(rollupService.check().isConsistent());
+    }
+
+    @Test
+    void checkFindsTheDifferingRowsAndRebuildRepairsThem() {
+        assertTrue(rollupService.check().isConsistent());
+
+        jdbcTemplate.update("UPDATE restaurant_order_stats SET order_count = 5 WHERE restaurant_id = 3");
+        jdbcTemplate.update("INSERT INTO restaurant_order_stats VALUES (4, 1, 10.0, 4.0)");
+        jdbcTemplate.update("DELETE FROM day_order_stats WHERE day_of_the_week = 'Weekend'");
+        // Differences within the tolerance are rounding, not missed writes
+        jdbcTemplate.update("UPDATE restaurant_order_stats SET total_cost = total_cost + 0.005"
+                + " WHERE restaurant_id = 1");
+        RollupCheckReport report = rollupService.check();
+
+        assertEquals(3, report.restaurantsChecked());
+        assertEquals(2, report.daysChecked());
+        assertEquals(3, report.mismatches().size(), report.mismatches().toString());
+        assertTrue(report.mismatches().stream().anyMatch(mismatch -> mismatch.startsWith("restaurant 3:")));
+        assertTrue(report.mismatches().stream().anyMatch(mismatch -> mismatch.startsWith("restaurant 4:")));
+        assertTrue(report.mismatches().stream().anyMatch(mismatch -> mismatch.startsWith("day weekend:")));
+
+        rollupService.rebuild();
+
+        assertTrue(rollupService.check().isConsistent());
+        assertEquals(List.of(3, 2, 1), rollupService.getRestaurantStats(null).stream()
+                .map(RestaurantStats::restaurantId).toList());
+        assertEquals(List.of(new DayOfWeekStats("Weekend", 3L, 49.5, 16.5)),
+                rollupService.getDayOfWeekStats("Weekend"));
+    }
+
+    private static OrderSnapshot order(int orderId, float cost, String day, float rating, int restaurantId) {
+        return new OrderSnapshot(orderId, cost, day, null, rating, restaurantId, null, null, null);
+    }
+
+    /**
+     * Records the arguments of the upserts and runs them with the {@code VALUES()} function of H2.
+     */
+    private static final class RecordingJdbcTemplate extends JdbcTemplate {
+
+        private final List<String> statements = new ArrayList<>();
+        private final List<List<Object[]>> arguments = new ArrayList<>();
+
+        RecordingJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            statements.add(sql);
+            arguments.add(batchArgs);
+            return super.batchUpdate(sql.replace(" AS delta", "").replaceAll("delta\\.(\\w+)", "VALUES($1)"),
+                    batchArgs);
+        }
+
+        /**
+         * Returns the count, cost and rating upserted per key into a table, as one string each.
+         */
+        Map<Object, String> deltas(String table) {
+            Map<Object, String> deltas = new HashMap<>();
+            for (int i = 0; i < statements.size(); i++) {
+                if (statements.get(i).startsWith("INSERT INTO " + table)) {
+                    for (Object[] row : arguments.get(i)) {
+                        deltas.put(row[0], row[1] + " " + plain(row[2]) + " " + plain(row[3]));
+                    }
+                }
+            }
+            return deltas;
+        }
+
+        private static String plain(Object decimal) {
+            return ((BigDecimal) decimal).stripTrailingZeros().toPlainString();
+        }
+    }
+}
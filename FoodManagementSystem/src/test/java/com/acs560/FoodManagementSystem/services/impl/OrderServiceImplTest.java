@@ -0,0 +1,149 @@
+package com.acs560.FoodManagementSystem.services.impl;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.acs560.FoodManagementSystem.config.UpdateRetryProperties;
+import com.acs560.FoodManagementSystem.entities.OrderEntity;
+import com.acs560.FoodManagementSystem.entities.RestaurantEntity;
+import com.acs560.FoodManagementSystem.models.Order;
+import com.acs560.FoodManagementSystem.repositories.CustomerRepository;
+import com.acs560.FoodManagementSystem.repositories.OrderRepository;
+import com.acs560.FoodManagementSystem.repositories.RestaurantRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Checks that updating the restaurant of an order moves the order to the restaurant of the new name instead
+ * of renaming the restaurant shared with other orders, and that writes resolve their restaurant outside
+ * their own transaction.
+ * <p>
+ * The tests run outside a test transaction, like the views calling the service: each update attempt and each
+ * restaurant the resolver creates commits on its own.
+ * </p>
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Sql(scripts = "/db/orders-seed.sql", statements = {
+        "UPDATE restaurants SET normalized_name = LOWER(TRIM(restaurant_name)), version = 0",
+        "UPDATE customers SET version = 0", "UPDATE orders SET version = 0",
+        "ALTER TABLE restaurants ALTER COLUMN restaurant_id RESTART WITH 100"})
+@Sql(statements = {"DELETE FROM orders", "DELETE FROM customers", "DELETE FROM restaurants"},
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class OrderServiceImplTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private OrderServiceImpl orderService;
+
+    @BeforeEach
+    void setUp() {
+        RestaurantResolver resolver = new RestaurantResolver(restaurantRepository, transactionManager,
+                new ConcurrentMapCacheManager(RestaurantResolver.CACHE_NAME)) {
+            @Override
+            public RestaurantEntity resolve(String restaurantName, Integer foodPreparationTime,
+                                            Integer deliveryTime) {
+                // The resolver commits on a connection of its own, which the caller must not wait for
+                assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+                return super.resolve(restaurantName, foodPreparationTime, deliveryTime);
+            }
+        };
+        // Writes only read and write through the repositories, the resolver and the event publisher
+        orderService = new OrderServiceImpl(orderRepository, restaurantRepository, customerRepository, null, null,
+                null, null, null, resolver, eventPublisher, transactionManager, new UpdateRetryProperties(),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void newNameMovesTheOrderToANewRestaurant() {
+        orderService.updateOrder(20, new Order(), "Nobu", 35, 30, null);
+
+        RestaurantEntity nobu = restaurantOf(20);
+        assertEquals("Nobu", nobu.getRestaurantName());
+        assertEquals(35, nobu.getFoodPreparationTime());
+        assertEquals(30, nobu.getDeliveryTime());
+        // The other order of Blue Ribbon Sushi keeps its restaurant, which keeps its name
+        assertEquals(2, restaurantOf(30).getRestaurantId());
+        assertEquals("Blue Ribbon Sushi", restaurantRepository.findByRestaurantId(2).getRestaurantName());
+        assertEquals(100, nobu.getRestaurantId());
+    }
+
+    @Test
+    void existingNameMovesTheOrderToThatRestaurant() {
+        orderService.updateOrder(20, new Order(), " shake SHACK ", null, null, null);
+
+        assertEquals(1, restaurantOf(20).getRestaurantId());
+        assertEquals(List.of(10, 20), orderIdsOf(1));
+        assertEquals(List.of(30), orderIdsOf(2));
+        assertEquals("Shake Shack", restaurantRepository.findByRestaurantId(1).getRestaurantName());
+        assertEquals(5, restaurantRepository.count());
+    }
+
+    @Test
+    void givenTimesChangeTheRestaurantOfTheOrder() {
+        orderService.updateOrder(10, new Order(), "Shake Shack", 26, null, null);
+
+        RestaurantEntity shakeShack = restaurantOf(10);
+        assertEquals(1, shakeShack.getRestaurantId());
+        assertEquals(26, shakeShack.getFoodPreparationTime());
+        assertEquals(20, shakeShack.getDeliveryTime());
+    }
+
+    @Test
+    void addedOrdersResolveTheirRestaurantBeforeTheirTransaction() {
+        Order order = new Order();
+        order.setCostOfOrder(18.5f);
+        order.setDayOfTheWeek("Weekday");
+        orderService.addOrder(order, "Nobu", 35, 30, 3.5f);
+        orderService.addOrder(order, "NOBU", null, null, 3.5f);
+
+        assertEquals(2, orderIdsOf(100).size());
+        assertEquals(6, restaurantRepository.count());
+    }
+
+    private RestaurantEntity restaurantOf(int orderId) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            RestaurantEntity restaurant = orderRepository.findByOrderId(orderId).getRestaurant();
+            restaurant.getRestaurantName();
+            return restaurant;
+        });
+    }
+
+    private List<Integer> orderIdsOf(int restaurantId) {
+        return orderRepository.findByRestaurant_RestaurantId(restaurantId).stream()
+                .map(OrderEntity::getOrderId).sorted().toList();
+    }
+}
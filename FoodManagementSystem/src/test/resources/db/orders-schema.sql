@@ -0,0 +1,24 @@
+-- The tables of V1__create_schema.sql read by the in-memory indexes, without the foreign keys so tests can
+-- delete rows in any order
+CREATE TABLE customers (
+    customer_id INT NOT NULL,
+    rating FLOAT NOT NULL,
+    PRIMARY KEY (customer_id)
+);
+
+CREATE TABLE restaurants (
+    restaurant_id INT NOT NULL,
+    restaurant_name VARCHAR(255),
+    food_preparation_time INT,
+    delivery_time INT,
+    PRIMARY KEY (restaurant_id)
+);
+
+CREATE TABLE orders (
+    order_id INT NOT NULL,
+    cost_of_order FLOAT NOT NULL,
+    day_of_the_week VARCHAR(255),
+    customer_id INT NOT NULL,
+    restaurant_id INT NOT NULL,
+    PRIMARY KEY (order_id)
+);
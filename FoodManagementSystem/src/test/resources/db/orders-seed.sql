@@ -0,0 +1,18 @@
+-- Three customers, five restaurants and six orders shared by the tests of the order indexes and queries;
+-- the restaurants 4 and 5 have no orders
+INSERT INTO customers (customer_id, rating) VALUES (100, 4.0), (200, 2.5), (300, 4.5);
+
+INSERT INTO restaurants (restaurant_id, restaurant_name, food_preparation_time, delivery_time) VALUES
+    (1, 'Shake Shack', 25, 20),
+    (2, 'Blue Ribbon Sushi', 30, 25),
+    (3, 'Sushi of Gari', 28, 24),
+    (4, 'Sushi', 20, 15),
+    (5, 'The Meatball Shop', 27, 22);
+
+INSERT INTO orders (order_id, cost_of_order, day_of_the_week, customer_id, restaurant_id) VALUES
+    (10, 12.5, 'Weekday', 100, 1),
+    (20, 30.0, 'Weekend', 200, 2),
+    (30, 12.5, 'Weekend', 100, 2),
+    (40, 0.0, 'Weekday', 300, 3),
+    (50, 7.25, 'Weekday', 300, 3),
+    (60, 7.0, 'Weekend', 200, 3);